@@ -0,0 +1,330 @@
+package axxel.floodit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The class <b>BeamSolver</b> looks for a short sequence of colors on the
+ * large boards, where an exact search is out of reach. It plays the game
+ * one move at a time on the RegionGraph, keeping at each step only the
+ * <b>width</b> best states according to a Heuristic. The states reached
+ * by different moves orders are kept once, by their hash.
+ *
+ * Each step expands the states of the beam on the threads of an executor,
+ * shared by all the searches: the beam is cut into slices, expanded by
+ * parallel tasks, whose children are then joined, deduplicated and sorted.
+ * The solution is not always a shortest one, but a wider beam gives shorter
+ * solutions. An interrupted search stops at the next step and returns null.
+ */
+public class BeamSolver implements Solver {
+
+    /**
+     * The width used by default
+     */
+    public static final int DEFAULT_WIDTH = 256;
+
+    /**
+     * The number of states below which a beam is not worth splitting
+     */
+    private static final int SLICE = 16;
+
+    /**
+     * The largest number of slices of a beam
+     */
+    private static final int MAX_SLICES = 64;
+
+    /**
+     * The executor of the default constructor, started by the first use
+     */
+    private static ExecutorService common;
+
+    /**
+     * Evaluation of a state by a beam search: of two states reached with
+     * the same number of moves, the one with the highest score is kept.
+     */
+    public interface Heuristic {
+
+        /**
+         * Returns the score of a state, the higher the better.
+         *
+         * @param state the state to evaluate
+         * @return the score of the state
+         */
+        long score(RegionGraph.State state);
+    }
+
+    /**
+     * The number of captured dots
+     */
+    public static final Heuristic CAPTURED = new Heuristic() {
+        @Override
+        public long score(RegionGraph.State state) {
+            return state.getNumberCaptured();
+        }
+    };
+
+    /**
+     * The number of captured dots, then the number of colors wiped off the
+     * board, then the number of colors on the boundary: a varied boundary
+     * leaves more good moves for the next steps.
+     */
+    public static final Heuristic FRONTIER = new Heuristic() {
+        @Override
+        public long score(RegionGraph.State state) {
+            int colorsLeft = Integer.bitCount(state.remainingColors());
+            int boundaryColors = Integer.bitCount(state.boundaryColors());
+            return ((long) state.getNumberCaptured() << 8)
+                    + ((GameModel.NUMBER_OF_COLORS - colorsLeft) << 4) + boundaryColors;
+        }
+    };
+
+    /**
+     * The number of captured dots, each color wiped off the board being
+     * worth as many dots as the side of the board, then the number of
+     * regions on the boundary
+     */
+    public static final Heuristic COLORS = new Heuristic() {
+        @Override
+        public long score(RegionGraph.State state) {
+            int colorsLeft = Integer.bitCount(state.remainingColors());
+            long captured = state.getNumberCaptured()
+                    + (long) (GameModel.NUMBER_OF_COLORS - colorsLeft) * state.getGraph().getSize();
+            return (captured << 16) + state.getBoundaryCount();
+        }
+    };
+
+    private final int width;
+    private final Heuristic heuristic;
+    private final ExecutorService executor;
+
+    private long expanded;
+    private long nanos;
+
+    /**
+     * Constructor with DEFAULT_WIDTH, the COLORS heuristic and the common
+     * executor.
+     */
+    public BeamSolver() {
+        this(DEFAULT_WIDTH, COLORS, commonExecutor());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param width
+     *            the number of states kept at each step
+     * @param heuristic
+     *            the evaluation of the states
+     * @param executor
+     *            the threads expanding the beam, or null to expand it on
+     *            the thread of the search. It is not shut down by the solver.
+     */
+    public BeamSolver(int width, Heuristic heuristic, ExecutorService executor) {
+        if (width < 1) {
+            throw new IllegalArgumentException("Invalid width: " + width);
+        }
+        this.width = width;
+        this.heuristic = heuristic;
+        this.executor = executor;
+    }
+
+    /**
+     * The metod <b>commonExecutor</b> returns an executor with a thread per
+     * core, shared by all the solvers that use it.
+     *
+     * @return the common executor
+     */
+    public static synchronized ExecutorService commonExecutor() {
+        if (common == null) {
+            common = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "BeamSolver");
+                    // the threads wait for the next search without keeping the process alive
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return common;
+    }
+
+    @Override
+    public int[] solve(GameModel model) {
+        long start = System.nanoTime();
+        expanded = 0;
+        try {
+            Node root = new Node(null, -1, model.getRegionGraph().state(model), 0);
+            if (root.state.isFinished()) {
+                return new int[0];
+            }
+            List<Node> beam = new ArrayList<>();
+            beam.add(root);
+            while (true) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+                List<Node> children = expandAll(beam);
+                expanded += beam.size();
+                for (Node child : children) {
+                    if (child.state.isFinished()) {
+                        return child.moves();
+                    }
+                }
+                beam = select(children);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            nanos = System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Expands all the states of a beam, in parallel slices when there are
+     * enough of them.
+     */
+    private List<Node> expandAll(final List<Node> beam) throws InterruptedException {
+        if (executor == null || beam.size() < 2 * SLICE) {
+            return expand(beam, 0, beam.size());
+        }
+        int slices = Math.min(MAX_SLICES, beam.size() / SLICE);
+        List<Callable<List<Node>>> tasks = new ArrayList<>(slices);
+        for (int k = 0; k < slices; k++) {
+            final int first = beam.size() * k / slices;
+            final int last = beam.size() * (k + 1) / slices;
+            tasks.add(new Callable<List<Node>>() {
+                @Override
+                public List<Node> call() {
+                    return expand(beam, first, last);
+                }
+            });
+        }
+        List<Node> children = new ArrayList<>();
+        try {
+            for (Future<List<Node>> slice : executor.invokeAll(tasks)) {
+                children.addAll(slice.get());
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        return children;
+    }
+
+    /**
+     * Returns the children of the states first to last-1 of a beam. When a
+     * move captures every region left of its color, it is the only child.
+     */
+    private List<Node> expand(List<Node> beam, int first, int last) {
+        List<Node> children = new ArrayList<>((last - first) * 3);
+        for (int k = first; k < last; k++) {
+            Node node = beam.get(k);
+            RegionGraph.State state = node.state;
+            int colors = state.boundaryColors() & ~(1 << state.getCurrentColor());
+            for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+                if ((colors & (1 << color)) != 0 && state.clears(color)) {
+                    colors = 1 << color;
+                    break;
+                }
+            }
+            for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+                if ((colors & (1 << color)) == 0) {
+                    continue;
+                }
+                RegionGraph.State next = state.copy();
+                next.flood(color);
+                children.add(new Node(node, color, next, heuristic.score(next)));
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Keeps the best children, each state once
+     */
+    private List<Node> select(List<Node> children) {
+        Node[] sorted = children.toArray(new Node[children.size()]);
+        Arrays.sort(sorted, new Comparator<Node>() {
+            @Override
+            public int compare(Node a, Node b) {
+                return a.score < b.score ? 1 : a.score > b.score ? -1 : 0;
+            }
+        });
+        List<Node> beam = new ArrayList<>(Math.min(width, sorted.length));
+        Set<Long> seen = new HashSet<>();
+        for (int k = 0; k < sorted.length && beam.size() < width; k++) {
+            if (seen.add(sorted[k].state.hash())) {
+                beam.add(sorted[k]);
+            }
+        }
+        return beam;
+    }
+
+    /**
+     * Getter method for the number of states expanded by the last search
+     *
+     * @return the number of states whose children were computed
+     */
+    public long getExpandedCount() {
+        return expanded;
+    }
+
+    /**
+     * Getter method for the duration of the last search
+     *
+     * @return the duration of the last search, in nanoseconds
+     */
+    public long getLastNanos() {
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BeamSolver(" + width + ")";
+    }
+
+    /**
+     * A state of the search, with the move leading to it
+     */
+    private static final class Node {
+        private final Node parent;
+        private final int color;
+        private final RegionGraph.State state;
+        private final long score;
+        private final int depth;
+
+        private Node(Node parent, int color, RegionGraph.State state, long score) {
+            this.parent = parent;
+            this.color = color;
+            this.state = state;
+            this.score = score;
+            depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        private int[] moves() {
+            int[] moves = new int[depth];
+            for (Node node = this; node.parent != null; node = node.parent) {
+                moves[node.depth - 1] = node.color;
+            }
+            return moves;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package axxel.floodit;
+
+/**
+ * The class <b>BitBoard</b> floods the small boards word by word. The dot
+ * (i,j) is the bit i*size+j of a set of longs; the board keeps one such set
+ * per color, and reads the captured set of the model, whose blocks of 64
+ * dots have the same layout.
+ *
+ * A flood dilates the captured area by shifting it towards each of its
+ * neighbours, intersects the new bits with the set of the selected color,
+ * and repeats with the bits just gained until nothing new is captured.
+ * Torus wraps and the corner-only diagonal wrap of DiagoTorus are handled
+ * with column, row and corner masks.
+ *
+ * The color sets and the masks never change, so the copies of a board share
+ * them; each copy only has its own scratch sets, allocated once, so a move
+ * does not allocate anything.
+ */
+public class BitBoard extends FloodPath {
+
+    /**
+     * The largest number of dots of a board flooded by a BitBoard. Above it,
+     * a dilation costs more than walking the few dots a move captures.
+     */
+    public static final int MAX_CELLS = 64 * 64;
+
+    /**
+     * The model this board floods
+     */
+    private GameModel model;
+
+    private final int size;
+    private final int mode;
+
+    /**
+     * The number of longs of each set
+     */
+    private final int words;
+
+    /**
+     * The dots of each initial color, shared between copies
+     */
+    private final long[][] colors;
+
+    /**
+     * Precomputed sets of dots, shared between copies
+     */
+    private final Masks masks;
+
+    /**
+     * Scratch sets of a flood: the area reached so far, the bits gained by
+     * the last dilation, the next ones, and the masked shifts
+     */
+    private long[] area;
+    private long[] fresh;
+    private long[] grow;
+    private long[] scratch;
+
+    /**
+     * Constructor. The color sets are built from the initial colors of the
+     * model.
+     *
+     * @param model
+     *            the model to flood, of at most MAX_CELLS dots
+     */
+    public BitBoard(GameModel model) {
+        this.model = model;
+        size = model.getSize();
+        mode = model.getMode();
+        int cells = size * size;
+        words = (cells + 63) >>> 6;
+        colors = new long[GameModel.NUMBER_OF_COLORS][words];
+        for (int cell = 0; cell < cells; cell++) {
+            colors[model.getInitialColor(cell)][cell >>> 6] |= 1L << cell;
+        }
+        masks = new Masks(size, words);
+        allocate();
+    }
+
+    private void allocate() {
+        area = new long[words];
+        fresh = new long[words];
+        grow = new long[words];
+        scratch = new long[words];
+    }
+
+    @Override
+    void flood(IntStack journal) {
+        spread(model.getCurrentSelectedColor());
+        for (int w = 0; w < words; w++) {
+            long taken = area[w] & ~model.capturedWord(w);
+            while (taken != 0) {
+                int cell = (w << 6) + Long.numberOfTrailingZeros(taken);
+                taken &= taken - 1;
+                model.capture(cell);
+                if (journal != null) {journal.push(cell);}
+            }
+        }
+    }
+
+    @Override
+    public void previewGains(int[] gains) {
+        for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+            gains[color] = spread(color);
+        }
+    }
+
+    /**
+     * Sets area to the captured dots plus every dot of a color connected to
+     * them through that color.
+     *
+     * @return the number of dots added to the captured ones
+     */
+    private int spread(int color) {
+        long[] target = colors[color];
+        for (int w = 0; w < words; w++) {
+            area[w] = model.capturedWord(w);
+            fresh[w] = area[w];
+        }
+        long[] from = fresh;
+        long[] to = grow;
+        int gained = 0;
+        while (true) {
+            dilate(from, to);
+            boolean empty = true;
+            for (int w = 0; w < words; w++) {
+                long g = to[w] & target[w] & ~area[w];
+                to[w] = g;
+                if (g != 0) {
+                    area[w] |= g;
+                    gained += Long.bitCount(g);
+                    empty = false;
+                }
+            }
+            if (empty) {
+                return gained;
+            }
+            long[] t = from;
+            from = to;
+            to = t;
+        }
+    }
+
+    /**
+     * Writes in out the dots that are neighbours of at least one dot of src.
+     * The previous content of out is erased.
+     */
+    private void dilate(long[] src, long[] out) {
+        for (int w = 0; w < words; w++) {
+            out[w] = 0L;
+        }
+        int s = size;
+        // (i,j+1) and (i,j-1), without crossing the end of a row
+        and(src, masks.notLastColumn, scratch);
+        orShifted(scratch, 1, out);
+        and(src, masks.notFirstColumn, scratch);
+        orShifted(scratch, -1, out);
+        // (i+1,j) and (i-1,j), the bits leaving the board are dropped
+        orShifted(src, s, out);
+        orShifted(src, -s, out);
+        boolean torus = mode == GameModel.ORTHO_TORUS || mode == GameModel.DIAGO_TORUS;
+        boolean diago = mode == GameModel.DIAGO_PLANE || mode == GameModel.DIAGO_TORUS;
+        if (torus) {
+            and(src, masks.lastColumn, scratch);
+            orShifted(scratch, -(s - 1), out);
+            and(src, masks.firstColumn, scratch);
+            orShifted(scratch, s - 1, out);
+            and(src, masks.lastRow, scratch);
+            orShifted(scratch, -(s - 1) * s, out);
+            and(src, masks.firstRow, scratch);
+            orShifted(scratch, (s - 1) * s, out);
+        }
+        if (diago) {
+            and(src, masks.notLastColumn, scratch);
+            orShifted(scratch, s + 1, out);
+            orShifted(scratch, -(s - 1), out);
+            and(src, masks.notFirstColumn, scratch);
+            orShifted(scratch, s - 1, out);
+            orShifted(scratch, -(s + 1), out);
+            // on the torus, the diagonals only wrap around the four corners
+            if (torus) {
+                int last = s - 1;
+                corner(src, 0, last * s + last, out);
+                corner(src, last * s + last, 0, out);
+                corner(src, last, last * s, out);
+                corner(src, last * s, last, out);
+            }
+        }
+        out[words - 1] &= masks.lastWord;
+    }
+
+    private static void corner(long[] src, int from, int to, long[] out) {
+        if ((src[from >>> 6] & (1L << from)) != 0) {
+            out[to >>> 6] |= 1L << to;
+        }
+    }
+
+    private static void and(long[] a, long[] b, long[] out) {
+        for (int w = 0; w < out.length; w++) {
+            out[w] = a[w] & b[w];
+        }
+    }
+
+    /**
+     * Ors into out the set src where the bit k has been moved to k+amount.
+     * The bits moved outside of the set are dropped.
+     */
+    private static void orShifted(long[] src, int amount, long[] out) {
+        int n = src.length;
+        if (amount >= 0) {
+            int w = amount >>> 6;
+            int b = amount & 63;
+            for (int i = n - 1; i >= w; i--) {
+                long v = src[i - w] << b;
+                if (b != 0 && i - w - 1 >= 0) {
+                    v |= src[i - w - 1] >>> (64 - b);
+                }
+                out[i] |= v;
+            }
+        } else {
+            int w = (-amount) >>> 6;
+            int b = (-amount) & 63;
+            for (int i = 0; i + w < n; i++) {
+                long v = src[i + w] >>> b;
+                if (b != 0 && i + w + 1 < n) {
+                    v |= src[i + w + 1] << (64 - b);
+                }
+                out[i] |= v;
+            }
+        }
+    }
+
+    /**
+     * The captured dots are all the state of a flood, so a BitBoard has no
+     * boundary to record.
+     */
+    @Override
+    int[] boundarySizes() {
+        return null;
+    }
+
+    @Override
+    void undo(MoveDelta delta) {
+        // the released dots are read from the model at the next flood
+    }
+
+    @Override
+    void freeze() {
+        // a copy only reads the shared sets
+    }
+
+    @Override
+    FloodPath copyFor(GameModel clone) {
+        try {
+            BitBoard copy = (BitBoard) super.clone();
+            copy.model = clone;
+            copy.allocate();
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError();
+        }
+    }
+
+    /**
+     * The sets of dots used to cut the shifts at the borders of the board
+     */
+    private static class Masks {
+        private final long[] firstColumn;
+        private final long[] lastColumn;
+        private final long[] notFirstColumn;
+        private final long[] notLastColumn;
+        private final long[] firstRow;
+        private final long[] lastRow;
+        private final long lastWord;
+
+        private Masks(int size, int words) {
+            firstColumn = new long[words];
+            lastColumn = new long[words];
+            notFirstColumn = new long[words];
+            notLastColumn = new long[words];
+            firstRow = new long[words];
+            lastRow = new long[words];
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    int cell = i * size + j;
+                    long bit = 1L << cell;
+                    if (j == 0) {firstColumn[cell >>> 6] |= bit;}
+                    else {notFirstColumn[cell >>> 6] |= bit;}
+                    if (j == size - 1) {lastColumn[cell >>> 6] |= bit;}
+                    else {notLastColumn[cell >>> 6] |= bit;}
+                    if (i == 0) {firstRow[cell >>> 6] |= bit;}
+                    if (i == size - 1) {lastRow[cell >>> 6] |= bit;}
+                }
+            }
+            int used = (size * size) & 63;
+            lastWord = used == 0 ? -1L : (1L << used) - 1;
+        }
+    }
+}
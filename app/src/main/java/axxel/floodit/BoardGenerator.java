@@ -0,0 +1,189 @@
+package axxel.floodit;
+
+/**
+ * The class <b>BoardGenerator</b> deals the colors of a random board from a
+ * seed, so that the same seed, size and mode always give the same board. A
+ * board can then be shared as a short code instead of its colors.
+ *
+ * The colors come from a counter-based generator: the draw k is the
+ * SplitMix64 mix of a key and k, so no state is carried from one draw to
+ * the next. A draw of 63 bits gives 22 colors as the digits of a number in
+ * base 6; the few draws above the largest multiple of 6^22 are skipped, so
+ * every color stays equally likely.
+ *
+ * A code reads "size-mode-seed", the seed being written with the 13
+ * characters of base 32 of Crockford, for instance "20-1-0F8XK3M9Q2W7A".
+ */
+public final class BoardGenerator {
+
+    /**
+     * The number of colors dealt by a draw
+     */
+    static final int COLORS_PER_DRAW = 22;
+
+    /**
+     * 6^22, the number of different draws of COLORS_PER_DRAW colors
+     */
+    private static final long DRAW_RANGE = 131621703842267136L;
+
+    /**
+     * 6^11, the number of different halves of a draw
+     */
+    private static final int HALF_RANGE = 362797056;
+
+    /**
+     * The largest multiple of DRAW_RANGE that fits in 63 bits
+     */
+    private static final long DRAW_LIMIT = Long.MAX_VALUE / DRAW_RANGE * DRAW_RANGE;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final String DIGITS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final int SEED_DIGITS = 13;
+
+    private final long seed;
+    private final int size;
+    private final int mode;
+
+    /**
+     * Constructor.
+     *
+     * @param seed
+     *            the seed of the board
+     * @param size
+     *            the size of the board
+     * @param mode
+     *            the mode of the game
+     */
+    public BoardGenerator(long seed, int size, int mode) {
+        if (size < 1 || size > GameModel.MAX_SIZE) {
+            throw new IllegalArgumentException("Unsupported size of board: " + size);
+        }
+        if (mode < GameModel.ORTHO_PLANE || mode > GameModel.DIAGO_TORUS) {
+            throw new IllegalArgumentException("Unsupported mode: " + mode);
+        }
+        this.seed = seed;
+        this.size = size;
+        this.mode = mode;
+    }
+
+    /**
+     * The metod <b>fromCode</b> returns the generator of a shared board.
+     *
+     * @param code
+     *            the code of the board, as returned by getCode
+     * @return the generator of that board
+     * @throws IllegalArgumentException
+     *             if the code is not valid
+     */
+    public static BoardGenerator fromCode(String code) {
+        String[] parts = code.trim().split("-");
+        if (parts.length != 3 || parts[2].length() != SEED_DIGITS) {
+            throw new IllegalArgumentException("Invalid board code: " + code);
+        }
+        int size;
+        int mode;
+        try {
+            size = Integer.parseInt(parts[0]);
+            mode = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid board code: " + code);
+        }
+        long seed = 0;
+        String digits = parts[2].toUpperCase();
+        for (int k = 0; k < SEED_DIGITS; k++) {
+            int digit = DIGITS.indexOf(digits.charAt(k));
+            // the first digit only holds the 4 highest bits of the seed
+            if (digit < 0 || (k == 0 && digit >= 16)) {
+                throw new IllegalArgumentException("Invalid board code: " + code);
+            }
+            seed = (seed << 5) | digit;
+        }
+        return new BoardGenerator(seed, size, mode);
+    }
+
+    /**
+     * Getter method for the code of the board
+     *
+     * @return the code of the board, to share it
+     */
+    public String getCode() {
+        char[] digits = new char[SEED_DIGITS];
+        long rest = seed;
+        for (int k = SEED_DIGITS - 1; k >= 0; k--) {
+            digits[k] = DIGITS.charAt((int) (rest & 31));
+            rest >>>= 5;
+        }
+        return size + "-" + mode + "-" + new String(digits);
+    }
+
+    /**
+     * The metod <b>fill</b> deals the colors of the board.
+     *
+     * @param colors
+     *            receives the color of every dot (i,j) at the index i*size+j
+     */
+    public void fill(byte[] colors) {
+        int cells = size * size;
+        // the size and the mode are part of the key, so they change the whole board
+        long key = mix(seed ^ mix(((long) size << 2 | mode) * GOLDEN_GAMMA));
+        long counter = 0;
+        int index = 0;
+        while (index < cells) {
+            long draw = mix(key + ++counter * GOLDEN_GAMMA) >>> 1;
+            if (draw >= DRAW_LIMIT) {
+                continue;
+            }
+            long digits = draw % DRAW_RANGE;
+            // the digits are taken from two ints of 11 digits: on 32-bit devices,
+            // dividing an int is much cheaper than dividing a long
+            int low = (int) (digits % HALF_RANGE);
+            int high = (int) (digits / HALF_RANGE);
+            int end = Math.min(cells, index + COLORS_PER_DRAW / 2);
+            for (; index < end; index++) {
+                colors[index] = (byte) (low % GameModel.NUMBER_OF_COLORS);
+                low /= GameModel.NUMBER_OF_COLORS;
+            }
+            end = Math.min(cells, index + COLORS_PER_DRAW / 2);
+            for (; index < end; index++) {
+                colors[index] = (byte) (high % GameModel.NUMBER_OF_COLORS);
+                high /= GameModel.NUMBER_OF_COLORS;
+            }
+        }
+    }
+
+    /**
+     * The finalizer of SplitMix64
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Getter method for the seed of the board
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Getter method for the size of the board
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Getter method for the mode of the game
+     *
+     * @return the mode
+     */
+    public int getMode() {
+        return mode;
+    }
+}
@@ -5,6 +5,9 @@ import java.io.*;
  * The class <b>DotInfo</b> is a simple helper class to store the initial color and state
  * (captured or not) at the dot position (x,y)
  *
+ * A DotInfo can also be a view on a GameModel, as returned by GameModel.get:
+ * it then reads the color and the state of the dot in the model.
+ *
  * @author Yassine Zahoui, University of Ottawa
  */
 
@@ -25,6 +28,11 @@ public class DotInfo implements Serializable, Cloneable{
      */
     private boolean captured;
 
+    /**
+     * The model this DotInfo is a view on, or null
+     */
+    private GameModel model;
+
     /**
      * Constructor 
      * 
@@ -41,6 +49,22 @@ public class DotInfo implements Serializable, Cloneable{
         this.color = color;
     }
 
+    /**
+     * Constructor of a view on the dot (x,y) of a model
+     *
+     * @param model
+     *            the model holding the dot
+     * @param x
+     *            the x coordinate
+     * @param y
+     *            the y coordinate
+     */
+    DotInfo(GameModel model, int x, int y){
+        this.model = model;
+        this.x = x;
+        this.y = y;
+    }
+
     /**
      * Getter method for the attribute x.
      * 
@@ -66,7 +90,14 @@ public class DotInfo implements Serializable, Cloneable{
      *            the new value for captured
      */
     public void setCaptured(boolean captured) {
-        this.captured = captured;
+        if (model == null) {
+            this.captured = captured;
+        } else if (captured != model.isCaptured(x, y)) {
+            if (!captured) {
+                throw new UnsupportedOperationException("A captured dot cannot be released");
+            }
+            model.capture(x, y);
+        }
     }
 
     /**
@@ -75,7 +106,7 @@ public class DotInfo implements Serializable, Cloneable{
      * @return captured
      */
     public boolean isCaptured(){
-        return captured;
+        return model == null ? captured : model.isCaptured(x, y);
     }
 
     /**
@@ -84,11 +115,13 @@ public class DotInfo implements Serializable, Cloneable{
      * @return color
      */
     public int getColor() {
-        return color;
+        return model == null ? color : model.getInitialColor(x * model.getSize() + y);
     }
 	
 	/**
      * The metod <b>clone</b> returns a deepcopy of the actual object DotInfo.
+     * The clone of a view holds the current state of the dot, and no longer
+     * follows the model.
      *
      * @return An object DotInfo (the clone of the actual object DotInfo)
      */
@@ -96,6 +129,11 @@ public class DotInfo implements Serializable, Cloneable{
 	public DotInfo clone() {
 		try {
 			DotInfo clone = (DotInfo) super.clone();
+			if (model != null) {
+				clone.color = getColor();
+				clone.captured = isCaptured();
+				clone.model = null;
+			}
 			return clone;
 		} catch (CloneNotSupportedException e) {
 			throw new AssertionError();
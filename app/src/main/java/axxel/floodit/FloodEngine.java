@@ -0,0 +1,356 @@
+package axxel.floodit;
+
+import java.io.*;
+
+/**
+ * The class <b>FloodEngine</b> applies the flood logic of the game to a
+ * GameModel. Instead of rescanning the whole board at every move, it keeps
+ * the boundary of the captured area, that is, the uncaptured dots that touch
+ * at least one captured dot, sorted by color. Selecting a color starts
+ * directly from the boundary dots of that color, so a move only costs the
+ * newly captured dots and their neighbours.
+ *
+ * The neighbourhood of the dots comes from the Topology of the model, so all
+ * the modes of the game share the same loop. Dots are handled through their
+ * index i*size+j. The boundary of each color and the work stack are IntStacks
+ * allocated once; they only grow on boards larger than INITIAL_CAPACITY dots,
+ * so a move does not allocate anything once a game is under way.
+ */
+public class FloodEngine extends FloodPath implements Serializable {
+
+    /**
+     * The capacity of the stacks of a new engine. Smaller boards never make
+     * them grow; larger ones only pay for the boundary they actually have.
+     */
+    private static final int INITIAL_CAPACITY = 4096;
+
+    /**
+     * The model this engine floods
+     */
+    private GameModel model;
+
+    /**
+     * The boundary dots of each color
+     */
+    private IntStack[] boundary;
+
+    /**
+     * The dots that have been put on the boundary. Captured dots keep
+     * their mark, so they are never put on the boundary again.
+     */
+    private PersistentBitSet marked;
+
+    /**
+     * The work stack of a move. A dot is pushed at most once per move,
+     * so size*size entries are always enough.
+     */
+    private IntStack stack;
+
+    /**
+     * Scratch of previewGains: the dots visited by the current preview, one
+     * bit per dot, and the list of those dots, to clear them afterwards
+     */
+    private IntBitSet visited;
+    private IntStack seen;
+
+    /**
+     * The neighbourhood of the dots of the model
+     */
+    private transient Topology topology;
+
+    /**
+     * Buffer for the neighbours of a dot, on boards without neighbour tables
+     */
+    private int[] buffer = new int[Topology.MAX_NEIGHBOURS];
+
+    /**
+     * Constructor. The boundary is built from the dots already captured
+     * in the model.
+     *
+     * @param model
+     *            the model to flood
+     */
+    public FloodEngine(GameModel model) {
+        this(model, null);
+    }
+
+    /**
+     * Constructor flooding the model with a given topology, for instance one
+     * without tables in place of the shared one.
+     *
+     * @param model
+     *            the model to flood
+     * @param topology
+     *            a topology of the size and mode of the model, or null for
+     *            the shared one
+     */
+    FloodEngine(GameModel model, Topology topology) {
+        this.model = model;
+        this.topology = topology;
+        int cells = model.getSize() * model.getSize();
+        int capacity = Math.min(cells, INITIAL_CAPACITY);
+        boundary = new IntStack[GameModel.NUMBER_OF_COLORS];
+        for (int color = 0; color < boundary.length; color++) {
+            boundary[color] = new IntStack(capacity);
+        }
+        stack = new IntStack(capacity);
+        build();
+    }
+
+    /**
+     * Builds the boundary from the dots captured in the model
+     */
+    private void build() {
+        int cells = model.getSize() * model.getSize();
+        for (IntStack dots : boundary) {
+            dots.clear();
+        }
+        marked = new PersistentBitSet(cells);
+        for (int cell = 0; cell < cells; cell++) {
+            if (model.isCaptured(cell)) {
+                marked.set(cell);
+            }
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            if (model.isCaptured(cell)) {
+                addNeighbours(cell);
+            }
+        }
+    }
+
+    private Topology topology() {
+        if (topology == null) {
+            topology = Topology.get(model.getSize(), model.getMode());
+        }
+        return topology;
+    }
+
+    /**
+     * Puts the unmarked neighbours of a captured dot on the boundary.
+     */
+    private void addNeighbours(int cell) {
+        int[] offsets = topology().offsets();
+        int[] table = offsets != null ? topology.neighbours() : buffer;
+        int from = offsets != null ? offsets[cell] : 0;
+        int to = offsets != null ? offsets[cell + 1] : topology.neighbours(cell, buffer);
+        for (int k = from; k < to; k++) {
+            int n = table[k];
+            if (!marked.get(n)) {
+                marked.set(n);
+                boundary[model.getInitialColor(n)].push(n);
+            }
+        }
+    }
+
+    /**
+     * The metod <b>flood</b> captures every dot connected to the captured
+     * area through dots of the current selection color, and updates the
+     * boundary accordingly.
+     */
+    public void flood() {
+        flood(null);
+    }
+
+    /**
+     * Same as flood(), also pushing the newly captured dots on a journal in
+     * the order they are captured.
+     *
+     * @param journal
+     *            the stack receiving the captured dots, or null
+     */
+    @Override
+    void flood(IntStack journal) {
+        int[] offsets = topology().offsets();
+        int[] neighbours = topology.neighbours();
+        int color = model.getCurrentSelectedColor();
+
+        // every boundary dot of the selected color is captured
+        IntStack taken = boundary[color];
+        for (int k = 0; k < taken.size(); k++) {
+            model.capture(taken.get(k));
+            stack.push(taken.get(k));
+            if (journal != null) {journal.push(taken.get(k));}
+        }
+        taken.clear();
+
+        while (!stack.isEmpty()) {
+            int cell = stack.pop();
+            int[] table = offsets != null ? neighbours : buffer;
+            int from = offsets != null ? offsets[cell] : 0;
+            int to = offsets != null ? offsets[cell + 1] : topology.neighbours(cell, buffer);
+            for (int k = from; k < to; k++) {
+                int n = table[k];
+                if (!marked.get(n)) {
+                    int c = model.getInitialColor(n);
+                    marked.set(n);
+                    if (c == color) {
+                        model.capture(n);
+                        stack.push(n);
+                        if (journal != null) {journal.push(n);}
+                    } else {
+                        boundary[c].push(n);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The metod <b>previewGains</b> computes, for every color, the number of
+     * dots that selecting it would capture. The gains of all the colors are
+     * computed in one walk starting from the boundary, and neither the model
+     * nor the boundary are changed.
+     *
+     * @param gains
+     *            an array of NUMBER_OF_COLORS entries receiving the gains
+     */
+    @Override
+    public void previewGains(int[] gains) {
+        int[] offsets = topology().offsets();
+        int[] neighbours = topology.neighbours();
+        if (visited == null) {
+            visited = new IntBitSet(marked.capacity());
+            seen = new IntStack(Math.min(marked.capacity(), INITIAL_CAPACITY));
+        }
+        for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+            int gain = 0;
+            // the regions of different colors are disjoint, so one set of marks is enough
+            IntStack dots = boundary[color];
+            for (int k = 0; k < dots.size(); k++) {
+                int cell = dots.get(k);
+                if (!visited.get(cell)) {
+                    visited.set(cell);
+                    seen.push(cell);
+                    stack.push(cell);
+                }
+            }
+            while (!stack.isEmpty()) {
+                int cell = stack.pop();
+                gain++;
+                int[] table = offsets != null ? neighbours : buffer;
+                int from = offsets != null ? offsets[cell] : 0;
+                int to = offsets != null ? offsets[cell + 1] : topology.neighbours(cell, buffer);
+                for (int k = from; k < to; k++) {
+                    int n = table[k];
+                    if (!visited.get(n)) {
+                        if (!model.isCaptured(n) && model.getInitialColor(n) == color) {
+                            visited.set(n);
+                            seen.push(n);
+                            stack.push(n);
+                        }
+                    }
+                }
+            }
+            gains[color] = gain;
+        }
+        // only the visited dots are cleared, so a preview costs what it walks
+        for (int k = 0; k < seen.size(); k++) {
+            visited.clear(seen.get(k));
+        }
+        seen.clear();
+    }
+
+    /**
+     * Getter method for the number of boundary dots of a color
+     *
+     * @param color
+     *            the color
+     * @return the number of uncaptured dots of that color touching the captured area
+     */
+    public int getBoundaryCount(int color) {
+        return boundary[color].size();
+    }
+
+    /**
+     * Returns the number of boundary dots of every color, as recorded in a
+     * MoveDelta before a move.
+     *
+     * @return an array of NUMBER_OF_COLORS sizes, indexed by color
+     */
+    @Override
+    int[] boundarySizes() {
+        int[] sizes = new int[boundary.length];
+        for (int color = 0; color < boundary.length; color++) {
+            sizes[color] = boundary[color].size();
+        }
+        return sizes;
+    }
+
+    /**
+     * The metod <b>undo</b> puts the boundary back as it was before a move.
+     * It must be called on the last move played, once its dots have been
+     * released in the model. The boundaries only grew during the move, except
+     * the one of the selected color, which was captured first. A move that
+     * was played by another FloodPath has no boundary sizes; the boundary is
+     * then built again from the model.
+     *
+     * @param delta
+     *            the move to undo
+     */
+    @Override
+    void undo(MoveDelta delta) {
+        if (!delta.hasBoundarySizes()) {
+            // a move played on another path: the boundary is built again
+            build();
+            return;
+        }
+        int color = delta.getColor();
+        for (int c = 0; c < boundary.length; c++) {
+            if (c != color) {
+                IntStack dots = boundary[c];
+                int size = delta.getBoundarySize(c);
+                for (int k = size; k < dots.size(); k++) {
+                    marked.clear(dots.get(k));
+                }
+                dots.truncate(size);
+            }
+        }
+        int size = delta.getBoundarySize(color);
+        for (int k = size; k < delta.getCapturedCount(); k++) {
+            marked.clear(delta.getCaptured(k));
+        }
+        for (int k = 0; k < size; k++) {
+            boundary[color].push(delta.getCaptured(k));
+        }
+    }
+
+    /**
+     * Gives up the marks this engine may change in place, so that copying
+     * it writes nothing in it.
+     */
+    @Override
+    void freeze() {
+        marked.freeze();
+    }
+
+    /**
+     * The metod <b>copyFor</b> returns a copy of this engine flooding
+     * the given model, which must be a clone of the model of this engine.
+     * A frozen engine is only read, so it can be copied from several
+     * threads at once.
+     *
+     * @param clone
+     *            the cloned model
+     * @return An object FloodEngine bound to the cloned model
+     */
+    @Override
+    FloodEngine copyFor(GameModel clone) {
+        try {
+            FloodEngine copy = (FloodEngine) super.clone();
+            copy.model = clone;
+            copy.boundary = new IntStack[boundary.length];
+            for (int color = 0; color < boundary.length; color++) {
+                copy.boundary[color] = boundary[color].clone();
+            }
+            copy.marked = marked.clone();
+            // the work stack is empty between moves, it grows again on demand
+            copy.stack = new IntStack();
+            copy.buffer = new int[Topology.MAX_NEIGHBOURS];
+            copy.visited = null;
+            copy.seen = null;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError();
+        }
+    }
+}
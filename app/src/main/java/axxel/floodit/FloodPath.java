@@ -0,0 +1,65 @@
+package axxel.floodit;
+
+/**
+ * The class <b>FloodPath</b> is the way a GameModel plays its moves. The
+ * model owns the captured dots and their hash; a path finds the dots that a
+ * color captures, hands them to GameModel.capture, and keeps whatever it
+ * needs to do it again quickly.
+ *
+ * FloodEngine walks the dots of any board, BitBoard floods the small boards
+ * word by word, and RegionFlood plays on the RegionGraph of the board once
+ * the model has one.
+ */
+abstract class FloodPath implements Cloneable {
+
+    /**
+     * Captures every dot connected to the captured area through dots of the
+     * current selection color of the model.
+     *
+     * @param journal
+     *            the stack receiving the captured dots, or null
+     */
+    abstract void flood(IntStack journal);
+
+    /**
+     * Computes, for every color, the number of dots that selecting it would
+     * capture. The model is not changed.
+     *
+     * @param gains
+     *            an array of NUMBER_OF_COLORS entries receiving the gains
+     */
+    abstract void previewGains(int[] gains);
+
+    /**
+     * Returns what this path needs, besides the captured dots, to undo the
+     * next move.
+     *
+     * @return the number of boundary dots of every color, or null
+     */
+    abstract int[] boundarySizes();
+
+    /**
+     * Puts this path back as it was before the last move, once the dots of
+     * the move have been released in the model.
+     *
+     * @param delta
+     *            the move to undo
+     */
+    abstract void undo(MoveDelta delta);
+
+    /**
+     * Gives up what this path may change in place, so that copying it
+     * writes nothing in it.
+     */
+    abstract void freeze();
+
+    /**
+     * Returns a copy of this path playing on the given model, which must be
+     * a clone of the model of this path.
+     *
+     * @param clone
+     *            the cloned model
+     * @return a path bound to the cloned model
+     */
+    abstract FloodPath copyFor(GameModel clone);
+}
@@ -0,0 +1,250 @@
+package axxel.floodit;
+
+import java.io.*;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The class <b>GameCodec</b> writes a GameModel in a compact binary form and
+ * reads it back, for save games, sharing and caches. The default Java
+ * serialization would write the whole object graph of the model; the codec
+ * only writes what defines the game:
+ *
+ * - a header: the magic bytes 'F' 'E', the version, the flags and, for a
+ *   board dealt from a seed, the seed on 8 bytes
+ * - the size, mode, level, number of steps allowed, selection color and
+ *   number of steps played
+ * - the captured dots, one bit per dot
+ * - the initial colors, three dots per byte (6*6*6 = 216 values)
+ *
+ * Everything after the header can be deflated. With the COMPACT flag, the
+ * colors of the captured dots are not written: they no longer matter to the
+ * game, but the decoded model cannot undo the moves that captured them.
+ */
+public final class GameCodec {
+
+    /**
+     * Deflate everything after the header
+     */
+    public static final int DEFLATE = 1;
+
+    /**
+     * Do not write the colors of the captured dots
+     */
+    public static final int COMPACT = 2;
+
+    /**
+     * The header holds the seed of the board, set by the codec itself
+     */
+    private static final int SEEDED = 4;
+
+    private static final int MAGIC = ('F' << 8) | 'E';
+    private static final int VERSION = 1;
+
+    private GameCodec() {
+    }
+
+    /**
+     * The metod <b>encode</b> returns the binary form of a model.
+     *
+     * @param model
+     *            the model to encode
+     * @param flags
+     *            DEFLATE and COMPACT, or 0
+     * @return the encoded model
+     */
+    public static byte[] encode(GameModel model, int flags) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + model.getSize() * model.getSize() / 2);
+        try {
+            encode(model, flags, bytes);
+        } catch (IOException e) {
+            // a ByteArrayOutputStream does not fail
+            throw new AssertionError(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * The metod <b>encode</b> writes the binary form of a model on a stream.
+     * The stream is not closed.
+     *
+     * @param model
+     *            the model to encode
+     * @param flags
+     *            DEFLATE and COMPACT, or 0
+     * @param out
+     *            the stream receiving the model
+     * @throws IOException
+     *             if the stream fails
+     */
+    public static void encode(GameModel model, int flags, OutputStream out) throws IOException {
+        flags &= DEFLATE | COMPACT;
+        if (model.isSeeded()) {flags |= SEEDED;}
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeShort(MAGIC);
+        header.writeByte(VERSION);
+        header.writeByte(flags);
+        if ((flags & SEEDED) != 0) {
+            header.writeLong(model.getSeed());
+        }
+        header.flush();
+
+        Deflater deflater = null;
+        OutputStream body = out;
+        if ((flags & DEFLATE) != 0) {
+            deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            body = new DeflaterOutputStream(out, deflater, 512);
+        }
+        try {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(body, 512));
+            int size = model.getSize();
+            int cells = size * size;
+            data.writeShort(size);
+            data.writeByte(model.getMode());
+            data.writeByte(model.getLevelOfGame());
+            data.writeShort(model.getNumbStepsMax());
+            data.writeByte(model.getCurrentSelectedColor());
+            data.writeInt(model.getNumberOfSteps());
+
+            for (int first = 0; first < cells; first += 8) {
+                int bits = 0;
+                for (int k = 0; k < 8 && first + k < cells; k++) {
+                    if (model.isCaptured(first + k)) {bits |= 1 << k;}
+                }
+                data.writeByte(bits);
+            }
+
+            boolean compact = (flags & COMPACT) != 0;
+            int packed = 0;
+            int count = 0;
+            for (int index = 0; index < cells; index++) {
+                if (compact && model.isCaptured(index)) {
+                    continue;
+                }
+                packed = packed * GameModel.NUMBER_OF_COLORS + model.getInitialColor(index);
+                if (++count == 3) {
+                    data.writeByte(packed);
+                    packed = 0;
+                    count = 0;
+                }
+            }
+            if (count > 0) {
+                // the last byte is padded as if it held three dots
+                for (; count < 3; count++) {
+                    packed *= GameModel.NUMBER_OF_COLORS;
+                }
+                data.writeByte(packed);
+            }
+            data.flush();
+            if (deflater != null) {
+                ((DeflaterOutputStream) body).finish();
+            }
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * The metod <b>decode</b> rebuilds a model from its binary form.
+     *
+     * @param bytes
+     *            the encoded model
+     * @return the decoded model
+     * @throws IOException
+     *             if the bytes are not a valid encoded model
+     */
+    public static GameModel decode(byte[] bytes) throws IOException {
+        return decode(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * The metod <b>decode</b> reads a model from a stream. Only the bytes of
+     * the model are read when it is not deflated.
+     *
+     * @param in
+     *            the stream holding the encoded model
+     * @return the decoded model
+     * @throws IOException
+     *             if the stream fails or does not hold a valid encoded model
+     */
+    public static GameModel decode(InputStream in) throws IOException {
+        DataInputStream header = new DataInputStream(in);
+        if (header.readUnsignedShort() != MAGIC) {
+            throw new StreamCorruptedException("Not an encoded game");
+        }
+        int version = header.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported version: " + version);
+        }
+        int flags = header.readUnsignedByte();
+        boolean seeded = (flags & SEEDED) != 0;
+        long seed = seeded ? header.readLong() : 0L;
+
+        Inflater inflater = null;
+        InputStream body = in;
+        if ((flags & DEFLATE) != 0) {
+            inflater = new Inflater();
+            body = new InflaterInputStream(in, inflater, 512);
+        }
+        try {
+            DataInputStream data = new DataInputStream(body);
+            int size = data.readUnsignedShort();
+            int mode = data.readUnsignedByte();
+            int level = data.readUnsignedByte();
+            int numbStepsMax = data.readUnsignedShort();
+            int color = data.readUnsignedByte();
+            int steps = data.readInt();
+            if (size < 1 || size > GameModel.MAX_SIZE || mode > GameModel.DIAGO_TORUS
+                    || color >= GameModel.NUMBER_OF_COLORS || steps < 0) {
+                throw new StreamCorruptedException("Invalid header");
+            }
+            int cells = size * size;
+
+            IntBitSet captured = new IntBitSet(cells);
+            for (int first = 0; first < cells; first += 8) {
+                int bits = data.readUnsignedByte();
+                for (int k = 0; k < 8 && first + k < cells; k++) {
+                    if ((bits & (1 << k)) != 0) {captured.set(first + k);}
+                }
+            }
+            if (!captured.get(0)) {
+                throw new StreamCorruptedException("The first dot is not captured");
+            }
+
+            boolean compact = (flags & COMPACT) != 0;
+            byte[] colors = new byte[cells];
+            int[] three = new int[3];
+            int count = 3;
+            for (int index = 0; index < cells; index++) {
+                if (compact && captured.get(index)) {
+                    // a captured dot has the selection color, whatever its first color
+                    colors[index] = (byte) color;
+                    continue;
+                }
+                if (count == 3) {
+                    int packed = data.readUnsignedByte();
+                    for (int k = 2; k >= 0; k--) {
+                        three[k] = packed % GameModel.NUMBER_OF_COLORS;
+                        packed /= GameModel.NUMBER_OF_COLORS;
+                    }
+                    if (packed != 0) {
+                        throw new StreamCorruptedException("Invalid colors");
+                    }
+                    count = 0;
+                }
+                colors[index] = (byte) three[count++];
+            }
+            GameModel model = new GameModel(size, level, mode, numbStepsMax, colors, captured, color, steps);
+            if (seeded) {model.setSeed(seed);}
+            return model;
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package axxel.floodit;
 
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
 import java.io.*;
 
 /**
@@ -32,6 +34,19 @@ public class GameModel implements Serializable, Cloneable {
     //public static final int Gris     = 5;
     public static final int NUMBER_OF_COLORS  = 6;
 
+    /**
+     * predefined values for the mode of the game
+     */
+    public static final int ORTHO_PLANE = 0;
+    public static final int ORTHO_TORUS = 1;
+    public static final int DIAGO_PLANE = 2;
+    public static final int DIAGO_TORUS = 3;
+
+    /**
+     * The largest supported size of board
+     */
+    public static final int MAX_SIZE = 4096;
+
     /**
      * The current selection color
      */
@@ -44,13 +59,20 @@ public class GameModel implements Serializable, Cloneable {
      */
     private int sizeOfGame;
     private int levelOfGame;
-    private int modeOfGame; // 0: OrthoPlane, 1: DiagoPlane, 2: OrthoTorus, 3: DiagoTorus
+    private int modeOfGame; // 0: OrthoPlane, 1: OrthoTorus, 2: DiagoPlane, 3: DiagoTorus
 
 
     /**
-     * A 2 dimentionnal array of sizeOfGame*sizeOfGame recording the state of each dot
+     * The initial color of each dot, the dot (i,j) being at index
+     * i*sizeOfGame+j
+     */
+	private byte[] colors;
+
+    /**
+     * The captured dots, by index. The set is persistent: a clone shares it
+     * and only copies the blocks of 64 dots that one of them changes.
      */
-	private DotInfo[][] model;
+	private PersistentBitSet captured;
 
     private int numbStepsMax;
 
@@ -65,10 +87,55 @@ public class GameModel implements Serializable, Cloneable {
     private int numberCaptured;
 
    /**
-     * Random generator
+     * Random generator of the seeds of the random boards
      */
 	private Random generator;
 
+    /**
+     * The seed of a random board, to deal it again or share it
+     */
+    private long seed;
+
+    /**
+     * True if the board was dealt from seed, false for a level or a game
+     * decoded without its seed
+     */
+    private boolean seeded;
+
+    /**
+     * The engine applying the flood logic to this model: a BitBoard for the
+     * boards of at most BitBoard.MAX_CELLS dots, a FloodEngine for the others,
+     * and a RegionFlood once the region graph of the board is built
+     */
+    private FloodPath engine;
+
+    /**
+     * The regions of the board, built on demand and shared by the clones
+     */
+    private transient RegionGraph regionGraph;
+
+    /**
+     * The dots captured by the move being played
+     */
+    private transient IntStack journal;
+
+    /**
+     * The Zobrist hash of the captured dots and of the current selection
+     * color, updated at every change of either
+     */
+    private long hash;
+
+    /**
+     * The immutable state of this model, built on demand and dropped at
+     * every change
+     */
+    private transient GameState state;
+
+    /**
+     * The last state published for other threads
+     */
+    private AtomicReference<GameState> published = new AtomicReference<>();
+
     /**
      * Constructor to initialize the model to a given size of board.
      * 
@@ -76,33 +143,199 @@ public class GameModel implements Serializable, Cloneable {
      *            the size of the board
      */
     public GameModel(int size) {
+        this(size, ORTHO_PLANE);
+    }
+
+    /**
+     * Constructor to initialize the model to a given size of board
+     * played in a given mode.
+     *
+     * @param size
+     *            the size of the board
+     * @param mode
+     *            the mode of the game
+     */
+    public GameModel(int size, int mode) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Unsupported size of board: " + size);
+        }
         generator = new Random();
         sizeOfGame = size;
+        modeOfGame = mode;
         reset();
     }
 
+    /**
+     * Constructor to initialize the model to the random board of a given
+     * seed. The same seed, size and mode always give the same board.
+     *
+     * @param size
+     *            the size of the board
+     * @param mode
+     *            the mode of the game
+     * @param seed
+     *            the seed of the board
+     */
+    public GameModel(int size, int mode, long seed) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Unsupported size of board: " + size);
+        }
+        generator = new Random();
+        sizeOfGame = size;
+        modeOfGame = mode;
+        deal(seed);
+    }
+
+    /**
+     * The metod <b>fromBoardCode</b> returns a new game of a shared random
+     * board.
+     *
+     * @param code
+     *            the code of the board, as returned by getBoardCode
+     * @return a model of that board
+     * @throws IllegalArgumentException
+     *             if the code is not valid
+     */
+    public static GameModel fromBoardCode(String code) {
+        BoardGenerator board = BoardGenerator.fromCode(code);
+        return new GameModel(board.getSize(), board.getMode(), board.getSeed());
+    }
+
+    /**
+     * Constructor to initialize the model to a level of the level pack.
+     *
+     * @param size
+     *            the size of the board, 10, 20 or 40
+     * @param level
+     *            the number of the level, 1 to 10
+     * @param mode
+     *            the mode of the game
+     * @throws IllegalArgumentException
+     *             if the level pack has no such level
+     */
     public GameModel(int size, int level, int mode) {
+        this(size, level, mode, LevelPack.getDefault());
+    }
+
+    /**
+     * Constructor to initialize the model to a level of a given level pack.
+     *
+     * @param size
+     *            the size of the board
+     * @param level
+     *            the number of the level
+     * @param mode
+     *            the mode of the game
+     * @param pack
+     *            the levels to choose from
+     * @throws IllegalArgumentException
+     *             if the level pack has no such level
+     */
+    GameModel(int size, int level, int mode, LevelPack pack) {
         sizeOfGame=size;
         levelOfGame=level;
         modeOfGame=mode;
-        gameSelect();
+        gameSelect(pack);
+    }
+
+    /**
+     * Constructor of a game saved by GameCodec. The dots are given by index,
+     * and the game resumes with the given color and number of steps.
+     *
+     * @param size
+     *            the size of the board
+     * @param level
+     *            the level of the game, 0 for a random game
+     * @param mode
+     *            the mode of the game
+     * @param numbStepsMax
+     *            the number of steps allowed, 0 if there is no limit
+     * @param colors
+     *            the initial color of each dot, now owned by the model
+     * @param captured
+     *            the captured dots
+     * @param color
+     *            the current selection color
+     * @param steps
+     *            the number of steps played
+     */
+    GameModel(int size, int level, int mode, int numbStepsMax, byte[] colors, IntBitSet captured, int color, int steps) {
+        sizeOfGame = size;
+        levelOfGame = level;
+        modeOfGame = mode;
+        this.numbStepsMax = numbStepsMax;
+        generator = new Random();
+        if (level > 0) {
+            String letter = size == 10 ? "S" : size == 20 ? "M" : "L";
+            setCurrentSelectedLevel(level + letter + mode);
+        }
+        this.colors = colors;
+        this.captured = new PersistentBitSet(size * size);
+        currentSelectedColor = color;
+        hash = colorKey(color);
+        for (int index = captured.nextSetBit(0); index >= 0; index = captured.nextSetBit(index + 1)) {
+            capture(index);
+        }
+        numberOfSteps = steps;
+        engine = newEngine();
     }
     /**
      * Resets the model to (re)start a game. The previous game (if there is one)
      * is cleared up . 
      */
     public void reset(){
+        deal(generator.nextLong());
+    }
 
-    	model = new DotInfo[sizeOfGame][sizeOfGame];
-
-    	for(int i = 0; i < sizeOfGame; i++){
-		   	for(int j = 0; j < sizeOfGame; j++){
-    			model[i][j] = new DotInfo(i,j,generator.nextInt(NUMBER_OF_COLORS));
-    		}
-    	}
+    /**
+     * Deals the random board of a seed and starts the game
+     */
+    private void deal(long seed){
+        newBoard();
+        new BoardGenerator(seed, sizeOfGame, modeOfGame).fill(colors);
+        this.seed = seed;
+        seeded = true;
         start();
     }
 
+    /**
+     * Getter method for the seed of a random board
+     *
+     * @return the seed the board was dealt from
+     */
+    public long getSeed(){
+        return seed;
+    }
+
+    /**
+     * Getter method for the origin of the board
+     *
+     * @return true if the board was dealt from a seed
+     */
+    boolean isSeeded(){
+        return seeded;
+    }
+
+    /**
+     * Restores the seed of a random board, for a game read back by GameCodec
+     *
+     * @param seed
+     *            the seed the board was dealt from
+     */
+    void setSeed(long seed){
+        this.seed = seed;
+        seeded = true;
+    }
+
+    /**
+     * Getter method for the code of a random board, to share it
+     *
+     * @return the code of the board, or null if the board is not random
+     */
+    public String getBoardCode(){
+        return seeded ? new BoardGenerator(seed, sizeOfGame, modeOfGame).getCode() : null;
+    }
+
     /**
      * Getter method for the size of the game
      * 
@@ -133,7 +366,7 @@ public class GameModel implements Serializable, Cloneable {
         if(isCaptured(i, j)) {
             return currentSelectedColor;
         } else {
-    	   return model[i][j].getColor();
+    	   return getInitialColor(i*sizeOfGame+j);
         }
     }
 
@@ -147,7 +380,47 @@ public class GameModel implements Serializable, Cloneable {
      * @return the status of the dot at location (i,j)
      */
     public boolean isCaptured(int i, int j){
-        return model[i][j].isCaptured();
+        return isCaptured(i*sizeOfGame+j);
+    }
+
+    /**
+     * returns true is the dot at a given index is captured, false otherwise
+     *
+     * @param index
+     *            the index i*size+j of the dot (i,j)
+     * @return the status of the dot
+     */
+    boolean isCaptured(int index){
+        return captured.get(index);
+    }
+
+    /**
+     * returns a block of 64 dots of the captured set: the bit b of the
+     * block w is the dot of index 64*w+b
+     *
+     * @param w
+     *            the number of the block
+     * @return the captured dots of the block
+     */
+    long capturedWord(int w){
+        return captured.word(w);
+    }
+
+    /**
+     * returns the initial color of the dot at a given index, whether
+     * it is captured or not
+     *
+     * @param index
+     *            the index i*size+j of the dot (i,j)
+     * @return the initial color of the dot
+     */
+    int getInitialColor(int index){
+        return colors[index];
+    }
+
+    private void newBoard(){
+        colors = new byte[sizeOfGame*sizeOfGame];
+        captured = new PersistentBitSet(sizeOfGame*sizeOfGame);
     }
 
     /**
@@ -159,10 +432,74 @@ public class GameModel implements Serializable, Cloneable {
      *            the y coordinate of the dot
      */   
     public void capture(int i, int j){
- 		model[i][j].setCaptured(true);
+ 		capture(i*sizeOfGame+j);
+    }
+
+    /**
+     * Sets the status of the dot at a given index to captured
+     *
+     * @param index
+     *            the index i*size+j of the dot (i,j)
+     */
+    void capture(int index){
+        captured.set(index);
+        hash ^= cellKey(index);
+        state = null;
         numberCaptured++;
     }
 
+    /**
+     * Sets the status of the dot at a given index back to not captured
+     *
+     * @param index
+     *            the index i*size+j of the dot (i,j)
+     */
+    private void release(int index){
+        captured.clear(index);
+        hash ^= cellKey(index);
+        state = null;
+        numberCaptured--;
+    }
+
+    /**
+     * Getter method for the Zobrist hash of the state of the game. Two games
+     * on the same board with the same captured dots and the same selection
+     * color have the same hash; the hash is kept up to date by every change,
+     * so reading it costs nothing.
+     *
+     * @return the 64 bits hash of the captured dots and the current color
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Returns the random key of a dot in the Zobrist hash. The keys are
+     * computed on demand rather than stored, since boards can be large.
+     *
+     * @param index
+     *            the index i*size+j of the dot (i,j)
+     * @return the key of the dot
+     */
+    static long cellKey(int index) {
+        // the finalizer of SplitMix64, spreading the bits of the index over the key
+        long z = (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the random key of a selection color in the Zobrist hash
+     *
+     * @param color
+     *            the color
+     * @return the key of the color
+     */
+    static long colorKey(int color) {
+        return cellKey(-2 - color);
+    }
+
     /**
      * Getter method for the current number of steps
      * 
@@ -172,7 +509,16 @@ public class GameModel implements Serializable, Cloneable {
     	return numberOfSteps;
     }
 
-    public void setNumberOfSteps() {numberOfSteps=numberOfSteps-1;}
+    public void setNumberOfSteps() {numberOfSteps=numberOfSteps-1; state = null;}
+
+    /**
+     * Getter method for the number of captured dots
+     *
+     * @return the number of captured dots
+     */
+    public int getNumberCaptured() {
+        return numberCaptured;
+    }
 
     public int getNumbStepsMax() {return numbStepsMax;}
 
@@ -183,7 +529,9 @@ public class GameModel implements Serializable, Cloneable {
      *            the new value for currentSelectedColor
     */   
     public void setCurrentSelectedColor(int val) {
+        hash ^= colorKey(currentSelectedColor) ^ colorKey(val);
         currentSelectedColor = val;
+        state = null;
     }
 
      /**
@@ -196,18 +544,19 @@ public class GameModel implements Serializable, Cloneable {
     }
 
     /**
-     * Getter method for the model's dotInfo reference
-     * at location (i,j)
+     * Getter method for the state of the dot at location (i,j). The
+     * returned DotInfo is a view on the model: it reads the dot in the
+     * model every time, and holds no state of its own.
      *
       * @param i
      *            the x coordinate of the dot
      * @param j
      *            the y coordinate of the dot
      *
-     * @return model[i][j]
+     * @return a view of the dot at location (i,j)
      */   
     public DotInfo get(int i, int j) {
-        return model[i][j];
+        return new DotInfo(this, i, j);
     }
 
    /**
@@ -216,6 +565,176 @@ public class GameModel implements Serializable, Cloneable {
      */
      public void step(){
         numberOfSteps++;
+        state = null;
+    }
+
+   /**
+     * The metod <b>flood</b> captures every dot connected to the captured
+     * area through dots of the current selection color. It must be called
+     * once the current selection color has been updated.
+     */
+    public void flood(){
+        engine.flood(null);
+        followRegionGraph();
+    }
+
+   /**
+     * The metod <b>play</b> selects a color, floods and counts a step, and
+     * returns what the move changed so that it can be undone. Selecting the
+     * current color is not a move: nothing changes and null is returned.
+     *
+     * @param color
+     *            the newly selected color
+     * @return the delta of the move, or null if the color is unchanged
+     */
+    public MoveDelta play(int color){
+        if (color == currentSelectedColor) {
+            return null;
+        }
+        if (journal == null) {
+            journal = new IntStack();
+        }
+        journal.clear();
+        int[] sizes = engine.boundarySizes();
+        int previousColor = currentSelectedColor;
+        int steps = numberOfSteps;
+        setCurrentSelectedColor(color);
+        engine.flood(journal);
+        followRegionGraph();
+        step();
+        return new MoveDelta(previousColor, color, steps, journal.toArray(), sizes);
+    }
+
+   /**
+     * The metod <b>undo</b> reverts a move returned by play. Moves must be
+     * undone in the reverse order they were played or redone. It only
+     * touches the dots captured by the move.
+     *
+     * @param delta
+     *            the last move played on this model
+     */
+    public void undo(MoveDelta delta){
+        for (int k = 0; k < delta.getCapturedCount(); k++) {
+            release(delta.getCaptured(k));
+        }
+        engine.undo(delta);
+        setCurrentSelectedColor(delta.getPreviousColor());
+        numberOfSteps = delta.getNumberOfSteps();
+        state = null;
+    }
+
+   /**
+     * The metod <b>redo</b> plays again a move reverted by undo.
+     *
+     * @param delta
+     *            the last move undone on this model
+     */
+    public void redo(MoveDelta delta){
+        setCurrentSelectedColor(delta.getColor());
+        engine.flood(null);
+        followRegionGraph();
+        numberOfSteps = delta.getNumberOfSteps() + 1;
+        state = null;
+    }
+
+   /**
+     * The metod <b>getState</b> returns the immutable state of this model,
+     * which can be handed to other threads. The model keeps changing in
+     * place, the returned state does not.
+     *
+     * @return the current state of the game
+     */
+    public GameState getState(){
+        if (state == null) {
+            state = new GameState(clone());
+        }
+        return state;
+    }
+
+   /**
+     * The metod <b>publish</b> makes the current state available to other
+     * threads through getPublishedState. It is meant to be called by the
+     * thread playing on the model, after every move.
+     *
+     * @return the published state
+     */
+    public GameState publish(){
+        GameState current = getState();
+        published.set(current);
+        return current;
+    }
+
+   /**
+     * Getter method for the last published state. It can be called from any
+     * thread.
+     *
+     * @return the last state given to publish, or null
+     */
+    public GameState getPublishedState(){
+        return published.get();
+    }
+
+   /**
+     * Returns true if another model is on the same board, with the same
+     * captured dots and the same selection color.
+     */
+    boolean sameState(GameModel other){
+        return sizeOfGame == other.sizeOfGame && modeOfGame == other.modeOfGame
+                && currentSelectedColor == other.currentSelectedColor
+                && (colors == other.colors || Arrays.equals(colors, other.colors))
+                && captured.equals(other.captured);
+    }
+
+   /**
+     * The metod <b>previewGains</b> returns, for every color, the number of
+     * dots that selecting it now would capture. The model is not changed.
+     *
+     * @return an array of NUMBER_OF_COLORS gains, indexed by color
+     */
+    public int[] previewGains(){
+        int[] gains = new int[NUMBER_OF_COLORS];
+        engine.previewGains(gains);
+        return gains;
+    }
+
+   /**
+     * Same as previewGains(), writing the gains in a given array so that it
+     * can be called at every frame without allocating.
+     *
+     * @param gains
+     *            an array of NUMBER_OF_COLORS entries receiving the gains
+     */
+    public void previewGains(int[] gains){
+        engine.previewGains(gains);
+    }
+
+   /**
+     * Setter method for the topology flooding the board, for instance one
+     * without tables in place of the shared one. The board is then flooded
+     * dot by dot by a FloodEngine, whatever its size, until its region graph
+     * is built.
+     *
+     * @param topology
+     *            a topology of the size and mode of the board
+     */
+    void setTopology(Topology topology){
+        engine = new FloodEngine(this, topology);
+    }
+
+   /**
+     * The metod <b>getRegionGraph</b> returns the regions of the board,
+     * building them on the first call. Since the initial colors never
+     * change, the graph stays valid for the whole game, and clones share
+     * it: the LevelRepository builds it when a level is loaded. From the
+     * next flood on, the moves of the model are played on the graph.
+     *
+     * @return the region graph of the board
+     */
+    public RegionGraph getRegionGraph(){
+        if (regionGraph == null) {
+            regionGraph = new RegionGraph(this);
+        }
+        return regionGraph;
     }
 
    /**
@@ -248,8 +767,20 @@ public class GameModel implements Serializable, Cloneable {
         return b.toString();
     }
 	
+	/**
+	 * Gives up the parts of the board this model may change in place, so
+	 * that cloning it writes nothing in it. The model can still be played,
+	 * copying what it changes.
+	 */
+	void freeze() {
+		captured.freeze();
+		engine.freeze();
+	}
+
 	/**
      * The metod <b>clone</b> returns a deepcopy of the actual object GameModel.
+     * The two models are independent, but share the dots that neither of
+     * them has changed since, so cloning does not copy the board.
      *
      * @return An object GameModel (the clone of the actual object GameModel)
      */
@@ -257,4288 +788,61 @@ public class GameModel implements Serializable, Cloneable {
 	public GameModel clone() {
 		try {
 			GameModel clone = (GameModel) super.clone();
-			clone.model = new DotInfo[sizeOfGame][sizeOfGame];
-			for (int i = 0; i <sizeOfGame; i++) {
-				for (int j=0; j<sizeOfGame; j++) {
-					clone.model[i][j]=model[i][j].clone();
-				}
-			}
+			// the initial colors never change, and the captured dots are
+			// copied on write, so a clone shares the whole board
+			clone.captured = captured.clone();
+			clone.engine = engine.copyFor(clone);
+			clone.journal = null;
+			// a clone publishes its own states
+			clone.published = new AtomicReference<>();
 			return clone;
 			} catch (CloneNotSupportedException e) {
 				throw new AssertionError();
 			}
 	}
 
-	private void gameSelect() {
-        if (sizeOfGame == 10) {
-            setCurrentSelectedLevel(levelOfGame+"S"+modeOfGame);
-            if (levelOfGame == 1) {
-                level1S();
-            }
-            if (levelOfGame == 2) {
-                level2S();
-            }
-            if (levelOfGame == 3) {
-                level3S();
-            }
-            if (levelOfGame == 4) {
-                level4S();
-            }
-            if (levelOfGame == 5) {
-                level5S();
-            }
-            if (levelOfGame == 6) {
-                level6S();
-            }
-            if (levelOfGame == 7) {
-                level7S();
-            }
-            if (levelOfGame == 8) {
-                level8S();
-            }
-            if (levelOfGame == 9) {
-                level9S();
-            }
-            if (levelOfGame == 10) {
-                level10S();
-            }
-        }
-
-        if (sizeOfGame == 20) {
-            setCurrentSelectedLevel(levelOfGame+"M"+modeOfGame);
-            if (levelOfGame == 1) {
-                level1M();
-            }
-            if (levelOfGame == 2) {
-                level2M();
-            }
-            if (levelOfGame == 3) {
-                level3M();
-            }
-            if (levelOfGame == 4) {
-                level4M();
-            }
-            if (levelOfGame == 5) {
-                level5M();
-            }
-            if (levelOfGame == 6) {
-                level6M();
-            }
-            if (levelOfGame == 7) {
-                level7M();
-            }
-            if (levelOfGame == 8) {
-                level8M();
-            }
-            if (levelOfGame == 9) {
-                level9M();
-            }
-            if (levelOfGame == 10) {
-                level10M();
-            }
-        }
-        if (sizeOfGame == 40) {
-            setCurrentSelectedLevel(levelOfGame+"L"+modeOfGame);
-            if (levelOfGame == 1) {
-                level1L();
-            }
-            if (levelOfGame == 2) {
-                level2L();
-            }
-            if (levelOfGame == 3) {
-                level3L();
-            }
-            if (levelOfGame == 4) {
-                level4L();
-            }
-            if (levelOfGame == 5) {
-                level5L();
-            }
-            if (levelOfGame == 6) {
-                level6L();
-            }
-            if (levelOfGame == 7) {
-                level7L();
-            }
-            if (levelOfGame == 8) {
-                level8L();
-            }
-            if (levelOfGame == 9) {
-                level9L();
-            }
-            if (levelOfGame == 10) {
-                level10L();
-            }
-        }
+	/**
+	 * Loads the board of the level levelOfGame of size sizeOfGame and mode
+	 * modeOfGame from a level pack. Only that board is decoded.
+	 */
+	private void gameSelect(LevelPack pack) {
+        int k = pack.indexOf(sizeOfGame, levelOfGame, modeOfGame);
+        if (k < 0) {
+            throw new IllegalArgumentException("No level " + levelOfGame + " for a board of size " + sizeOfGame);
+        }
+        newBoard();
+        String letter = sizeOfGame == 10 ? "S" : sizeOfGame == 20 ? "M" : "L";
+        setCurrentSelectedLevel(levelOfGame + letter + modeOfGame);
+        numbStepsMax = pack.getNumbStepsMax(k);
+        pack.decode(k, colors);
+        start();
     }
 
-    private void level1S(){
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-        int count=0;
-        int[] Tab0 = {0,5,2,1,1,5,3,2,2,3,
-                0,5,2,5,2,0,1,3,0,3,
-                1,5,1,2,5,2,1,0,4,5,
-                4,5,3,2,4,2,2,4,3,2,
-                2,4,5,0,4,4,5,2,5,3,
-                2,4,3,5,0,1,3,3,0,2,
-                3,5,3,4,5,3,2,1,0,5,
-                2,4,1,5,0,0,5,0,4,4,
-                5,1,2,2,3,5,0,5,4,5,
-                2,1,0,5,2,5,5,4,2,3};
-        int[] Tab1 ={4,1,5,1,4,0,5,1,1,3,
-                5,3,0,1,2,4,5,5,4,0,
-                4,1,4,1,3,5,3,0,4,3,
-                2,2,2,1,0,3,1,2,1,2,
-                2,1,5,4,2,0,1,3,4,0,
-                3,3,2,5,5,2,5,2,5,4,
-                2,2,4,4,5,4,5,4,0,2,
-                1,3,4,2,3,0,2,4,5,3,
-                4,3,3,1,3,0,4,5,0,4,
-                4,1,2,5,5,4,3,4,4,1};
-        int[] Tab2 ={3,0,3,5,0,3,1,1,2,0,
-                1,4,0,1,1,1,2,4,4,0,
-                3,4,5,1,1,4,5,0,1,5,
-                3,4,0,1,1,1,2,0,5,2,
-                4,2,4,5,1,1,5,5,5,1,
-                1,0,0,4,1,0,5,3,4,2,
-                0,5,5,5,1,2,5,0,3,0,
-                0,4,0,2,2,5,0,1,1,1,
-                5,2,3,2,1,1,3,3,4,2,
-                3,4,1,3,0,2,3,0,3,3
-        };
-        int[] Tab3 ={2,5,1,2,2,5,2,0,3,4,
-                3,4,2,0,0,2,2,0,2,3,
-                3,5,4,2,2,3,3,4,3,2,
-                3,3,5,3,0,4,5,3,0,2,
-                0,4,5,3,0,2,5,1,4,5,
-                2,1,3,2,4,5,2,3,5,4,
-                2,5,2,2,0,3,1,1,0,2,
-                1,4,1,4,5,2,0,2,3,1,
-                0,2,0,2,0,4,0,4,5,1,
-                5,4,4,0,4,1,2,1,1,5
-        };
+    private void start(){
+        currentSelectedColor = getInitialColor(0);
+        hash = colorKey(currentSelectedColor);
+        numberCaptured = 0;
+        capture(0);
+        numberOfSteps = 0;
+        engine = newEngine();
+        regionGraph = null;
+    }
 
-        if (modeOfGame==0){
-            numbStepsMax=20;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=15;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=14;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=12;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level2S(){
-        int[] Tab0 = {5,2,5,2,5,2,1,0,0,3,
-                4,4,1,3,2,0,1,2,1,4,
-                2,4,2,0,5,5,0,4,4,0,
-                3,0,1,0,3,4,1,3,4,0,
-                5,3,4,0,0,3,5,4,2,5,
-                5,4,3,0,2,3,2,5,2,1,
-                0,3,5,3,4,3,4,3,1,3,
-                5,5,0,0,1,3,1,3,2,3,
-                1,4,3,0,1,5,5,3,5,4,
-                3,1,2,3,5,3,3,0,1,3};
-        int[] Tab1 ={5,4,0,2,4,5,0,4,1,1,
-                                                        5,4,2,2,5,3,1,0,3,2,
-                                                        4,4,0,4,5,4,1,1,4,5,
-                                                        0,0,0,1,5,0,5,3,2,1,
-                                                        4,0,0,3,5,4,4,4,3,4,
-                                                        3,4,5,2,1,3,5,3,3,0,
-                                                        5,5,2,3,2,5,4,5,2,1,
-                                                        1,1,2,0,4,1,0,0,1,1,
-                                                        1,4,5,4,3,3,3,2,4,0,
-                                                        0,3,2,5,3,0,0,5,1,3,
-                                                        };
-        int[] Tab2 ={2,0,2,3,0,2,1,2,2,0,
-                                                        0,2,4,4,1,3,4,2,2,1,
-                                                        4,3,1,5,3,2,2,2,4,2,
-                                                        5,2,0,2,5,4,5,0,1,4,
-                                                        3,2,0,4,5,3,3,2,2,4,
-                                                        2,0,3,5,1,0,4,5,5,2,
-                                                        1,0,2,5,2,2,4,4,5,0,
-                                                        4,5,3,0,4,2,3,4,5,3,
-                                                        2,2,1,3,3,4,0,5,2,5,
-                                                        0,2,1,1,2,3,5,1,5,3,
-                                                        };
-        int[] Tab3 ={2,5,0,1,3,3,0,0,3,1,
-                                                        1,2,0,4,4,3,1,4,5,2,
-                                                        4,4,1,2,0,0,5,1,1,5,
-                                                        5,0,2,0,0,4,1,3,0,5,
-                                                        3,0,3,5,4,1,5,5,5,1,
-                                                        4,5,1,0,2,0,1,4,3,5,
-                                                        3,1,4,5,3,5,5,1,0,3,
-                                                        2,1,2,2,5,5,4,1,1,0,
-                                                        5,0,4,1,5,1,5,3,0,0,
-                                                        1,4,4,2,3,2,2,1,2,0,
-                                                        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=18; // Réussi en 16 coups (Best?)
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=16;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=13;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=11;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level3S(){
-        int[] Tab0 = {5,5,3,1,1,3,1,4,3,5,
-                1,4,4,3,2,4,2,0,4,2,
-                2,4,4,2,0,1,3,3,1,4,
-                4,2,2,4,0,4,4,0,0,3,
-                2,3,3,0,0,5,1,5,2,5,
-                5,0,1,5,0,2,3,0,2,5,
-                3,3,1,5,0,0,2,1,5,2,
-                3,5,4,0,5,2,2,5,3,0,
-                3,4,5,2,5,3,1,0,2,4,
-                0,3,1,3,5,3,5,5,5,2};
-        int[] Tab1 ={2,2,0,2,5,0,5,5,5,5,
-                                                        3,0,5,5,5,3,2,0,3,2,
-                                                        0,2,2,4,1,1,2,5,4,0,
-                                                        4,0,3,4,5,5,1,5,3,4,
-                                                        1,2,2,5,1,0,2,1,3,1,
-                                                        3,0,1,5,0,5,2,1,3,3,
-                                                        3,3,0,1,3,0,0,1,3,0,
-                                                        1,2,2,2,2,0,0,0,1,1,
-                                                        4,4,4,2,4,3,1,5,0,4,
-                                                        2,5,5,0,2,5,0,3,3,3,
-                                                        };
-        int[] Tab2 ={4,0,2,3,5,2,5,1,1,5,
-                                                        3,3,3,0,1,3,3,0,2,5,
-                                                        0,1,4,5,5,3,4,0,0,2,
-                                                        1,0,2,3,4,3,2,5,5,5,
-                                                        2,1,0,0,3,1,1,3,1,1,
-                                                        4,1,5,2,5,0,5,1,5,1,
-                                                        0,0,5,3,4,5,0,1,3,2,
-                                                        3,0,1,5,2,0,4,3,2,2,
-                                                        2,5,1,2,1,4,5,2,1,1,
-                                                        3,4,1,1,3,4,1,0,1,1,
-                                                        };
-        int[] Tab3 ={3,3,0,2,0,5,0,4,1,4,
-                                                        1,5,1,3,2,2,3,2,2,0,
-                                                        2,5,2,0,2,2,4,4,3,3,
-                                                        0,3,3,0,1,4,1,1,0,0,
-                                                        0,1,3,2,0,2,5,3,4,4,
-                                                        1,2,1,3,4,4,3,1,4,0,
-                                                        2,2,3,2,5,4,1,3,3,3,
-                                                        0,0,0,2,4,3,1,2,1,4,
-                                                        3,4,3,0,4,4,0,3,5,4,
-                                                        3,5,1,4,3,3,2,0,2,0,
-                                                        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=16;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=13;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=12;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=10;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-
-    }
-    private void level4S(){
-        int[] Tab0 = {0,5,2,2,2,3,1,1,5,5,
-                4,3,0,4,0,2,5,2,0,0,
-                5,2,4,0,3,1,1,1,2,4,
-                2,5,5,4,1,0,0,0,5,5,
-                5,5,1,1,3,1,4,2,1,1,
-                0,3,3,1,3,2,0,2,1,3,
-                5,5,0,5,3,1,3,0,3,3,
-                0,4,2,0,1,1,4,2,5,4,
-                1,1,1,2,3,1,1,0,1,1,
-                4,3,2,0,1,4,1,2,4,5};
-        int[] Tab1 ={1,3,4,0,5,2,0,1,4,1,
-                 4,1,5,3,1,5,5,4,4,2,
-                 3,5,0,3,1,5,4,0,4,5,
-                 0,4,0,0,2,4,0,1,5,4,
-                 0,2,0,0,4,3,5,0,4,0,
-                 5,4,3,4,3,4,4,5,5,3,
-                 2,1,0,2,0,3,5,5,4,1,
-                 2,1,2,5,4,4,3,3,5,3,
-                 4,3,5,0,4,5,3,4,2,4,
-                 2,3,1,5,5,1,4,3,3,3,
-         };
-
-        int[] Tab2 ={3,5,1,0,5,5,3,4,1,2,
-                2,1,2,1,2,2,3,4,0,1,
-                0,3,4,1,1,3,1,4,2,0,
-                5,0,0,4,1,1,3,3,2,2,
-                4,0,3,2,4,3,5,4,3,4,
-                2,2,0,4,5,5,4,4,5,3,
-                2,0,2,0,1,4,0,5,3,4,
-                5,1,3,1,3,4,2,1,2,2,
-                3,1,2,3,4,4,1,5,3,4,
-                2,2,5,5,4,2,3,1,3,5,
-        };
-        int[] Tab3 ={2,2,0,4,2,1,3,1,1,4,
-                2,4,2,1,4,5,2,3,2,3,
-                1,5,3,0,4,4,2,3,2,2,
-                0,0,4,1,1,5,1,5,1,1,
-                1,3,5,2,1,1,1,2,4,1,
-                4,2,1,2,5,1,4,2,2,2,
-                5,4,2,2,5,5,3,0,4,2,
-                2,5,5,5,1,1,0,0,4,1,
-                2,5,1,2,3,3,3,5,2,5,
-                2,0,4,2,5,5,2,3,2,2
-        };
-
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=17;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=14;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=10;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=10;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level5S(){
-        int[] Tab0 = {0,5,3,4,0,2,0,3,4,3
-                ,5,3,2,0,5,5,0,1,2,1
-                ,4,0,1,1,5,2,2,5,0,4
-                ,2,2,3,5,5,3,3,2,0,3
-                ,0,2,4,4,3,4,1,3,1,4
-                ,4,1,0,4,2,4,3,5,5,3
-                ,1,5,1,4,2,5,1,2,4,3
-                ,4,5,5,4,1,5,0,5,3,0
-                ,5,5,3,2,3,4,1,2,3,4
-                ,2,0,0,5,1,3,5,2,5,4};
-
-        int[] Tab1 ={2,2,0,1,2,5,0,2,4,0,
-                0,2,5,0,0,3,1,0,0,2,
-                2,2,2,4,1,1,0,0,5,5,
-                2,2,1,5,5,3,2,5,0,1,
-                3,0,2,5,2,3,3,2,1,1,
-                2,5,4,1,0,1,0,4,1,4,
-                1,2,4,5,3,5,0,3,5,3,
-                4,1,2,4,1,2,4,1,4,0,
-                1,0,3,1,0,0,3,1,4,1,
-                5,1,5,5,2,0,3,2,5,1,
-        };
-        int[] Tab2 ={5,0,1,0,2,4,3,3,2,5,
-                2,2,5,4,0,5,0,4,2,1,
-                3,0,2,5,3,3,5,1,4,3,
-                2,3,2,0,3,5,5,5,2,1,
-                4,5,2,5,2,4,0,1,4,0,
-                5,1,0,0,1,4,2,5,1,1,
-                5,0,2,1,1,5,3,3,2,3,
-                5,2,0,2,1,3,5,4,0,4,
-                4,4,4,4,5,1,3,3,0,2,
-                5,1,1,3,4,4,2,5,2,5,
-        };
-        int[] Tab3 ={2,2,2,1,2,5,1,5,5,2,
-                3,0,1,1,1,2,0,2,5,4,
-                5,4,1,1,0,1,0,2,3,5,
-                4,3,2,5,1,0,2,2,4,0,
-                2,0,0,1,2,0,3,1,2,0,
-                5,4,1,4,4,5,5,2,2,0,
-                3,3,4,3,3,5,1,1,3,4,
-                0,0,3,1,0,4,4,3,5,3,
-                1,5,3,2,4,5,2,0,3,1,
-                1,2,4,3,5,0,2,2,3,5,
-        };
-
-
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=19;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=12;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=13;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=9;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-
-    }
-    private void level6S(){
-        int[] Tab0 = {0,4,0,0,4,3,4,1,4,5,
-                3,0,4,5,1,4,1,0,1,3,
-                4,4,5,5,4,2,1,4,5,1,
-                0,4,3,3,0,0,0,0,2,5,
-                2,1,4,0,3,2,4,3,2,4,
-                0,2,3,1,0,4,3,0,0,3,
-                5,3,4,0,5,2,1,1,0,1,
-                3,5,0,3,5,2,1,1,4,4,
-                1,0,5,4,1,2,4,1,4,3,
-                1,5,4,2,0,5,5,3,2,1};
-        int[] Tab1 ={1,1,2,3,5,4,0,2,2,5,
-                4,5,3,1,0,5,1,1,0,1,
-                0,0,5,0,1,2,0,5,4,4,
-                3,1,5,5,4,2,0,0,4,2,
-                2,5,2,3,4,3,3,2,4,3,
-                1,4,2,1,4,3,0,4,5,0,
-                3,0,5,2,2,0,1,0,4,1,
-                2,1,3,0,5,3,4,4,5,2,
-                3,3,4,2,5,3,2,3,1,5,
-                5,2,5,2,5,1,2,0,4,5,
-        };
-        int[] Tab2 ={1,1,2,3,5,4,0,2,2,5,
-                4,5,3,1,0,5,1,1,0,1,
-                0,0,5,0,1,2,0,5,4,4,
-                3,1,5,5,4,2,0,0,4,2,
-                2,5,2,3,4,3,3,2,4,3,
-                1,4,2,1,4,3,0,4,5,0,
-                3,0,5,2,2,0,1,0,4,1,
-                2,1,3,0,5,3,4,4,5,2,
-                3,3,4,2,5,3,2,3,1,5,
-                5,2,5,2,5,1,2,0,4,5,
-        };
-        int[] Tab3 ={4,4,2,0,1,2,3,5,0,5,
-                5,4,0,3,4,4,2,0,0,3,
-                5,4,0,1,5,5,4,1,3,3,
-                3,2,4,2,5,5,4,2,5,5,
-                5,3,4,1,2,1,1,4,1,4,
-                0,1,0,4,1,0,5,0,1,2,
-                3,4,0,2,4,0,3,1,0,0,
-                1,3,5,1,1,2,1,3,0,4,
-                4,5,0,0,0,4,3,3,1,4,
-                1,1,2,4,3,4,3,4,3,4,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=18;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=13;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=12;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=8;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }start();
-    }
-    private void level7S(){
-        int[] Tab0 = {4,5,2,2,3,4,4,1,4,0,
-                3,4,0,2,2,2,5,1,1,5,
-                1,4,3,1,2,1,0,0,1,3,
-                2,3,1,1,0,5,2,4,4,5,
-                5,5,1,1,3,2,2,0,4,0,
-                5,1,0,4,3,3,2,2,0,5,
-                5,4,0,4,2,4,5,1,5,5,
-                2,5,1,1,5,4,0,0,1,2,
-                0,4,5,1,1,1,5,3,1,1,
-                0,4,0,0,1,0,1,2,2,1};
-        int[] Tab1 ={0,4,3,4,4,5,1,0,1,5,
-                3,2,2,4,3,3,4,0,4,2,
-                0,3,0,5,5,0,5,5,5,4,
-                4,3,0,2,3,0,1,5,4,4,
-                2,5,0,1,5,4,3,5,5,1,
-                5,1,0,5,1,5,3,3,1,4,
-                5,3,4,3,3,1,2,2,4,5,
-                2,1,3,2,1,3,2,2,2,0,
-                1,3,0,2,3,2,4,3,4,5,
-                2,5,0,4,4,5,1,0,4,3,
-        };
-        int[] Tab2 ={0,3,3,1,0,2,2,0,1,3,
-                5,4,1,5,2,2,4,5,0,2,
-                4,4,4,4,3,5,4,3,1,0,
-                0,1,5,4,1,0,4,4,5,1,
-                5,4,0,0,2,4,4,3,2,1,
-                5,3,4,1,0,0,1,0,2,1,
-                0,5,2,1,1,0,4,0,0,3,
-                3,1,3,2,2,4,5,3,1,1,
-                3,4,1,1,1,0,0,2,5,2,
-                3,4,1,5,1,5,1,1,4,5,
-        };
-        int[] Tab3 ={5,2,5,2,5,3,3,1,1,1,
-                4,0,0,1,2,3,1,2,1,3,
-                0,4,5,0,4,0,4,0,3,3,
-                4,5,3,4,5,4,0,2,4,1,
-                4,2,0,1,5,2,0,4,3,3,
-                3,3,0,1,4,3,2,5,4,2,
-                3,1,3,4,4,3,0,0,2,5,
-                5,5,5,2,0,2,1,1,1,4,
-                0,4,1,3,4,0,4,2,3,4,
-                0,2,1,5,0,1,0,1,4,1,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=13;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=13;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=12;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=9;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level8S(){
-        int[] Tab0 = {5,0,2,1,1,3,2,3,0,3,
-                3,5,2,3,2,2,0,0,3,2,
-                1,2,0,4,5,5,5,5,4,3,
-                0,2,5,2,3,0,0,3,5,3,
-                4,1,3,5,0,3,2,1,0,1,
-                0,1,2,1,4,2,1,0,0,4,
-                0,3,4,5,5,1,0,0,5,3,
-                4,1,2,5,2,1,0,0,5,2,
-                1,5,3,2,0,2,2,1,1,1,
-                1,0,0,4,2,2,4,0,0,5};
-        int[] Tab1 ={4,0,3,3,2,5,1,3,4,1,
-                3,2,2,2,1,3,1,3,3,2,
-                4,2,4,2,3,1,1,0,4,0,
-                5,1,1,5,2,1,3,1,4,3,
-                5,5,1,1,0,2,4,2,0,3,
-                5,1,3,2,2,2,0,3,1,3,
-                0,5,3,3,3,0,0,3,5,5,
-                3,4,3,4,5,0,2,4,3,1,
-                4,4,2,2,2,2,1,4,2,4,
-                4,5,5,3,3,4,3,5,5,4,
-        };
-        int[] Tab2 ={5,0,1,3,2,4,4,1,4,0,
-                2,3,3,1,1,5,3,4,3,4,
-                5,0,0,0,2,4,0,1,5,0,
-                0,2,0,1,5,3,4,0,2,0,
-                4,2,3,0,1,2,4,0,2,2,
-                5,4,4,3,2,0,0,0,3,2,
-                0,1,5,3,1,4,4,3,2,2,
-                1,5,1,2,1,5,1,4,3,0,
-                4,4,3,5,5,3,5,2,2,5,
-                1,1,3,3,3,3,2,0,3,5,
-        };
-        int[] Tab3 ={2,0,4,0,0,3,3,2,2,3,
-                0,2,1,3,4,2,0,2,3,3,
-                0,3,0,0,4,0,1,5,2,4,
-                0,3,2,3,3,4,3,0,1,0,
-                3,1,1,4,4,1,4,4,0,3,
-                4,3,4,2,5,4,5,3,2,2,
-                3,2,2,3,0,3,2,3,0,2,
-                2,1,3,3,4,3,2,3,4,3,
-                1,1,3,0,4,4,3,5,1,5,
-                1,5,3,3,1,3,2,2,4,1,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=18;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=11;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=11;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=8;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }start();
-    }
-    private void level9S(){
-        int[] Tab0 = {2,1,1,0,0,5,3,0,2,3,
-                4,0,5,2,4,1,2,2,4,4,
-                5,3,0,3,3,5,4,2,4,3,
-                2,2,5,0,3,4,5,0,0,0,
-                3,5,2,3,1,0,0,3,5,1,
-                0,5,5,1,4,3,5,3,4,5,
-                4,1,0,1,2,1,0,3,1,2,
-                2,5,5,1,5,3,4,2,0,0,
-                5,4,1,5,5,4,2,5,0,2,
-                2,1,1,3,0,1,1,3,0,2};
-        int[] Tab1 ={1,3,5,1,4,3,5,3,4,1,
-                1,4,2,0,1,4,5,3,2,3,
-                4,1,5,2,4,3,0,5,0,3,
-                5,0,4,2,5,0,3,2,1,2,
-                5,2,3,0,2,3,3,1,1,2,
-                4,2,3,3,0,4,3,4,0,3,
-                0,0,1,3,3,3,4,2,5,1,
-                4,4,5,4,3,1,4,2,2,4,
-                3,0,4,4,5,0,4,1,5,0,
-                5,0,3,0,1,3,0,1,3,0,
-        };
-        int[] Tab2 ={5,0,5,4,5,0,5,5,5,3,
-                2,2,0,2,3,4,0,2,2,2,
-                3,5,1,1,1,1,1,3,3,1,
-                2,1,1,3,2,4,1,2,4,5,
-                2,1,3,4,2,2,2,1,4,4,
-                4,1,3,3,4,4,2,4,3,1,
-                5,5,1,0,0,4,3,4,5,3,
-                2,1,1,1,5,2,1,2,4,4,
-                2,5,1,0,1,4,0,4,1,0,
-                2,4,3,3,1,5,5,3,0,3,
-        };
-        int[] Tab3 ={1,5,2,4,4,3,2,2,3,2,
-                4,0,2,3,0,0,5,1,1,1,
-                4,4,0,5,4,4,2,1,2,0,
-                4,5,5,3,3,3,0,2,5,0,
-                3,4,5,3,0,0,4,3,3,4,
-                4,1,2,0,0,4,2,3,2,4,
-                0,2,3,0,4,2,2,1,3,0,
-                3,1,0,4,4,4,2,2,0,2,
-                3,3,1,0,5,0,0,3,1,3,
-                1,4,2,4,3,3,0,5,0,2,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=17;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=14;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=9;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=9;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }start();
-    }
-    private void level10S(){
-        int[] Tab0 = {4,0,3,5,3,5,3,0,2,3,
-                1,2,3,1,4,1,3,2,4,2,
-                0,0,4,2,4,5,4,5,3,4,
-                5,5,1,0,3,1,3,5,2,3,
-                3,0,4,1,3,3,1,4,0,1,
-                1,0,0,4,5,4,2,1,4,3,
-                1,1,0,4,5,2,3,4,1,0,
-                3,4,2,2,4,2,2,1,2,4,
-                2,3,3,1,3,4,2,3,1,3,
-                3,1,4,5,0,0,3,4,1,2};
-        int[] Tab1 ={2,4,2,2,2,0,1,1,0,1,
-                3,4,2,1,4,5,2,5,2,0,
-                0,2,3,0,3,2,4,0,2,2,
-                2,1,1,2,1,2,3,5,0,5,
-                3,5,5,0,1,1,0,1,1,2,
-                0,4,0,4,3,2,5,2,1,2,
-                0,1,5,4,0,1,5,0,3,3,
-                1,3,3,5,0,2,2,5,5,4,
-                2,2,3,2,2,2,0,1,5,4,
-                5,0,0,5,2,2,4,0,5,3,
-        };
-        int[] Tab2 ={0,4,0,1,2,0,3,0,4,3,
-                0,5,2,2,0,0,1,4,5,3,
-                1,3,1,4,4,3,4,3,5,2,
-                2,4,0,2,5,1,1,4,2,3,
-                1,3,3,0,3,0,2,2,0,2,
-                0,1,2,4,3,5,2,4,5,5,
-                1,3,1,0,1,4,4,5,1,1,
-                0,5,4,4,0,1,1,3,3,3,
-                4,1,2,4,0,2,0,4,2,2,
-                0,2,2,3,5,5,2,4,5,3,
-        };
-        int[] Tab3 ={0,5,1,3,4,5,4,1,3,2,
-                5,0,4,5,1,4,3,5,4,3,
-                2,3,2,1,1,5,0,2,0,1,
-                0,5,2,5,2,0,0,0,3,5,
-                3,0,4,0,0,2,2,0,2,4,
-                4,3,5,1,4,0,5,1,3,3,
-                0,5,1,0,3,1,1,2,5,0,
-                1,5,1,1,1,1,4,1,3,4,
-                2,1,5,3,3,1,1,5,0,0,
-                3,1,2,4,1,3,2,4,4,4,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=19;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=12;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=12;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=9;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-
-    private void level1M(){
-        int[] Tab0 = {5,2,2,4,3,4,1,2,1,3,5,2,0,4,4,3,0,1,3,2,
-                0,0,5,4,1,0,3,0,2,0,0,0,4,4,3,3,2,0,0,3,
-                2,4,0,3,5,5,4,1,0,5,0,1,3,5,1,1,1,2,5,3,
-                4,4,2,4,1,2,4,2,0,0,4,4,1,5,5,2,4,0,3,3,
-                5,4,1,3,4,0,2,3,3,0,4,0,5,4,3,4,4,5,5,1,
-                4,2,1,3,3,4,0,5,3,4,5,0,3,5,4,3,1,2,0,2,
-                0,1,5,0,3,4,5,1,0,3,4,5,2,0,5,0,2,5,2,3,
-                0,0,2,2,2,0,0,5,0,2,5,1,5,3,4,1,4,3,4,1,
-                0,1,0,3,4,0,3,5,1,2,0,3,5,2,0,5,3,2,0,2,
-                2,3,0,5,5,2,2,0,5,0,0,4,0,0,0,0,1,2,1,5,
-                3,3,5,4,3,0,0,2,0,4,0,0,0,0,1,4,5,5,0,1,
-                0,3,2,5,5,3,5,5,0,4,5,2,3,2,1,3,0,5,3,3,
-                2,2,1,5,2,4,2,5,1,1,4,3,3,0,3,0,1,1,4,1,
-                5,2,4,1,4,2,0,4,0,5,0,5,0,5,0,0,1,1,0,0,
-                2,0,5,0,0,3,1,4,5,3,3,3,5,2,0,1,3,5,0,5,
-                3,4,5,4,2,2,4,5,1,2,3,3,3,3,2,1,3,3,3,3,
-                1,0,4,3,4,2,5,2,5,0,0,3,3,5,0,4,1,5,3,4,
-                4,3,3,4,1,0,4,5,3,0,2,1,5,1,3,2,5,2,5,4,
-                0,2,4,1,3,1,3,1,2,4,1,2,3,4,1,0,1,5,1,3,
-                4,4,3,2,0,0,5,2,4,3,5,3,1,5,4,4,3,2,4,3};
-        int[] Tab1 ={5,0,0,3,0,4,2,0,4,1,4,4,4,0,1,2,0,0,4,0,
-                4,5,2,5,1,2,2,5,2,4,2,4,3,4,1,1,1,5,5,2,
-                0,4,0,1,2,1,4,0,4,5,5,4,3,5,0,4,2,1,2,5,
-                0,0,3,1,4,2,4,1,5,5,2,3,1,4,5,1,0,1,2,5,
-                3,4,4,4,1,1,5,1,0,0,5,4,5,4,3,3,2,3,0,5,
-                5,1,2,4,0,0,0,5,5,4,3,4,3,3,5,5,5,3,1,2,
-                3,4,5,3,1,4,2,0,3,0,2,2,2,1,3,0,5,2,3,0,
-                0,2,5,5,3,3,4,4,1,4,4,2,1,4,5,0,1,0,4,4,
-                0,0,2,3,3,3,2,4,4,4,4,0,2,1,4,3,5,3,2,5,
-                0,3,1,3,4,1,2,1,5,0,1,4,5,1,4,3,3,3,4,3,
-                5,5,2,4,2,3,1,0,0,0,2,3,0,5,3,5,2,5,5,3,
-                2,4,1,2,1,2,5,0,3,3,2,4,4,4,0,1,3,5,4,4,
-                2,5,1,3,4,5,4,4,2,5,4,5,0,1,4,0,2,0,4,1,
-                4,2,1,2,0,3,1,3,4,5,3,2,3,4,1,1,2,1,4,0,
-                3,2,5,4,4,5,1,2,2,2,5,1,5,2,4,2,5,0,3,5,
-                4,1,1,1,2,0,4,4,5,2,4,2,5,0,3,1,5,2,0,3,
-                4,3,3,2,2,5,2,2,4,1,0,2,5,5,2,4,5,0,0,0,
-                4,2,2,5,4,4,1,2,2,0,3,2,0,2,1,3,2,3,2,2,
-                1,4,2,1,2,5,0,0,3,1,3,4,2,1,2,1,2,2,3,3,
-                2,1,5,2,5,5,3,5,5,2,1,5,4,1,2,2,5,2,4,0
-        };
-        int[] Tab2 ={5,3,3,0,0,0,1,3,0,0,0,2,5,0,2,2,5,3,0,5,
-                2,5,1,2,4,4,1,0,0,5,2,4,2,0,2,3,5,5,5,4,
-                2,3,5,0,5,4,0,0,1,4,0,5,3,4,5,0,5,0,5,1,
-                3,3,1,3,1,5,0,5,5,4,1,2,4,2,3,4,3,2,4,1,
-                5,2,1,0,2,3,2,1,2,3,5,0,4,1,5,0,0,4,1,1,
-                1,3,0,4,1,2,3,1,5,4,0,4,3,5,0,4,2,1,4,5,
-                1,1,0,3,5,3,5,0,1,1,4,3,1,4,4,2,2,4,4,1,
-                2,2,5,0,0,2,2,1,5,5,2,0,1,2,4,1,1,0,5,3,
-                2,3,2,1,0,2,5,5,5,2,5,0,4,1,5,0,0,0,0,3,
-                5,5,4,2,5,1,2,0,1,4,3,4,3,5,0,2,4,3,1,0,
-                0,4,3,2,0,5,2,2,4,5,3,4,5,5,3,4,1,1,0,4,
-                5,1,2,2,0,3,3,2,5,1,0,3,2,2,1,3,3,5,0,5,
-                1,2,1,1,0,3,4,0,3,1,1,0,1,2,2,5,2,4,2,4,
-                0,1,4,1,4,4,3,5,5,1,2,4,1,5,1,2,2,0,3,5,
-                2,2,4,0,0,1,4,4,5,3,3,5,5,3,5,0,2,3,2,3,
-                4,5,1,0,5,1,3,1,5,2,3,4,5,2,2,3,5,2,4,3,
-                4,5,2,5,0,1,3,1,5,0,0,3,0,0,1,2,5,1,2,2,
-                2,5,2,3,2,4,4,4,4,2,2,0,0,0,5,0,2,1,1,2,
-                4,5,2,1,0,2,0,4,4,4,0,5,4,2,4,3,3,5,1,2,
-                3,3,4,0,5,1,2,3,4,5,3,2,5,3,4,4,0,3,2,5
-        };
-        int[] Tab3 ={3,1,0,0,4,3,1,5,1,4,4,1,2,1,5,5,1,4,1,3,
-                2,1,5,3,4,3,2,3,5,5,5,1,2,3,2,2,4,2,4,1,
-                3,5,2,3,4,1,0,5,5,0,2,4,1,2,1,3,1,2,5,3,
-                2,2,1,0,2,4,1,3,5,4,5,5,3,5,0,5,0,0,1,4,
-                4,4,4,4,1,4,4,1,3,3,4,0,5,5,2,2,4,3,1,3,
-                1,1,3,4,4,3,5,4,1,5,4,3,0,5,1,4,1,2,0,5,
-                1,3,1,4,2,0,2,5,4,4,1,4,0,2,0,1,2,1,5,0,
-                2,2,2,3,2,2,4,3,2,2,1,1,0,3,2,1,1,4,1,2,
-                4,4,3,5,1,4,1,3,2,4,0,1,5,1,2,4,2,2,5,0,
-                1,4,2,3,3,5,5,3,3,0,2,5,4,0,3,5,0,5,1,0,
-                3,2,1,2,0,2,3,3,4,0,2,0,2,2,1,4,4,3,2,0,
-                4,2,1,3,2,3,5,4,1,0,5,4,0,0,0,0,3,1,4,2,
-                2,2,3,3,5,1,5,5,0,2,0,1,2,2,1,1,0,4,5,4,
-                5,4,0,5,5,1,2,5,2,2,2,1,1,3,2,0,1,1,0,0,
-                4,4,3,2,4,1,5,5,0,0,2,4,2,1,0,4,1,0,1,1,
-                0,5,3,5,0,3,0,0,2,5,0,1,4,4,3,3,4,4,2,3,
-                5,4,2,5,0,3,2,4,5,2,5,5,5,1,0,1,2,5,5,2,
-                1,1,3,4,1,4,2,3,0,5,3,0,1,1,5,3,4,0,0,4,
-                3,4,4,3,3,3,2,2,1,5,1,4,4,5,2,1,0,1,4,2,
-                2,2,4,3,0,0,3,4,0,2,0,4,4,3,5,3,1,3,0,0,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=33;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=27;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=18;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=17;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }start();
-    }
-    private void level2M(){
-        int[] Tab0 = {3,2,4,1,5,2,0,0,5,4,5,2,4,3,0,3,4,1,1,4,
-                5,4,2,4,2,3,4,2,1,4,0,0,0,4,2,4,3,2,5,0,
-                2,1,4,3,5,0,5,0,2,0,5,1,4,0,0,0,1,4,4,2,
-                5,5,4,1,2,5,2,3,2,4,1,0,3,1,2,0,4,1,0,5,
-                5,5,2,4,0,5,4,4,1,0,1,1,1,1,4,0,3,0,4,3,
-                3,1,2,3,2,4,5,3,4,5,2,1,0,1,2,2,5,2,2,3,
-                3,2,2,2,3,4,3,1,4,5,4,2,0,3,4,5,4,4,0,4,
-                3,4,5,3,2,0,0,1,1,3,1,5,3,2,3,3,5,5,1,2,
-                1,2,1,5,2,5,3,0,0,5,3,5,2,5,1,1,4,0,1,3,
-                3,3,3,1,3,2,2,4,2,1,5,2,3,0,2,1,4,4,5,1,
-                5,3,0,2,2,4,5,1,5,4,3,3,1,2,3,0,0,2,0,0,
-                0,1,2,0,4,5,5,4,0,2,4,5,4,2,4,2,3,2,2,4,
-                0,0,2,1,1,5,4,0,4,3,5,1,0,0,2,1,5,4,3,5,
-                1,3,3,3,4,4,4,3,2,5,5,4,2,2,3,5,5,4,4,4,
-                2,3,4,1,2,4,3,4,2,4,4,1,2,0,3,2,0,4,0,0,
-                3,3,2,3,4,2,0,1,2,5,2,3,3,5,3,5,3,4,4,3,
-                2,1,2,1,3,5,4,0,0,0,2,3,3,1,5,3,1,4,0,2,
-                1,3,4,4,5,1,0,2,5,1,0,3,1,1,2,3,2,3,2,4,
-                3,2,3,2,0,3,3,5,1,4,3,0,2,4,3,5,2,5,4,5,
-                2,0,3,5,0,3,3,3,3,3,4,4,3,5,1,4,3,0,5,2};
-        int[] Tab1 ={1,5,5,0,2,0,4,1,4,3,4,4,1,0,5,3,3,2,4,2,
-                3,4,0,2,3,1,1,2,1,0,1,5,0,0,0,4,3,2,1,5,
-                0,3,5,0,2,3,0,4,2,4,0,4,3,5,3,5,3,1,4,4,
-                2,4,2,0,0,1,1,4,5,0,2,1,3,5,2,5,0,5,0,0,
-                4,1,4,4,1,0,0,5,0,0,0,4,1,3,0,1,3,5,2,1,
-                2,4,0,1,4,1,4,0,2,1,5,1,5,4,0,2,4,0,2,3,
-                5,5,2,3,1,2,5,2,3,0,5,0,2,0,0,5,0,5,3,0,
-                1,2,3,0,0,5,0,1,3,4,2,0,1,1,4,1,2,3,2,5,
-                2,0,4,1,5,2,1,1,1,5,5,4,5,1,3,4,3,4,4,4,
-                0,0,4,5,0,2,0,5,0,1,5,3,3,3,1,3,5,3,3,1,
-                1,3,4,3,5,4,0,1,1,4,4,1,2,3,5,2,5,0,2,5,
-                2,3,2,4,2,1,4,3,3,4,4,0,5,2,3,1,0,2,5,0,
-                5,3,0,5,2,4,5,2,0,5,0,3,5,1,4,0,3,3,1,2,
-                4,1,3,2,2,3,3,5,4,4,3,1,3,5,2,1,4,2,1,1,
-                1,3,2,1,5,2,1,1,5,2,0,3,2,3,3,3,1,2,2,2,
-                5,4,3,1,5,0,5,2,0,3,3,1,5,0,2,3,5,5,2,1,
-                0,4,4,4,3,0,2,1,1,3,2,3,2,5,4,0,5,0,4,5,
-                5,2,0,0,1,5,0,3,0,4,2,5,0,4,0,0,1,1,4,0,
-                3,2,2,3,4,4,1,1,0,2,1,1,0,2,2,4,5,3,4,2,
-                0,0,0,1,5,1,2,0,2,5,2,2,3,1,5,2,3,1,1,1,
-        };
-        int[] Tab2 ={2,3,5,5,5,4,3,2,0,0,4,5,2,3,4,5,5,4,5,0,
-                4,1,4,2,2,5,4,5,4,5,4,1,0,1,2,5,4,5,0,3,
-                4,2,4,1,2,0,5,3,5,4,5,2,1,3,5,3,0,3,4,5,
-                4,1,3,5,0,4,3,1,4,2,3,0,0,4,2,4,3,3,3,1,
-                0,4,5,5,1,1,4,5,5,4,4,5,2,0,0,5,1,2,0,3,
-                0,3,2,5,1,5,5,1,4,4,0,4,3,0,2,0,2,1,2,4,
-                5,2,5,4,3,4,5,4,0,1,5,0,2,0,0,2,4,0,0,3,
-                1,1,4,0,3,1,1,0,1,1,1,2,1,0,3,0,3,2,3,2,
-                5,3,4,1,4,2,1,1,0,3,3,3,2,3,0,4,1,0,5,0,
-                4,0,5,1,1,4,0,0,4,2,2,3,1,2,1,5,0,5,1,0,
-                0,2,1,0,5,1,2,4,4,2,2,0,3,4,5,4,5,1,2,0,
-                3,1,0,0,3,3,2,5,0,3,3,4,2,4,5,1,3,3,1,3,
-                2,1,0,3,2,0,1,5,5,2,5,5,3,0,0,5,1,4,5,4,
-                2,1,1,5,5,4,5,5,4,1,5,1,2,5,4,1,3,3,3,5,
-                3,3,1,3,0,5,4,5,0,0,4,3,4,2,1,2,4,5,4,1,
-                2,4,0,4,5,0,3,1,3,1,5,0,4,1,4,1,3,0,0,4,
-                0,0,5,3,3,4,0,5,1,3,5,0,3,4,0,0,2,2,4,3,
-                2,0,5,3,2,4,3,3,3,5,5,4,3,0,4,3,3,5,2,3,
-                2,4,0,3,5,1,5,1,4,3,2,4,0,2,0,0,4,4,4,2,
-                4,1,5,5,4,4,1,3,0,0,5,0,2,1,4,3,3,4,2,3,
-        };
-        int[] Tab3 ={3,4,2,0,5,4,2,4,1,5,0,3,2,3,0,5,2,2,1,5,
-                5,0,5,2,5,1,0,4,2,0,0,5,4,5,4,2,3,2,2,1,
-                1,4,3,3,5,2,3,3,0,0,0,2,5,0,3,1,1,2,1,2,
-                4,1,2,0,4,2,1,1,5,1,0,2,2,5,0,3,0,2,1,1,
-                4,0,0,3,4,5,4,4,3,0,2,4,0,1,5,3,5,0,5,0,
-                2,5,3,3,3,2,4,0,4,4,4,2,4,4,4,2,2,3,2,2,
-                3,3,3,2,0,0,5,3,0,2,4,4,1,2,5,1,1,3,1,3,
-                2,4,4,2,1,1,3,1,2,0,1,5,1,0,3,3,3,5,2,0,
-                1,0,1,4,1,3,1,3,4,5,3,0,1,2,3,2,0,0,5,0,
-                0,1,1,0,0,5,5,1,3,3,4,2,0,5,3,3,1,2,5,1,
-                5,3,5,2,2,4,1,5,3,2,1,3,1,2,5,5,2,4,5,5,
-                1,0,5,2,3,4,4,3,3,5,3,4,4,1,3,2,5,0,4,3,
-                4,0,5,4,1,3,2,2,2,0,5,0,2,4,2,2,2,0,0,1,
-                4,2,4,3,3,5,2,4,0,4,0,0,5,4,4,5,0,5,4,3,
-                1,2,1,2,1,4,0,2,5,0,2,4,4,3,4,1,0,5,1,3,
-                2,1,4,5,4,5,1,0,1,1,1,4,5,2,5,3,2,2,4,0,
-                0,5,3,4,2,3,3,4,3,4,4,0,5,5,0,5,5,0,2,1,
-                5,5,4,2,0,0,5,1,3,2,3,5,1,5,2,1,4,2,0,2,
-                0,5,2,5,2,2,0,2,4,2,1,3,1,2,2,2,4,1,0,4,
-                4,4,0,1,0,5,1,2,1,2,2,5,5,0,3,2,5,0,1,2,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=37;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=25;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=18;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=16;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }start();
-    }
-    private void level3M(){
-        int[] Tab0 ={1,2,5,0,1,2,3,5,2,1,1,2,2,5,4,0,1,3,0,3,
-                2,2,0,0,1,5,2,5,5,1,3,2,1,5,0,5,3,4,5,3,
-                4,4,1,0,5,5,1,1,4,0,3,2,2,4,5,1,5,5,5,3,
-                4,3,4,3,2,4,1,1,5,4,4,1,1,1,5,2,5,0,2,3,
-                5,2,5,5,4,3,2,3,0,3,2,0,4,5,2,5,0,3,2,4,
-                2,1,2,5,5,2,4,1,3,1,5,0,1,2,1,0,3,3,5,4,
-                0,1,2,2,2,4,3,1,4,4,5,3,2,5,3,1,2,2,1,4,
-                5,2,5,3,4,5,4,2,0,3,0,4,0,0,5,0,4,0,1,1,
-                3,4,2,5,0,0,4,5,5,0,1,2,1,2,1,0,5,1,0,0,
-                4,5,3,0,0,0,0,1,1,1,4,3,5,0,2,2,5,0,5,0,
-                2,2,4,1,4,3,1,5,2,5,3,3,5,2,3,0,1,4,5,2,
-                2,5,3,5,5,4,0,3,0,5,4,2,2,3,4,2,2,1,3,3,
-                3,2,2,4,4,4,1,4,3,1,2,2,4,0,1,5,2,5,5,3,
-                2,0,4,5,1,1,2,0,5,0,0,2,2,5,3,5,1,4,1,3,
-                5,4,0,5,0,0,2,2,2,2,1,3,2,3,3,2,4,4,1,3,
-                1,2,4,2,2,5,3,1,1,2,2,1,5,5,4,1,1,5,2,1,
-                2,4,0,5,1,3,0,1,1,1,1,4,3,2,2,1,3,4,5,3,
-                2,3,0,0,5,3,5,1,2,0,2,2,2,4,2,1,2,5,2,4,
-                0,5,0,2,1,4,2,0,4,5,5,1,3,0,3,3,5,5,3,2,
-                3,1,5,4,4,3,0,4,0,0,0,0,3,2,0,2,3,0,0,3,
-        };
-
-        int[] Tab1 ={4,3,1,1,0,2,5,5,4,5,2,0,5,2,2,0,2,1,0,0,
-                1,0,5,3,3,0,1,0,0,0,3,1,2,1,5,2,5,4,1,5,
-                5,1,4,5,0,5,4,5,4,4,0,1,5,4,0,4,3,3,2,1,
-                2,2,5,3,3,2,0,4,5,5,4,2,2,0,1,4,1,0,1,5,
-                5,0,4,0,5,5,4,4,4,3,3,5,5,4,4,2,3,2,1,1,
-                3,1,2,0,2,2,2,0,3,4,3,3,0,4,2,5,4,0,1,1,
-                5,2,1,1,1,0,4,5,3,2,1,0,3,4,0,3,1,5,0,2,
-                0,0,0,1,5,3,5,0,3,5,2,5,5,4,5,4,5,1,5,5,
-                3,0,0,0,2,5,2,2,3,3,2,0,5,2,0,5,3,1,1,0,
-                2,3,1,2,1,1,2,2,1,2,2,0,3,2,1,5,3,5,1,1,
-                1,2,0,2,5,3,4,2,3,2,0,2,0,0,0,2,2,5,5,3,
-                4,4,1,4,5,2,4,2,5,5,4,5,3,3,1,3,1,5,2,1,
-                0,2,2,3,2,1,3,5,2,4,3,2,1,0,0,2,3,0,5,4,
-                1,4,2,0,4,2,4,1,3,3,4,2,2,1,0,5,3,2,2,3,
-                5,0,3,2,2,3,5,0,0,0,1,3,5,3,1,4,2,4,2,2,
-                3,1,4,5,5,1,3,0,0,0,2,2,0,5,1,4,3,2,2,4,
-                0,4,3,0,3,1,4,4,3,5,4,2,3,0,0,1,5,4,0,3,
-                3,3,5,0,4,0,4,4,0,5,4,3,0,2,3,3,4,4,1,5,
-                3,5,1,2,2,5,5,2,5,4,2,4,4,4,1,2,3,3,5,4,
-                3,1,1,2,2,1,1,0,5,5,4,5,0,5,1,4,2,3,5,1,
-        };
-        int[] Tab2 ={4,3,3,0,4,2,1,4,4,3,5,1,2,1,0,0,1,0,3,0,
-                3,4,0,3,2,0,2,1,3,4,5,5,3,2,0,2,0,3,4,4,
-                4,4,4,0,5,4,1,0,1,2,0,3,3,5,2,5,3,2,3,4,
-                5,5,3,3,0,4,2,4,4,0,4,1,0,1,1,4,3,5,4,5,
-                4,5,2,0,3,2,0,0,0,5,5,1,3,5,5,2,1,1,5,2,
-                2,1,3,1,3,3,5,5,2,4,3,3,1,3,0,5,5,1,0,0,
-                2,1,4,2,2,0,5,0,1,0,2,1,3,2,0,2,5,4,5,4,
-                4,3,4,4,0,5,5,1,1,0,0,4,2,2,3,2,3,4,5,2,
-                5,2,1,2,3,2,2,5,1,0,4,3,5,0,1,4,0,5,4,5,
-                3,0,3,3,4,2,0,3,4,4,4,0,1,3,1,5,1,5,5,2,
-                2,1,5,4,5,4,2,4,5,1,5,1,3,5,3,0,3,2,2,3,
-                3,4,1,2,5,0,5,5,2,3,5,2,4,1,5,5,1,5,2,4,
-                3,3,1,2,0,4,3,2,3,1,1,0,5,0,4,5,0,0,0,2,
-                4,5,0,5,3,5,3,2,3,1,0,3,4,2,4,4,0,5,3,5,
-                0,0,2,0,1,1,3,1,3,4,5,0,3,5,0,0,0,4,2,1,
-                3,5,2,0,0,5,0,5,3,4,0,4,1,3,3,0,3,5,4,1,
-                4,4,4,5,5,3,1,0,0,3,1,2,0,5,5,0,3,1,0,4,
-                0,4,4,2,5,1,3,4,5,0,4,1,0,2,2,2,1,4,1,3,
-                3,4,5,2,1,0,0,1,1,4,0,5,1,3,0,2,3,3,0,0,
-                1,5,5,4,4,0,5,1,2,0,5,0,3,4,5,3,0,2,5,2,
-        };
-        int[] Tab3 ={4,3,2,2,3,2,5,4,0,4,2,3,0,0,1,0,5,5,0,3,
-                4,4,3,5,4,1,0,1,0,3,3,1,5,4,1,3,2,3,1,3,
-                1,0,3,4,3,3,5,3,2,5,4,0,1,4,3,2,0,1,2,2,
-                0,5,0,0,4,3,0,2,4,2,0,3,5,1,4,5,4,4,0,1,
-                1,3,2,4,1,4,5,4,3,5,1,3,5,1,4,3,4,3,4,0,
-                2,0,2,5,2,0,2,5,2,4,0,1,0,3,2,5,0,3,0,1,
-                5,1,4,0,5,1,4,4,1,1,5,0,2,3,5,4,5,2,2,5,
-                3,5,3,5,2,5,2,4,4,1,0,0,5,0,0,4,3,4,5,2,
-                1,5,2,5,1,3,5,4,3,5,2,2,2,3,3,1,0,2,4,1,
-                0,5,3,1,5,1,4,3,0,2,5,2,5,3,3,2,4,5,0,2,
-                3,2,3,1,1,4,2,3,5,5,4,3,4,5,4,3,2,0,4,4,
-                4,5,0,2,1,4,3,0,1,0,5,0,4,0,5,5,5,0,3,5,
-                4,0,2,5,2,5,0,0,2,1,5,5,1,2,3,2,4,1,5,2,
-                2,0,0,0,0,1,3,0,2,3,5,1,5,0,4,0,2,2,2,5,
-                1,4,5,0,2,3,4,2,1,2,1,2,1,5,1,0,4,3,2,0,
-                5,2,1,1,3,4,1,2,0,5,0,5,4,1,5,2,5,3,0,0,
-                4,0,4,1,0,5,5,0,3,3,0,4,1,3,5,5,5,4,4,1,
-                1,0,5,0,5,0,4,2,2,5,3,5,0,3,1,1,2,5,0,2,
-                2,2,5,0,0,4,1,1,2,2,5,1,3,3,1,2,1,2,4,1,
-                5,1,3,4,3,3,5,5,1,0,5,2,2,0,5,0,2,2,5,3,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=34;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=25;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=18;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=14;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }start();
-    }
-    private void level4M(){
-        int[] Tab0 = {3,1,1,5,4,0,1,2,0,0,5,1,1,2,5,1,5,3,3,0,
-                3,5,5,2,5,1,3,4,5,0,4,3,3,0,5,3,1,1,1,3,
-                0,1,0,1,2,0,1,0,5,3,3,3,5,0,3,4,0,3,0,2,
-                0,5,3,1,1,4,3,2,3,4,4,2,2,5,0,2,4,2,2,0,
-                5,4,5,0,5,5,3,0,2,0,1,5,4,3,3,2,4,3,5,3,
-                5,3,5,2,2,1,3,4,3,2,4,3,3,1,2,3,1,4,2,3,
-                3,3,4,5,0,4,1,3,5,4,2,3,2,4,5,3,2,5,5,1,
-                4,2,4,3,3,0,2,0,0,2,5,4,1,1,2,1,3,5,0,0,
-                1,4,0,3,0,3,5,4,0,4,5,2,3,1,2,1,5,5,3,1,
-                5,0,3,3,1,5,3,1,2,1,3,2,3,3,3,0,0,2,1,4,
-                3,5,2,5,3,2,2,2,0,3,1,2,2,5,0,4,1,2,1,4,
-                3,4,0,4,3,5,4,0,1,1,3,2,1,4,0,5,1,4,4,1,
-                4,1,5,5,4,1,3,4,5,5,1,0,1,3,2,5,4,4,5,1,
-                3,3,2,3,4,3,4,0,0,3,2,4,5,5,2,5,0,0,5,4,
-                3,1,3,2,3,0,2,4,0,3,0,1,3,5,5,0,3,2,3,5,
-                1,5,4,1,1,5,5,0,5,1,0,1,5,3,1,2,2,3,2,2,
-                3,1,4,3,5,0,1,4,5,0,0,0,0,1,0,1,0,4,0,5,
-                2,5,5,3,0,3,4,3,3,5,1,4,4,2,1,3,2,4,1,2,
-                2,5,1,0,4,4,0,4,4,4,5,0,4,0,3,5,2,4,4,2,
-                1,5,2,1,1,0,3,0,0,1,3,1,3,3,0,2,4,5,0,3};
-
-        int[] Tab1 ={0,1,0,1,4,3,2,0,5,1,5,4,0,3,5,3,1,0,4,4,
-                5,2,4,3,3,5,0,5,2,1,5,3,3,2,1,4,0,4,3,2,
-                4,0,4,3,4,5,4,1,4,3,3,0,2,4,4,1,3,0,1,4,
-                3,1,5,4,1,1,1,2,0,2,4,5,5,3,3,5,2,3,0,0,
-                3,3,3,1,0,4,1,2,0,4,5,5,5,4,0,4,5,1,0,5,
-                1,5,3,2,0,2,0,1,2,2,4,1,1,2,5,3,5,3,5,1,
-                2,2,5,2,4,3,5,3,4,0,2,1,3,5,1,0,4,4,2,1,
-                1,2,0,4,1,2,4,0,3,0,1,3,3,4,2,4,3,4,0,0,
-                4,1,2,3,3,0,0,3,0,2,1,0,1,1,0,0,2,0,5,5,
-                5,3,1,1,3,4,5,0,5,1,5,2,5,5,0,1,5,5,3,4,
-                4,0,2,1,2,0,0,4,2,1,2,0,4,3,3,0,1,5,5,5,
-                1,3,4,1,3,1,4,5,3,2,3,4,5,4,0,5,5,5,2,3,
-                1,0,3,5,2,5,4,2,0,1,4,4,2,0,5,3,0,1,3,4,
-                4,1,2,0,1,5,0,4,3,0,0,2,1,4,5,5,3,2,0,2,
-                1,2,3,5,5,0,4,4,0,3,0,3,5,3,4,1,5,5,3,5,
-                4,5,4,2,0,1,2,3,5,4,0,0,5,0,0,1,0,4,3,5,
-                0,3,4,4,0,2,5,1,1,4,2,2,2,1,2,4,0,4,4,3,
-                3,5,2,2,0,0,4,2,3,0,0,5,5,4,0,2,1,4,5,5,
-                0,2,4,5,2,5,2,4,0,4,2,0,2,1,2,0,4,1,5,2,
-                3,0,3,2,2,2,3,5,5,1,4,0,1,3,0,0,2,2,1,1,
-        };
-        int[] Tab2 ={1,1,0,1,5,1,0,5,5,1,4,4,2,2,0,2,2,2,0,3,
-                2,0,2,3,0,3,2,3,0,3,2,0,1,1,0,3,4,3,2,2,
-                5,5,5,4,5,3,2,1,3,4,1,2,2,2,2,0,4,3,5,3,
-                1,3,2,4,5,2,2,3,5,5,1,2,0,2,0,5,3,1,1,0,
-                1,2,5,3,1,5,4,0,0,2,1,0,5,1,5,5,1,5,0,0,
-                0,5,2,4,5,3,3,3,4,4,1,5,1,5,5,0,5,3,5,3,
-                4,0,5,2,4,1,1,2,4,5,1,3,1,0,1,1,1,0,4,2,
-                5,2,1,2,1,1,2,4,2,2,2,3,2,4,2,1,3,2,1,4,
-                3,1,5,0,4,0,3,1,1,4,3,2,0,0,4,3,0,1,2,3,
-                3,5,2,2,2,3,1,0,0,0,1,4,2,2,3,1,5,1,1,2,
-                4,5,3,0,5,2,4,0,3,3,4,5,2,2,1,4,4,2,2,0,
-                5,4,3,0,0,5,4,3,1,5,4,4,0,4,0,5,3,3,2,1,
-                1,0,2,5,3,4,2,5,4,2,0,1,5,4,1,1,0,5,4,1,
-                5,4,5,3,1,5,0,3,2,5,1,2,2,2,0,2,1,3,1,4,
-                0,1,3,3,2,3,5,5,5,2,3,5,5,4,5,5,2,3,1,1,
-                0,3,0,3,3,0,2,4,0,1,2,0,5,5,3,5,4,3,2,1,
-                3,0,2,1,1,3,1,5,1,5,1,5,3,5,0,2,3,1,3,1,
-                2,4,5,4,0,5,0,5,3,2,2,2,3,2,1,1,3,1,1,5,
-                4,2,4,3,3,3,4,0,2,0,1,2,4,0,5,2,5,1,1,3,
-                2,4,4,0,4,2,2,0,0,2,0,2,1,1,4,4,1,5,5,5,
-        };
-        int[] Tab3 ={5,1,1,1,1,2,1,1,4,2,2,3,5,5,2,3,1,5,5,2,
-                5,0,1,1,3,5,5,5,3,3,1,1,0,2,3,5,2,1,5,4,
-                2,5,3,0,3,0,4,2,1,2,1,1,1,1,4,0,1,1,5,1,
-                4,3,0,3,2,0,1,4,1,2,1,2,3,2,5,2,4,4,2,5,
-                0,5,1,4,5,4,4,5,3,2,1,5,4,2,1,2,3,5,0,5,
-                4,4,1,4,2,2,3,2,2,0,0,3,5,4,1,1,5,4,5,5,
-                5,3,1,1,1,5,5,5,2,1,3,4,1,0,4,5,5,2,5,0,
-                0,5,0,0,1,3,0,5,1,3,3,0,3,0,1,3,2,5,0,5,
-                0,2,4,1,0,5,5,2,3,4,5,0,4,5,3,3,2,3,1,2,
-                3,0,2,5,2,5,2,0,4,1,2,4,2,1,5,4,5,2,2,2,
-                0,4,5,1,2,5,2,3,5,2,1,4,1,4,0,1,3,5,4,3,
-                5,0,3,0,1,2,5,1,2,0,4,3,5,3,3,3,2,0,3,3,
-                4,1,1,0,3,2,0,5,5,2,0,1,5,2,4,3,2,3,4,1,
-                1,5,0,0,3,1,3,2,0,1,4,5,2,3,0,4,5,3,5,5,
-                1,2,5,1,4,4,4,3,0,0,0,0,2,0,2,0,3,0,4,4,
-                2,5,1,4,3,1,3,2,4,0,1,2,2,5,5,2,0,3,2,1,
-                4,3,3,0,5,3,4,1,3,0,0,3,2,1,2,5,4,4,3,2,
-                5,0,2,1,1,3,4,5,3,2,2,2,3,4,5,4,5,0,3,5,
-                2,3,5,0,2,1,5,4,3,2,1,1,0,1,0,2,5,0,0,0,
-                5,2,4,5,0,3,5,0,4,3,2,1,5,3,2,4,4,4,3,4,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=33;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=26;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=20;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=16;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level5M(){
-        int[] Tab0 = {2,3,2,0,1,1,2,1,1,1,4,1,3,0,3,5,2,5,5,3,
-                1,2,0,4,0,2,2,4,5,5,5,3,2,1,0,1,1,2,3,1,
-                5,1,3,3,2,5,4,5,3,1,4,2,3,0,4,4,2,0,4,1,
-                5,3,0,0,5,1,0,1,5,3,1,5,1,3,1,1,0,3,2,0,
-                0,3,1,1,2,5,2,3,0,3,5,3,5,2,5,5,2,0,2,3,
-                0,3,4,2,2,3,3,3,3,1,4,3,3,2,2,5,5,3,4,4,
-                2,3,1,5,1,0,4,1,2,2,0,2,3,2,2,5,0,3,1,1,
-                3,3,2,5,0,4,2,4,2,2,0,2,1,1,0,4,0,1,3,5,
-                2,5,5,2,3,3,0,3,4,3,2,3,4,1,3,5,2,3,1,5,
-                2,3,5,1,1,1,5,3,3,0,2,0,0,2,3,3,0,4,1,1,
-                0,2,2,5,5,2,4,3,3,0,5,2,2,3,1,0,2,1,2,2,
-                3,0,2,1,1,4,2,3,3,4,4,4,2,3,5,4,4,1,1,2,
-                3,0,2,1,5,2,2,3,0,0,3,5,3,5,3,1,3,1,1,0,
-                5,2,5,5,2,0,4,3,0,1,0,4,2,3,4,0,1,3,4,1,
-                1,2,1,2,5,3,5,1,2,1,4,4,3,0,5,3,0,4,1,0,
-                2,2,3,0,2,3,4,5,1,5,5,4,2,1,2,4,0,0,3,2,
-                1,4,3,5,0,5,3,5,5,1,4,4,2,2,4,4,1,3,5,2,
-                0,0,1,1,5,0,0,2,5,4,2,3,0,3,1,5,0,3,3,2,
-                1,1,5,0,1,4,4,5,4,2,3,4,1,0,2,5,4,0,2,4,
-                3,3,3,3,4,3,0,4,4,4,2,2,2,1,4,0,1,3,2,2};
-        int[] Tab1 ={0,1,5,3,0,0,1,5,1,3,3,4,2,3,0,3,0,5,2,3,
-                1,2,1,1,2,2,0,4,2,3,3,4,1,1,4,2,2,4,0,4,
-                5,0,0,1,4,5,0,4,2,0,0,5,0,0,4,2,3,1,2,5,
-                4,4,5,1,1,5,3,2,4,3,1,0,3,4,4,5,4,5,3,2,
-                0,5,0,3,5,5,1,3,2,0,3,1,3,4,5,0,4,5,5,4,
-                4,3,5,5,5,1,3,2,3,3,4,1,0,4,5,2,5,3,4,4,
-                4,4,3,2,1,3,0,1,3,2,0,0,0,4,4,1,0,4,3,1,
-                0,2,2,2,0,2,5,5,5,0,1,0,3,2,3,5,2,1,2,2,
-                0,1,5,1,4,4,1,2,1,1,2,3,2,0,0,0,1,5,5,4,
-                4,2,5,0,4,4,5,5,1,5,2,1,5,1,0,3,4,1,1,1,
-                4,4,2,2,2,0,3,0,2,3,2,1,4,3,4,2,4,3,2,2,
-                4,4,5,4,1,4,5,2,1,5,1,3,2,4,4,2,5,0,1,4,
-                2,0,0,0,3,3,3,3,1,5,3,0,3,0,5,3,1,3,2,1,
-                2,4,0,1,0,2,0,5,2,0,1,4,1,4,1,4,5,2,2,4,
-                2,1,4,4,1,1,5,5,4,2,3,0,5,4,0,2,5,4,2,4,
-                5,4,2,5,1,0,4,2,3,4,1,1,4,5,1,3,4,3,3,2,
-                4,1,2,2,2,0,4,0,5,0,5,2,4,0,0,0,0,4,3,0,
-                2,1,3,0,4,2,3,1,2,4,5,3,4,3,0,2,3,2,1,2,
-                3,3,1,1,1,5,0,2,3,0,2,0,5,2,2,2,3,3,2,0,
-                4,1,0,3,3,0,3,0,2,1,2,0,4,3,3,5,0,1,2,5,
-        };
-        int[] Tab2 ={3,5,4,2,3,3,4,0,3,5,1,2,1,1,0,2,5,2,5,1,
-                5,5,0,2,3,2,4,2,4,5,0,4,4,5,1,2,3,5,3,5,
-                5,5,4,2,2,0,3,2,4,4,0,5,2,0,4,3,5,1,0,5,
-                2,5,1,2,4,2,4,1,0,1,3,3,4,3,5,3,4,3,3,4,
-                5,3,1,5,2,1,2,5,5,0,5,3,2,4,5,3,3,2,2,2,
-                4,2,5,5,1,1,4,2,4,5,2,2,4,3,0,0,2,0,1,1,
-                1,1,3,5,5,2,3,5,1,2,2,3,5,2,3,3,5,3,5,0,
-                1,3,3,4,0,3,5,4,0,5,3,3,2,4,1,2,1,3,5,5,
-                5,2,4,4,3,4,1,5,2,5,4,3,3,1,4,5,1,4,2,4,
-                3,0,3,1,2,3,2,5,4,1,1,4,2,0,2,5,0,0,4,5,
-                0,5,4,0,4,2,0,1,3,5,1,5,2,5,1,4,3,4,0,3,
-                2,5,4,2,0,0,3,5,2,1,2,5,5,2,1,4,5,0,2,5,
-                1,1,0,0,1,0,4,4,4,2,1,4,4,4,1,4,1,1,0,2,
-                1,4,3,2,2,4,0,2,1,4,5,0,0,3,1,0,0,4,5,0,
-                1,0,1,1,5,5,1,4,0,3,3,5,4,1,0,4,4,1,1,3,
-                2,5,3,3,0,2,0,0,2,3,3,1,4,0,0,5,2,2,1,2,
-                5,0,4,3,3,0,5,5,1,2,0,3,3,3,1,3,3,1,1,5,
-                2,3,1,4,0,0,2,3,4,4,2,3,2,3,1,5,3,1,1,1,
-                1,4,3,1,1,4,4,2,2,3,1,1,4,5,3,0,4,4,5,2,
-                5,0,1,1,0,2,1,0,3,2,5,1,3,2,5,4,4,4,5,3,
-        };
-        int[] Tab3 ={4,3,4,1,4,4,4,1,5,3,0,4,5,1,1,0,5,1,3,0,
-                2,0,1,1,5,4,5,4,0,2,4,4,5,4,3,0,4,2,5,4,
-                0,5,2,1,5,0,2,3,1,5,4,1,1,3,2,5,4,0,3,4,
-                2,4,0,4,5,4,0,4,3,5,5,4,3,3,2,4,3,2,4,3,
-                1,2,2,5,5,4,2,3,3,4,0,5,1,0,0,3,4,2,1,0,
-                2,2,2,2,5,2,5,4,3,5,1,0,2,2,5,3,2,5,3,0,
-                3,5,3,4,4,4,2,5,1,5,0,3,1,3,1,0,4,2,5,5,
-                4,0,1,2,0,4,4,4,1,5,0,4,3,1,5,2,1,1,4,2,
-                3,3,5,4,1,5,4,2,1,3,4,3,2,5,5,3,3,4,4,3,
-                4,0,0,3,2,4,2,1,2,1,5,0,1,0,1,0,1,3,1,2,
-                3,2,4,0,1,1,5,5,1,1,1,4,1,2,4,5,3,1,5,2,
-                1,1,2,0,4,2,5,0,5,0,3,4,3,2,0,0,3,2,0,2,
-                5,1,0,4,2,4,4,4,1,5,3,3,4,4,4,4,4,5,2,3,
-                1,1,0,4,2,3,4,2,0,2,2,0,4,1,0,0,1,5,3,2,
-                2,1,0,2,4,1,3,1,0,5,0,2,0,5,2,4,1,5,2,0,
-                1,4,5,0,0,4,4,3,5,1,4,5,5,1,1,0,1,5,5,5,
-                1,5,4,0,5,4,1,4,3,5,3,4,2,1,0,4,3,2,0,5,
-                3,4,1,3,1,5,3,3,5,1,0,2,4,3,1,4,0,2,0,3,
-                2,4,4,5,3,5,4,1,2,0,3,4,3,4,4,0,1,2,4,3,
-                2,3,5,5,0,4,1,0,4,2,1,3,1,4,2,4,0,0,4,0,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=32;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=26;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=21;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=16;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level6M(){
-        int[] Tab0 = {3,2,5,0,5,1,0,0,1,0,1,2,3,1,2,0,1,4,1,4,
-                2,4,5,1,0,3,1,3,0,0,5,2,1,3,3,0,2,0,1,3,
-                4,4,4,3,5,5,4,0,2,5,0,4,1,4,4,2,4,4,1,3,
-                5,0,5,4,0,4,3,2,3,3,3,0,0,4,5,3,5,3,5,3,
-                4,3,2,4,0,4,2,2,5,2,0,2,1,0,2,5,2,3,2,5,
-                4,2,0,1,4,5,5,0,0,2,5,2,4,5,0,3,1,4,3,2,
-                4,0,2,5,4,4,4,4,3,2,1,3,3,3,1,0,5,1,3,5,
-                2,4,1,4,2,4,4,2,5,5,0,1,4,2,2,0,5,0,1,5,
-                1,5,5,0,5,2,4,1,5,0,4,3,5,5,1,2,5,5,2,1,
-                0,5,5,3,1,3,2,1,1,0,0,5,3,4,1,0,0,0,4,2,
-                0,4,1,1,0,2,0,0,0,1,5,5,2,0,4,3,1,4,4,1,
-                2,3,5,3,2,1,2,1,3,5,1,4,5,4,5,4,5,1,0,1,
-                5,0,2,1,4,2,1,0,3,2,1,4,2,2,0,0,5,4,5,3,
-                1,2,3,5,3,4,4,4,0,4,5,3,2,0,4,3,3,3,0,4,
-                4,1,4,1,0,4,3,1,0,2,4,2,1,5,2,4,2,2,3,2,
-                2,0,1,4,0,4,0,2,1,2,1,0,3,2,2,3,0,3,5,4,
-                3,5,0,5,0,2,0,0,2,3,2,2,4,5,5,0,0,4,3,1,
-                0,2,4,0,2,4,2,4,5,5,0,2,4,5,1,0,1,2,5,2,
-                2,4,4,4,2,1,3,1,0,4,0,2,4,5,5,2,5,5,5,4,
-                3,4,2,4,4,3,0,5,2,1,1,2,1,0,5,3,0,1,4,0};
-        int[] Tab1 ={3,5,3,0,5,5,1,0,1,2,2,5,4,4,2,0,2,1,4,0,
-                4,4,5,3,0,4,5,5,2,0,1,1,1,5,1,3,3,1,0,2,
-                4,5,3,0,3,0,4,2,4,2,0,5,2,4,1,2,0,0,4,2,
-                5,3,4,1,0,3,4,5,5,2,3,3,2,1,1,4,5,5,5,0,
-                1,4,4,0,0,4,4,2,2,4,2,2,0,0,5,4,3,1,4,1,
-                0,0,0,1,0,3,0,1,1,4,1,3,0,3,3,2,5,5,3,4,
-                3,2,1,5,1,0,4,2,3,3,1,1,5,1,2,1,0,1,1,5,
-                1,3,2,2,4,3,1,2,4,5,3,5,5,3,4,3,2,2,5,3,
-                2,5,5,0,0,3,4,2,1,1,3,4,0,4,5,3,2,0,1,0,
-                3,3,4,1,4,4,5,5,4,0,2,5,3,1,2,0,1,3,0,5,
-                2,5,1,5,2,2,3,5,0,0,1,2,4,4,4,1,3,4,0,4,
-                3,4,2,5,2,3,2,5,0,3,5,4,0,5,0,5,4,0,0,5,
-                0,0,3,0,3,5,5,5,1,4,5,5,0,4,0,0,4,3,4,3,
-                3,0,4,1,2,2,5,0,3,4,5,1,3,4,1,4,4,3,3,0,
-                1,0,4,0,3,1,4,5,2,2,2,0,0,3,3,2,3,5,5,0,
-                1,0,1,5,0,2,2,3,1,4,2,5,1,1,1,4,4,4,4,0,
-                1,0,0,5,1,3,0,2,0,4,3,1,4,1,0,0,2,0,5,1,
-                4,1,5,4,4,3,1,0,1,5,2,4,1,1,1,1,5,1,2,5,
-                4,4,4,3,4,3,0,2,4,4,0,4,2,5,4,2,0,0,2,4,
-                4,4,0,0,1,4,5,4,1,4,2,1,4,1,0,1,3,3,0,1,
-        };
-        int[] Tab2 ={2,2,0,4,3,3,2,2,0,3,4,0,0,0,4,3,5,4,3,3,
-                3,2,5,1,3,1,0,1,0,3,5,2,3,5,5,4,1,5,3,0,
-                1,5,0,5,3,2,4,0,3,1,5,5,5,4,4,0,4,4,5,1,
-                1,0,0,4,1,5,1,0,3,0,1,3,0,5,5,0,5,3,2,5,
-                5,1,0,1,3,0,0,3,3,5,4,2,3,2,3,2,2,5,3,4,
-                2,4,4,2,1,2,4,5,3,5,2,4,0,0,4,3,5,5,2,5,
-                0,5,5,2,1,1,3,2,2,2,3,4,2,2,5,4,0,0,0,0,
-                5,4,5,4,2,0,5,3,4,2,3,3,3,5,4,2,3,0,4,5,
-                4,2,2,4,5,1,5,2,4,4,3,5,4,1,0,4,0,2,4,1,
-                1,3,0,0,5,1,0,1,5,2,0,4,2,5,4,0,0,0,5,2,
-                1,0,1,2,5,3,1,5,3,1,5,0,1,2,5,5,2,1,0,3,
-                0,5,3,0,4,0,1,5,5,1,0,3,5,0,4,3,0,2,5,5,
-                0,1,0,3,5,0,0,1,4,0,2,4,4,1,1,4,4,3,2,4,
-                5,0,0,1,2,3,1,2,5,3,3,3,2,0,4,4,5,0,3,3,
-                1,2,0,4,3,5,4,2,1,4,3,5,1,0,2,2,4,0,5,3,
-                5,1,3,2,5,5,5,4,0,2,3,2,5,1,2,5,2,4,0,4,
-                5,0,0,1,2,2,5,5,1,1,5,0,4,0,2,1,4,2,5,4,
-                3,5,0,1,5,0,4,4,3,2,5,1,1,0,1,1,0,2,1,2,
-                5,2,3,3,4,2,3,2,3,2,5,0,5,4,4,0,5,4,5,4,
-                3,1,1,4,0,0,2,5,0,4,3,5,5,2,4,0,1,2,2,5,
-        };
-        int[] Tab3 ={0,3,0,2,3,4,0,4,5,2,0,0,1,1,3,1,2,0,2,3,
-                0,4,1,5,4,2,2,4,1,1,2,2,3,4,2,0,1,3,5,3,
-                4,3,0,3,0,5,1,4,3,2,1,2,1,4,1,0,2,5,5,3,
-                5,4,3,4,1,5,4,5,1,2,3,3,3,2,1,5,3,3,3,4,
-                2,2,1,3,1,5,3,3,5,0,3,0,1,4,0,0,4,0,2,5,
-                3,4,1,1,4,2,4,5,4,1,5,5,4,5,1,3,0,5,4,3,
-                2,1,4,4,3,2,0,0,0,4,2,4,5,4,2,3,4,3,0,5,
-                5,1,1,4,4,1,0,1,3,5,0,3,2,2,0,3,3,2,4,2,
-                2,3,4,4,3,4,2,3,3,3,1,3,0,2,4,0,5,4,2,4,
-                5,4,1,5,4,1,0,1,0,3,5,1,4,1,3,2,5,4,0,2,
-                0,4,1,5,0,0,3,1,4,2,5,3,3,5,2,0,3,0,3,5,
-                3,0,1,0,5,0,2,0,1,3,1,2,3,4,3,2,2,0,4,4,
-                4,3,1,4,4,1,2,1,0,2,1,1,2,1,2,2,2,0,4,2,
-                3,3,3,1,1,2,5,5,2,0,2,2,2,2,3,1,2,1,1,4,
-                4,5,4,1,4,1,3,5,0,4,2,5,0,3,4,1,2,2,0,0,
-                3,1,4,2,5,3,0,5,3,5,4,0,2,3,1,2,4,4,3,2,
-                0,0,1,3,0,0,3,4,5,4,0,1,3,4,0,1,2,5,4,0,
-                3,0,4,0,1,4,4,4,0,1,1,0,3,2,3,4,4,0,5,3,
-                3,2,5,2,4,1,2,3,3,5,3,5,3,3,5,4,1,4,0,3,
-                5,2,1,5,5,2,3,3,4,0,2,2,3,5,4,1,1,3,5,2,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=33;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=21;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=20;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=14;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level7M(){
-        int[] Tab0 = {3,5,0,4,3,4,3,1,4,2,0,5,3,1,0,0,3,1,3,5,
-                1,1,2,1,3,4,1,2,0,2,1,4,5,1,5,4,1,0,3,4,
-                0,2,2,4,1,4,2,5,5,5,5,0,5,0,5,4,1,2,5,2,
-                2,2,0,0,4,0,0,1,2,5,0,1,2,5,1,5,0,5,0,1,
-                0,1,5,3,3,1,4,4,3,5,3,3,0,4,2,0,3,5,0,3,
-                4,0,5,0,0,4,5,4,0,4,2,1,4,1,4,0,1,3,5,5,
-                3,2,4,0,2,2,4,3,2,2,1,5,3,2,4,1,2,4,1,1,
-                1,1,2,4,2,4,5,2,1,0,0,4,0,3,0,3,1,3,2,5,
-                4,4,0,1,0,2,2,1,5,3,3,5,0,2,3,2,1,0,0,2,
-                1,1,1,0,5,2,3,4,1,2,2,4,4,1,2,5,4,3,0,1,
-                1,1,3,4,1,2,2,0,2,1,5,3,3,5,2,4,1,2,2,1,
-                1,4,4,5,1,1,2,2,1,3,0,4,4,1,4,0,5,5,3,1,
-                1,1,3,5,4,1,3,0,0,1,1,2,5,2,1,3,2,3,5,0,
-                4,3,1,1,5,5,5,4,1,3,4,5,3,1,0,4,0,2,1,2,
-                5,0,4,0,3,3,2,1,4,3,2,1,4,0,3,4,5,1,4,4,
-                1,0,2,5,5,3,3,4,4,0,5,5,1,2,2,4,1,3,4,4,
-                4,4,2,0,3,1,5,2,4,1,1,4,5,2,0,2,2,4,4,0,
-                4,0,5,0,5,3,4,5,2,3,5,4,4,5,4,1,2,1,0,3,
-                5,3,0,1,5,0,0,0,0,3,1,0,3,3,3,2,5,3,4,5,
-                3,0,1,3,2,2,3,0,1,4,2,4,0,3,4,1,1,2,5,2};
-        int[] Tab1 ={0,4,4,3,1,2,1,3,0,1,0,3,3,0,4,4,1,0,0,5,
-                0,4,1,3,3,1,4,1,3,5,3,1,3,3,3,3,2,2,5,3,
-                5,4,3,3,4,1,0,0,1,2,5,4,1,2,0,1,3,3,0,5,
-                1,0,1,3,4,5,1,4,4,0,4,0,1,4,3,2,1,4,0,1,
-                5,4,0,0,3,0,5,4,4,3,5,0,1,3,2,2,0,1,0,1,
-                5,5,0,5,0,1,2,0,2,0,0,0,1,4,5,2,1,2,5,5,
-                4,0,5,5,4,5,4,2,2,5,3,4,0,3,0,3,2,2,2,4,
-                0,1,0,3,0,0,4,2,2,3,1,4,3,2,5,2,2,5,5,1,
-                4,3,0,0,0,4,0,5,0,1,0,1,2,1,2,3,4,0,0,2,
-                2,0,5,5,4,2,0,4,1,1,5,5,2,5,2,0,4,1,4,2,
-                3,4,4,1,0,1,4,1,1,2,5,1,4,4,3,5,4,1,5,3,
-                3,3,1,4,4,3,4,0,3,3,4,2,0,3,3,0,4,5,5,4,
-                3,4,2,3,5,2,2,3,5,5,3,0,5,4,5,4,2,5,0,5,
-                5,3,2,2,1,2,5,3,5,1,3,5,2,2,5,1,1,1,0,5,
-                3,4,0,1,0,0,1,3,5,1,1,2,5,1,5,4,4,5,3,3,
-                1,0,0,5,1,4,0,2,3,4,5,1,4,2,1,5,5,3,5,0,
-                1,5,1,3,0,2,1,0,5,0,0,2,4,0,0,1,5,0,2,0,
-                0,4,1,2,0,3,1,1,0,3,1,5,0,5,0,2,0,2,0,1,
-                5,1,2,1,4,4,1,2,2,1,5,4,1,2,4,2,4,3,3,3,
-                4,2,5,0,1,0,0,4,4,2,4,0,5,4,4,1,1,3,4,1,
-        };
-        int[] Tab2 ={5,0,1,0,4,4,2,3,4,2,2,1,5,0,4,4,3,3,5,3,
-                4,1,4,1,0,5,2,0,1,3,1,0,2,1,4,2,4,3,1,5,
-                5,4,2,2,5,5,3,0,4,2,5,3,2,0,2,2,1,0,2,4,
-                3,5,0,5,4,3,4,5,2,3,0,1,3,0,4,4,4,1,1,1,
-                0,4,0,3,3,4,5,0,0,4,0,0,3,0,2,5,2,1,1,5,
-                0,3,0,4,3,2,2,4,2,2,4,1,0,3,4,1,2,4,4,1,
-                0,1,2,1,1,3,4,5,1,1,1,0,5,4,4,5,3,3,0,2,
-                2,1,4,4,4,1,1,5,5,4,4,2,4,0,1,5,5,2,0,3,
-                0,1,2,3,3,1,0,2,4,4,5,4,1,0,2,4,1,2,3,0,
-                1,1,2,2,3,1,5,4,1,1,2,0,0,5,0,4,5,4,2,0,
-                4,1,4,4,3,3,5,1,2,0,4,5,0,0,2,1,4,0,2,1,
-                3,5,3,5,2,4,5,0,1,4,1,1,0,2,4,1,5,2,4,3,
-                4,4,0,4,4,3,2,2,4,2,3,0,2,4,0,3,1,2,1,5,
-                0,2,4,4,2,2,4,2,1,3,5,0,3,2,0,5,1,1,3,4,
-                4,0,5,1,2,1,4,4,2,3,2,5,4,1,5,3,3,5,5,2,
-                0,3,4,4,0,0,4,0,5,2,5,5,5,0,0,5,0,3,1,2,
-                0,3,2,3,5,0,5,4,3,5,1,3,2,2,4,0,2,4,4,3,
-                2,3,1,4,2,3,4,4,3,0,5,5,4,0,0,4,5,2,4,5,
-                1,2,3,3,0,5,4,2,4,0,5,3,0,4,2,2,4,4,0,0,
-                5,1,5,2,3,3,0,5,0,4,0,3,1,4,3,2,2,5,3,4,
-        };
-        int[] Tab3 ={3,3,5,5,2,5,5,1,0,0,0,4,5,4,5,5,3,3,1,3,
-                1,5,2,3,3,1,2,5,4,4,2,4,3,5,4,0,1,0,1,1,
-                4,0,2,5,4,3,0,1,3,4,1,0,4,5,5,1,1,5,2,4,
-                4,1,4,5,0,2,4,3,2,1,0,0,1,2,3,1,1,1,4,3,
-                1,5,4,1,2,2,5,3,1,5,3,4,4,3,5,3,4,4,5,2,
-                5,5,1,0,2,5,5,1,3,4,5,2,0,2,5,3,2,0,3,1,
-                3,3,2,3,3,3,3,0,1,2,4,2,1,3,0,3,0,0,0,0,
-                2,1,4,2,4,1,3,4,1,0,4,0,0,1,5,2,4,2,0,4,
-                1,2,4,5,5,0,1,5,0,3,5,3,3,2,5,4,5,1,4,0,
-                3,1,4,0,4,2,1,0,4,5,5,0,0,5,0,0,4,1,0,2,
-                5,5,1,0,3,0,5,0,4,4,3,2,3,2,5,3,1,1,5,1,
-                1,3,2,3,1,3,1,0,5,1,5,0,2,1,4,3,0,2,1,2,
-                2,5,5,3,4,1,1,2,0,2,4,3,0,3,3,1,1,1,5,1,
-                0,3,2,1,4,3,0,3,5,5,2,1,2,5,5,1,5,4,4,5,
-                2,1,1,5,2,3,5,0,1,5,1,1,4,4,3,2,4,1,5,2,
-                1,5,5,4,4,4,0,1,2,0,1,5,1,0,1,4,1,0,1,2,
-                3,5,2,5,0,4,1,3,4,4,0,1,2,2,4,3,3,0,4,2,
-                0,0,2,1,2,3,3,4,5,0,5,0,1,1,5,2,4,2,4,0,
-                2,5,4,3,1,1,4,4,0,1,4,2,2,5,3,4,2,1,3,2,
-                5,2,2,1,1,3,1,4,1,4,4,2,2,0,3,0,3,3,3,4,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=35;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=23;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=20;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=14;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level8M(){
-        int[] Tab0 = {3,2,1,1,3,3,5,0,0,5,3,4,4,3,3,3,2,4,5,2,
-                5,0,1,1,2,0,1,0,5,1,0,3,1,1,1,4,5,3,0,3,
-                2,2,0,3,5,3,1,2,1,2,0,5,5,0,4,1,2,3,4,5,
-                1,1,2,2,1,2,0,1,5,0,5,1,0,4,1,1,2,3,0,0,
-                1,0,3,0,1,0,1,5,5,0,4,1,1,5,3,0,4,3,0,5,
-                4,5,0,0,1,1,2,5,3,5,1,5,0,5,4,3,3,0,4,5,
-                4,3,1,1,5,3,4,2,0,5,5,2,4,3,0,2,0,0,3,4,
-                0,2,3,3,3,0,5,0,1,2,1,3,1,4,5,0,0,5,3,3,
-                4,1,4,3,2,1,0,2,1,5,3,0,4,3,5,5,2,2,0,0,
-                0,4,0,3,0,2,0,2,1,5,2,2,5,3,2,5,5,0,4,2,
-                4,1,5,1,1,1,4,1,5,5,2,1,1,2,0,4,5,3,2,0,
-                3,3,0,0,5,5,5,5,4,0,0,0,5,3,1,2,5,5,2,3,
-                4,2,2,3,1,5,4,5,4,2,3,5,4,5,0,5,5,5,4,3,
-                2,2,3,3,4,3,1,4,1,1,2,2,3,2,0,2,2,1,4,2,
-                5,3,0,0,4,5,4,1,4,3,4,4,4,2,1,1,5,2,2,0,
-                5,4,5,2,0,0,2,0,1,2,2,5,0,0,4,3,0,2,0,2,
-                0,1,1,3,5,4,0,0,4,4,1,3,2,4,0,0,5,3,4,5,
-                4,2,3,0,4,4,1,2,5,2,5,2,5,4,5,0,0,2,2,2,
-                4,3,3,5,4,1,1,2,2,4,2,5,0,3,2,1,0,3,1,3,
-                1,1,3,0,5,1,1,0,0,0,5,3,0,3,4,5,0,5,4,2};
-        int[] Tab1 ={2,5,0,1,0,4,3,5,2,1,0,4,4,1,4,1,1,1,5,2,
-                0,4,5,3,0,4,1,0,1,3,1,2,5,0,4,2,0,5,5,1,
-                4,4,4,5,4,1,5,1,1,0,2,1,0,2,5,0,1,5,2,5,
-                4,2,3,3,5,2,1,1,0,1,0,2,4,2,2,2,2,2,5,2,
-                2,5,3,5,2,1,3,0,3,3,4,4,4,5,4,4,3,0,0,5,
-                3,4,0,5,1,3,1,4,0,0,4,5,3,1,2,0,0,2,1,0,
-                3,3,1,5,2,0,4,1,2,5,4,3,0,3,5,3,4,4,4,4,
-                2,2,2,5,1,4,4,4,3,3,4,0,2,3,3,2,2,4,1,1,
-                0,5,1,4,4,5,4,2,4,1,3,4,0,2,1,4,4,5,0,4,
-                2,2,2,4,4,0,4,0,3,2,3,4,1,1,2,0,2,3,2,2,
-                5,2,5,3,4,3,1,0,0,0,4,2,2,1,0,2,3,5,2,0,
-                2,4,4,2,1,3,2,5,2,4,5,4,2,1,3,5,2,5,3,1,
-                1,4,0,2,4,5,1,5,3,4,2,1,1,4,3,2,0,0,2,5,
-                5,2,3,0,2,3,4,4,2,3,5,2,0,5,2,2,4,2,0,0,
-                4,3,2,3,1,1,4,4,5,4,3,1,4,3,0,1,1,1,3,4,
-                0,1,3,0,3,2,5,5,5,0,0,1,1,4,5,2,1,1,5,4,
-                4,0,5,4,5,2,5,5,3,3,0,3,1,0,5,1,0,0,2,3,
-                4,0,3,4,0,1,0,3,3,2,2,4,5,4,5,3,4,5,2,2,
-                5,3,2,1,5,5,5,1,0,3,3,1,3,5,4,0,2,0,3,1,
-                0,3,3,2,3,0,2,3,0,2,2,5,0,0,4,3,0,5,2,5,
-        };
-        int[] Tab2 ={2,3,1,5,3,1,0,3,2,1,5,3,5,1,2,3,1,5,5,3,
-                2,3,4,3,2,5,2,5,2,1,1,5,1,4,1,1,3,1,1,0,
-                0,0,0,5,2,5,1,3,2,3,2,0,1,4,5,0,3,3,1,5,
-                0,3,1,0,5,1,2,5,1,4,4,4,2,1,5,5,2,3,2,5,
-                2,0,1,4,2,5,4,5,1,5,2,5,0,1,3,3,4,4,1,1,
-                0,5,2,1,4,3,2,1,5,0,4,3,5,2,4,1,1,1,2,3,
-                4,3,0,4,5,4,0,2,0,3,1,1,4,2,5,0,3,1,4,5,
-                2,4,4,5,3,3,3,4,4,1,0,4,3,3,1,4,3,5,5,2,
-                2,3,2,5,3,4,2,3,1,2,1,1,3,2,5,0,5,4,5,3,
-                3,4,3,1,1,5,3,2,5,1,4,0,2,5,3,5,4,4,3,5,
-                4,4,1,0,1,5,4,1,2,4,4,2,0,2,2,3,5,4,0,5,
-                1,0,2,4,0,0,4,2,2,0,5,4,3,1,2,2,3,5,4,4,
-                0,4,1,3,2,5,1,0,4,1,0,5,5,2,2,5,1,2,5,2,
-                3,3,4,2,1,3,4,3,5,5,0,2,3,4,5,2,3,5,2,4,
-                3,0,5,4,2,2,1,3,4,3,5,4,5,2,1,3,4,4,5,4,
-                3,4,5,1,5,4,0,4,2,3,4,2,2,1,3,3,3,5,4,4,
-                3,1,4,1,3,4,1,0,4,0,5,0,2,2,0,2,1,4,5,3,
-                4,3,0,0,2,0,0,2,1,2,2,5,4,3,5,1,4,5,1,1,
-                0,1,2,3,5,0,3,5,2,3,1,0,3,1,3,3,1,4,2,0,
-                2,2,3,4,2,3,0,1,3,4,2,5,0,4,2,5,0,3,5,3,
-        };
-        int[] Tab3 ={4,4,1,5,2,2,3,0,1,0,1,3,0,1,2,5,0,2,4,5,
-                2,3,4,1,0,2,1,0,4,4,4,3,3,0,2,4,0,2,3,1,
-                0,4,5,5,0,0,1,3,3,4,5,1,4,3,5,5,5,3,1,2,
-                3,2,1,4,0,5,5,4,2,5,2,5,2,1,4,4,1,3,5,4,
-                2,3,1,2,3,4,2,0,1,5,0,2,5,5,1,0,2,1,4,5,
-                4,2,0,1,3,4,3,1,5,2,5,1,2,0,0,2,2,1,3,3,
-                5,3,3,0,0,2,3,5,3,1,1,1,3,5,0,0,1,1,5,0,
-                5,5,1,0,4,2,4,2,3,0,3,3,2,3,0,4,5,4,5,1,
-                3,0,1,3,4,1,2,4,1,2,5,1,0,5,1,2,0,2,4,4,
-                4,2,5,1,1,1,3,0,2,3,0,5,3,0,4,2,1,0,5,0,
-                1,3,4,4,0,3,3,2,5,2,2,0,3,0,5,0,2,0,4,2,
-                1,0,1,2,5,4,4,1,4,1,2,1,1,4,5,1,3,3,1,4,
-                5,3,1,4,2,4,0,4,0,5,3,3,4,4,0,1,5,1,2,2,
-                4,4,5,1,2,2,3,3,5,3,5,1,5,3,2,5,2,1,1,2,
-                1,4,4,1,5,4,2,2,2,1,1,5,0,5,0,1,3,3,3,5,
-                5,5,4,2,4,2,4,5,2,1,2,3,2,4,5,2,0,5,1,4,
-                2,2,3,0,2,1,2,4,1,3,2,3,4,0,1,5,2,4,2,2,
-                4,4,5,1,1,3,3,3,1,2,3,2,4,5,2,3,1,2,2,1,
-                3,4,0,5,5,5,2,2,5,2,1,1,2,0,3,1,1,0,1,5,
-                4,1,3,2,0,3,3,3,4,1,2,0,1,0,4,3,3,2,3,5,
-        };
-
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=30;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=22;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=26;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=14;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level9M(){
-        int[] Tab0 = {4,5,3,2,0,5,3,1,1,0,0,1,1,2,4,3,0,2,3,3,
-                0,2,4,2,3,2,1,5,2,3,0,0,4,4,2,2,4,4,5,2,
-                2,4,0,2,1,5,1,5,3,3,0,2,1,0,0,1,0,0,4,5,
-                0,2,4,5,3,1,3,0,0,0,3,0,0,1,5,4,4,0,4,5,
-                3,0,2,1,4,2,4,5,3,1,1,0,1,4,3,0,5,1,4,1,
-                2,3,4,5,2,5,0,2,5,5,1,1,0,1,2,3,5,2,3,5,
-                0,5,5,5,4,1,3,3,3,5,2,0,0,5,3,5,1,1,5,1,
-                0,5,0,5,0,0,0,2,2,4,5,1,4,5,3,2,4,0,5,2,
-                5,3,3,2,1,1,5,0,1,4,1,0,1,0,0,3,0,2,2,0,
-                2,2,2,3,2,0,5,0,5,4,3,1,1,1,0,0,5,0,5,1,
-                5,4,1,2,4,4,5,1,2,2,4,2,5,2,0,1,4,0,5,3,
-                5,3,1,2,0,0,2,1,2,4,0,5,0,5,3,2,3,4,3,4,
-                5,1,1,0,1,1,2,3,0,4,0,2,4,3,1,4,4,1,5,2,
-                0,3,3,1,5,2,2,5,4,3,5,1,0,3,0,1,2,2,2,5,
-                1,3,2,3,0,3,4,2,2,0,2,0,3,1,4,2,5,0,1,4,
-                4,1,3,0,1,4,2,2,4,2,0,3,5,1,1,1,4,3,5,2,
-                4,2,2,0,2,3,3,4,1,5,2,4,1,2,5,4,3,3,5,2,
-                2,2,3,4,3,4,5,4,4,2,2,3,1,0,2,5,3,2,1,1,
-                1,4,2,0,3,3,0,4,2,3,2,2,4,5,3,4,0,1,4,3,
-                4,2,1,3,4,4,3,0,3,4,2,3,2,4,0,1,0,4,0,4};
-        int[] Tab1 ={1,5,1,3,4,2,3,0,0,3,4,0,5,4,0,3,1,4,0,3,
-                1,1,3,2,1,0,2,1,5,3,5,4,0,3,0,1,1,0,5,2,
-                5,1,3,1,5,2,3,5,5,2,5,1,5,0,4,2,3,4,0,3,
-                5,5,2,5,4,2,2,1,5,4,1,4,2,4,4,2,5,1,5,5,
-                2,0,4,1,4,4,2,4,3,5,5,2,0,2,4,5,1,0,1,5,
-                1,3,0,5,5,4,0,2,2,1,2,3,3,3,5,5,5,2,4,0,
-                0,4,5,5,4,1,2,3,4,1,4,5,5,3,0,3,0,0,1,1,
-                0,0,2,0,2,2,3,0,2,0,2,4,1,0,1,4,4,2,4,1,
-                4,4,3,2,5,0,1,2,4,0,4,1,1,4,3,5,2,4,3,2,
-                5,2,3,2,4,0,0,0,4,2,3,2,1,3,1,1,2,4,3,5,
-                4,5,0,3,1,5,3,0,0,2,1,2,5,0,3,2,2,3,3,3,
-                0,5,1,5,4,1,5,2,0,5,1,3,5,5,3,2,2,1,5,1,
-                5,1,1,2,2,4,4,4,4,2,5,1,1,3,0,0,4,1,4,1,
-                3,1,1,0,1,5,0,5,1,1,1,1,1,2,5,2,4,0,0,2,
-                3,0,4,5,3,0,4,3,2,0,3,3,5,4,5,5,3,2,0,5,
-                0,5,0,5,1,0,5,5,4,3,4,0,0,4,3,2,0,5,5,5,
-                2,2,4,2,4,5,5,3,2,3,5,5,4,0,5,1,4,4,2,0,
-                2,1,2,1,1,1,2,0,1,2,5,3,3,4,4,1,3,1,5,0,
-                0,2,5,5,1,0,3,0,2,4,2,5,4,1,0,5,3,1,1,5,
-                2,4,5,5,2,4,3,1,5,0,4,3,4,3,0,5,1,4,2,1,
-        };
-        int[] Tab2 ={0,4,3,3,3,3,0,4,5,1,5,2,0,1,3,0,2,1,2,0,
-                2,1,5,2,3,4,3,2,5,5,3,3,4,5,0,3,0,3,0,3,
-                2,5,3,4,5,1,2,2,2,5,0,3,4,0,0,0,1,0,1,1,
-                0,1,5,3,3,2,2,1,1,2,5,5,2,5,4,1,2,4,1,2,
-                4,3,0,3,0,5,5,4,2,1,0,4,4,2,0,2,5,1,2,0,
-                3,3,4,5,2,3,3,2,0,0,2,4,5,3,1,5,3,1,5,2,
-                4,2,1,3,5,3,2,0,4,4,0,4,0,5,5,4,2,4,4,2,
-                3,5,3,4,0,1,4,2,4,0,1,4,0,4,5,0,5,5,1,5,
-                1,5,3,5,2,3,2,3,4,4,3,5,4,4,5,5,2,3,5,5,
-                1,4,0,5,3,5,3,1,4,1,2,1,1,2,2,3,0,3,2,5,
-                1,2,0,3,2,1,4,0,2,5,3,5,1,2,3,4,1,2,4,4,
-                5,2,5,4,0,1,3,4,0,2,2,3,5,2,4,5,4,4,3,3,
-                0,5,5,1,4,1,4,5,4,2,0,3,3,3,0,2,5,0,3,4,
-                2,4,2,3,2,2,4,4,2,2,3,0,4,1,4,0,3,2,4,4,
-                4,5,0,3,3,1,3,4,1,5,3,4,4,0,1,4,2,4,2,2,
-                1,5,5,4,4,2,3,1,3,2,1,2,1,1,5,5,3,1,2,2,
-                3,0,0,2,1,4,3,4,4,2,0,4,4,2,4,0,4,5,4,4,
-                4,0,1,5,0,0,0,3,0,4,5,4,1,4,1,3,0,5,3,5,
-                4,0,5,1,3,4,4,4,1,4,4,1,5,5,3,3,0,2,0,3,
-                5,5,1,5,3,0,5,0,0,3,3,2,0,2,3,5,1,0,2,2,
-        };
-        int[] Tab3 ={3,1,1,1,4,2,0,0,4,4,2,3,2,5,1,2,1,5,4,5,
-                3,2,3,5,0,3,3,2,1,0,2,0,3,1,3,5,1,4,1,4,
-                5,3,3,2,0,0,4,1,1,5,1,5,2,3,2,0,0,5,1,1,
-                1,2,0,0,2,2,3,5,4,2,1,0,4,3,2,2,1,5,3,5,
-                1,3,1,3,2,5,2,0,5,0,2,4,1,0,2,2,0,1,2,4,
-                5,5,2,2,4,2,5,5,4,4,5,1,1,0,5,5,0,5,2,2,
-                2,1,3,4,3,4,1,4,3,2,1,1,1,3,1,5,4,1,1,3,
-                0,0,0,0,1,5,4,0,2,0,0,3,0,1,3,0,3,2,3,2,
-                2,2,3,4,2,2,2,5,0,1,0,4,1,1,1,5,3,0,0,2,
-                0,2,5,4,2,4,1,4,4,5,3,2,0,1,3,0,2,1,5,5,
-                2,4,3,4,3,5,4,1,2,4,4,4,0,4,4,3,4,0,2,1,
-                5,0,1,3,0,2,0,3,4,4,2,1,1,1,0,2,4,4,4,0,
-                5,3,1,1,3,1,5,3,4,4,1,4,2,5,4,4,0,0,3,4,
-                4,2,0,3,0,1,0,4,3,3,1,1,2,4,4,0,0,0,2,0,
-                1,3,3,1,3,2,4,5,2,5,5,4,3,1,2,4,1,2,1,2,
-                1,4,0,3,5,2,1,4,3,1,3,0,2,2,5,2,1,1,2,2,
-                1,4,1,1,5,1,0,4,1,1,1,2,2,5,2,5,0,5,4,5,
-                4,0,4,5,5,2,5,5,4,4,0,5,2,4,2,0,4,2,2,2,
-                5,5,1,2,0,3,5,0,5,1,4,0,3,4,5,5,1,3,4,2,
-                3,0,2,1,5,4,2,4,3,2,5,2,1,5,2,3,4,2,5,0,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=35;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=23;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=18;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=14;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level10M(){
-        int[] Tab0 = {5,2,1,2,5,2,0,3,4,1,1,4,1,0,3,4,5,0,5,5,
-                0,1,3,3,5,0,1,5,4,5,1,3,3,3,5,5,4,0,5,1,
-                3,2,3,4,2,4,0,3,5,3,1,3,4,3,1,5,4,1,4,3,
-                2,5,2,3,3,1,4,0,2,3,5,5,3,5,0,2,2,1,3,0,
-                2,5,2,1,1,2,5,1,5,1,0,1,5,0,4,3,5,3,0,1,
-                4,0,5,5,2,4,0,1,1,4,1,2,3,1,2,2,3,2,4,2,
-                0,4,5,3,4,5,0,5,3,3,0,2,4,3,3,2,4,5,0,1,
-                5,4,1,1,5,3,0,1,5,4,5,4,2,4,3,2,1,1,1,4,
-                0,1,4,2,1,2,1,0,4,2,4,5,2,1,4,1,0,3,3,1,
-                4,2,1,5,5,2,4,1,0,3,5,0,2,0,1,5,1,2,0,5,
-                1,5,3,4,1,2,3,0,0,2,1,5,1,4,0,3,3,5,0,2,
-                4,2,1,3,5,4,3,0,0,0,2,3,3,5,3,5,1,4,3,4,
-                0,3,3,3,4,5,1,0,4,0,5,2,2,2,1,3,0,4,3,2,
-                1,0,3,1,2,4,4,3,5,1,3,1,2,4,2,2,5,4,0,1,
-                2,4,1,2,5,2,2,4,0,0,3,3,1,5,2,5,1,2,2,5,
-                5,4,5,3,2,4,0,2,3,3,4,2,5,4,4,3,1,0,5,3,
-                3,2,1,4,2,4,2,0,0,0,5,3,5,2,2,5,3,4,1,3,
-                3,5,3,5,1,3,2,2,4,3,1,0,1,2,5,5,1,4,0,1,
-                4,2,0,2,0,2,0,3,4,5,1,3,2,3,2,0,0,3,1,0,
-                3,0,1,3,1,0,5,2,1,2,1,5,1,1,5,3,4,4,4,5};
-        int[] Tab1 ={1,2,0,2,3,1,5,0,5,1,2,3,2,0,4,5,1,2,2,1,
-                0,0,3,3,4,2,5,1,5,3,5,0,3,4,2,1,2,5,5,5,
-                2,3,4,4,2,3,4,4,1,0,5,5,3,5,0,0,5,5,2,2,
-                2,5,2,2,3,3,4,1,3,5,5,5,3,0,1,4,5,1,1,4,
-                2,1,1,4,0,2,0,0,2,0,5,3,0,3,3,0,3,0,1,1,
-                0,3,0,1,3,0,4,4,2,5,1,2,4,0,2,3,2,2,0,0,
-                3,2,5,4,3,0,4,1,4,3,0,3,3,5,2,2,5,2,0,5,
-                1,5,4,4,5,2,1,2,1,2,1,5,4,1,4,3,3,4,2,4,
-                1,5,4,2,0,1,0,2,5,1,0,1,1,3,2,3,5,1,0,2,
-                5,5,5,2,1,2,1,0,5,3,1,2,2,1,2,3,1,5,0,0,
-                1,3,3,2,2,1,2,4,4,0,2,4,1,3,0,1,5,4,2,3,
-                2,0,5,4,0,2,5,1,0,0,4,3,2,1,4,3,2,4,0,0,
-                5,0,1,5,0,0,2,1,0,3,0,1,3,5,4,2,3,2,0,1,
-                2,4,3,2,1,0,2,0,0,0,5,2,5,4,1,2,4,2,1,0,
-                1,4,3,2,5,0,4,3,5,4,4,1,3,4,3,0,5,4,1,3,
-                1,3,1,0,2,1,3,1,1,4,0,0,1,0,4,1,5,5,2,4,
-                0,1,2,4,1,2,5,3,2,4,4,0,1,4,0,3,4,1,5,5,
-                1,4,2,3,0,2,4,3,5,5,2,1,4,5,2,4,1,0,5,2,
-                2,1,3,1,4,3,3,1,1,2,1,2,1,0,1,0,0,0,2,1,
-                1,3,5,5,3,1,5,5,0,1,5,2,1,3,5,0,3,4,0,4,
-        };
-        int[] Tab2 ={1,1,0,0,4,1,2,1,2,3,0,1,2,4,3,3,5,4,0,0,
-                1,2,2,1,0,0,0,2,2,3,5,1,5,3,5,3,2,1,4,1,
-                0,5,1,1,2,2,3,4,1,3,2,2,4,0,4,4,3,3,4,5,
-                2,2,0,5,3,1,3,5,4,2,3,2,4,0,3,1,2,3,3,4,
-                2,1,1,1,1,3,4,1,3,3,5,5,2,0,4,0,1,3,2,0,
-                3,1,0,5,3,2,4,0,4,1,4,5,5,3,5,3,4,1,5,3,
-                2,4,5,1,4,2,4,0,3,2,2,4,4,3,4,4,1,5,4,4,
-                1,3,4,0,3,5,3,4,4,1,3,1,2,1,4,3,2,0,1,5,
-                1,4,3,5,4,3,1,2,3,2,5,0,3,2,1,1,4,3,2,0,
-                4,3,2,2,1,3,4,1,4,2,4,4,4,5,1,1,2,5,4,1,
-                5,0,2,1,1,0,5,5,5,0,2,5,3,4,5,4,1,2,2,5,
-                5,0,1,4,0,3,3,0,0,1,2,2,2,1,1,3,2,3,1,4,
-                0,1,1,3,4,5,0,1,3,4,5,5,5,2,0,2,3,4,1,2,
-                3,1,2,1,3,2,2,2,1,0,3,1,1,4,3,2,4,2,5,5,
-                1,3,4,5,5,2,2,5,0,0,1,1,0,4,0,1,4,5,4,4,
-                3,0,3,0,1,1,2,5,4,0,0,4,1,0,2,5,4,0,2,0,
-                0,4,2,3,4,5,2,0,1,0,5,3,2,1,2,4,0,1,3,0,
-                2,0,2,5,0,4,2,5,3,4,5,2,5,4,1,2,0,5,0,1,
-                3,0,4,2,5,4,3,1,1,0,4,2,5,2,4,5,0,1,5,5,
-                5,4,0,5,4,2,3,5,3,2,1,2,0,3,1,0,5,2,5,4,
-        };
-        int[] Tab3 ={5,2,2,3,2,1,5,3,5,2,5,0,4,4,4,5,1,2,3,1,
-                1,1,2,1,4,1,4,0,5,4,0,0,1,5,1,5,2,4,5,2,
-                1,3,4,3,1,4,4,2,4,0,1,0,2,1,3,1,2,1,1,3,
-                2,4,5,0,0,5,0,4,0,3,4,5,1,4,1,2,1,2,1,5,
-                3,3,2,0,5,4,0,5,2,4,1,3,2,3,0,1,4,1,5,3,
-                5,4,3,3,5,5,5,1,2,1,0,0,0,0,4,2,3,2,2,1,
-                0,2,1,1,5,3,5,0,4,3,1,3,5,4,0,5,5,1,5,1,
-                4,3,5,3,4,4,5,0,4,3,5,1,1,1,3,3,1,2,0,4,
-                1,4,3,4,5,5,5,1,5,3,2,3,0,5,0,2,1,3,1,2,
-                3,1,3,4,2,5,0,1,2,1,0,5,5,4,3,1,2,3,0,2,
-                4,3,4,0,0,2,4,5,0,3,4,1,0,2,3,4,2,4,4,4,
-                5,5,5,1,3,1,0,2,2,3,2,2,3,4,2,0,1,4,5,4,
-                2,3,0,5,1,0,1,4,0,3,2,4,4,4,1,2,0,0,3,4,
-                1,5,5,2,1,4,1,3,4,1,1,3,1,0,5,0,0,5,3,2,
-                2,2,1,5,1,4,2,3,5,2,2,2,4,0,5,4,5,5,3,4,
-                0,1,1,3,2,4,3,1,2,2,3,5,3,2,0,0,0,2,1,3,
-                5,0,0,1,2,4,3,1,2,3,3,0,0,3,1,0,0,4,0,3,
-                5,2,2,1,2,2,4,1,3,0,4,2,4,2,4,3,3,3,5,5,
-                5,0,4,2,0,4,5,3,4,2,4,2,1,0,2,0,4,0,3,1,
-                1,0,1,3,1,4,0,3,0,4,1,4,0,4,4,3,3,0,0,4,
-        };
-
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=35;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=22;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=19;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=15;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-
-    private void level1L(){
-        int[] Tab0 = {2,2,5,0,4,2,1,4,0,3,4,5,2,4,0,1,2,1,5,1,3,1,0,4,2,1,3,5,5,2,5,3,4,3,0,3,2,4,2,0,
-                2,1,5,2,4,2,2,1,3,3,5,1,5,0,3,5,2,1,1,5,1,5,0,0,4,5,0,5,1,0,4,4,0,4,5,2,5,3,0,5,
-                5,4,0,4,3,1,4,1,3,4,1,5,3,3,2,1,0,4,0,4,2,1,3,1,0,4,0,4,2,1,2,3,0,3,5,2,0,4,4,1,
-                2,1,0,1,4,1,0,2,2,3,1,3,2,5,3,3,5,2,4,0,0,3,0,1,0,5,5,1,1,4,1,5,1,0,1,3,1,5,4,3,
-                4,5,3,1,2,3,1,0,0,4,5,5,0,3,4,4,1,4,2,5,3,5,3,1,3,2,0,0,5,4,0,4,4,5,2,3,0,1,0,1,
-                1,2,3,2,3,4,4,4,5,3,5,0,0,5,0,0,2,1,5,3,4,1,1,0,4,2,1,0,2,3,1,0,1,5,5,5,4,1,3,1,
-                3,1,3,4,5,2,4,4,3,1,5,3,2,2,3,4,3,1,1,0,1,5,3,1,4,5,0,1,3,4,4,3,4,3,2,5,0,2,5,1,
-                2,3,1,2,0,3,2,2,3,4,2,3,0,0,2,0,2,5,0,1,3,3,4,1,0,2,0,1,0,4,3,2,0,0,2,5,3,3,3,4,
-                5,4,3,1,0,0,4,2,4,5,1,1,4,3,4,3,2,2,2,3,3,2,3,3,1,0,2,3,4,5,1,4,1,4,0,4,0,2,3,5,
-                4,2,1,0,5,0,1,3,4,4,1,4,2,0,5,0,5,4,1,4,2,3,4,0,2,1,1,1,0,3,5,3,5,3,2,1,2,0,3,0,
-                2,0,5,4,4,0,3,0,4,3,4,1,1,2,2,1,4,2,2,5,4,4,5,5,5,2,2,0,0,1,2,4,3,2,2,2,4,4,2,3,
-                2,2,4,1,5,0,2,1,0,1,5,0,5,2,5,1,0,0,0,4,4,1,1,3,3,2,5,0,4,4,1,3,5,4,1,3,1,2,2,5,
-                3,1,0,5,0,1,0,5,0,1,2,2,3,0,1,2,5,2,5,1,0,1,4,3,3,0,3,5,4,2,2,1,1,3,1,2,0,4,2,0,
-                3,5,3,5,4,2,4,3,5,3,1,4,5,3,3,1,2,4,0,4,1,1,5,1,2,0,0,2,1,5,5,4,0,0,4,3,4,4,0,2,
-                3,3,3,0,0,4,0,5,2,1,4,1,2,0,0,2,4,1,3,4,4,0,4,5,5,2,1,3,0,0,2,4,3,5,5,3,2,4,2,3,
-                5,5,1,0,0,1,3,4,3,1,5,1,5,4,3,2,5,0,5,0,3,4,2,1,5,0,2,0,2,5,0,3,2,2,0,2,2,2,4,3,
-                3,0,4,0,0,5,5,5,0,2,2,0,2,1,2,5,3,1,3,0,0,0,0,4,3,4,2,5,1,0,2,1,0,1,5,1,2,0,2,0,
-                0,1,0,4,4,5,3,3,1,3,1,3,4,3,4,5,5,3,5,2,3,3,1,0,3,1,3,2,5,4,0,5,2,0,3,1,2,1,4,5,
-                2,2,0,4,1,0,3,0,4,3,5,2,0,3,4,3,5,4,0,4,1,1,2,3,2,0,1,3,2,1,5,5,4,3,0,4,0,5,3,3,
-                3,1,2,0,1,0,4,5,0,5,2,2,3,1,5,0,1,1,4,1,5,2,2,2,2,5,2,4,2,4,2,4,2,4,4,1,3,4,2,0,
-                1,0,0,1,0,5,5,4,1,0,3,2,1,3,0,0,0,3,0,0,5,2,0,1,4,2,3,1,5,3,3,2,3,4,3,4,5,1,0,2,
-                5,3,5,4,1,2,1,5,0,0,1,4,0,5,3,1,0,1,2,0,2,3,0,1,0,3,5,1,1,5,5,2,3,2,1,2,1,2,4,3,
-                1,4,0,5,0,5,3,1,4,0,3,1,0,1,4,3,5,3,1,5,4,3,4,1,1,1,5,1,2,0,3,4,3,0,3,3,2,0,2,1,
-                0,5,1,1,5,5,4,3,2,1,0,1,4,1,0,1,1,3,5,1,3,0,2,1,5,3,5,2,4,2,2,1,2,5,1,3,2,3,1,2,
-                3,3,2,3,0,5,2,4,5,0,2,1,5,0,4,5,4,4,0,4,4,2,5,1,2,3,3,2,4,3,1,1,0,2,3,5,0,2,3,4,
-                5,1,2,4,1,5,0,0,4,4,3,4,5,4,1,1,2,1,4,0,4,3,5,2,3,4,2,0,0,0,4,1,3,2,0,4,2,3,2,0,
-                3,5,2,1,5,4,4,2,0,2,5,4,4,4,3,1,0,2,2,4,3,5,2,0,3,3,1,2,3,0,0,3,5,0,4,0,4,2,1,4,
-                2,4,2,1,5,4,5,0,3,3,3,1,5,5,2,0,5,3,1,3,5,4,5,3,4,2,2,5,0,4,2,5,2,1,5,1,1,1,4,0,
-                0,3,4,1,5,0,5,3,4,4,1,0,3,1,1,5,0,4,4,1,5,4,5,0,1,5,1,1,1,1,1,4,1,1,2,2,4,1,0,3,
-                3,3,1,5,4,5,5,2,3,3,1,5,0,1,5,3,0,0,2,4,3,5,0,1,4,4,3,2,1,2,5,4,2,2,0,4,1,4,1,5,
-                4,5,5,1,3,3,3,4,1,5,3,4,4,3,1,1,3,1,3,3,2,3,5,2,2,3,0,5,1,5,3,5,0,3,4,2,2,0,5,0,
-                1,4,3,3,1,0,1,4,0,3,5,5,1,4,4,2,1,2,5,3,1,4,0,3,3,4,1,3,0,4,5,5,0,0,0,2,1,1,0,4,
-                1,4,0,2,1,3,0,2,3,0,5,2,1,3,4,4,0,5,1,2,3,3,2,3,0,2,1,3,5,3,1,5,4,1,0,0,4,4,2,1,
-                5,3,3,0,2,4,2,0,2,3,5,0,2,0,0,5,1,1,4,4,0,1,2,4,2,4,2,5,0,0,3,5,5,2,3,4,0,3,1,4,
-                5,1,1,0,5,3,3,1,2,2,0,0,1,3,3,4,1,5,4,2,1,1,5,4,4,2,3,4,4,5,1,1,0,2,5,1,1,0,4,1,
-                5,5,2,2,5,2,3,0,4,4,2,1,5,1,4,4,0,2,3,0,0,4,2,3,3,2,4,1,0,5,4,2,1,1,4,2,5,2,2,4,
-                0,1,4,2,3,4,5,5,3,2,0,2,3,0,4,4,2,0,3,0,5,0,5,4,0,3,2,3,1,3,3,0,1,5,0,4,5,0,2,4,
-                1,1,3,3,4,5,2,0,4,3,3,2,5,1,1,1,0,0,1,5,4,3,0,2,4,0,2,0,5,4,5,2,4,1,5,4,2,3,3,2,
-                1,5,0,4,5,1,3,2,3,3,4,3,2,5,5,1,0,3,2,2,4,0,1,1,2,2,0,0,0,3,3,4,4,5,2,2,2,0,3,5,
-                2,2,1,0,2,5,0,2,5,1,2,1,4,4,1,1,3,2,0,3,5,1,2,4,3,1,2,4,1,0,2,0,3,0,3,2,4,1,5,2};
-        int[] Tab1 ={1,0,3,0,5,3,0,5,4,5,1,0,1,3,1,2,2,2,5,5,2,5,4,2,3,4,1,3,2,2,5,5,4,4,2,4,4,4,3,4,
-                5,3,1,0,2,5,2,1,3,1,3,3,4,1,1,5,2,3,4,4,4,5,4,1,5,5,1,2,5,1,5,3,0,1,3,5,5,0,0,5,
-                4,2,2,3,2,5,1,5,3,5,5,0,4,4,2,1,4,1,2,0,1,4,0,0,4,4,4,4,5,2,3,0,5,2,2,0,3,3,2,3,
-                3,0,4,0,5,3,4,5,0,0,5,1,4,1,0,5,3,3,4,2,4,5,1,4,5,4,1,4,0,1,2,4,2,3,2,2,2,2,4,3,
-                1,1,5,4,3,4,0,3,2,1,5,5,1,0,2,4,2,1,5,0,4,3,4,5,3,5,0,2,0,0,0,4,1,0,1,3,0,3,2,3,
-                2,3,4,3,3,5,1,2,4,0,4,1,0,1,3,4,2,5,5,5,0,3,1,0,4,2,5,5,2,1,0,2,1,5,0,0,3,0,0,2,
-                5,3,4,3,3,2,1,5,4,4,3,0,1,3,1,1,4,2,2,1,3,4,1,4,4,2,1,4,5,5,5,4,5,3,0,5,5,2,2,3,
-                1,1,2,1,2,2,4,0,1,4,2,5,3,0,0,5,5,4,5,0,4,0,5,5,0,5,1,4,0,5,4,5,2,3,1,5,0,0,0,1,
-                3,5,4,4,5,3,1,3,2,3,3,5,4,4,3,0,2,5,5,2,5,2,2,5,0,4,1,3,1,0,5,3,4,4,3,3,5,2,2,2,
-                1,1,0,5,2,3,5,2,1,2,2,0,3,1,3,4,5,5,2,2,2,2,1,4,0,4,5,5,3,3,4,3,2,1,1,3,5,2,3,1,
-                1,2,2,1,5,1,5,5,1,1,4,0,1,4,0,4,3,4,1,4,0,5,5,3,5,2,2,1,4,4,1,1,4,4,1,1,5,5,3,5,
-                4,2,0,2,5,4,4,3,3,3,3,1,3,3,0,0,0,1,1,4,4,2,2,4,2,4,5,5,4,5,5,0,0,3,5,3,0,2,3,5,
-                0,2,3,1,2,5,4,4,5,3,3,1,4,3,5,1,3,5,3,2,1,3,1,4,5,2,2,3,3,3,1,5,4,3,2,0,3,5,3,5,
-                4,1,5,1,5,1,2,1,4,4,0,1,1,2,0,5,3,3,1,3,0,1,4,3,2,1,3,1,1,2,5,5,5,4,3,5,1,1,1,3,
-                1,1,4,5,0,0,0,2,1,1,4,4,5,0,3,0,0,1,2,5,0,4,2,5,4,2,3,5,5,5,1,3,1,1,5,0,0,4,0,3,
-                4,5,4,2,3,0,4,2,1,3,4,2,2,1,3,5,3,0,1,1,3,3,2,5,0,1,1,2,4,1,2,2,0,1,4,4,1,1,3,5,
-                1,2,4,1,0,5,4,3,1,5,5,0,4,4,4,3,1,4,4,4,3,4,2,4,4,5,4,3,2,4,3,4,3,4,4,5,2,4,5,4,
-                0,0,1,0,2,0,5,3,2,3,0,3,0,2,3,1,1,3,2,5,5,2,1,5,3,2,3,2,3,4,0,4,1,4,0,5,2,2,1,4,
-                5,2,0,2,2,5,2,5,5,2,4,5,3,3,5,2,1,2,3,3,5,0,5,0,4,3,1,5,0,5,2,3,4,4,5,4,1,4,3,4,
-                3,5,4,2,1,2,3,1,1,0,0,3,0,2,2,2,2,4,5,3,3,2,0,1,2,0,3,1,1,1,4,3,5,2,0,1,3,4,5,2,
-                1,1,4,0,3,4,0,4,5,0,2,0,5,2,3,0,4,5,0,5,5,0,2,3,3,1,5,2,3,5,0,0,5,1,3,5,4,2,3,4,
-                4,2,0,1,5,1,1,2,0,4,3,3,2,3,1,5,1,4,2,4,0,4,1,2,5,4,5,3,3,2,1,0,2,1,3,2,2,0,4,5,
-                0,0,1,1,1,0,0,1,1,2,5,0,3,0,0,4,1,3,1,0,5,5,0,3,1,5,0,0,1,3,2,0,5,2,1,1,4,0,3,1,
-                3,2,2,0,5,5,5,0,1,3,2,5,5,1,1,4,1,3,2,4,1,2,4,4,0,4,5,5,4,5,0,5,1,2,1,3,4,5,1,4,
-                5,0,0,5,2,2,1,3,2,2,2,0,3,3,0,4,5,5,3,0,5,1,4,4,1,4,0,2,5,5,3,0,1,0,1,1,3,2,0,0,
-                2,5,4,3,4,0,0,0,1,0,2,5,2,4,3,3,3,1,1,1,5,0,5,5,4,0,1,1,4,1,3,3,3,5,0,0,3,4,1,2,
-                5,3,1,3,3,5,4,1,1,3,3,5,3,2,1,4,4,4,4,0,3,4,2,0,3,2,2,3,3,5,4,2,3,3,4,0,5,2,2,0,
-                5,2,1,5,1,4,1,4,0,4,0,5,1,1,1,0,3,3,4,5,2,1,5,5,2,0,1,1,5,4,5,2,3,4,5,5,1,0,0,1,
-                2,5,2,4,0,4,5,3,4,0,2,1,3,2,4,5,0,4,5,5,0,4,3,5,1,0,1,2,0,1,3,5,1,3,3,0,0,3,3,2,
-                2,3,5,3,0,2,0,2,2,2,3,4,3,3,0,1,4,4,2,1,5,1,0,4,1,3,5,2,4,0,3,3,0,0,0,2,4,2,5,3,
-                4,5,1,3,1,2,3,1,4,3,1,0,1,1,1,1,4,5,0,2,2,4,1,2,4,1,3,5,3,4,5,4,3,3,4,5,5,3,1,0,
-                0,4,3,2,3,0,3,5,0,2,3,1,5,4,2,1,1,3,2,0,4,0,5,3,3,1,3,2,2,5,4,4,0,4,4,0,1,0,2,5,
-                5,5,5,2,4,0,0,0,5,2,2,0,4,2,4,0,2,0,0,3,3,4,0,1,1,4,4,0,3,5,2,5,5,0,3,1,0,3,5,1,
-                1,1,0,0,2,4,4,4,0,5,2,5,4,2,2,3,1,0,0,5,4,4,4,3,4,0,1,3,1,2,4,2,3,1,1,3,0,5,5,4,
-                5,5,3,3,4,3,4,2,0,5,3,2,1,1,1,5,0,4,3,5,1,1,0,2,3,4,5,1,2,5,2,5,5,5,5,3,1,4,0,1,
-                2,2,5,2,1,5,1,5,1,1,4,4,5,5,3,2,3,1,0,3,1,3,3,1,0,3,0,1,2,1,1,4,4,0,4,2,4,3,2,2,
-                5,0,5,2,2,3,5,0,3,4,3,0,0,2,3,2,2,2,0,1,1,4,4,3,1,2,3,0,3,2,3,1,0,2,4,0,5,1,3,0,
-                3,3,3,2,4,5,4,2,4,1,3,0,5,3,1,5,5,2,5,4,1,5,1,4,0,4,1,1,5,5,5,3,5,5,2,4,2,0,0,0,
-                4,1,4,2,2,2,2,0,0,5,1,1,1,4,0,5,3,2,5,3,4,5,3,0,1,5,2,5,4,0,4,3,3,1,1,1,1,4,2,2,
-                1,4,5,0,1,4,2,4,2,1,1,4,4,5,2,3,5,1,0,3,0,5,4,0,5,0,1,0,0,2,1,2,5,4,1,2,0,5,2,3,
-        };
-        int[] Tab2 ={3,4,3,2,2,1,5,4,2,0,2,2,0,5,1,2,2,2,2,4,5,0,2,1,2,2,1,5,4,0,3,3,4,1,0,5,5,3,0,4,
-                0,2,2,2,3,4,1,1,2,5,3,0,4,5,5,3,3,1,1,5,1,0,1,3,2,4,5,5,1,4,5,0,0,5,0,3,1,4,2,3,
-                1,2,5,5,1,2,4,2,0,1,2,1,1,2,5,3,4,5,5,5,1,5,4,3,0,0,0,1,0,2,0,0,1,3,2,5,5,4,0,2,
-                5,3,1,3,5,2,2,1,2,2,1,1,4,1,5,3,0,1,3,0,0,4,0,0,0,2,4,4,4,2,0,5,2,2,3,5,1,1,0,4,
-                1,1,3,0,0,1,1,1,3,0,5,5,1,4,3,2,3,3,0,5,2,1,0,0,4,4,4,5,2,5,2,3,5,2,0,4,4,1,2,5,
-                1,1,0,5,3,5,1,1,4,2,5,5,0,4,3,0,4,3,3,4,1,4,4,2,4,5,3,3,4,0,2,3,2,0,2,0,0,3,0,1,
-                5,4,5,5,1,4,5,1,0,1,1,5,4,0,3,5,3,3,3,5,5,0,3,2,1,1,0,3,4,1,4,2,3,2,0,2,5,0,2,1,
-                0,0,1,2,2,5,1,4,4,1,5,2,4,2,1,0,1,4,0,4,4,2,1,5,2,0,5,3,3,1,2,0,0,2,2,1,2,4,3,0,
-                3,5,2,0,5,0,4,4,5,1,1,0,3,3,0,4,2,1,0,5,4,4,4,5,0,5,0,2,0,1,4,1,2,4,5,0,2,3,1,3,
-                1,4,2,0,4,4,3,1,4,3,1,2,5,4,4,3,1,4,0,3,1,0,0,2,3,0,0,3,1,0,0,3,4,2,2,2,2,1,2,3,
-                4,1,1,3,3,4,4,4,5,4,3,4,4,0,5,0,5,4,0,2,0,2,1,4,5,3,1,3,3,5,3,5,2,1,4,1,0,0,2,2,
-                3,5,0,2,3,3,0,0,3,4,2,5,1,0,4,0,2,4,2,3,1,1,3,5,0,2,5,4,4,3,2,0,5,4,4,3,1,2,0,3,
-                5,5,1,4,2,5,3,2,3,5,0,2,4,0,0,1,3,4,2,0,4,1,5,2,5,1,4,2,5,1,5,0,1,3,4,4,5,4,5,5,
-                4,1,4,1,4,5,2,2,1,5,2,1,3,0,1,0,0,5,5,2,3,5,4,1,5,0,1,2,4,2,0,3,5,2,1,5,4,5,5,1,
-                0,3,2,5,0,5,4,3,3,2,3,3,2,0,3,4,1,2,3,4,1,4,0,0,3,3,0,5,1,3,5,4,3,0,4,4,2,2,0,2,
-                1,5,3,0,1,1,5,2,0,5,5,4,3,0,1,0,0,1,0,5,5,3,3,1,0,4,1,1,3,1,1,5,3,4,0,2,5,1,0,0,
-                4,1,2,3,5,1,1,0,1,0,3,3,1,3,2,2,1,1,2,2,2,3,1,0,0,1,2,1,1,1,1,0,3,4,3,4,1,5,0,3,
-                4,5,4,2,5,2,0,0,1,1,0,4,0,3,0,4,5,0,2,1,1,4,1,2,0,2,4,1,2,3,5,3,3,1,2,5,0,0,2,4,
-                2,0,0,2,3,4,3,0,5,1,3,1,1,3,2,2,5,1,0,5,4,3,4,3,1,2,3,3,1,4,5,2,4,0,1,0,3,5,2,2,
-                1,2,2,5,2,5,0,5,3,1,2,1,0,0,3,3,0,4,4,4,1,0,1,0,4,5,4,3,5,5,5,0,1,5,4,0,5,1,2,2,
-                4,5,5,5,5,4,0,5,4,5,3,0,1,3,1,0,2,1,3,5,3,1,3,3,1,2,0,1,1,4,4,5,4,1,4,5,0,2,5,4,
-                5,1,2,4,1,1,3,1,2,3,5,2,1,1,3,1,5,5,5,4,0,1,0,2,2,2,3,0,3,4,5,4,5,1,2,2,3,3,0,2,
-                2,1,3,2,1,5,1,0,1,0,3,4,5,5,0,2,3,0,3,5,5,3,4,4,3,2,2,3,0,0,5,5,5,4,5,5,3,2,2,5,
-                3,1,1,1,1,4,0,1,0,0,1,4,1,4,4,0,2,2,0,4,1,3,5,0,2,3,2,1,3,0,2,0,3,5,2,0,4,3,4,3,
-                0,4,4,0,3,4,3,4,0,4,0,1,1,1,0,0,4,0,4,3,1,3,2,1,0,2,1,4,5,0,0,2,0,5,1,5,2,2,5,3,
-                3,4,2,5,1,1,5,4,5,4,0,0,1,0,2,2,4,3,3,5,5,4,3,4,3,0,4,4,5,5,1,4,5,5,1,0,3,0,0,0,
-                5,2,0,1,3,1,5,3,3,3,2,3,1,5,5,5,3,3,2,4,4,4,3,3,4,3,4,1,2,5,5,4,4,0,2,2,1,5,4,4,
-                2,0,1,3,1,2,2,1,0,2,2,5,0,5,1,2,3,3,3,1,3,1,0,0,5,2,3,5,3,1,3,0,1,1,5,0,2,4,5,5,
-                5,3,5,2,4,4,1,0,2,3,4,2,2,4,1,5,3,4,5,5,1,4,2,1,4,3,3,2,5,4,4,2,0,2,0,3,4,4,5,3,
-                5,3,5,2,1,1,1,4,3,0,4,2,4,5,4,5,2,4,4,2,2,3,4,5,2,5,0,0,5,3,0,2,5,1,5,2,5,4,0,3,
-                0,0,5,5,1,3,1,1,3,3,0,1,1,0,5,3,3,2,0,2,4,3,0,3,2,3,1,3,2,4,2,4,5,0,3,5,2,1,4,1,
-                1,1,2,5,5,4,2,3,1,1,2,0,0,3,3,0,5,3,1,1,4,1,1,0,1,3,2,2,4,2,1,1,1,3,5,0,2,0,4,3,
-                5,4,3,4,1,3,5,0,0,5,3,5,1,4,3,0,3,4,0,1,3,5,2,3,3,2,2,1,0,5,1,5,3,0,4,5,0,2,2,0,
-                5,3,4,3,1,5,3,0,0,1,2,4,2,5,3,1,1,0,0,1,5,4,4,4,3,4,1,4,4,5,0,4,1,1,2,0,2,3,5,4,
-                4,5,4,4,0,1,3,3,0,1,2,0,1,2,4,5,1,2,5,5,3,3,3,2,1,3,4,5,0,2,3,2,5,3,4,3,2,2,5,5,
-                0,5,0,3,0,0,1,4,3,3,4,5,2,3,2,5,4,5,5,4,1,1,3,3,2,5,1,4,5,1,3,1,5,5,3,0,2,1,1,1,
-                2,1,0,2,2,4,3,3,3,1,1,2,1,3,3,2,3,4,5,2,5,0,1,5,5,4,4,2,1,1,1,5,1,2,2,2,1,1,4,4,
-                5,2,1,3,0,5,5,5,5,4,1,5,4,4,5,1,5,4,5,2,4,3,1,4,2,2,5,1,4,5,4,3,1,4,0,5,2,4,0,0,
-                0,3,1,4,3,0,5,5,1,4,2,0,3,1,2,2,3,0,1,5,0,1,1,3,5,0,5,3,0,5,4,2,2,3,4,5,5,3,2,4,
-                5,4,4,1,4,1,2,0,2,2,5,2,5,0,1,4,5,1,3,0,2,5,1,3,0,0,5,2,1,1,0,0,4,5,5,1,2,2,3,3,
-        };
-        int[] Tab3 ={3,4,5,5,0,3,2,3,1,5,5,2,1,2,5,5,2,4,4,4,2,1,1,3,0,4,5,0,2,1,0,1,5,2,4,3,2,5,5,0,
-                4,5,1,1,3,0,2,4,5,2,5,2,2,5,4,1,2,1,1,2,3,5,1,1,5,2,2,2,2,4,1,0,4,0,3,5,1,1,0,3,
-                4,5,1,3,3,5,4,3,4,3,3,0,5,2,5,0,3,1,0,2,4,3,1,0,4,4,0,0,3,4,1,5,2,3,5,1,3,2,4,4,
-                5,4,1,4,2,4,3,0,1,0,0,1,4,1,2,3,0,2,3,4,5,2,1,0,0,0,0,3,5,4,3,1,0,1,4,4,0,0,4,5,
-                2,5,4,4,4,5,0,4,0,0,2,4,3,4,3,3,2,5,5,5,0,2,1,5,2,0,0,1,5,1,0,2,5,3,1,5,4,2,5,1,
-                5,5,5,4,0,4,1,3,3,0,3,3,2,1,2,1,5,1,1,5,1,2,3,1,3,3,1,2,4,2,4,2,0,0,4,4,2,5,4,2,
-                1,0,3,0,5,5,3,1,4,2,4,4,2,0,4,0,1,3,5,2,0,4,0,2,2,2,4,0,3,2,2,3,3,0,3,0,5,5,5,1,
-                2,1,1,1,2,5,2,5,4,1,4,1,2,3,1,0,2,5,2,2,1,2,4,5,3,3,5,5,0,3,1,0,2,1,5,2,2,0,0,1,
-                3,5,3,3,2,5,5,1,4,0,4,5,2,2,3,3,2,2,1,5,2,3,1,3,4,4,3,1,2,5,2,5,0,3,5,3,2,5,1,5,
-                4,3,0,0,3,4,1,0,5,3,3,2,3,0,1,3,1,2,4,2,3,4,2,0,5,2,5,1,0,1,4,5,1,2,3,5,0,3,3,0,
-                3,5,5,5,4,3,2,5,5,1,3,4,5,1,1,0,1,2,2,1,0,4,4,2,4,5,4,0,4,2,1,3,2,4,1,3,0,0,3,1,
-                5,1,3,3,5,5,2,0,4,1,5,2,5,4,2,0,2,0,4,5,0,2,3,2,0,2,0,2,3,5,0,1,2,1,2,5,1,4,5,3,
-                2,1,1,0,1,1,1,2,5,2,2,4,4,4,2,0,4,4,0,4,0,2,5,2,3,5,2,1,4,4,0,3,0,5,4,3,1,0,1,3,
-                2,1,5,2,5,5,1,4,5,4,3,3,5,4,4,0,1,1,3,5,1,5,0,5,0,3,1,1,5,5,2,0,0,3,3,2,2,5,1,5,
-                5,1,0,5,0,4,1,5,0,1,3,0,2,5,4,4,3,1,5,4,0,0,3,3,4,2,1,4,5,1,2,3,4,2,5,5,4,4,0,3,
-                1,5,2,2,3,5,4,3,0,1,1,3,4,4,3,1,0,4,5,0,0,2,4,1,1,0,0,0,5,0,2,1,2,5,4,1,2,1,5,4,
-                0,3,0,5,2,4,2,1,4,0,5,2,1,1,1,3,1,4,1,5,2,4,2,0,2,5,2,3,5,4,4,3,2,2,3,4,1,4,1,3,
-                1,2,5,4,2,5,3,0,5,4,2,4,5,1,4,3,2,0,4,0,2,1,1,0,5,1,1,4,1,2,3,5,0,0,2,3,3,2,4,5,
-                3,1,3,0,4,4,4,0,5,2,4,3,3,1,4,0,0,2,5,1,2,3,4,0,4,2,5,3,4,5,5,2,0,3,3,4,3,1,2,4,
-                3,3,5,3,3,1,2,5,0,4,2,3,4,5,2,0,0,4,4,0,0,1,4,4,4,2,2,4,2,4,0,4,5,4,3,0,5,2,2,3,
-                0,1,4,5,3,1,4,5,1,0,2,5,4,3,0,2,3,2,0,0,5,2,4,0,2,2,4,3,3,0,4,5,5,4,0,4,4,0,1,5,
-                0,0,3,2,0,2,0,5,2,3,1,5,2,1,1,5,1,1,2,5,4,2,3,0,2,3,4,3,2,2,3,0,5,1,3,5,3,3,2,1,
-                5,4,4,1,5,2,0,0,0,0,5,3,0,3,2,3,4,3,4,2,1,0,1,0,2,5,5,5,3,2,0,3,2,3,4,2,5,0,3,5,
-                3,1,3,1,2,5,1,4,0,3,3,1,5,3,0,2,4,2,1,4,5,4,5,4,0,0,5,4,4,5,4,1,3,3,0,3,2,0,4,2,
-                0,3,0,2,4,0,4,5,5,1,2,2,3,4,4,0,0,3,0,5,3,2,0,5,1,0,0,3,1,1,4,0,5,3,1,4,5,0,3,5,
-                2,2,0,0,2,0,2,2,3,2,5,4,4,2,4,3,0,3,3,4,5,4,2,0,3,0,0,4,4,3,2,1,1,1,1,2,0,5,3,3,
-                4,4,2,0,0,2,5,0,3,3,1,3,0,4,4,3,4,0,2,5,2,0,2,3,1,4,4,2,1,1,3,5,0,1,0,4,3,3,5,5,
-                0,0,2,1,4,4,5,4,3,3,1,3,3,3,1,4,2,1,4,5,3,1,1,5,2,5,3,0,4,0,2,5,5,2,5,0,1,0,5,0,
-                2,3,5,2,4,0,1,1,1,4,1,5,2,5,4,4,2,2,0,0,2,1,3,0,5,0,2,5,3,3,5,5,1,0,1,2,1,3,3,2,
-                1,1,3,0,0,5,0,3,3,0,0,4,3,3,1,5,5,2,4,5,4,4,4,1,5,2,4,0,4,4,4,0,3,3,1,5,1,0,1,0,
-                3,5,3,5,2,4,0,5,0,0,3,2,0,4,2,1,1,2,4,0,5,0,0,4,0,2,5,0,5,0,5,5,3,0,1,0,2,2,2,2,
-                0,0,5,2,3,2,1,2,4,4,3,0,4,5,0,5,3,2,2,1,4,4,2,4,3,3,0,2,5,1,2,5,4,4,1,1,1,3,4,1,
-                1,1,1,3,3,0,3,0,1,3,0,4,0,0,0,4,0,4,1,1,5,0,1,4,0,2,1,1,4,0,0,1,5,4,5,5,2,2,3,1,
-                3,5,3,1,0,2,0,3,4,4,0,5,5,3,2,4,0,4,2,3,1,1,5,4,1,0,4,0,3,0,1,2,2,3,4,1,0,3,3,5,
-                0,4,1,2,2,0,5,0,5,1,0,5,2,3,2,1,1,3,0,4,4,3,3,4,1,5,2,5,1,3,1,3,4,0,0,1,2,3,2,5,
-                5,5,3,0,4,5,3,3,2,5,0,2,1,5,1,2,1,3,3,3,1,1,0,0,3,5,5,0,1,0,0,0,2,2,2,2,5,3,5,2,
-                2,2,0,2,1,5,1,1,2,3,3,3,5,3,2,1,0,1,2,1,3,4,4,5,3,0,2,5,4,2,3,1,2,0,4,2,0,4,3,4,
-                1,1,3,1,5,4,3,5,0,4,4,1,3,5,4,3,3,5,1,2,5,0,1,1,1,5,5,3,3,3,5,1,2,2,5,3,4,1,1,0,
-                0,1,5,2,1,2,0,4,3,4,3,5,3,5,4,0,1,1,3,5,2,5,2,1,0,2,1,0,3,2,3,4,1,2,1,4,0,4,2,1,
-                0,1,5,2,1,2,2,1,3,0,3,5,4,0,5,0,3,1,0,3,2,2,3,2,2,4,5,2,0,0,0,1,5,0,3,1,5,0,5,1,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=73;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=43;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=35;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=28;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level2L(){
-        int[] Tab0 = {4,5,5,5,3,4,3,3,0,1,0,3,1,5,5,0,4,4,4,2,5,4,2,3,3,4,3,0,5,5,1,2,1,0,1,1,4,3,4,5,
-                2,2,2,0,3,4,2,4,4,1,2,0,3,4,0,4,5,0,4,3,4,2,4,2,4,0,0,3,5,1,1,3,5,1,2,1,1,3,0,2,
-                1,0,0,0,0,2,3,3,1,2,1,1,2,1,3,4,0,0,0,3,0,4,1,2,0,3,1,4,3,0,3,1,5,5,3,4,4,2,5,0,
-                5,1,4,1,5,3,5,5,2,2,4,1,0,4,5,5,5,0,2,5,3,0,2,4,1,5,5,4,3,5,5,4,3,3,5,2,1,0,1,4,
-                4,2,2,1,2,0,0,2,4,0,4,5,5,2,2,2,1,3,0,4,5,2,0,0,1,4,0,4,1,1,3,4,1,3,1,3,2,1,4,4,
-                2,5,1,2,2,0,3,5,2,1,1,2,1,1,4,3,5,5,0,5,5,1,2,0,5,3,5,3,5,0,0,1,1,4,5,1,3,2,5,0,
-                4,1,2,0,2,0,0,4,4,0,0,1,4,2,3,5,2,0,4,3,0,5,5,4,1,4,2,2,2,3,4,3,5,2,1,2,4,2,3,4,
-                2,1,4,4,4,2,4,0,0,3,1,1,2,2,1,3,2,1,5,1,3,0,2,3,4,3,3,3,5,4,4,2,3,4,5,4,0,2,2,0,
-                0,3,4,0,2,2,3,5,2,5,4,5,3,2,5,4,4,5,2,0,5,2,1,1,2,3,2,5,5,1,0,2,0,4,1,3,5,2,1,2,
-                1,1,1,2,4,5,5,3,5,3,0,3,3,3,4,0,1,4,4,5,5,5,4,5,1,4,0,4,4,0,2,2,0,1,1,5,3,1,0,5,
-                0,0,2,1,4,4,5,3,3,1,3,0,1,1,1,4,5,0,1,2,3,4,1,2,1,1,0,4,5,5,2,5,5,0,4,0,2,1,5,1,
-                1,4,1,5,2,5,0,0,2,0,1,1,1,1,4,1,4,2,0,1,2,2,1,0,3,0,4,4,3,0,4,4,3,3,1,5,1,5,5,1,
-                1,1,5,5,1,0,1,0,3,3,4,2,3,2,3,5,0,4,4,0,2,0,4,5,5,2,3,0,1,1,1,4,4,2,5,1,3,1,0,2,
-                4,2,2,2,1,0,2,1,3,0,5,0,1,2,0,0,2,5,5,5,2,3,5,0,4,2,5,3,0,1,1,0,0,1,2,5,5,1,5,1,
-                3,0,3,1,3,4,4,0,4,3,1,2,3,3,4,4,4,4,5,4,0,5,0,1,1,3,5,0,4,5,2,4,4,5,2,1,3,2,4,4,
-                1,0,3,3,4,3,4,4,3,3,5,2,2,1,0,1,5,1,1,0,1,0,3,5,4,2,5,2,3,5,0,1,1,0,2,3,1,1,1,1,
-                4,0,0,5,2,0,3,2,0,1,0,1,5,3,1,3,0,3,2,2,2,2,3,3,2,4,3,0,5,1,5,5,1,0,0,5,0,2,1,1,
-                2,5,1,4,4,5,5,2,2,1,1,3,5,4,0,0,2,5,0,3,1,0,5,3,3,2,1,2,5,5,5,3,3,4,0,0,3,4,1,5,
-                1,2,1,3,5,3,0,3,1,3,5,2,5,0,1,2,2,2,2,4,1,3,0,1,2,2,5,3,1,4,4,2,4,0,2,4,3,3,3,3,
-                4,4,4,5,0,2,5,1,2,3,5,0,5,0,0,5,5,1,2,1,2,4,1,4,0,0,2,2,4,4,4,3,5,5,1,2,1,5,4,3,
-                1,0,1,0,3,0,4,2,2,4,5,4,3,5,5,5,2,2,0,2,5,2,3,2,0,2,5,5,3,3,5,3,1,4,2,5,1,2,3,3,
-                0,0,0,4,4,5,3,4,2,1,0,2,2,3,3,0,4,3,3,0,3,2,1,2,3,5,4,5,2,1,2,3,2,1,1,3,1,3,5,1,
-                3,2,0,5,4,4,1,5,5,1,3,4,0,1,3,0,5,1,5,0,4,5,5,4,0,3,5,1,2,4,1,2,3,1,0,3,4,5,1,0,
-                4,1,2,3,0,5,1,0,5,0,1,1,4,4,1,4,1,0,5,5,1,0,2,2,0,0,1,5,4,5,1,2,3,1,1,0,4,1,1,0,
-                1,4,1,4,2,3,1,0,5,3,0,0,3,1,3,2,0,3,5,3,3,1,1,4,0,3,1,3,1,1,0,3,3,0,0,2,3,3,3,1,
-                2,5,1,0,4,0,5,1,3,3,2,0,3,1,1,4,3,4,0,4,2,1,1,5,2,0,2,0,4,1,2,4,2,0,3,2,3,2,3,4,
-                0,0,5,5,4,5,5,1,5,0,0,2,2,2,1,5,2,1,5,2,1,3,3,2,0,4,5,0,1,2,5,4,1,4,2,4,1,2,5,3,
-                0,0,1,1,3,5,3,3,3,1,1,1,1,5,3,1,4,2,0,4,3,2,2,2,2,1,4,3,3,3,4,0,1,0,2,0,0,2,5,0,
-                1,2,2,0,3,2,4,5,2,3,1,3,0,4,5,0,3,5,3,0,4,2,3,5,0,4,3,2,0,5,2,2,0,5,5,5,4,5,4,5,
-                4,1,2,1,4,5,2,0,5,2,1,3,2,0,4,0,5,3,0,5,0,4,3,0,3,2,0,2,3,4,0,0,4,4,5,5,2,0,2,3,
-                2,5,0,4,1,0,4,3,1,4,4,4,1,5,0,5,0,4,2,2,3,4,1,3,5,4,3,1,1,5,3,5,3,4,2,3,0,0,1,5,
-                2,5,3,2,3,4,2,4,5,0,3,2,3,3,4,0,5,0,2,1,2,0,4,3,1,3,0,4,0,0,0,3,2,4,5,5,1,0,0,2,
-                0,2,1,2,5,5,0,4,0,5,3,3,2,2,4,3,4,3,3,1,1,3,4,4,1,4,1,5,4,2,2,0,1,2,1,4,4,4,5,3,
-                0,5,4,3,0,2,5,2,2,0,1,5,1,2,5,5,3,1,5,0,3,4,1,1,2,4,2,4,5,4,2,0,3,0,1,3,0,1,1,0,
-                4,0,0,1,0,1,4,0,0,2,1,0,1,0,2,0,1,3,5,1,2,3,0,1,5,3,4,3,5,3,4,4,0,3,0,3,5,1,2,3,
-                0,1,4,0,0,3,1,4,3,5,5,3,4,3,5,3,3,2,1,1,2,0,2,1,0,1,1,0,3,3,2,3,4,2,2,3,1,2,3,5,
-                0,5,1,3,1,2,2,5,5,3,5,4,5,3,5,2,2,4,0,2,4,5,1,4,0,0,5,1,0,4,1,4,2,0,4,5,1,4,4,0,
-                3,4,3,2,0,3,2,5,2,0,3,0,4,3,1,0,2,5,5,3,1,1,1,3,2,5,1,0,0,0,1,1,1,1,1,4,2,4,3,4,
-                4,4,5,4,2,4,4,0,4,0,1,2,2,3,0,1,0,5,1,2,4,0,0,3,5,4,1,2,5,5,4,5,5,5,2,1,0,3,1,0,
-                2,2,3,0,1,3,1,0,0,3,3,5,0,5,0,3,4,1,3,1,0,5,4,2,1,4,0,5,5,2,5,1,3,1,1,4,1,0,4,1};
-        int[] Tab1 ={0,4,0,3,0,2,5,0,5,2,1,4,2,4,1,4,2,3,2,4,2,0,0,5,4,2,3,4,3,1,2,3,1,2,0,4,1,2,2,5,
-                1,0,2,5,1,3,1,0,2,3,1,4,2,4,0,5,1,4,0,3,4,3,5,0,4,1,5,4,3,3,3,1,1,4,1,4,0,0,4,1,
-                1,0,3,5,4,5,0,0,4,5,4,1,1,5,1,4,0,5,0,0,3,4,1,3,4,0,3,1,0,1,2,5,5,2,1,0,3,5,0,1,
-                1,3,1,3,3,4,2,3,0,5,0,1,2,5,0,1,1,4,5,5,0,2,1,3,1,2,3,1,1,0,0,0,3,4,4,4,4,4,0,0,
-                4,5,1,3,0,0,2,2,0,5,5,3,4,3,4,0,2,5,1,4,0,3,4,0,1,0,4,5,5,5,2,5,1,1,2,5,2,4,4,4,
-                4,4,4,2,1,2,3,0,3,1,0,4,2,2,1,3,2,1,5,0,2,4,2,4,1,5,2,1,3,3,4,0,2,3,1,5,1,1,2,4,
-                5,1,3,1,5,1,1,4,1,5,2,2,5,2,2,1,2,3,5,0,1,5,0,0,3,5,0,5,4,3,4,1,2,3,5,1,2,1,4,3,
-                2,3,2,3,2,5,5,4,2,5,2,4,1,1,1,5,4,0,2,5,2,2,5,3,5,3,1,2,5,5,1,1,0,0,1,4,0,3,1,2,
-                0,2,2,2,2,0,1,0,5,0,4,4,4,0,1,3,5,3,5,0,4,1,0,3,4,1,2,1,1,4,1,3,2,1,0,4,2,4,0,3,
-                5,1,0,1,4,4,0,1,5,3,4,4,3,3,0,1,2,2,4,3,0,1,5,4,1,4,0,5,3,3,5,4,0,0,3,1,0,2,5,3,
-                4,5,3,0,4,1,3,1,5,3,1,5,3,5,3,0,1,1,5,5,1,2,2,5,2,2,0,3,0,2,1,4,4,2,4,2,1,2,1,1,
-                3,3,0,0,4,0,3,3,2,4,2,1,4,2,1,2,3,2,4,1,0,0,4,2,0,5,1,5,2,3,4,5,1,2,4,0,2,4,3,1,
-                3,3,5,4,3,1,2,1,1,3,3,2,3,2,1,4,1,0,3,0,2,0,0,1,1,1,4,5,1,0,4,2,0,2,4,1,4,5,4,4,
-                3,3,3,4,1,0,5,2,4,3,0,0,3,5,4,5,1,5,0,4,3,5,5,2,4,2,2,3,3,3,4,3,5,1,1,0,4,5,3,0,
-                2,0,4,5,3,1,0,0,2,2,0,2,2,1,0,5,3,4,3,3,2,5,1,4,4,1,3,4,0,3,0,0,1,3,3,0,1,5,5,3,
-                0,1,0,5,2,0,1,5,2,0,5,0,0,5,1,2,5,4,1,5,1,0,3,2,2,2,3,2,5,1,3,4,0,4,3,5,1,2,0,2,
-                4,4,4,5,1,2,1,4,0,5,3,5,5,2,3,0,0,2,2,2,4,3,2,4,2,4,1,1,1,2,5,0,3,2,2,1,4,5,0,0,
-                0,4,3,0,5,0,4,1,2,3,4,2,0,1,5,5,5,5,4,4,3,5,1,5,0,0,1,4,0,0,4,1,3,4,5,3,5,5,2,1,
-                1,4,5,2,5,2,2,4,0,3,1,5,1,3,2,1,4,4,4,5,2,1,3,1,0,5,3,1,5,1,3,3,0,0,3,1,5,1,5,5,
-                3,4,1,2,1,4,5,3,2,5,2,2,3,0,3,4,5,5,1,3,1,5,5,3,4,3,0,4,1,2,0,3,1,1,3,2,1,5,4,1,
-                5,3,3,0,1,4,0,2,2,2,3,0,1,5,3,5,3,4,4,2,1,1,0,2,3,4,2,1,3,0,1,2,2,1,4,1,5,4,3,2,
-                2,4,3,5,4,5,4,2,2,2,4,0,2,3,3,2,0,3,2,0,4,5,3,2,3,2,3,2,1,0,5,4,1,3,5,3,4,0,4,0,
-                4,5,4,0,0,0,3,1,1,4,5,5,4,5,3,0,3,0,5,1,3,4,2,5,3,0,5,4,5,0,1,0,1,3,4,0,5,0,5,1,
-                4,4,2,5,3,3,0,2,5,0,3,0,3,1,5,3,1,0,3,2,3,4,3,3,2,3,5,3,2,4,1,2,4,2,4,1,3,3,3,2,
-                0,2,1,4,0,0,1,4,4,4,5,4,4,1,2,5,2,0,2,0,3,5,0,4,5,1,4,0,0,3,3,0,5,3,4,2,2,5,3,0,
-                0,0,4,3,0,1,5,4,4,2,1,4,2,1,0,3,1,3,3,3,1,4,5,0,4,4,5,5,3,2,5,4,5,0,4,4,0,0,4,4,
-                3,5,5,1,1,4,3,1,2,2,3,5,4,0,4,4,4,0,5,0,1,5,1,0,1,2,1,1,2,0,3,5,2,2,1,2,4,1,1,4,
-                2,1,3,5,5,0,5,4,0,0,1,0,2,3,1,3,3,1,2,1,2,0,5,1,4,0,4,3,5,1,2,0,2,1,2,0,4,1,0,0,
-                3,4,3,2,5,3,0,5,2,4,4,1,0,0,2,4,5,3,5,0,0,2,5,5,2,3,0,1,3,3,5,2,2,0,3,0,1,1,4,4,
-                0,2,5,0,4,0,4,0,2,0,4,4,0,2,4,4,3,5,0,3,1,2,4,2,0,4,4,4,4,5,1,4,5,2,2,0,1,2,4,3,
-                4,4,3,5,5,2,4,5,4,5,3,5,2,0,2,4,3,1,5,1,5,0,2,0,2,5,4,3,5,2,4,0,4,3,1,1,1,0,5,5,
-                4,2,3,5,0,4,4,4,2,5,3,0,1,1,3,4,5,0,2,4,0,4,0,2,5,4,1,3,0,4,3,3,2,4,5,0,1,2,5,2,
-                4,5,5,0,0,4,0,5,0,2,5,2,2,3,3,3,3,5,4,4,4,5,3,3,0,4,4,2,3,0,3,5,2,0,1,3,1,1,2,4,
-                1,5,3,0,3,5,5,4,1,4,3,5,4,1,3,2,1,3,4,0,2,2,4,1,1,0,2,2,1,0,3,3,1,0,2,1,0,4,0,3,
-                4,3,4,5,0,4,3,3,4,1,4,4,3,4,4,5,3,3,0,4,4,2,5,0,0,2,3,3,1,5,5,1,1,0,4,2,0,4,1,4,
-                1,3,3,3,0,2,4,4,3,4,0,4,0,4,1,3,3,3,0,4,4,2,2,2,5,5,2,4,2,1,5,3,1,1,5,0,5,1,0,2,
-                0,2,5,0,1,4,5,4,1,3,1,1,5,5,3,5,2,3,2,4,3,3,0,0,0,0,1,2,4,1,2,2,3,1,5,1,1,4,1,1,
-                1,3,4,5,2,4,3,2,3,3,3,4,1,1,5,5,3,3,0,2,1,2,1,1,3,4,5,1,3,2,3,4,1,4,0,5,4,3,4,5,
-                5,1,0,4,1,1,2,2,4,2,4,1,1,3,5,1,2,4,0,5,3,1,0,1,2,3,0,5,5,2,2,0,1,3,1,1,2,5,1,3,
-                3,1,4,0,2,4,4,2,3,1,5,0,5,4,5,2,2,4,5,4,3,2,5,5,4,5,0,1,1,2,0,5,5,1,5,2,4,3,5,4,
-        };
-        int[] Tab2 ={5,4,5,4,0,5,1,5,4,4,5,1,0,5,4,0,3,3,0,3,4,3,1,1,4,2,1,5,3,2,5,3,4,4,3,2,5,4,5,0,
-                0,2,5,2,3,3,4,0,4,5,0,5,5,1,0,4,2,2,0,1,2,3,1,3,3,0,5,1,1,0,0,5,3,3,5,1,1,0,1,1,
-                2,2,1,5,4,1,4,0,5,1,1,0,0,2,2,5,0,2,5,0,5,2,1,5,3,1,1,2,1,2,1,3,5,2,4,0,3,5,4,4,
-                4,4,4,5,4,0,5,3,3,2,0,2,5,1,2,1,5,3,2,3,4,2,3,4,1,4,5,0,3,0,5,0,0,3,4,5,3,4,4,3,
-                2,0,3,2,5,1,3,1,4,1,4,3,0,1,5,4,3,2,0,5,5,3,0,2,3,4,1,4,1,4,3,1,4,3,0,0,1,3,5,3,
-                4,3,5,1,3,3,5,2,5,4,3,5,3,0,2,4,1,4,0,1,4,1,5,4,2,4,3,3,4,0,1,0,5,0,5,3,5,0,4,4,
-                2,2,4,4,4,2,0,2,2,3,3,1,5,0,1,4,0,3,1,0,1,4,4,2,0,2,3,1,3,2,3,2,1,3,5,3,2,2,0,1,
-                5,3,2,5,5,3,2,4,0,2,5,2,5,0,1,2,4,5,4,5,4,1,5,4,1,2,4,0,1,3,5,1,5,4,1,0,0,5,2,3,
-                5,1,3,4,5,5,5,3,5,4,4,0,5,0,3,2,3,2,0,4,5,1,0,0,2,1,4,5,3,5,0,4,4,2,5,0,3,2,5,4,
-                1,5,1,1,5,0,3,0,4,3,2,0,0,1,2,0,4,0,3,2,3,5,5,1,1,4,1,5,5,0,4,2,0,4,2,4,1,0,5,1,
-                0,2,0,4,2,2,1,0,2,1,2,2,2,0,4,2,0,5,4,0,1,1,1,3,3,4,2,5,0,2,2,5,1,4,1,1,1,0,2,2,
-                1,1,2,0,4,1,3,3,5,1,0,2,2,3,4,4,3,5,3,3,1,3,1,4,1,5,5,1,5,0,3,3,5,0,3,4,4,2,2,4,
-                5,1,0,2,1,1,0,5,4,3,4,2,2,2,3,2,0,5,3,4,4,5,5,0,0,0,2,0,5,0,0,3,3,5,4,5,5,2,1,0,
-                4,0,0,1,0,4,4,3,4,4,5,3,3,1,3,2,4,4,5,1,3,4,0,4,5,0,3,3,4,3,2,3,2,3,5,5,4,3,1,4,
-                5,4,0,5,2,1,2,0,4,2,2,5,0,2,5,0,1,4,1,3,4,5,3,0,4,0,4,4,4,5,2,3,4,2,0,2,2,4,1,2,
-                3,2,0,1,5,5,0,3,4,1,4,2,1,2,3,0,0,1,3,3,2,2,0,2,3,3,5,4,0,4,4,1,1,5,3,4,3,4,5,5,
-                4,0,0,4,1,0,4,3,3,1,5,5,1,1,3,1,0,1,1,1,0,0,5,1,4,5,0,0,5,5,2,4,5,5,3,3,0,2,1,3,
-                2,2,4,1,0,4,2,4,0,3,0,0,2,5,3,0,2,0,2,2,5,3,2,4,3,2,1,2,1,3,0,0,5,0,5,4,2,5,2,1,
-                3,2,0,0,1,5,2,4,4,2,1,2,5,3,0,2,4,3,0,5,0,4,2,4,4,2,0,5,5,5,4,5,5,1,1,5,0,1,2,0,
-                1,4,1,2,0,4,1,4,2,0,0,5,4,4,0,0,2,0,3,1,3,5,5,2,4,4,3,1,1,4,4,2,5,4,4,0,1,0,3,0,
-                1,4,5,3,0,3,1,4,1,4,0,4,3,3,0,2,2,5,2,4,3,5,0,4,0,2,2,0,3,2,5,4,5,4,5,1,4,4,0,0,
-                2,5,3,1,4,0,4,0,5,2,0,1,3,2,3,4,1,5,5,3,0,3,5,2,0,0,2,2,1,4,2,0,4,3,4,5,0,5,4,1,
-                4,4,2,5,3,1,3,4,1,3,1,3,4,5,3,2,4,2,5,2,4,3,4,0,4,0,1,1,3,5,1,5,3,3,4,4,3,2,4,1,
-                0,3,0,1,4,3,4,3,3,0,0,5,3,0,4,1,1,1,0,1,2,1,4,5,2,1,3,4,4,4,5,4,2,5,0,4,5,4,2,5,
-                0,2,2,2,2,4,3,3,4,4,3,4,0,1,2,3,2,1,1,0,3,1,4,1,0,3,0,1,5,0,1,0,1,1,5,4,0,5,5,2,
-                1,3,3,0,3,2,1,5,3,5,1,0,0,5,5,1,0,5,1,5,4,0,2,5,0,5,4,1,5,2,1,2,0,3,4,5,0,4,0,2,
-                1,1,5,2,0,1,3,1,4,1,1,4,5,5,2,3,4,0,3,4,2,0,3,5,5,4,3,1,0,0,1,2,1,2,0,3,4,4,1,5,
-                5,4,3,3,3,5,2,0,0,3,3,2,0,1,0,5,0,2,2,1,1,1,1,0,2,2,5,5,2,3,2,0,4,2,4,1,2,3,1,1,
-                2,0,5,0,1,4,4,5,1,1,2,5,5,3,0,1,3,5,0,3,4,5,5,4,1,2,2,3,1,4,1,4,2,1,1,5,0,4,2,5,
-                0,3,3,0,3,5,1,1,3,4,3,3,3,0,0,4,4,4,2,4,1,1,4,3,4,5,3,4,5,3,0,1,0,5,0,0,2,4,5,0,
-                2,5,2,2,2,1,0,5,4,0,0,2,2,4,5,5,5,2,3,5,1,0,1,5,5,0,0,1,0,3,5,3,0,2,5,5,1,4,3,0,
-                5,3,4,0,2,4,2,0,2,0,1,1,5,4,0,3,5,2,1,2,0,0,2,2,5,1,0,4,2,4,0,5,0,3,0,1,4,4,5,2,
-                5,2,1,3,3,3,2,2,4,1,5,5,5,0,1,3,5,1,5,4,2,2,2,3,5,4,2,4,3,0,5,5,0,0,1,4,5,4,0,2,
-                5,3,0,5,3,4,3,0,5,2,3,3,2,2,5,4,4,4,4,4,1,5,0,3,2,2,0,1,2,0,1,3,5,0,2,0,2,2,5,3,
-                5,2,3,1,3,2,0,2,2,2,0,5,3,4,3,0,2,1,1,4,1,2,2,1,4,1,1,3,5,1,0,0,3,0,3,2,1,2,5,3,
-                1,0,4,2,0,3,0,4,0,3,2,4,2,2,4,2,5,1,1,5,1,4,5,0,2,4,0,2,2,0,2,5,0,2,4,4,4,3,5,0,
-                4,2,2,4,4,1,0,4,4,2,2,2,0,5,5,5,3,3,1,4,1,1,2,3,0,1,0,2,1,1,1,0,2,3,1,1,0,4,2,2,
-                3,0,0,5,1,1,4,5,4,3,2,4,5,0,4,1,1,3,0,3,0,1,2,2,5,0,4,2,0,3,1,2,1,5,0,3,3,5,3,4,
-                1,4,4,3,1,4,1,3,1,0,5,4,4,4,0,2,2,3,5,0,4,3,1,0,5,3,5,1,2,5,4,4,4,4,1,0,5,5,2,3,
-                2,1,5,4,3,5,4,5,5,2,3,1,1,5,5,5,1,4,3,0,4,4,0,4,2,3,1,2,1,4,0,1,5,0,3,3,5,4,3,5,
-        };
-        int[] Tab3 ={4,5,1,4,4,3,4,3,4,3,3,5,5,3,4,4,2,5,0,0,3,3,0,0,2,2,4,0,1,4,0,4,0,3,1,5,3,5,5,1,
-                4,2,0,2,3,3,0,4,5,0,3,1,3,4,0,1,4,0,1,4,2,1,2,1,0,3,3,1,5,0,1,1,3,3,2,0,5,5,0,5,
-                1,2,1,2,0,0,1,2,0,1,5,1,3,5,1,1,1,4,0,2,2,4,0,1,2,4,2,5,4,1,4,1,3,5,3,3,3,0,5,5,
-                3,1,5,2,0,4,2,2,0,2,3,4,1,4,4,1,0,1,1,4,5,4,2,3,0,4,4,3,4,3,2,1,1,5,5,5,3,0,2,1,
-                0,4,0,1,3,2,1,2,3,1,2,0,4,4,1,5,4,3,3,2,2,4,5,4,4,2,2,1,1,1,3,1,3,2,0,1,0,5,3,0,
-                1,0,0,5,3,2,1,1,3,3,0,5,4,4,4,2,4,2,2,4,4,3,2,3,0,2,4,2,5,5,5,0,2,1,5,3,5,4,0,2,
-                5,3,4,1,2,0,4,4,1,4,5,3,4,3,1,5,2,2,0,3,1,1,5,4,1,1,2,5,4,3,4,3,4,5,3,2,3,3,4,1,
-                2,0,4,5,1,1,4,0,1,3,1,2,4,1,1,0,4,4,4,4,2,5,5,2,1,3,1,1,4,1,5,5,1,0,1,2,2,5,0,5,
-                1,2,3,2,5,0,1,1,1,3,0,0,1,1,2,1,4,5,0,0,2,2,0,4,2,4,5,2,4,2,3,3,2,2,3,4,3,1,1,2,
-                1,1,5,4,0,4,5,1,2,5,0,5,1,5,1,2,4,0,0,2,2,1,3,3,2,2,3,0,1,1,2,5,0,0,1,1,4,3,0,4,
-                5,0,0,1,2,4,3,0,5,4,0,1,0,3,0,0,0,4,1,0,1,3,2,4,4,4,5,5,2,3,5,2,1,3,0,5,1,4,0,1,
-                0,0,4,3,1,2,0,5,1,2,0,5,3,4,3,4,2,1,4,4,0,5,2,3,3,0,3,2,3,5,2,3,1,4,4,3,4,1,5,3,
-                5,2,4,2,5,3,5,3,0,5,1,5,1,0,1,5,5,4,2,2,5,4,3,4,2,4,1,1,5,5,1,3,2,3,0,1,4,1,2,3,
-                0,4,5,5,2,5,3,4,3,0,0,5,5,1,5,1,1,0,3,4,3,5,5,3,0,2,0,3,2,1,2,5,1,0,5,0,3,5,4,4,
-                3,0,3,4,3,5,1,2,0,4,3,1,5,1,5,0,3,5,1,0,1,5,0,0,3,4,0,1,3,0,4,3,3,5,2,2,3,3,5,5,
-                0,0,0,0,3,1,5,0,4,5,0,5,4,2,4,0,4,5,2,0,3,3,5,5,2,1,5,5,5,2,1,1,2,2,2,4,0,2,1,1,
-                3,2,3,3,2,2,0,5,2,1,1,4,5,0,5,4,5,3,4,4,1,5,1,3,4,0,4,5,1,3,4,0,3,4,3,2,2,0,1,4,
-                4,5,1,0,2,0,5,0,2,5,3,4,3,1,5,1,0,1,3,5,2,1,2,2,2,3,1,1,3,4,2,3,0,1,3,4,1,5,5,2,
-                5,0,5,4,1,3,4,5,2,5,4,3,4,5,5,3,2,3,2,2,1,1,5,0,0,4,5,1,3,4,5,0,0,4,0,3,1,4,2,2,
-                0,1,2,2,4,1,5,3,3,3,3,3,2,1,1,5,5,2,2,1,4,1,1,0,5,3,4,4,5,1,1,1,5,2,2,5,3,3,0,3,
-                3,1,2,1,1,0,4,2,3,0,5,4,5,0,1,3,1,3,2,0,2,0,3,2,3,2,1,0,3,4,5,3,1,0,0,3,0,1,2,3,
-                0,4,1,3,1,2,5,5,2,0,1,2,5,5,4,5,5,2,5,5,5,1,5,1,4,5,3,4,3,5,4,2,3,4,3,1,0,0,4,2,
-                2,2,5,4,4,1,2,5,5,1,5,1,4,5,4,4,4,2,5,2,4,5,2,3,0,0,0,2,1,1,0,2,0,1,0,4,0,4,2,2,
-                3,1,2,1,4,4,5,1,5,4,0,5,4,2,5,0,3,4,0,3,2,2,1,3,0,1,2,1,5,0,2,4,4,0,2,4,4,3,2,0,
-                1,1,4,2,0,5,2,5,3,2,2,1,4,0,0,5,5,5,4,1,4,1,4,2,0,4,4,0,4,4,2,1,4,5,4,4,3,3,2,4,
-                4,4,5,2,0,2,2,5,5,5,5,5,2,2,3,1,1,3,4,5,5,5,5,3,3,4,0,4,1,1,2,4,4,2,5,1,1,2,5,1,
-                2,0,3,2,0,3,0,5,3,0,2,2,2,5,2,4,2,0,5,0,3,2,0,5,4,4,5,2,0,4,0,1,2,4,2,4,0,0,5,4,
-                1,0,1,4,2,2,2,2,2,4,4,4,4,4,5,5,2,0,1,5,1,3,3,0,5,5,5,2,5,4,3,0,5,1,2,1,0,2,0,4,
-                5,0,4,1,4,3,1,5,4,2,1,0,0,4,2,0,4,4,4,2,0,4,4,2,5,0,1,5,0,0,3,1,5,5,4,2,2,0,0,4,
-                5,1,4,1,2,4,2,5,2,1,1,2,5,1,0,1,4,0,4,5,3,5,5,1,1,0,2,3,3,3,2,0,1,3,3,2,3,3,3,0,
-                5,0,4,1,5,0,2,3,4,3,1,4,0,4,1,0,1,3,5,0,1,3,2,3,2,1,2,4,3,2,2,0,5,5,2,0,1,4,4,0,
-                3,0,0,4,3,2,5,5,5,0,2,4,1,0,4,5,2,3,1,2,2,2,4,3,4,1,3,2,5,2,1,1,5,1,5,0,4,5,1,2,
-                1,3,3,0,4,2,5,1,3,0,0,3,5,2,3,5,0,1,0,5,2,3,0,1,5,0,1,3,0,3,1,4,4,3,3,2,2,2,4,4,
-                4,0,4,3,1,2,1,3,2,5,2,5,3,2,5,2,4,2,5,3,5,5,3,1,2,5,0,1,0,4,2,2,4,1,0,4,5,5,1,2,
-                2,5,4,4,4,1,2,2,3,5,5,2,3,5,0,5,3,1,5,4,5,2,4,3,3,3,2,2,5,5,1,4,5,3,4,2,4,3,4,1,
-                2,2,4,5,4,3,2,5,4,1,2,5,5,1,2,2,1,5,0,0,4,1,1,1,5,3,5,3,0,4,3,2,5,3,1,3,5,0,3,4,
-                1,0,3,2,5,4,1,3,0,4,5,1,5,2,3,2,2,4,3,4,1,1,3,2,4,4,4,0,5,2,3,2,4,3,4,4,0,2,1,2,
-                0,0,3,0,0,5,1,5,5,5,2,3,1,2,0,5,0,1,5,1,5,4,0,1,0,2,0,4,1,2,4,5,4,3,2,3,0,5,5,0,
-                4,0,5,3,3,4,2,5,2,0,3,5,5,4,5,4,5,4,5,4,3,4,4,0,3,2,5,0,2,2,2,0,1,4,3,3,2,4,5,1,
-                3,3,0,0,0,4,4,5,3,4,0,3,4,4,2,1,5,2,4,1,0,5,2,4,4,0,2,5,4,1,2,3,1,1,4,0,3,3,3,5,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=67;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=46;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=38;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=26;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level3L(){
-        int[] Tab0 = {3,1,1,1,1,5,1,0,3,2,2,5,0,5,3,2,0,1,1,0,2,5,3,5,4,0,1,0,5,5,2,4,5,5,5,0,5,1,2,3,
-                3,4,0,5,1,5,4,3,0,4,5,4,2,5,3,4,5,3,4,0,1,4,4,1,5,2,5,5,0,5,1,1,2,3,4,2,4,4,5,0,
-                5,0,1,5,4,3,0,3,3,1,1,1,4,2,3,4,5,2,0,5,1,1,0,5,1,0,5,5,3,0,5,4,3,0,2,2,4,2,0,5,
-                1,0,2,1,0,5,1,3,1,0,4,3,1,4,5,3,4,3,5,2,3,2,4,2,5,2,2,3,5,2,5,4,2,1,0,4,5,3,2,1,
-                0,5,1,1,2,1,2,5,5,3,2,4,3,2,1,2,2,3,5,2,4,0,0,3,2,2,5,3,3,0,1,3,3,5,4,3,5,2,2,0,
-                0,1,3,5,3,5,4,1,2,0,0,4,1,2,3,5,3,2,4,2,2,2,4,0,4,1,2,2,2,5,3,2,1,1,5,2,1,1,4,4,
-                0,3,3,2,4,0,5,4,4,0,1,2,1,4,4,1,4,4,2,5,1,4,4,2,2,2,2,2,2,0,1,4,2,5,5,0,4,5,0,3,
-                4,0,1,3,0,4,5,2,4,0,5,2,3,5,2,3,2,5,2,1,5,5,1,4,2,3,1,3,1,3,1,1,1,1,0,1,1,3,1,2,
-                0,4,3,0,0,5,3,1,1,3,2,3,5,1,2,4,5,3,2,1,5,4,0,1,2,0,3,0,3,1,4,0,2,1,4,1,3,2,2,3,
-                0,2,4,1,5,3,0,5,0,2,2,4,5,0,1,2,3,1,5,1,5,4,0,1,5,1,1,0,3,1,4,5,4,5,2,3,0,4,5,3,
-                0,5,5,3,0,5,2,3,4,5,3,4,5,3,5,0,0,5,4,1,2,4,1,5,5,1,3,4,0,5,3,4,3,5,4,2,4,2,5,5,
-                5,5,0,4,3,0,3,3,2,0,2,5,0,5,3,3,0,0,3,3,1,1,0,0,5,4,2,0,1,0,0,2,4,0,3,2,1,5,4,1,
-                1,2,3,5,1,3,4,3,5,1,1,5,3,3,0,5,1,3,0,0,3,2,1,5,5,1,5,3,0,2,5,5,1,2,4,3,4,0,2,2,
-                4,2,3,1,4,4,1,2,2,1,5,5,5,4,2,1,1,0,3,1,3,4,0,4,1,3,5,1,5,2,5,4,3,2,4,5,2,4,0,5,
-                1,2,1,2,4,0,3,1,1,3,2,5,2,1,4,3,5,0,5,0,4,1,1,4,0,2,2,2,1,3,3,3,0,3,0,5,2,0,4,4,
-                0,5,1,3,1,3,5,0,2,0,1,2,3,3,0,1,1,3,0,0,2,1,3,1,3,1,3,5,2,0,1,4,4,5,1,3,5,3,3,4,
-                5,1,4,3,0,3,0,0,3,0,5,3,1,5,2,2,1,2,5,0,0,2,0,4,1,2,0,1,0,3,1,0,4,3,4,5,5,0,0,4,
-                5,3,0,5,2,0,3,5,5,4,5,0,0,2,1,1,2,3,3,1,0,1,1,1,0,1,5,0,3,2,4,5,0,5,0,4,0,3,2,0,
-                5,3,1,3,3,3,3,1,1,4,0,2,5,2,4,0,4,0,0,0,2,3,1,0,0,0,2,3,2,2,3,2,1,4,0,3,5,1,2,1,
-                1,0,4,4,3,4,5,1,4,3,2,1,2,5,1,2,5,5,5,2,0,1,2,4,4,1,3,5,5,4,3,5,1,1,1,1,0,5,0,3,
-                0,1,5,2,0,0,3,2,2,1,2,3,2,4,2,4,1,5,3,1,5,1,1,2,1,4,4,5,2,2,5,2,1,2,3,5,4,5,1,1,
-                3,0,2,0,0,4,4,3,0,0,4,5,3,2,2,4,2,0,0,2,5,1,0,4,4,4,1,2,4,0,5,3,1,4,3,3,5,3,0,5,
-                4,3,1,4,0,3,5,3,4,1,4,1,5,4,1,1,3,4,0,0,4,3,1,1,5,3,4,1,2,5,0,3,0,3,4,5,2,5,5,0,
-                0,5,5,4,0,3,0,3,3,4,5,2,0,5,4,4,5,3,3,0,3,5,1,3,4,4,2,4,4,4,0,1,1,0,2,5,0,3,1,5,
-                4,4,2,2,2,4,4,5,4,5,3,0,4,5,2,3,0,1,0,2,1,2,2,1,1,4,4,2,4,0,5,1,4,4,2,5,5,5,2,3,
-                4,2,4,3,4,3,1,4,5,1,3,5,3,2,5,2,2,2,2,5,4,4,5,2,3,3,3,1,1,2,2,4,5,5,3,5,2,2,4,4,
-                2,3,2,3,0,4,1,5,3,5,1,4,2,0,1,3,1,0,1,2,4,5,5,5,2,4,2,5,0,0,5,2,3,5,3,4,2,2,2,1,
-                5,0,4,5,3,4,0,5,4,0,3,5,3,3,3,1,2,4,2,5,4,3,5,4,5,5,1,3,4,5,0,2,4,1,2,5,2,1,1,2,
-                0,5,3,4,4,4,5,3,4,2,5,5,2,0,0,1,1,1,2,4,3,3,0,5,0,1,4,0,5,5,2,3,5,0,1,2,5,2,5,4,
-                2,2,2,5,1,3,5,0,5,0,3,1,5,2,3,1,4,1,5,4,2,4,0,2,1,0,4,2,3,3,5,3,2,5,0,5,2,2,4,1,
-                5,4,3,0,2,0,5,1,5,2,3,4,4,2,1,1,3,3,5,5,3,1,3,5,0,2,2,5,5,5,2,1,2,5,1,5,3,2,1,0,
-                4,4,3,0,5,5,1,0,3,0,1,0,1,3,0,0,0,4,1,2,0,5,3,3,3,4,3,1,4,0,5,5,3,3,1,4,5,2,2,2,
-                0,4,1,3,5,1,2,5,2,5,4,2,0,4,3,4,2,5,4,2,5,4,4,0,4,3,5,4,3,1,0,5,3,5,4,5,4,1,0,3,
-                3,3,2,5,3,4,2,3,4,4,3,5,3,5,0,0,5,1,4,0,2,3,5,5,0,0,3,2,3,4,1,4,3,4,5,2,1,0,4,4,
-                3,1,3,3,1,5,2,0,4,1,0,4,4,0,1,1,1,0,0,0,0,1,3,3,3,3,4,0,5,0,3,4,4,5,2,5,3,5,2,3,
-                5,5,5,2,3,0,2,4,5,2,2,5,3,0,1,5,2,2,5,3,0,2,3,1,2,3,2,0,5,5,4,0,1,0,4,5,0,2,4,2,
-                5,4,5,2,5,4,4,5,4,1,1,0,4,5,2,1,3,0,4,4,4,3,0,3,4,5,2,3,3,0,5,1,1,4,4,3,2,4,0,2,
-                4,1,4,1,3,1,0,2,0,2,3,0,3,1,4,5,1,0,2,0,1,4,1,3,2,4,3,0,4,5,5,1,4,1,3,4,0,2,5,4,
-                3,0,4,0,4,3,0,1,1,4,3,0,4,0,2,3,5,3,5,5,4,1,3,5,4,4,2,1,2,1,1,2,4,4,0,0,5,4,0,2,
-                0,2,4,3,0,5,4,2,2,1,2,4,3,2,2,2,2,0,2,5,1,4,1,2,0,5,3,3,5,4,4,1,0,5,4,0,0,3,5,0};
-        int[] Tab3 ={5,3,2,1,3,2,5,0,1,3,4,4,5,4,1,1,3,2,4,1,0,4,3,4,5,1,0,2,2,0,5,1,1,3,2,3,3,0,2,4,
-                3,4,5,3,2,2,3,2,3,5,1,3,4,2,1,3,1,3,1,1,2,0,4,0,2,0,0,3,2,1,3,4,5,5,2,5,3,2,3,3,
-                2,3,5,4,1,2,4,4,3,5,5,5,1,2,3,4,5,1,5,0,4,4,0,3,5,3,3,1,0,3,2,2,0,3,3,1,5,4,0,0,
-                4,2,1,5,2,4,3,4,4,1,2,2,1,1,5,5,1,1,5,3,0,3,2,4,3,0,4,0,1,0,2,4,0,1,0,2,1,3,2,4,
-                0,2,1,5,0,4,3,5,3,2,5,3,2,5,0,4,0,1,3,4,1,0,5,4,1,2,3,1,1,5,1,3,2,5,5,5,4,0,4,4,
-                5,5,0,0,4,0,4,1,0,3,3,2,3,0,3,4,0,2,1,0,2,2,0,5,0,3,4,2,3,1,3,1,5,4,4,0,2,4,3,2,
-                2,2,1,0,4,3,1,4,0,5,3,2,2,5,5,5,2,0,5,2,1,3,0,5,4,4,4,2,4,0,0,1,2,2,0,5,5,4,5,5,
-                2,0,2,3,2,2,2,1,3,3,4,2,2,0,2,2,1,5,1,3,1,5,3,1,0,0,3,2,0,5,0,2,0,2,3,2,4,2,4,5,
-                0,5,4,0,1,1,1,3,4,2,2,0,2,0,0,0,1,3,1,5,1,2,4,1,2,1,5,0,5,3,2,4,5,4,3,4,3,4,4,5,
-                1,4,1,4,5,3,3,0,2,0,5,0,5,3,0,4,5,0,5,1,3,5,2,4,3,1,3,2,0,5,0,1,4,1,4,1,4,0,4,5,
-                1,2,3,3,4,0,2,5,0,2,0,2,0,2,0,0,1,5,1,2,4,3,1,4,3,1,0,0,5,0,3,5,3,1,0,4,1,4,4,5,
-                1,4,4,0,1,0,1,4,5,5,2,3,0,0,5,4,0,0,1,1,3,3,4,1,2,4,0,4,2,3,2,5,2,4,0,1,1,2,2,4,
-                1,3,1,3,2,0,4,0,4,0,1,4,3,5,2,5,3,4,2,3,3,1,0,1,2,1,4,5,2,5,1,1,4,0,5,4,4,2,4,1,
-                0,0,2,1,3,0,2,0,3,1,2,5,5,5,2,3,2,2,3,3,0,5,4,1,3,1,1,2,4,0,5,4,0,3,0,4,2,2,4,5,
-                2,4,1,2,5,0,4,4,3,3,5,4,2,1,5,1,4,0,4,1,4,4,1,0,2,2,0,4,2,1,5,0,4,5,5,1,5,1,2,2,
-                5,1,5,0,2,2,3,1,2,0,2,4,0,3,4,4,4,1,2,5,3,3,2,0,4,1,4,4,5,0,4,4,0,1,2,4,2,5,2,5,
-                0,1,5,3,2,3,2,0,0,3,4,5,0,5,3,3,1,5,1,2,0,4,0,5,5,5,3,2,3,0,5,1,0,0,4,5,5,4,0,5,
-                2,3,1,0,3,0,3,3,1,1,0,0,0,4,5,5,3,0,3,5,4,1,4,0,0,2,3,3,2,4,1,4,3,0,1,2,1,1,2,1,
-                3,5,5,3,5,4,5,5,2,1,5,3,1,4,2,0,1,0,3,2,0,0,1,3,3,2,5,4,2,1,2,2,1,3,3,4,0,2,1,4,
-                5,1,2,1,2,0,5,2,0,3,0,4,0,2,3,0,5,1,5,0,0,4,1,2,2,5,1,3,4,2,5,3,5,0,5,2,4,4,1,3,
-                1,1,1,4,1,0,1,4,0,3,4,4,0,4,1,3,3,5,1,5,5,2,2,3,4,2,3,2,4,5,0,2,5,3,0,2,3,5,3,1,
-                0,5,0,2,3,1,5,5,0,0,3,0,1,5,0,3,4,1,3,3,1,1,0,3,3,1,2,3,3,3,4,0,0,5,0,2,5,3,3,4,
-                5,2,4,4,5,5,2,3,2,2,2,0,4,3,3,3,3,0,2,0,5,2,2,2,0,3,1,3,2,2,2,0,1,5,0,3,3,3,1,0,
-                3,5,2,0,2,2,1,2,1,1,1,1,1,3,4,0,0,4,0,5,5,0,3,0,1,0,5,2,5,3,3,0,5,0,2,3,1,2,4,4,
-                4,0,4,3,2,4,0,2,2,3,2,5,4,0,0,2,5,2,0,1,4,1,2,1,4,0,2,0,3,1,2,1,3,0,2,5,4,5,4,5,
-                0,4,2,0,2,2,4,1,2,5,5,1,1,4,2,5,3,2,3,4,5,1,5,1,4,0,0,3,4,1,2,3,4,0,1,3,5,2,3,1,
-                1,0,5,5,0,4,1,3,3,1,3,1,2,2,3,3,5,3,5,1,4,4,0,0,2,4,4,1,1,5,3,2,2,0,5,0,1,5,1,1,
-                2,5,3,4,3,5,3,1,1,5,0,5,4,4,4,0,4,5,4,4,3,5,4,4,1,2,2,5,5,5,4,1,5,3,4,0,3,0,1,2,
-                5,3,4,3,5,2,1,4,4,2,4,1,2,2,1,3,5,2,4,2,0,4,5,3,5,4,1,3,5,0,4,3,3,4,0,0,0,4,1,0,
-                5,5,1,4,2,1,4,3,3,3,2,2,5,1,5,1,2,4,4,3,5,3,0,3,0,4,4,4,1,2,3,0,3,3,1,5,1,0,0,1,
-                3,0,2,1,1,3,2,2,3,2,1,4,3,5,4,0,1,4,3,1,4,3,3,5,3,0,5,3,2,1,2,0,0,5,1,5,5,2,5,0,
-                0,3,5,2,0,3,2,3,0,3,5,1,0,0,1,0,0,3,1,4,1,3,0,2,1,5,4,1,4,4,3,0,1,4,3,0,5,5,5,4,
-                0,5,5,1,5,2,4,5,4,1,4,3,4,0,5,1,4,5,1,3,3,1,4,5,4,1,5,2,4,1,2,3,3,5,1,3,0,4,4,1,
-                3,4,0,3,2,4,2,2,1,0,0,0,1,1,1,0,5,4,3,4,1,5,3,4,3,2,2,3,3,1,4,3,2,5,0,1,4,2,1,1,
-                1,2,0,5,1,5,4,2,0,4,4,4,4,5,0,0,4,4,3,3,2,4,1,5,2,5,5,4,0,0,0,1,3,1,5,3,0,5,5,1,
-                2,3,1,2,4,4,5,3,2,4,1,5,0,4,1,1,5,1,0,4,4,2,1,3,1,0,5,3,4,5,2,0,2,5,5,3,0,5,2,4,
-                1,1,2,3,2,1,5,3,4,3,2,2,5,1,0,3,1,4,3,5,0,2,3,4,4,2,2,1,2,2,3,3,0,2,2,5,4,3,4,1,
-                2,0,0,4,1,1,5,4,0,0,1,2,5,0,0,0,4,4,3,2,4,3,2,0,0,1,2,2,4,2,0,5,3,5,5,2,0,4,4,2,
-                1,1,0,4,2,2,1,1,0,5,2,2,1,4,2,4,3,0,1,0,5,2,1,0,5,0,0,4,4,0,0,5,5,5,0,5,3,0,4,0,
-                2,5,4,3,4,5,0,1,3,5,1,5,5,0,3,1,3,0,2,4,3,1,2,5,2,3,4,3,2,4,1,5,2,3,3,2,1,5,2,0,
-        };
-        int[] Tab2 ={5,4,1,5,2,2,1,3,3,1,2,4,4,1,3,2,3,5,0,2,2,5,5,5,3,1,3,2,4,4,5,1,2,3,4,0,2,4,5,3,
-                3,5,0,0,3,5,5,4,3,2,0,4,4,4,2,5,2,4,3,0,2,5,5,4,1,2,5,0,5,2,5,2,1,1,5,4,5,1,2,2,
-                3,3,0,5,2,2,2,2,0,2,0,2,1,0,5,0,1,3,4,0,2,2,0,4,5,2,0,3,2,3,3,5,3,1,5,4,3,3,2,4,
-                2,4,5,5,1,2,5,0,5,1,1,4,5,3,4,1,2,0,3,4,5,4,2,3,0,3,4,0,3,5,2,3,2,4,5,0,3,3,5,3,
-                0,5,1,2,2,4,0,1,3,3,1,0,4,5,3,5,0,1,2,4,4,0,2,3,5,1,2,1,5,1,0,1,3,2,3,1,3,5,5,0,
-                0,4,1,2,3,4,5,3,4,5,1,3,2,0,4,0,4,5,5,5,3,3,0,2,3,4,4,1,2,2,2,3,4,0,4,5,2,1,4,4,
-                1,2,0,4,1,4,5,0,2,3,3,5,5,2,3,3,0,1,2,5,0,4,1,4,3,0,4,4,3,5,2,2,2,1,2,2,0,0,5,4,
-                4,2,1,4,5,4,5,3,1,0,2,4,3,3,0,2,1,0,4,0,1,4,5,4,4,4,1,3,3,2,0,2,0,2,2,4,4,1,2,0,
-                5,0,5,3,5,5,4,1,4,2,3,4,0,4,0,0,5,3,0,3,4,4,3,1,1,2,2,1,2,5,3,4,2,1,1,5,0,1,3,0,
-                2,1,1,2,0,0,2,4,0,4,2,1,3,3,2,1,2,0,3,0,5,5,5,1,3,1,3,1,4,2,5,5,0,0,3,5,1,2,2,0,
-                4,1,1,5,4,2,5,1,0,0,4,0,3,4,4,4,2,1,2,0,0,0,5,1,0,5,2,3,1,0,2,2,2,0,0,1,4,5,5,5,
-                2,3,0,2,4,2,4,1,4,4,5,5,0,3,5,5,1,2,0,1,4,4,2,1,5,2,4,4,5,5,2,4,0,2,4,3,1,1,3,1,
-                5,0,4,3,2,2,1,3,4,4,4,3,1,4,4,3,1,4,3,4,5,2,0,1,3,4,5,1,0,4,5,0,5,4,2,3,0,5,5,3,
-                4,0,3,2,4,0,1,1,3,3,2,4,4,0,2,0,0,1,5,2,2,0,1,5,1,5,1,4,4,3,5,5,2,0,3,5,5,3,4,0,
-                2,1,4,1,2,0,0,1,4,1,0,1,2,3,1,2,1,1,2,3,2,0,0,3,2,1,5,1,4,1,0,2,5,2,2,4,4,5,4,2,
-                2,0,5,1,3,1,1,5,0,2,4,1,4,4,5,1,1,4,4,5,3,4,5,1,1,0,2,4,2,1,0,5,3,4,0,3,1,4,0,0,
-                0,5,1,2,5,2,0,1,0,1,5,4,5,3,5,1,2,2,3,0,2,2,5,3,0,5,3,5,3,3,4,1,4,5,5,1,5,1,1,5,
-                4,4,4,1,0,4,0,4,1,5,4,3,0,5,0,1,1,0,2,0,1,5,4,0,1,4,4,4,2,1,0,3,4,0,0,3,2,3,0,2,
-                1,4,1,0,4,4,0,5,5,3,2,2,3,2,2,1,3,3,4,4,1,2,3,4,0,0,0,3,5,0,4,5,3,1,5,2,2,3,5,0,
-                5,1,4,2,3,2,4,0,3,3,3,1,5,3,1,3,3,4,4,4,3,5,4,5,2,4,5,4,4,3,4,3,1,5,3,2,2,0,1,3,
-                4,4,1,4,0,2,5,2,2,3,5,5,4,0,2,2,4,1,3,1,1,5,2,0,2,5,5,3,0,0,2,2,3,4,2,2,3,0,2,4,
-                4,0,1,5,1,5,3,4,2,2,0,1,1,1,5,0,2,0,1,0,4,0,4,5,3,4,0,4,2,5,0,1,2,5,3,5,0,0,5,3,
-                1,1,1,1,2,1,1,5,3,0,2,4,4,3,0,0,4,1,1,3,0,3,5,2,4,2,4,3,3,1,3,2,2,1,0,3,5,5,0,4,
-                2,3,2,2,4,4,3,2,3,3,1,2,1,1,5,5,5,0,1,4,3,2,1,1,0,5,0,4,0,0,2,1,4,1,0,3,1,1,4,3,
-                5,2,2,0,2,5,5,1,5,4,5,0,1,1,1,3,4,1,4,4,1,1,0,3,5,2,1,2,2,0,5,2,5,5,3,0,4,4,2,2,
-                2,4,4,3,5,3,0,2,3,5,1,4,2,4,1,2,0,4,5,4,1,0,0,2,0,3,0,3,5,5,1,0,0,3,3,2,2,0,2,5,
-                1,4,1,0,3,1,1,4,0,0,5,2,1,4,4,5,1,1,1,2,3,4,2,1,5,0,0,3,0,2,3,4,5,1,2,2,4,1,3,1,
-                4,3,4,4,4,0,3,4,1,1,3,2,5,3,1,5,0,3,0,0,3,4,1,3,0,5,4,5,3,5,2,1,5,5,4,5,5,4,4,0,
-                0,1,1,1,3,0,4,2,5,2,4,2,2,5,0,2,0,4,2,1,5,1,5,2,4,0,0,3,4,5,1,1,3,2,1,4,1,0,3,0,
-                5,2,2,2,1,3,5,1,2,2,4,2,0,5,2,2,5,2,5,3,0,5,4,1,3,3,4,1,3,4,3,1,1,4,5,5,3,2,3,4,
-                4,4,0,1,0,5,1,1,5,3,0,1,2,0,0,2,0,5,3,3,1,4,3,3,3,0,2,4,5,1,4,1,2,5,3,3,5,0,4,0,
-                3,3,4,2,4,3,3,0,1,2,1,2,5,0,5,3,4,2,2,4,2,2,2,4,0,3,2,2,1,3,0,1,4,5,1,4,2,5,5,5,
-                2,2,5,3,3,2,1,5,4,1,5,4,3,1,5,5,0,2,0,4,5,2,5,1,3,2,5,2,5,2,0,3,0,2,5,1,4,5,3,4,
-                3,0,2,0,2,1,3,4,1,5,4,0,3,3,1,4,5,0,5,2,3,4,5,4,1,3,5,3,2,4,1,2,1,1,2,0,4,3,3,5,
-                1,1,4,4,5,5,1,2,0,5,0,3,0,5,0,4,1,1,0,3,3,1,2,0,4,5,5,1,5,5,5,0,5,4,4,4,1,3,1,2,
-                5,1,3,2,2,4,1,4,3,0,1,3,1,1,0,2,3,5,0,5,1,5,3,1,4,3,1,3,3,5,1,4,1,2,4,2,5,0,5,0,
-                1,1,5,4,0,4,5,1,2,1,0,2,4,2,4,3,5,5,4,5,4,1,4,2,4,4,4,2,5,1,2,5,3,3,1,5,5,2,0,4,
-                4,2,1,3,3,4,2,0,1,4,2,1,4,5,0,0,2,4,2,1,2,5,2,1,2,2,3,4,2,4,1,3,4,0,2,2,0,4,2,5,
-                2,0,0,1,5,0,5,1,0,3,2,0,5,3,5,1,1,3,4,5,3,2,0,3,1,3,0,2,2,2,2,5,1,4,2,1,5,1,4,4,
-                2,3,1,5,4,2,4,1,4,5,5,1,0,3,0,3,0,3,3,0,2,4,0,2,5,5,1,2,4,4,1,5,3,0,0,4,5,4,2,5,
-        };
-        int[] Tab1 ={3,1,5,4,0,1,4,3,0,0,4,4,3,4,0,2,2,2,0,5,2,3,0,5,1,3,0,0,3,0,3,2,4,0,5,3,0,3,3,0,
-                1,3,2,3,0,5,5,3,4,2,5,4,4,0,1,4,2,5,0,5,4,5,0,3,2,0,0,0,0,1,1,2,1,1,3,0,4,3,2,2,
-                2,2,1,5,2,2,2,4,1,0,1,4,5,1,5,5,4,3,5,0,3,5,3,0,3,0,5,1,3,5,3,2,3,4,2,0,5,4,0,2,
-                5,4,2,1,2,5,2,4,3,4,4,3,2,2,3,4,3,2,5,4,1,2,0,2,0,5,5,1,4,1,4,1,1,1,3,2,5,0,4,0,
-                4,3,3,3,1,2,2,3,0,2,1,0,0,0,1,4,1,5,3,0,3,2,2,1,0,4,4,0,0,3,4,1,5,2,2,3,3,1,5,5,
-                0,2,5,3,1,4,2,1,4,2,3,0,3,5,4,5,3,5,4,5,1,5,4,3,4,5,4,1,4,5,2,3,2,0,4,1,1,0,5,4,
-                0,4,4,1,2,3,5,0,3,2,3,3,1,3,3,2,0,0,2,1,3,2,3,0,1,2,2,4,2,4,5,3,3,5,4,1,2,5,4,0,
-                5,5,2,3,4,5,1,4,0,5,0,3,4,1,5,3,0,2,2,5,3,2,4,1,2,0,3,1,4,5,2,4,4,2,3,3,1,2,0,3,
-                3,1,4,2,2,2,3,3,3,5,3,2,3,2,3,1,5,1,0,5,2,4,3,3,3,2,2,3,4,3,3,2,4,0,3,2,5,5,1,2,
-                3,5,1,3,4,3,3,2,5,0,3,3,3,0,1,5,1,1,4,4,2,3,5,3,5,4,5,5,5,2,4,3,5,4,0,3,1,3,2,2,
-                4,5,0,3,5,3,3,3,3,1,1,2,1,3,3,0,2,1,2,4,4,0,4,0,2,4,2,4,0,3,5,5,5,4,2,0,2,0,0,2,
-                2,4,0,1,4,1,5,4,0,5,3,5,0,1,5,4,5,5,2,0,1,2,2,3,3,3,5,3,0,0,4,1,5,2,1,3,2,4,3,2,
-                4,1,1,4,5,0,3,2,5,5,3,0,4,0,0,5,3,5,1,1,1,1,1,4,2,1,2,1,3,3,0,2,3,3,0,2,1,0,2,0,
-                0,4,5,2,3,4,4,1,2,0,0,2,1,5,1,1,4,2,5,1,3,3,1,5,1,3,0,1,2,2,4,5,0,1,4,4,4,0,5,1,
-                3,0,2,2,4,0,2,2,1,5,2,5,2,1,1,4,5,5,0,5,4,5,5,2,3,2,2,5,3,4,4,4,5,2,1,5,1,5,2,4,
-                0,0,5,2,2,2,0,2,1,1,5,5,0,5,1,4,5,3,4,5,0,1,3,5,5,3,0,0,2,1,4,1,5,1,2,4,3,4,4,0,
-                1,0,5,5,4,5,2,5,1,5,5,4,3,4,2,3,2,5,5,2,2,0,3,1,3,2,3,2,3,4,2,0,0,0,0,3,5,3,5,2,
-                0,5,5,5,4,3,5,3,3,1,2,0,3,4,1,3,1,4,2,4,1,3,0,4,2,4,1,2,1,1,4,2,1,5,0,2,5,1,1,5,
-                3,3,2,0,2,4,4,0,0,1,3,4,2,1,3,5,1,5,0,2,5,1,2,1,1,4,1,1,4,1,2,1,2,5,3,4,1,2,2,5,
-                5,5,0,2,2,5,2,4,4,0,3,5,1,4,0,4,1,2,1,5,0,0,1,0,5,2,1,4,3,1,5,2,5,2,4,2,4,1,5,4,
-                2,1,3,2,2,4,0,4,1,2,4,4,3,3,5,3,2,2,3,4,3,2,1,0,1,2,5,5,3,4,5,2,0,3,5,5,5,1,4,3,
-                0,4,2,4,4,5,4,3,2,0,4,1,5,5,1,4,4,0,1,0,5,2,0,4,1,4,1,4,0,1,3,0,3,5,5,5,1,0,4,1,
-                5,5,4,4,2,5,1,4,3,4,1,5,5,3,1,1,2,3,5,5,5,4,2,0,1,4,4,3,3,1,4,5,0,2,1,2,5,5,0,3,
-                5,2,1,5,5,4,3,0,0,3,3,4,2,1,1,1,4,5,4,5,0,3,3,2,4,2,2,5,0,4,3,4,3,4,1,5,3,5,4,1,
-                5,0,0,4,3,4,5,0,2,4,1,0,1,1,1,5,0,1,2,1,3,5,0,4,2,2,1,4,3,3,4,3,2,3,3,0,2,2,1,4,
-                2,4,5,0,3,2,5,4,5,2,3,2,1,1,2,5,1,3,3,0,3,0,2,4,3,3,2,4,1,4,1,4,5,4,5,5,4,1,2,2,
-                0,3,1,5,3,2,2,0,2,3,3,1,5,5,1,1,1,2,1,2,0,5,0,4,0,0,0,1,4,4,0,0,4,2,5,3,5,1,0,5,
-                2,0,1,3,5,5,3,3,0,0,5,0,5,4,4,2,0,5,4,2,5,0,5,2,0,1,3,5,1,3,0,5,2,2,0,5,1,2,5,0,
-                5,2,5,2,3,1,1,4,0,0,1,5,5,2,2,1,5,4,5,1,3,3,3,5,5,3,1,5,5,1,3,0,4,1,3,5,5,3,2,3,
-                1,1,5,1,2,4,4,4,4,0,0,1,4,4,5,1,1,1,5,5,3,1,4,3,1,3,5,5,3,0,0,3,1,5,1,4,4,4,1,5,
-                4,5,5,1,0,2,3,1,1,4,3,0,5,3,3,1,3,5,5,4,4,4,0,4,4,2,0,4,4,1,4,3,1,5,0,0,4,2,2,3,
-                3,5,0,4,3,2,4,2,4,5,4,5,0,5,0,1,1,3,0,3,1,1,3,1,3,4,3,4,4,1,2,3,4,0,2,1,5,2,4,2,
-                2,0,3,4,0,5,2,3,4,5,5,3,3,3,3,3,5,2,4,5,5,0,0,1,1,3,0,0,5,2,3,0,0,2,2,0,0,5,1,1,
-                2,5,0,4,5,2,1,4,1,2,4,0,5,0,2,1,5,3,0,1,0,0,3,5,1,4,1,1,5,5,4,0,5,5,1,1,5,2,5,5,
-                2,4,4,5,2,2,5,3,1,4,2,2,4,4,3,3,1,3,1,1,3,0,3,2,2,4,0,3,0,0,5,4,3,4,2,2,4,0,4,3,
-                5,5,3,2,0,0,4,3,0,3,4,3,0,5,1,3,3,4,2,4,4,3,2,4,4,2,2,1,3,1,5,3,1,5,1,5,1,2,5,5,
-                3,2,0,3,2,4,5,4,5,1,0,0,4,0,5,0,4,4,1,3,1,4,2,2,2,1,1,1,1,3,2,4,4,5,2,3,3,0,3,5,
-                5,3,4,3,2,2,4,2,5,5,2,3,4,4,2,5,4,0,0,3,3,1,3,3,3,2,1,1,1,2,1,4,2,0,4,0,4,4,2,5,
-                0,3,5,0,0,0,0,2,1,4,2,5,4,3,3,3,3,4,5,1,2,5,4,3,3,5,1,3,0,1,3,0,0,5,2,4,3,2,4,0,
-                4,1,5,3,4,4,3,0,2,3,2,0,4,0,1,1,1,0,3,2,2,3,4,4,4,2,5,0,5,1,3,3,5,2,1,5,5,0,0,0,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=71;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=46;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=36;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=21;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level4L(){
-        int[] Tab0 = {1,4,3,0,2,3,2,0,3,2,3,1,3,4,3,4,2,0,3,2,5,4,4,2,0,1,4,2,5,3,3,1,1,5,4,2,1,1,3,5,
-                2,1,3,0,3,3,1,4,5,3,2,3,4,3,1,5,1,0,4,0,4,2,0,3,4,3,4,2,5,5,1,4,5,3,4,5,4,0,4,0,
-                3,2,4,4,5,2,1,1,2,0,4,5,4,1,5,3,5,4,5,2,5,3,5,2,2,0,1,2,3,2,1,5,2,3,2,4,5,5,2,3,
-                4,3,5,0,0,4,0,0,0,2,4,3,4,2,5,1,4,0,5,4,1,2,4,3,3,2,0,2,3,1,2,3,5,3,1,1,5,4,2,4,
-                5,1,2,0,4,3,5,1,1,1,1,2,0,3,2,4,1,3,5,2,0,5,3,2,4,0,5,1,0,3,4,3,5,1,1,0,2,3,5,5,
-                1,1,4,4,1,0,2,1,2,0,2,2,4,2,3,4,4,3,5,5,3,0,4,0,2,4,0,5,1,4,3,1,1,1,3,5,1,0,1,4,
-                4,3,0,3,1,3,5,3,3,4,3,3,2,1,4,4,2,4,5,3,1,1,4,0,3,3,4,5,4,4,2,5,5,2,0,0,3,4,2,2,
-                1,4,0,5,1,5,5,3,5,5,0,5,3,3,0,5,3,4,2,2,1,5,1,1,1,1,5,3,3,5,4,4,5,3,0,2,1,5,3,1,
-                3,1,1,3,0,3,5,5,0,0,0,2,3,4,5,5,5,3,3,5,3,5,2,5,3,5,2,1,0,4,4,4,5,3,4,2,3,0,5,5,
-                2,4,2,5,4,1,4,3,5,2,3,4,4,1,3,1,1,5,2,4,0,1,2,3,4,4,0,1,2,3,2,2,3,2,3,3,3,1,0,3,
-                3,1,0,3,2,2,1,5,3,3,3,0,0,1,3,1,0,4,5,4,3,3,1,4,0,3,1,3,3,4,1,0,0,2,3,3,2,2,5,1,
-                5,3,0,5,3,5,5,0,1,0,4,4,5,3,0,1,2,2,2,0,2,1,0,0,2,1,5,0,1,4,2,2,0,5,1,2,2,2,4,2,
-                1,0,4,3,3,4,5,5,4,5,5,5,5,0,3,4,3,3,2,4,3,1,0,2,0,4,1,2,2,5,5,2,0,1,2,0,0,1,0,4,
-                5,3,1,2,5,2,5,0,0,0,3,4,5,2,3,3,5,5,5,1,5,5,2,3,3,1,1,4,1,1,5,4,4,3,2,3,4,2,5,0,
-                2,5,3,1,4,3,5,4,0,4,4,3,0,5,1,1,5,1,1,3,4,3,4,3,0,1,2,5,3,1,0,5,2,3,1,1,5,2,0,5,
-                4,1,1,1,4,1,5,0,1,5,1,1,4,4,3,4,0,1,1,0,5,1,5,0,0,2,2,1,4,2,5,5,3,2,5,0,5,2,3,2,
-                3,3,2,5,2,0,3,1,0,0,2,1,4,2,4,3,3,4,2,4,0,2,4,5,4,5,5,0,5,4,1,2,3,5,3,0,4,2,0,4,
-                2,3,4,1,1,1,2,2,2,3,0,2,0,1,3,4,4,3,3,0,5,2,4,5,1,5,1,0,3,2,2,4,0,4,3,0,5,1,3,0,
-                3,3,3,5,0,2,4,1,0,1,2,0,3,0,0,1,0,3,3,4,4,5,0,5,2,3,5,3,3,0,1,1,5,2,4,0,3,0,2,5,
-                4,1,1,3,5,1,5,4,3,5,3,2,5,3,0,3,3,4,0,4,4,4,2,3,3,0,4,4,0,4,3,0,2,4,4,2,3,3,2,3,
-                5,3,4,5,1,3,5,3,1,2,3,4,2,4,1,5,0,3,1,3,5,0,4,4,0,3,0,5,0,4,5,0,2,5,1,4,5,0,1,4,
-                4,3,3,5,3,5,4,2,4,3,2,2,1,2,4,1,3,2,3,1,3,3,0,5,4,1,0,3,5,1,4,3,3,2,4,4,4,0,1,4,
-                1,5,0,5,1,3,0,1,5,2,1,2,1,2,5,1,3,4,5,1,4,5,4,3,2,3,0,4,4,1,4,5,3,5,2,1,3,1,1,0,
-                2,5,2,2,0,3,4,5,1,2,5,4,3,1,0,0,4,3,0,1,0,5,3,2,3,0,1,1,4,1,3,0,3,3,0,1,5,2,5,3,
-                3,2,4,4,0,4,0,0,5,4,4,0,0,0,1,0,0,2,2,1,3,5,5,2,4,4,0,5,3,3,0,3,0,2,5,0,4,1,5,3,
-                1,0,1,5,5,5,2,4,3,2,2,1,0,2,3,4,1,2,4,2,3,1,0,2,3,3,3,3,4,5,1,1,1,5,2,2,4,2,4,5,
-                0,4,5,0,2,2,1,0,0,5,3,1,3,0,3,1,2,3,4,4,4,5,2,3,1,5,5,4,5,0,3,0,4,4,2,3,4,4,5,3,
-                2,1,4,1,1,4,5,4,5,5,5,1,1,0,1,1,1,4,1,4,5,0,3,3,2,5,0,4,3,5,4,0,2,2,0,1,5,0,4,5,
-                2,0,0,0,0,0,4,3,5,0,5,1,5,3,4,4,4,3,5,0,0,2,2,5,1,4,0,3,1,5,5,3,2,4,5,4,2,4,5,2,
-                3,1,4,5,2,2,2,5,4,5,2,3,1,4,1,2,3,1,0,1,0,0,4,0,0,3,4,2,4,4,4,3,4,5,3,0,2,4,4,2,
-                4,5,5,2,2,4,1,1,5,1,5,5,1,1,5,0,1,1,1,5,4,5,3,0,3,2,3,3,4,4,0,1,2,3,0,2,2,1,0,1,
-                4,2,2,0,0,3,2,2,1,2,3,1,2,3,4,1,1,2,1,5,3,3,0,2,1,3,5,3,4,0,5,1,4,2,2,1,2,3,1,1,
-                4,0,4,4,5,3,1,5,2,2,3,5,1,4,3,2,3,1,4,4,3,0,4,3,3,5,4,1,1,4,5,5,2,5,1,5,0,4,1,4,
-                4,0,4,5,3,2,4,3,1,4,4,5,5,4,2,5,2,4,2,5,4,2,5,0,4,0,1,2,2,3,2,4,1,3,5,3,0,4,5,1,
-                1,0,3,0,3,3,0,2,0,1,1,1,4,5,3,0,2,0,3,2,4,2,2,0,5,1,2,2,0,2,3,3,3,4,0,3,0,3,3,0,
-                0,1,1,1,4,4,2,2,4,3,0,0,0,3,2,3,4,1,0,3,2,5,4,0,0,2,4,2,2,1,0,1,1,3,4,1,1,4,5,5,
-                5,4,4,2,0,3,1,5,4,5,5,2,1,1,1,0,0,0,4,1,0,5,5,5,0,1,2,2,1,2,0,3,1,4,0,5,3,5,1,0,
-                0,1,5,1,5,1,4,5,3,1,5,3,1,0,3,0,4,4,1,5,0,5,4,4,4,1,1,5,3,3,1,3,4,1,5,1,5,1,2,3,
-                1,5,5,1,2,2,4,4,5,5,2,3,5,2,2,3,1,0,0,3,4,1,3,4,2,2,2,3,4,0,2,1,1,5,1,5,1,0,4,5,
-                1,0,3,0,1,2,2,3,4,1,0,2,0,2,3,2,3,3,2,5,0,3,0,2,1,2,2,5,1,5,1,3,5,5,3,2,3,5,2,2};
-        int[] Tab2 ={5,4,1,0,4,1,2,2,3,1,0,5,5,1,1,1,3,2,2,0,0,1,2,0,1,0,2,0,5,0,3,0,1,3,3,5,2,0,3,3,
-                4,2,5,4,1,4,0,1,5,4,0,1,4,3,5,5,1,1,5,2,2,1,2,1,4,4,3,1,3,0,4,4,5,3,0,1,5,2,0,4,
-                4,4,0,2,5,0,2,4,1,0,5,4,4,0,2,5,4,4,0,1,5,5,3,2,5,2,1,0,3,3,5,3,0,2,1,0,5,0,2,3,
-                4,3,3,2,3,2,4,3,3,1,0,1,4,4,2,0,2,5,3,0,3,5,0,0,3,2,0,2,1,0,1,0,1,4,0,2,4,2,0,5,
-                5,1,0,1,0,2,1,0,4,5,1,4,5,1,3,5,5,4,4,3,2,2,1,0,1,5,1,1,2,3,3,5,4,0,1,1,5,4,0,0,
-                0,1,0,3,4,5,2,3,3,0,2,4,1,5,4,5,5,3,4,2,2,2,5,1,3,4,4,2,1,3,3,4,4,5,3,3,3,2,3,1,
-                5,0,2,5,4,3,2,5,0,3,2,5,0,2,5,3,1,5,0,2,0,1,5,3,0,4,1,4,5,5,5,3,5,4,3,1,4,3,2,0,
-                2,3,0,1,5,4,5,1,3,5,1,5,0,1,2,3,4,5,5,5,4,3,2,5,4,0,2,1,4,4,0,2,1,4,3,1,2,0,4,5,
-                3,5,0,3,3,3,4,0,4,4,5,3,1,5,1,0,4,2,5,3,0,5,0,1,0,0,4,1,3,5,1,0,3,2,3,3,1,4,1,4,
-                3,2,0,3,1,4,4,4,3,2,0,5,1,1,4,3,5,0,1,5,1,1,0,1,5,4,2,2,4,1,3,3,0,1,5,1,0,3,3,3,
-                0,0,0,0,4,3,3,4,5,4,3,0,2,5,5,1,2,4,1,5,2,5,5,1,3,3,4,5,1,3,1,4,5,1,5,3,0,0,5,0,
-                2,5,1,3,3,3,5,5,3,2,0,0,1,2,5,1,4,2,2,2,1,1,3,4,4,1,4,5,3,1,0,1,0,5,4,0,4,4,0,4,
-                5,3,2,1,5,1,5,3,1,4,3,0,2,0,1,3,4,5,4,0,5,5,4,3,4,0,3,0,1,0,0,0,2,1,5,1,5,5,1,3,
-                2,3,2,0,5,3,4,3,5,4,5,2,2,3,5,3,5,4,1,3,0,0,1,2,2,3,0,5,3,3,3,2,2,3,1,3,3,5,3,3,
-                5,0,4,4,3,0,2,1,0,3,1,1,4,4,5,2,5,5,4,0,1,0,1,1,5,0,0,1,1,3,2,5,2,0,5,1,4,2,2,4,
-                4,1,5,4,0,3,4,4,1,1,1,0,0,1,0,4,1,2,4,5,3,5,2,1,3,3,0,3,1,4,5,0,4,2,2,2,5,0,3,5,
-                1,3,4,1,3,5,2,1,3,1,3,5,3,4,1,2,3,5,2,3,3,0,0,5,5,0,3,3,3,0,2,5,4,5,1,0,3,5,3,2,
-                3,1,2,4,5,2,4,1,3,2,0,3,5,1,2,0,1,1,2,5,3,0,3,5,4,5,4,2,0,0,2,0,2,4,1,3,4,0,3,0,
-                1,2,0,1,0,5,3,5,4,4,2,2,4,3,2,5,5,3,1,3,1,5,0,4,2,0,0,4,4,0,2,5,4,5,5,1,4,5,0,1,
-                5,5,0,0,4,2,1,5,3,5,0,3,1,3,5,4,1,3,3,3,5,1,2,3,1,4,2,5,4,3,3,0,1,5,3,4,3,1,3,4,
-                2,5,2,1,0,5,2,4,3,4,1,3,0,2,1,0,0,2,4,1,5,1,5,4,4,2,0,0,4,3,4,5,3,3,5,4,5,4,1,5,
-                2,3,2,3,2,2,1,5,5,3,4,0,1,4,3,0,1,1,2,5,5,4,2,4,0,3,0,2,1,4,4,3,5,3,5,1,0,0,4,5,
-                4,0,5,3,1,3,0,3,1,2,0,0,2,1,3,1,1,4,2,2,0,2,4,0,3,1,3,0,1,1,0,5,1,0,1,3,2,5,4,3,
-                1,4,4,5,1,4,1,3,1,2,0,3,1,0,1,2,2,5,1,4,3,0,1,0,3,3,1,2,3,3,0,0,5,0,5,2,0,0,4,4,
-                0,0,1,3,1,1,4,3,4,4,3,3,2,2,5,1,5,0,2,2,4,4,4,3,1,4,2,2,5,5,4,1,3,5,5,2,2,5,2,3,
-                3,5,2,1,3,0,5,5,1,3,3,1,1,3,2,0,3,5,2,0,5,2,4,0,4,5,1,3,1,3,4,0,5,0,5,1,5,1,5,5,
-                0,0,5,2,5,4,0,0,2,0,4,4,3,3,2,5,1,5,0,1,3,4,1,0,3,5,3,2,5,4,3,0,3,2,0,0,4,3,2,4,
-                2,1,0,5,3,5,2,1,4,0,3,4,1,5,5,3,3,2,1,3,2,1,0,4,5,3,1,4,2,1,5,5,3,0,1,4,2,3,3,5,
-                5,2,3,1,1,4,3,5,4,5,0,1,0,0,5,2,0,4,1,1,3,1,5,2,4,2,4,1,4,4,3,3,3,0,2,5,2,5,3,4,
-                0,5,5,2,4,4,0,5,0,1,5,5,3,3,0,0,1,2,2,4,4,3,4,5,1,5,3,2,3,1,1,3,3,5,2,1,5,3,2,4,
-                5,2,4,4,2,2,2,4,0,0,4,0,3,1,0,2,1,1,5,4,0,3,3,2,2,1,0,0,3,0,1,1,2,5,2,2,0,2,1,1,
-                4,3,0,0,3,1,3,2,5,4,3,4,2,5,5,5,3,5,0,4,2,0,4,2,1,0,2,0,5,3,0,4,1,0,5,0,3,2,3,4,
-                3,1,4,5,0,5,2,5,0,3,2,2,1,1,3,3,0,3,2,1,5,2,5,1,3,3,2,3,4,1,0,4,3,5,1,5,4,4,4,5,
-                1,2,5,2,0,2,3,4,0,5,2,2,4,4,2,1,3,3,0,0,1,4,1,2,2,2,5,1,3,5,1,3,0,2,1,3,3,1,5,4,
-                1,2,2,5,0,2,5,0,3,1,0,1,1,4,0,5,4,3,4,2,4,5,3,1,0,1,2,1,0,1,5,3,4,3,4,4,1,4,4,2,
-                5,5,2,2,4,5,1,1,2,3,4,0,3,4,2,4,4,4,0,2,1,3,1,2,5,2,1,3,1,2,5,2,1,0,3,4,4,0,2,5,
-                0,4,1,1,3,5,3,4,0,1,3,0,2,2,2,5,3,1,5,2,0,2,1,3,0,4,2,0,4,5,5,0,4,3,4,2,3,0,0,1,
-                2,1,2,3,5,1,1,0,3,3,5,3,0,2,2,1,4,1,2,4,1,1,5,4,4,2,3,2,3,2,3,4,4,2,3,3,0,0,4,2,
-                4,0,4,5,2,3,2,4,3,5,0,3,4,2,2,5,4,2,3,1,0,5,2,4,2,2,5,3,4,1,4,3,4,3,0,4,5,2,1,3,
-                0,2,5,4,4,5,2,3,2,3,1,1,1,0,3,1,5,1,3,2,5,3,5,4,1,1,4,3,3,0,5,2,3,4,0,5,5,0,5,5,
-        };
-        int[] Tab3 ={0,4,2,3,3,5,5,2,1,1,3,5,5,5,1,1,3,5,4,0,0,5,3,1,4,2,5,0,2,4,1,0,4,2,5,2,4,1,2,5,
-                2,5,4,1,0,4,4,4,3,4,2,1,1,4,4,3,5,3,4,0,0,4,2,0,1,0,5,0,5,4,0,1,1,0,2,5,1,4,4,3,
-                4,1,0,4,1,3,2,2,5,2,2,4,3,5,1,1,1,4,3,1,2,5,1,4,1,3,5,3,2,3,0,5,1,1,0,3,4,5,1,1,
-                2,3,3,4,5,0,1,2,1,2,1,1,4,1,2,5,1,0,0,2,3,0,0,0,1,3,3,5,2,5,5,4,3,0,4,1,2,5,0,0,
-                3,2,1,1,5,4,0,1,2,5,3,0,4,4,1,5,1,4,0,4,5,0,5,5,2,5,4,3,2,3,0,1,2,5,4,1,3,3,1,4,
-                2,1,0,5,3,0,4,2,0,0,1,0,1,3,2,2,2,2,5,2,1,1,2,4,2,1,2,5,2,1,0,5,3,5,0,3,0,1,3,4,
-                3,0,2,1,5,2,0,0,1,4,3,1,5,4,3,2,0,5,5,5,5,5,1,1,2,1,0,5,5,5,1,3,3,4,2,1,3,4,3,3,
-                1,1,2,2,5,3,5,1,5,4,2,0,0,2,3,2,0,0,0,2,1,3,2,3,2,4,2,1,4,4,5,1,3,3,3,3,4,3,2,0,
-                0,1,2,4,2,3,1,3,0,2,0,3,4,4,5,4,3,5,2,0,5,5,2,3,0,0,3,5,4,4,1,2,2,2,5,3,0,0,5,1,
-                2,0,1,2,5,5,5,1,0,1,2,4,0,2,2,4,3,4,4,4,4,3,3,2,4,4,5,2,4,0,1,4,1,0,3,2,2,3,0,5,
-                4,3,2,5,4,2,2,1,5,0,2,0,4,3,2,2,3,3,5,5,5,2,0,1,3,3,1,0,0,2,4,3,3,2,5,3,0,3,2,3,
-                2,0,2,4,1,3,1,2,2,2,3,5,0,1,3,5,2,2,1,0,3,5,4,1,0,5,4,0,4,0,5,4,2,2,3,2,1,0,3,5,
-                2,2,4,4,5,2,1,0,5,5,1,2,2,1,5,5,4,5,1,3,4,4,4,5,2,0,3,0,5,4,4,5,1,5,4,0,4,5,0,3,
-                2,0,2,3,4,5,1,4,2,4,0,2,2,2,1,5,3,0,4,5,3,0,2,2,0,2,5,5,3,5,4,1,1,0,5,2,5,0,3,4,
-                4,5,5,2,4,3,5,0,0,3,2,1,3,5,2,0,5,2,2,5,0,3,0,2,3,3,2,2,3,4,2,1,2,2,1,1,0,1,3,4,
-                3,1,0,4,1,2,5,3,5,3,2,3,4,0,1,5,3,2,1,4,0,2,0,3,4,5,5,1,2,1,3,2,3,4,5,0,1,2,5,3,
-                2,3,1,2,4,1,1,1,4,1,1,3,2,3,5,2,4,0,1,3,5,0,1,0,2,4,1,0,1,1,3,2,1,3,5,4,4,4,4,5,
-                1,2,2,0,3,0,4,0,1,5,2,2,2,1,4,0,5,5,0,0,1,0,2,4,0,0,5,5,5,2,0,5,0,5,1,5,3,4,0,3,
-                2,1,4,3,5,3,5,0,0,3,3,0,1,3,0,3,2,0,1,1,0,4,1,4,5,3,4,2,0,1,1,1,2,4,1,5,1,3,2,1,
-                2,0,1,3,3,4,1,5,1,2,2,2,1,5,1,1,5,1,3,0,0,0,2,4,2,2,4,3,2,3,3,0,4,3,5,3,1,3,4,2,
-                4,4,4,3,3,2,1,0,2,5,1,5,2,2,2,2,3,5,1,4,5,0,3,0,5,4,4,2,0,4,0,2,0,1,1,2,4,1,1,4,
-                0,5,2,2,3,2,1,5,1,5,1,3,4,1,5,5,2,1,1,1,2,2,3,5,0,1,4,0,4,5,4,0,4,3,5,5,3,5,5,3,
-                3,1,2,1,0,2,5,2,4,5,0,4,0,5,1,5,3,1,3,5,2,5,5,4,4,5,5,0,1,4,5,1,1,1,4,5,3,2,4,0,
-                4,0,3,3,0,0,5,0,4,2,5,1,2,0,0,3,1,2,0,0,3,4,2,0,4,5,5,4,3,1,1,4,3,0,1,1,5,2,4,3,
-                2,4,5,0,5,3,4,0,2,2,0,5,1,1,4,0,0,5,5,1,0,3,2,0,4,1,1,0,5,5,3,3,1,3,1,0,1,3,0,3,
-                2,1,1,3,2,2,1,0,2,5,3,5,0,1,1,2,1,1,2,4,3,0,0,0,2,0,5,0,2,0,2,1,5,5,2,4,2,0,4,4,
-                1,2,4,0,5,0,5,2,3,4,3,1,0,5,5,5,3,3,5,1,2,1,2,3,3,2,0,4,4,1,2,5,4,4,3,0,5,2,1,4,
-                4,2,3,4,2,2,1,4,3,5,4,3,5,1,5,0,5,5,3,4,4,0,5,2,4,0,2,2,0,5,5,5,3,2,2,3,1,1,3,4,
-                1,5,1,2,0,3,2,4,0,4,5,1,4,0,2,2,0,5,4,0,0,1,0,2,0,0,4,0,3,2,0,4,3,0,2,0,3,2,1,0,
-                5,3,2,5,2,0,2,3,5,4,5,3,3,1,3,1,4,0,0,4,2,4,0,1,4,5,3,1,5,2,0,1,3,2,5,2,2,5,1,0,
-                2,5,3,3,0,0,4,5,1,2,3,3,2,1,1,2,4,4,2,0,4,0,4,5,4,1,3,2,2,0,0,0,0,5,5,4,1,2,3,4,
-                0,2,5,0,1,0,4,5,5,2,2,3,0,1,2,3,0,1,4,3,5,0,3,3,3,4,0,2,3,3,1,5,1,1,2,3,4,4,2,4,
-                2,3,2,5,4,0,3,0,2,4,2,4,5,3,4,2,2,1,0,3,0,2,1,3,1,1,3,0,0,2,1,4,4,3,0,4,4,2,1,4,
-                5,2,4,5,1,2,3,2,5,1,1,0,5,1,5,1,3,4,2,1,3,5,1,4,4,4,2,2,5,0,4,4,4,5,5,2,5,0,4,4,
-                1,0,2,2,2,3,4,2,2,2,3,2,2,3,1,1,5,4,3,4,2,0,1,5,3,3,1,0,5,2,5,0,4,3,3,5,2,3,3,4,
-                3,5,5,4,2,1,2,4,2,4,4,0,5,1,5,5,5,4,4,3,4,3,5,0,3,3,3,1,0,5,4,1,3,0,1,5,3,2,0,5,
-                4,4,1,4,5,4,2,5,5,1,4,5,0,5,1,5,2,2,4,4,2,2,5,2,5,5,1,4,0,1,2,3,2,4,2,2,3,2,5,2,
-                4,0,0,3,2,3,0,1,2,0,2,4,2,3,3,0,1,3,5,5,3,3,3,1,3,0,4,3,1,4,1,2,4,3,5,4,3,0,2,2,
-                1,5,2,0,0,1,3,4,5,5,0,2,4,4,1,3,0,0,5,5,5,4,5,2,2,2,5,3,1,3,5,4,4,3,4,4,2,5,5,1,
-                0,2,2,4,3,5,4,1,4,3,3,2,5,3,4,5,2,3,2,0,3,5,5,4,0,3,1,3,2,0,2,1,0,4,5,3,2,5,1,4,
-        };
-
-        int[] Tab1 ={1,2,4,0,3,4,3,0,5,2,3,1,0,2,5,1,2,0,1,5,4,5,1,2,5,2,4,3,5,3,5,4,5,3,1,4,0,5,2,1,
-                3,0,3,2,1,3,5,3,2,3,2,3,4,2,4,5,1,1,4,2,5,2,3,1,1,4,2,0,2,5,0,3,0,1,5,3,2,0,5,1,
-                3,3,4,0,5,0,1,4,0,5,4,0,3,1,2,3,4,0,5,1,2,4,2,5,3,1,5,4,2,5,5,3,2,2,3,1,1,1,1,2,
-                4,1,2,3,0,4,0,0,2,5,2,2,3,2,3,3,0,4,5,5,1,3,2,4,3,2,3,4,5,3,4,5,5,3,4,5,2,3,5,4,
-                0,5,3,5,2,2,3,0,0,1,5,5,2,5,1,4,4,1,3,0,2,0,4,5,0,1,5,4,2,0,1,0,1,1,1,1,5,1,5,3,
-                0,5,2,2,0,1,0,0,5,5,1,5,4,3,2,5,3,2,3,3,3,5,2,4,0,1,2,0,3,4,0,1,0,4,3,1,5,0,4,1,
-                0,3,1,0,5,1,5,1,0,5,1,1,0,5,2,2,0,4,0,1,1,5,0,1,4,1,2,4,4,4,4,4,1,5,1,3,2,4,4,0,
-                4,2,5,4,0,4,5,1,5,0,4,0,5,2,4,4,5,0,3,5,4,5,2,2,1,5,4,5,1,0,2,4,4,1,5,3,3,1,5,3,
-                4,3,4,0,2,2,5,3,4,1,4,3,0,2,3,4,0,1,2,4,3,3,1,4,0,5,2,0,0,3,4,3,1,4,2,1,0,4,5,5,
-                5,5,3,0,5,2,2,3,4,2,5,4,3,1,1,4,5,2,4,0,5,0,3,4,4,2,0,1,2,0,5,3,3,5,1,1,2,0,1,3,
-                5,3,4,1,3,2,1,5,5,2,1,3,2,1,2,1,3,5,1,0,2,0,0,4,4,3,2,1,0,0,3,1,5,0,5,5,2,5,4,2,
-                4,0,1,2,2,4,3,0,3,5,0,4,0,5,0,3,1,5,3,2,5,2,5,3,3,2,4,2,1,4,3,4,1,1,0,5,0,4,1,1,
-                2,3,0,1,3,0,0,2,2,0,4,4,2,1,2,4,3,5,2,0,1,4,3,2,0,3,3,2,4,0,1,3,0,5,5,1,1,1,1,0,
-                0,4,1,3,2,0,2,5,1,3,1,3,3,0,2,5,0,4,1,1,3,0,4,1,5,0,4,4,5,5,2,5,4,1,3,5,5,4,2,1,
-                1,3,1,5,0,2,5,2,0,1,0,0,2,2,0,2,5,0,2,5,5,1,3,2,0,4,0,4,2,5,3,2,1,5,1,5,3,1,1,4,
-                1,2,2,5,4,5,1,5,1,5,3,0,5,3,2,3,2,0,0,0,5,1,3,1,0,4,5,5,4,5,0,2,2,3,3,4,2,0,5,4,
-                4,2,1,4,0,5,5,1,3,3,5,1,0,1,5,1,0,1,3,2,2,4,5,5,1,1,5,1,3,1,5,1,0,4,3,3,2,0,3,3,
-                5,5,3,5,3,5,0,1,5,3,0,0,4,2,1,2,1,1,1,3,5,3,3,1,2,3,1,5,0,5,2,4,4,2,1,5,4,4,1,2,
-                5,1,2,4,4,3,0,3,2,3,3,0,1,4,0,1,5,1,1,3,4,2,2,1,0,3,2,4,2,1,0,5,4,4,1,0,5,3,1,1,
-                0,3,3,1,4,3,0,4,1,5,1,5,1,0,2,5,3,5,0,2,3,2,5,3,5,4,4,1,1,1,3,2,3,0,4,2,3,5,2,4,
-                3,1,5,5,4,5,1,3,1,0,3,2,2,2,1,5,4,1,0,2,0,2,2,1,4,0,0,1,5,2,5,2,2,4,0,5,1,2,4,4,
-                2,4,1,2,0,5,1,4,5,1,4,3,3,5,5,2,3,4,5,3,0,2,5,5,4,0,2,0,1,4,0,1,1,0,4,5,4,0,4,5,
-                2,4,5,3,5,2,1,0,5,2,4,4,3,2,1,4,5,1,5,5,5,5,1,3,0,1,3,1,3,0,3,5,5,0,0,3,2,3,0,2,
-                5,0,0,3,5,5,4,5,1,0,4,0,2,1,2,1,1,5,5,3,3,1,4,1,0,5,0,5,0,5,3,3,2,3,2,5,3,3,5,2,
-                4,1,0,1,3,3,2,5,3,4,5,1,1,5,2,2,1,0,0,5,1,4,5,5,5,0,4,4,4,3,2,4,3,5,1,4,3,4,3,4,
-                1,0,1,5,0,1,2,4,3,3,0,4,0,5,4,4,2,3,3,0,4,2,0,4,0,5,0,5,3,4,1,0,1,2,5,1,3,0,2,0,
-                2,4,0,3,4,1,5,1,4,2,4,1,4,4,4,5,5,2,4,5,3,4,5,0,2,3,5,3,3,0,1,2,4,0,0,4,5,2,1,5,
-                5,2,1,3,1,1,0,0,0,1,4,3,2,0,5,0,2,5,2,1,5,2,2,3,4,5,4,3,1,3,1,0,1,1,5,2,4,4,5,4,
-                2,3,4,1,1,1,3,3,1,4,1,5,1,2,5,5,2,5,1,0,2,4,4,0,2,5,5,2,0,0,0,2,3,2,4,4,4,0,3,3,
-                0,3,5,1,2,1,1,1,1,5,5,0,1,4,2,2,1,5,0,3,1,5,3,4,2,0,4,3,2,3,2,2,1,2,2,3,3,4,1,2,
-                3,2,2,1,1,3,3,1,0,4,2,5,0,0,1,0,2,5,1,4,1,3,1,1,4,5,2,1,0,3,5,5,2,1,3,2,4,4,2,4,
-                5,2,1,1,0,1,1,5,4,3,1,2,1,2,5,4,5,3,3,0,3,5,4,3,4,1,2,3,0,2,0,3,2,3,5,3,0,1,5,5,
-                5,0,0,3,2,4,4,5,4,1,3,0,5,0,1,5,4,4,0,5,0,1,2,3,3,4,5,4,1,1,0,5,5,4,1,1,0,1,5,4,
-                3,1,5,0,2,0,2,2,4,2,1,4,0,4,4,4,3,0,4,0,0,3,5,5,5,0,4,0,2,5,5,5,2,5,0,2,3,4,4,1,
-                3,5,3,4,5,3,1,5,2,0,3,0,0,1,0,2,5,4,3,2,4,2,3,1,0,0,1,1,1,1,2,5,5,1,5,5,2,0,4,0,
-                2,1,0,2,1,2,0,4,3,2,4,3,1,1,5,0,1,3,0,5,4,0,2,3,4,1,1,5,1,0,3,0,3,0,4,0,2,1,2,0,
-                3,1,0,3,0,5,1,4,3,0,3,5,5,3,1,4,5,1,1,0,1,2,5,2,5,5,2,5,2,2,3,5,0,0,4,4,0,1,3,4,
-                4,3,4,2,0,4,4,2,0,3,3,0,1,3,5,5,4,2,4,5,5,4,4,0,4,1,3,4,2,3,5,5,3,5,2,4,5,2,4,4,
-                5,4,5,1,4,1,2,4,4,1,2,5,0,5,5,0,1,2,3,3,4,5,2,2,0,0,2,5,2,2,0,0,0,1,0,5,1,4,4,2,
-                4,4,2,3,3,0,4,0,3,3,5,3,3,3,1,5,5,2,5,5,3,5,0,1,1,4,1,4,1,1,4,4,0,1,4,1,0,4,0,1,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=71;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=45;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=32;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=22;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level5L(){
-        int[] Tab0 = {2,0,4,3,2,4,1,4,4,4,3,5,5,0,2,3,4,3,1,4,3,3,4,4,0,5,5,4,3,4,3,1,3,0,4,5,0,1,3,3,
-                2,4,3,0,4,1,4,1,0,0,3,4,3,3,3,4,2,2,5,5,1,5,3,3,0,1,2,0,5,4,1,2,3,4,2,3,1,5,2,3,
-                1,2,0,2,2,0,0,0,3,1,1,0,2,5,5,1,4,0,4,4,3,5,3,2,1,5,5,0,1,5,4,1,5,3,5,4,0,4,2,1,
-                4,3,3,2,1,5,3,2,4,4,1,3,3,3,1,3,1,1,3,5,0,5,2,5,3,2,2,4,3,2,4,5,4,4,2,1,3,2,3,5,
-                3,1,5,5,5,1,3,3,1,2,0,5,5,2,1,0,4,0,3,3,1,2,0,1,0,4,5,1,0,1,3,2,1,1,0,2,2,1,0,5,
-                4,2,1,2,0,3,4,5,3,5,1,1,4,0,4,4,5,1,3,0,1,5,3,0,4,3,0,0,2,0,5,1,3,3,2,0,1,5,4,2,
-                0,0,4,4,0,0,3,0,0,5,5,2,1,2,5,2,5,4,5,1,5,3,3,3,5,3,1,2,0,3,3,2,5,3,2,1,3,5,2,0,
-                5,4,0,4,2,5,1,5,2,2,5,2,2,3,0,3,3,2,3,2,1,1,1,2,3,1,3,2,3,3,1,1,5,5,0,0,4,3,1,0,
-                3,0,4,0,5,1,2,2,0,3,0,2,4,2,1,3,5,1,5,3,4,3,1,2,2,4,1,0,5,0,5,3,1,5,4,1,1,2,2,5,
-                3,0,1,3,1,3,4,3,2,4,4,2,0,5,1,0,1,1,0,3,1,3,2,2,2,1,5,1,2,3,3,1,3,3,5,3,4,1,4,3,
-                1,4,5,0,5,2,5,3,2,2,4,5,4,4,2,2,1,3,3,1,0,4,4,0,5,3,5,4,5,5,1,4,4,2,2,1,3,5,3,3,
-                2,3,5,4,2,5,2,0,1,2,4,0,5,4,5,3,0,2,2,2,0,0,4,0,3,0,1,3,3,4,2,5,4,5,5,1,3,1,5,5,
-                3,0,1,0,2,4,0,3,3,3,3,4,3,2,4,4,5,2,3,1,1,2,3,4,3,0,3,4,1,5,1,4,0,1,2,2,1,2,2,4,
-                2,2,1,5,0,4,1,3,1,2,2,3,4,2,2,1,0,4,5,5,3,3,0,5,5,3,5,1,1,1,1,3,4,0,3,4,1,5,0,4,
-                0,4,0,3,3,3,4,0,4,3,5,1,0,4,1,0,3,2,1,2,1,1,0,1,3,2,2,1,1,2,0,3,0,3,0,4,2,4,2,4,
-                0,1,2,4,2,1,5,0,5,1,1,1,5,4,4,4,0,0,0,2,4,4,5,2,2,5,3,0,2,3,2,0,3,5,1,2,0,5,4,3,
-                4,4,5,4,4,5,1,3,3,5,4,3,3,3,1,0,5,3,3,1,0,1,4,2,0,5,2,0,0,3,1,1,1,1,5,3,3,3,2,3,
-                3,2,3,5,3,2,1,3,2,2,2,0,0,1,1,1,4,5,1,0,0,2,5,0,1,2,3,3,0,0,3,2,4,1,4,1,4,4,0,1,
-                3,5,3,1,0,0,0,0,2,3,1,0,4,1,2,3,1,1,2,2,1,2,3,5,2,2,0,2,3,0,4,4,2,4,3,2,4,5,1,4,
-                4,3,0,5,4,4,2,3,4,3,1,0,4,1,1,5,0,4,0,4,5,1,0,3,4,4,0,1,4,1,4,3,1,4,4,5,3,0,4,3,
-                4,2,4,2,5,0,3,1,5,5,3,1,4,3,1,1,0,5,2,3,2,1,4,2,1,0,4,2,3,2,1,5,4,2,1,0,5,4,5,1,
-                4,5,2,5,2,3,1,3,1,5,2,0,2,3,2,5,5,1,5,0,3,0,5,0,4,5,1,4,3,1,0,1,2,2,2,0,5,2,2,3,
-                0,4,2,4,3,4,3,3,5,5,1,0,3,0,5,5,3,1,1,3,1,3,1,5,1,0,1,5,1,3,3,0,4,5,0,4,4,5,5,3,
-                0,4,2,2,2,1,4,2,5,3,3,1,0,2,2,4,5,5,0,4,0,5,5,5,0,2,3,4,1,4,4,1,0,0,1,2,4,1,0,4,
-                3,3,5,2,3,1,4,0,1,3,3,3,2,2,2,4,2,2,4,4,3,2,1,1,3,5,5,1,2,0,5,4,0,5,3,3,0,1,0,1,
-                4,3,4,1,4,1,3,4,0,3,1,1,4,5,1,1,4,0,0,1,2,0,0,4,5,5,0,0,0,4,4,2,3,1,0,4,3,0,1,4,
-                1,5,2,5,5,3,3,3,5,5,2,4,4,2,4,3,1,3,5,1,3,0,4,0,2,3,4,5,1,1,0,0,3,1,5,2,2,1,1,5,
-                0,2,5,3,4,0,3,0,3,3,0,4,5,2,3,0,2,5,4,4,1,4,0,3,5,1,3,5,2,0,1,1,0,2,0,0,1,3,2,3,
-                2,0,5,4,4,0,4,3,5,3,2,1,4,3,2,2,5,3,3,2,3,4,0,5,0,5,2,5,5,2,1,1,5,2,1,1,1,5,1,5,
-                4,2,1,1,4,5,1,0,2,1,5,5,1,0,0,3,4,5,1,5,1,0,4,5,5,5,2,5,0,4,5,2,1,2,5,4,4,2,3,3,
-                4,3,3,3,4,5,4,5,3,0,5,4,4,1,1,2,1,1,4,5,0,3,4,1,1,3,4,4,0,1,2,1,2,3,2,0,4,2,5,5,
-                3,4,0,4,4,0,0,2,2,0,4,5,5,5,0,2,3,3,5,1,4,5,1,2,5,3,3,0,3,4,3,3,1,5,3,3,4,1,1,4,
-                0,3,1,3,5,5,1,3,2,0,5,1,0,4,3,3,2,0,2,2,3,2,5,4,2,5,5,0,1,2,4,1,2,4,3,0,3,2,3,4,
-                1,1,4,5,2,3,3,0,4,4,5,4,4,0,1,0,3,5,2,5,1,4,3,3,2,5,2,4,5,3,0,0,5,4,2,4,4,4,5,1,
-                2,3,4,2,0,3,2,5,4,3,1,2,0,2,0,1,5,2,5,5,0,5,2,2,5,3,5,0,0,5,1,1,1,1,0,0,3,0,1,0,
-                4,5,2,2,0,0,0,5,5,5,3,2,0,5,3,5,4,4,2,5,2,3,4,5,2,0,2,3,4,4,0,2,4,5,1,3,3,1,1,4,
-                5,3,4,1,5,3,3,5,1,1,0,3,0,1,1,0,2,5,2,5,3,0,5,4,5,1,1,4,5,4,4,3,0,2,0,0,3,0,1,3,
-                1,3,1,0,2,3,1,1,2,0,2,0,5,5,5,0,5,0,2,5,4,4,4,1,5,0,2,5,3,5,3,2,1,0,4,1,0,2,0,2,
-                3,3,3,5,2,3,1,4,4,2,1,4,5,2,1,3,0,5,2,5,5,2,0,0,1,2,5,0,0,1,2,1,5,4,4,0,3,1,5,0,
-                5,5,0,3,5,1,3,5,3,3,4,5,2,2,5,4,4,3,2,5,5,5,5,5,3,5,3,3,0,2,0,3,4,1,3,2,2,3,5,4};
-        int[] Tab3 ={1,3,2,2,0,1,1,5,4,5,0,4,5,3,0,5,1,4,2,1,1,5,2,5,2,2,2,0,3,3,2,5,4,1,3,2,3,0,1,0,
-                0,5,1,5,0,3,3,1,0,5,5,3,2,1,1,4,1,5,0,1,0,1,4,4,3,1,5,0,1,4,0,4,5,3,0,2,2,3,3,5,
-                0,1,4,1,1,0,2,5,0,0,3,1,2,0,5,1,0,4,3,4,0,1,2,1,0,2,5,3,2,2,1,5,1,5,1,5,4,4,3,5,
-                5,5,1,3,3,1,0,5,5,5,5,5,2,4,0,3,4,3,3,2,2,5,4,5,1,2,1,0,3,2,3,3,3,5,3,1,4,3,0,0,
-                1,3,0,1,0,0,2,0,3,4,0,1,0,4,0,3,3,4,1,5,1,3,5,5,0,4,3,4,0,3,2,5,1,0,1,4,5,5,3,0,
-                5,1,1,3,3,4,2,4,0,1,3,0,1,4,1,4,0,4,2,4,5,5,1,2,3,3,0,1,2,2,5,0,2,4,4,2,2,4,5,0,
-                5,1,1,2,2,4,1,3,4,0,0,1,0,3,2,5,3,1,3,1,5,4,5,0,3,0,0,1,5,0,2,1,5,2,3,2,0,1,2,2,
-                0,0,4,0,0,2,4,2,1,0,0,0,2,3,1,2,5,2,5,5,0,4,3,2,4,3,5,5,1,4,4,3,0,4,2,1,1,4,4,1,
-                4,0,5,3,5,2,4,2,4,3,3,5,1,3,0,4,2,0,1,0,3,1,5,4,4,5,0,5,3,1,3,3,1,3,4,3,5,4,3,4,
-                0,5,4,2,4,5,2,3,3,0,1,2,0,5,4,3,0,5,2,0,5,5,5,2,2,3,5,1,5,5,1,1,0,2,5,1,5,4,0,2,
-                3,3,5,3,2,1,3,1,0,2,4,5,0,5,3,4,5,3,4,2,4,4,5,1,3,2,5,2,5,4,5,1,5,3,5,0,0,1,3,4,
-                1,4,2,1,4,2,5,3,3,0,3,1,1,2,0,4,5,5,0,2,1,3,2,5,3,3,2,3,2,0,2,0,1,2,4,4,4,3,2,1,
-                1,4,3,3,0,2,3,4,2,2,4,2,3,5,4,4,3,3,3,4,3,5,5,3,0,4,2,5,3,0,2,3,1,1,3,0,3,4,3,5,
-                4,3,0,0,1,4,0,3,2,1,2,5,2,3,4,0,0,0,2,1,3,2,4,3,3,5,5,3,2,3,3,0,4,4,1,4,4,0,0,1,
-                1,1,0,5,1,0,2,5,2,1,2,5,0,2,3,5,3,0,4,1,4,2,3,1,5,0,3,5,1,3,4,4,2,5,4,5,1,5,4,3,
-                5,5,2,2,1,1,2,1,0,1,4,0,2,5,0,3,1,5,3,5,3,1,1,2,1,2,2,2,4,5,1,5,1,0,2,4,3,3,4,5,
-                3,2,3,0,1,1,2,1,4,4,0,5,2,2,5,4,4,1,5,1,4,2,4,5,5,1,1,4,0,2,4,3,2,0,4,4,1,1,2,0,
-                3,3,2,0,0,2,1,1,0,4,1,1,3,1,2,1,5,4,1,4,1,0,1,2,1,3,5,4,4,1,0,2,4,4,2,2,4,3,1,1,
-                0,3,2,5,1,1,4,4,3,5,3,4,4,5,4,2,5,5,5,5,2,2,1,2,5,2,4,2,3,3,4,3,0,0,2,1,2,0,5,4,
-                0,1,2,0,0,1,4,3,0,2,0,2,3,3,3,4,1,1,1,3,1,1,0,4,5,1,5,2,1,5,4,5,5,0,0,2,4,2,2,3,
-                2,2,0,3,5,0,2,1,3,1,3,4,5,3,4,4,3,5,5,5,3,3,2,5,0,0,0,1,0,5,1,0,0,0,3,3,1,2,1,4,
-                3,2,5,2,5,5,5,0,2,2,0,1,0,1,4,2,3,3,5,5,5,0,3,3,1,3,5,1,5,2,2,3,5,4,3,2,3,2,4,4,
-                5,0,4,3,3,3,4,5,1,4,3,1,5,3,5,2,1,5,4,4,2,3,1,5,2,2,3,1,3,1,0,5,2,0,1,1,1,5,3,4,
-                2,5,4,4,4,3,3,5,2,4,4,5,5,5,5,3,5,5,3,3,5,3,4,3,2,2,1,4,1,1,5,4,4,0,4,2,1,3,4,0,
-                5,4,4,5,2,1,3,5,0,5,5,5,1,2,1,2,1,3,0,5,4,0,3,2,2,4,1,2,5,0,2,3,3,5,2,3,4,4,1,3,
-                5,4,1,2,3,3,2,5,1,5,4,1,3,2,3,1,3,1,1,4,0,5,2,5,2,0,1,5,4,4,5,3,1,0,3,2,5,5,2,4,
-                1,0,2,3,3,5,2,4,3,4,4,1,1,0,3,2,4,2,1,2,0,0,4,5,0,5,5,0,5,4,2,5,3,2,4,1,0,2,5,1,
-                2,1,4,3,3,1,0,2,4,3,2,5,0,2,4,4,0,0,1,4,2,1,3,2,4,5,3,4,2,0,5,3,4,4,5,4,0,3,1,5,
-                4,0,3,0,1,3,1,2,4,5,4,3,0,3,5,3,5,2,1,5,5,2,5,0,0,3,0,3,2,3,2,3,2,0,0,0,5,0,4,5,
-                2,2,0,1,4,5,5,0,0,4,3,3,5,1,4,0,1,4,4,2,0,2,4,3,1,4,2,1,1,2,5,1,0,4,2,0,5,5,3,2,
-                1,3,3,1,4,3,5,2,5,0,5,1,5,3,4,2,4,4,2,1,2,0,3,3,0,3,2,5,3,1,2,5,4,1,1,4,3,2,1,2,
-                0,4,2,3,2,2,0,2,3,2,0,5,4,0,4,5,2,2,5,0,0,0,2,4,4,0,3,3,3,3,5,1,1,4,3,5,3,4,2,5,
-                0,0,2,4,2,1,3,1,2,5,3,2,3,5,0,0,2,4,5,4,2,3,2,4,1,5,0,5,2,1,1,5,1,3,4,0,2,1,2,3,
-                3,0,1,1,3,5,5,2,2,4,3,2,2,3,5,3,4,2,1,5,4,2,2,1,1,5,0,5,3,5,0,1,1,5,4,3,2,3,4,0,
-                0,0,1,4,4,4,4,4,0,0,5,5,0,4,0,1,5,2,0,1,0,2,4,1,0,4,4,1,1,1,0,1,5,3,5,2,5,2,0,0,
-                3,5,0,0,2,3,3,4,1,3,2,5,1,2,3,1,1,0,5,5,1,0,0,3,5,5,5,3,2,4,3,1,2,3,3,5,4,5,2,2,
-                5,0,4,4,4,4,4,4,0,0,3,0,0,3,1,2,2,4,1,2,1,1,4,5,4,4,2,2,1,2,5,5,4,3,0,2,0,3,4,0,
-                3,0,4,2,4,2,4,4,5,5,1,4,2,5,3,2,1,5,1,3,2,4,1,2,3,1,1,3,2,2,0,5,2,1,2,4,4,0,2,2,
-                3,4,4,2,0,5,5,4,3,0,5,5,0,5,2,2,3,4,2,5,4,1,5,0,3,2,5,5,5,4,0,2,2,5,1,3,2,5,4,1,
-                5,5,4,0,5,3,3,5,1,2,1,1,1,0,4,3,4,0,1,1,3,4,1,3,2,2,0,4,0,4,0,2,3,1,5,5,1,4,3,2,
-        };
-        int[] Tab2 ={3,3,2,1,0,2,3,1,4,5,0,4,2,3,3,0,2,2,3,3,2,3,1,0,0,2,0,5,1,0,2,1,5,3,0,3,0,4,2,1,
-                1,1,1,1,0,2,1,0,2,4,3,3,3,0,2,4,0,3,3,2,3,4,1,3,4,5,3,2,5,0,5,4,2,3,3,1,0,2,1,3,
-                5,0,4,0,1,2,0,3,1,4,3,1,2,1,3,5,5,1,2,1,1,1,3,3,2,0,2,3,5,0,3,0,5,4,4,0,1,3,2,2,
-                3,1,1,3,0,2,2,2,2,2,4,3,3,2,2,1,4,0,1,0,2,5,3,3,0,3,0,1,4,2,2,4,2,2,0,2,3,1,4,0,
-                1,1,4,1,2,0,0,0,0,1,3,3,3,2,1,4,5,4,1,5,4,3,3,5,1,3,4,1,3,5,1,3,0,4,4,3,1,4,1,2,
-                3,3,3,0,5,4,4,1,3,3,2,0,2,3,4,5,2,4,2,1,2,2,4,4,2,2,5,3,2,0,3,1,2,0,0,3,5,2,4,3,
-                3,5,4,4,3,1,3,3,3,3,5,2,4,1,5,1,0,0,4,5,0,5,2,0,4,3,1,4,1,3,2,2,2,5,3,1,1,2,1,0,
-                1,0,4,0,3,3,0,4,2,2,4,2,2,1,1,0,3,5,2,3,4,1,3,0,5,5,0,5,3,5,1,0,2,1,4,2,3,3,3,4,
-                0,5,4,3,2,3,0,5,3,0,4,2,1,5,4,1,5,4,2,4,0,3,3,3,2,4,4,3,0,2,2,4,4,5,0,5,3,2,5,5,
-                0,5,0,2,0,5,0,1,3,2,0,1,0,5,1,5,2,4,2,3,4,5,5,4,4,0,5,2,0,5,1,3,5,3,0,5,4,0,5,4,
-                2,3,1,0,2,4,0,3,0,3,3,4,3,1,5,0,0,3,4,2,3,4,5,1,3,2,4,0,0,4,4,5,4,3,2,0,1,5,3,4,
-                0,0,2,1,0,3,2,3,5,0,2,5,5,4,5,1,5,1,3,2,5,2,3,4,3,5,3,4,1,3,4,2,5,1,2,5,3,2,0,2,
-                2,2,2,1,3,4,2,2,5,0,1,5,5,0,4,5,3,5,3,4,5,1,2,1,5,1,0,1,2,5,4,2,5,1,5,0,5,5,0,1,
-                2,5,5,0,2,4,1,1,4,2,1,0,4,2,1,5,4,2,2,3,4,5,1,4,2,5,3,3,4,2,3,2,1,4,2,2,2,3,5,1,
-                4,2,4,1,2,3,0,5,0,2,5,3,0,4,1,1,5,4,3,4,1,2,2,1,2,0,0,1,4,1,0,1,5,0,3,0,4,2,5,0,
-                4,3,0,0,2,5,3,1,1,4,0,4,5,3,3,1,1,1,0,3,2,2,0,1,2,2,4,3,5,4,3,2,5,0,2,1,1,2,1,0,
-                4,2,3,4,0,5,5,2,4,0,4,5,4,5,1,5,5,3,2,1,3,1,1,4,0,0,4,3,2,2,5,4,0,2,5,4,5,4,1,3,
-                5,3,3,2,3,1,1,2,4,1,4,3,5,2,5,2,5,1,1,4,2,1,3,1,4,5,2,5,3,0,0,3,5,1,3,4,0,2,5,3,
-                4,4,1,3,4,3,5,0,5,1,3,2,0,4,0,1,0,3,5,3,0,2,1,4,0,2,2,5,2,5,0,0,4,0,2,5,3,3,4,3,
-                1,3,1,2,4,0,4,4,0,2,1,1,0,3,2,2,1,1,3,2,2,4,0,3,3,4,5,2,1,3,0,1,3,4,2,5,4,4,3,3,
-                2,5,1,0,4,0,0,3,4,2,2,4,4,2,0,1,5,2,3,1,4,4,3,1,5,2,5,1,1,1,1,0,3,0,4,3,2,2,3,2,
-                5,1,5,3,0,4,5,0,1,1,5,2,0,5,5,5,2,0,2,4,1,2,0,3,5,4,3,3,2,0,1,5,3,0,3,0,1,5,3,4,
-                2,3,4,0,4,5,0,3,1,5,4,1,0,5,1,5,4,2,4,4,0,2,0,2,4,1,5,4,2,1,1,3,4,3,3,5,3,3,4,2,
-                0,1,1,5,2,0,0,3,3,4,4,4,0,1,3,5,4,5,5,5,4,5,4,3,4,5,3,4,2,0,3,5,5,1,3,2,0,1,5,5,
-                4,3,4,3,1,4,0,0,1,0,4,5,0,3,0,2,5,3,3,2,0,5,0,0,4,1,4,3,3,0,0,1,2,2,1,0,1,2,4,3,
-                0,1,1,3,0,1,1,0,4,5,1,5,5,5,5,5,1,1,3,5,2,2,3,3,1,3,2,5,0,1,2,3,5,3,5,2,3,0,3,3,
-                5,3,1,0,3,3,4,5,2,2,0,4,1,2,2,4,1,4,5,5,5,5,3,0,0,0,5,4,2,2,4,1,4,5,5,5,1,2,4,0,
-                1,2,0,0,1,5,1,5,2,5,5,1,5,5,4,2,2,0,2,4,5,3,1,4,4,1,0,0,1,3,2,3,1,2,5,4,3,5,3,0,
-                0,4,5,5,2,5,3,2,3,5,5,3,1,0,0,0,5,3,0,4,3,2,0,0,4,0,4,1,1,1,4,3,4,2,0,3,1,1,5,2,
-                5,1,0,1,1,4,1,4,5,3,0,0,3,2,1,1,3,4,0,3,5,5,2,3,3,2,1,2,1,5,4,4,3,0,2,4,3,2,2,2,
-                2,2,1,5,0,2,1,5,4,4,3,3,2,0,0,1,1,2,2,1,4,3,4,5,3,2,0,5,4,1,2,0,4,3,0,1,5,5,4,5,
-                3,4,4,2,0,4,2,1,1,1,0,4,5,2,1,0,1,5,0,3,1,5,1,5,5,2,0,0,3,1,5,5,2,5,2,2,3,4,5,1,
-                0,2,2,4,3,0,2,5,4,1,4,4,2,1,2,2,1,2,2,1,0,1,2,1,3,5,0,1,0,5,3,1,3,5,3,3,1,5,5,2,
-                0,4,5,1,4,5,2,3,1,1,0,3,1,3,1,4,1,1,1,4,0,4,4,4,4,5,2,0,0,2,2,0,5,4,3,1,0,4,0,2,
-                2,2,1,1,1,0,2,2,1,5,1,4,3,0,4,5,5,0,3,0,0,5,5,0,3,4,3,0,0,1,3,0,1,1,4,3,2,1,1,5,
-                5,3,5,3,4,0,4,2,4,2,3,3,5,1,2,0,5,4,2,0,1,5,1,1,3,1,1,3,1,1,0,0,5,3,1,3,3,5,0,3,
-                2,2,3,4,2,0,4,0,5,3,0,4,4,4,5,1,0,4,1,1,3,3,3,4,1,4,5,3,5,2,1,1,0,2,2,1,2,5,1,1,
-                5,1,2,3,3,1,3,5,4,4,2,0,2,1,5,1,1,0,3,0,3,4,1,0,5,5,3,0,2,0,1,3,4,3,1,5,1,5,5,0,
-                1,1,1,4,5,3,2,5,0,2,3,5,3,0,2,4,5,3,1,4,1,2,4,4,4,1,4,4,3,3,5,2,5,3,4,1,5,0,4,3,
-                2,5,0,0,0,5,3,1,1,4,1,2,1,4,0,5,1,1,2,1,2,2,0,1,0,0,5,1,1,4,2,5,4,5,2,3,5,5,4,1,
-        };
-        int[] Tab1 ={3,0,5,2,0,3,4,5,4,5,5,0,3,3,3,3,1,2,4,2,4,2,5,0,4,4,1,5,1,3,0,3,2,1,1,3,1,5,4,1,
-                2,1,1,4,5,0,1,0,1,5,4,0,4,3,1,2,0,0,4,0,5,4,3,3,4,3,1,1,3,4,4,4,1,4,5,2,0,2,5,0,
-                3,2,0,5,4,1,2,1,2,4,5,2,3,0,1,2,4,4,4,3,5,4,1,1,4,1,2,4,0,2,0,5,0,1,0,4,4,3,2,2,
-                2,2,4,2,5,2,1,5,0,5,3,5,2,2,3,3,4,4,0,5,3,3,4,2,1,3,1,1,0,0,1,5,5,1,3,0,4,4,3,1,
-                3,4,5,1,4,5,2,1,5,1,1,1,3,2,5,5,3,3,5,2,0,4,2,2,2,4,2,4,0,3,2,2,3,4,5,0,3,1,3,3,
-                2,0,2,0,2,0,0,2,5,3,1,0,0,4,0,0,2,2,0,0,3,2,0,5,3,4,1,2,5,5,5,1,2,5,5,1,4,3,2,5,
-                4,5,2,1,2,3,5,0,2,5,2,2,5,4,0,3,5,5,5,5,2,1,1,4,2,1,3,0,2,4,0,1,5,1,3,3,4,3,5,5,
-                0,4,0,3,4,0,3,1,2,4,5,5,4,5,5,1,0,4,1,5,0,3,0,3,4,3,5,3,2,5,5,3,2,5,2,4,5,2,3,2,
-                3,3,5,2,1,4,5,5,5,2,0,2,1,0,0,4,1,0,5,5,4,3,2,3,1,2,1,1,2,3,3,2,1,1,1,5,0,3,0,5,
-                5,1,1,2,5,3,1,4,5,4,4,3,2,2,4,2,0,5,4,2,4,2,1,5,0,0,1,3,4,2,1,1,3,5,3,1,1,3,4,2,
-                2,5,3,0,5,2,4,0,4,4,0,5,4,2,3,4,0,2,4,4,3,3,0,3,0,3,4,5,3,4,3,5,0,5,5,4,3,1,1,2,
-                3,0,0,4,2,0,0,4,0,4,2,0,0,4,5,2,3,1,2,5,2,2,2,1,0,3,2,5,5,0,1,1,0,5,5,4,1,1,3,4,
-                5,2,5,3,3,4,2,0,5,1,1,3,1,5,4,1,2,1,3,1,5,3,0,0,2,3,5,4,2,3,3,3,1,1,2,5,4,0,1,5,
-                4,5,3,4,4,3,4,2,3,3,3,4,2,2,1,3,0,0,5,4,3,3,2,3,4,4,5,1,2,0,0,1,3,5,2,4,3,1,4,5,
-                4,3,3,5,2,2,3,3,4,2,5,0,4,4,4,3,3,4,2,2,1,2,0,5,2,3,0,3,4,3,5,4,2,5,4,3,4,4,4,3,
-                4,0,5,4,3,1,1,5,1,2,5,5,2,4,4,4,2,1,0,3,1,2,0,1,2,0,5,2,5,2,1,5,3,4,3,4,0,5,5,0,
-                3,2,0,4,3,1,0,3,4,0,2,4,0,5,3,0,3,5,3,4,3,0,5,1,0,4,0,5,5,2,4,1,1,5,3,2,0,2,0,0,
-                3,4,4,1,3,3,2,2,4,0,1,3,2,1,2,4,4,0,3,3,2,5,1,2,4,1,5,2,5,5,2,2,3,1,1,3,5,5,0,3,
-                0,0,2,3,4,3,0,0,2,2,2,4,4,3,0,2,4,4,0,0,2,2,0,0,1,0,1,2,5,2,0,3,0,1,4,5,1,5,2,3,
-                3,4,2,1,2,3,0,2,1,4,2,0,5,0,2,4,4,0,0,5,5,4,4,3,3,0,0,2,2,2,5,3,2,0,1,2,0,0,2,3,
-                4,3,1,1,2,3,1,3,1,1,2,3,0,2,5,0,4,5,4,3,2,0,3,4,3,5,1,3,3,1,2,5,5,4,0,5,5,0,4,2,
-                0,2,3,1,0,5,4,1,4,3,2,0,3,2,5,0,2,3,5,1,5,2,4,1,4,3,0,0,3,0,5,3,5,3,5,1,2,3,5,4,
-                2,5,3,5,1,5,4,2,2,0,5,4,5,4,5,4,4,2,5,4,0,1,4,1,1,3,4,5,0,4,4,0,0,3,0,4,4,4,2,3,
-                5,3,4,2,1,2,4,0,0,1,4,3,1,2,4,3,1,2,0,1,1,1,4,0,5,3,3,0,3,4,5,1,2,2,4,2,0,2,4,2,
-                5,2,3,2,0,2,4,5,4,5,1,0,3,4,2,2,1,4,4,0,0,1,2,5,3,3,5,4,4,5,1,1,4,0,0,2,0,0,1,4,
-                5,1,1,3,2,2,4,5,0,4,2,5,2,4,0,1,5,0,0,2,3,5,5,5,4,1,2,0,5,3,3,5,0,2,0,5,4,2,5,4,
-                5,3,3,1,5,3,5,4,0,5,0,1,1,5,5,5,2,5,3,2,2,0,0,1,3,4,1,0,1,2,3,2,2,1,1,0,4,4,5,3,
-                3,0,1,3,4,1,4,0,4,4,2,0,2,5,1,0,5,2,0,1,5,1,5,5,1,4,1,0,5,5,5,4,5,3,3,4,4,5,4,3,
-                3,4,2,2,1,5,1,5,1,4,2,1,0,0,2,1,3,2,2,2,4,2,4,0,1,3,5,1,1,4,5,0,1,1,5,5,2,2,2,5,
-                4,0,1,2,0,4,4,1,5,2,4,2,3,4,2,0,0,4,5,4,1,4,5,3,5,0,3,2,4,0,0,0,2,0,1,0,1,0,1,4,
-                2,2,5,2,0,3,2,3,3,4,2,3,4,4,0,4,1,3,0,2,1,3,4,3,0,0,5,5,1,3,0,3,1,3,3,3,5,4,5,2,
-                5,5,0,4,0,4,4,2,0,0,5,1,5,0,1,4,4,4,3,1,2,0,2,1,3,2,3,5,4,0,1,5,3,3,3,5,0,0,2,1,
-                4,0,0,1,3,3,2,0,4,4,4,1,3,5,5,4,1,2,4,0,1,2,3,0,0,5,4,5,2,5,5,5,0,2,5,2,0,2,1,2,
-                5,3,0,5,4,1,0,1,3,1,4,0,4,1,5,0,5,3,4,1,5,3,1,5,4,0,0,5,0,5,0,3,1,3,5,0,2,1,5,3,
-                2,5,0,0,3,5,5,4,1,3,5,1,5,1,4,0,5,1,5,0,3,2,0,0,4,4,4,4,3,1,5,4,2,2,0,2,3,3,5,5,
-                2,1,1,3,3,1,4,1,0,1,2,3,1,2,4,3,1,0,2,3,4,2,1,3,0,0,0,4,4,4,5,2,3,3,1,5,3,2,3,5,
-                2,0,0,1,3,3,2,5,5,5,5,4,3,0,3,3,5,5,5,1,3,5,5,1,4,2,5,5,4,3,1,2,4,3,3,0,1,0,4,0,
-                5,4,5,5,1,3,4,4,5,3,5,3,4,3,0,5,0,4,5,4,5,0,3,0,3,4,5,2,4,2,4,3,4,3,3,2,3,0,0,1,
-                1,0,3,5,2,2,1,2,1,1,0,3,4,4,1,2,2,0,1,2,4,0,4,1,1,4,3,3,3,4,1,5,5,1,1,5,3,5,3,1,
-                4,1,5,0,1,2,2,5,3,4,5,0,4,3,0,2,3,1,0,5,3,3,3,4,1,4,3,3,4,3,4,1,0,4,0,5,2,3,5,2,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=70;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=46;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=36;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=21;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level6L(){
-        int[] Tab0 = {4,1,1,2,3,0,2,4,0,1,3,4,3,1,2,0,3,1,4,1,3,0,4,3,1,1,3,3,5,2,1,4,2,0,1,2,5,0,2,4,
-                0,2,4,2,3,0,0,4,0,0,4,2,0,2,0,1,0,5,0,3,0,2,3,2,3,4,3,5,3,2,5,5,2,4,5,2,3,4,2,1,
-                2,4,2,5,0,4,0,2,4,0,5,3,4,4,5,5,4,4,2,2,4,5,5,2,4,1,0,0,2,4,1,0,3,1,3,0,1,3,3,5,
-                3,0,3,4,2,1,0,0,3,2,3,4,0,5,0,3,1,3,5,3,5,2,1,3,4,2,1,5,4,2,0,4,2,1,5,4,1,2,5,4,
-                5,2,2,3,0,5,2,4,5,1,5,3,0,4,3,2,5,2,0,1,0,3,5,3,1,5,5,4,1,5,2,0,1,1,3,1,3,2,4,0,
-                0,1,2,3,0,5,0,2,4,1,4,2,1,2,5,1,5,0,1,2,0,0,0,4,3,4,0,4,0,0,1,5,5,0,2,3,2,4,4,2,
-                5,4,5,3,0,0,5,1,2,0,3,5,5,4,2,1,5,1,2,3,2,3,3,2,0,2,4,0,4,4,0,3,0,1,2,4,2,2,5,4,
-                3,5,2,1,0,4,4,3,4,0,0,2,5,2,5,3,1,3,4,2,1,1,3,2,0,0,2,4,0,1,4,3,5,3,3,4,4,4,1,0,
-                0,2,3,0,2,0,3,5,0,0,0,3,1,1,1,2,1,0,4,1,5,1,1,4,4,4,3,2,4,3,4,5,1,3,5,3,3,1,4,2,
-                3,0,3,3,5,1,1,0,3,1,2,4,4,2,5,5,2,5,0,5,2,5,0,0,5,1,0,4,0,3,5,1,4,1,1,2,3,4,2,2,
-                2,4,2,2,1,3,4,3,0,4,1,3,3,1,5,1,4,3,2,1,3,5,2,1,1,1,4,4,1,4,3,5,4,4,0,3,5,3,5,3,
-                4,2,5,4,2,4,3,5,4,4,4,4,4,4,4,3,3,3,1,1,0,5,4,1,3,3,1,2,2,0,5,4,0,5,2,4,2,2,3,3,
-                2,2,0,5,0,2,4,4,4,3,2,1,2,1,5,3,2,5,2,2,2,0,4,4,4,3,0,5,0,3,4,4,0,3,4,2,1,4,5,1,
-                0,0,5,2,4,2,0,1,1,4,0,1,3,4,1,0,0,3,5,5,1,2,5,1,5,3,5,1,4,5,0,1,3,2,4,2,2,4,0,0,
-                2,5,3,5,0,5,0,2,0,1,3,4,4,4,1,1,2,5,5,2,2,5,3,1,5,5,1,4,2,2,3,4,2,2,5,5,5,4,0,0,
-                2,2,1,3,1,5,4,3,0,4,4,3,4,3,4,4,1,4,1,0,3,1,3,0,0,5,0,2,0,1,0,5,3,2,1,0,5,0,5,3,
-                3,2,4,0,3,1,0,5,3,2,5,5,1,3,3,4,2,2,1,4,3,4,5,5,3,5,0,2,1,3,5,4,3,2,0,1,1,3,2,1,
-                3,1,1,1,1,0,0,5,3,1,4,3,2,2,4,4,2,0,4,1,5,1,0,4,4,0,2,5,1,1,1,2,1,3,3,3,5,4,1,2,
-                1,4,3,3,4,0,1,1,4,0,3,2,0,3,1,0,2,4,0,0,2,1,0,1,3,1,5,3,0,3,1,0,0,2,1,1,3,0,5,3,
-                1,5,0,5,0,3,1,1,5,5,5,1,5,3,5,2,0,3,5,0,3,5,4,4,5,1,4,1,0,2,4,3,0,5,1,5,3,0,4,1,
-                5,5,5,2,5,2,5,0,0,5,4,5,0,5,4,5,0,1,4,0,4,0,1,0,5,5,2,5,2,4,3,1,4,5,1,0,0,5,0,5,
-                1,0,5,4,0,5,0,2,2,3,2,2,4,2,5,1,0,3,3,3,4,5,1,1,1,5,3,3,5,5,5,0,1,3,4,5,2,0,1,5,
-                2,1,4,2,1,0,2,1,1,0,3,5,3,3,4,5,4,3,3,2,1,2,1,4,2,2,3,0,1,3,2,5,0,1,2,4,3,5,1,4,
-                5,1,2,1,4,2,5,0,1,2,4,2,3,4,2,0,3,3,4,5,2,4,0,4,2,1,3,4,5,2,5,3,0,1,2,1,0,4,3,3,
-                3,4,3,1,2,3,0,1,0,3,1,0,4,2,5,5,3,5,1,0,4,1,5,4,1,3,0,3,4,0,5,3,4,2,5,3,4,2,3,4,
-                3,0,1,3,5,0,0,1,3,1,2,2,3,2,3,4,3,4,2,3,3,3,1,5,4,1,5,2,0,2,5,2,0,4,2,0,2,4,4,3,
-                0,0,0,0,1,1,2,1,3,1,2,2,2,1,0,0,3,3,4,4,3,2,3,4,5,3,0,1,1,2,5,3,4,4,1,0,3,0,5,2,
-                4,1,2,5,2,2,3,5,3,2,3,5,0,4,2,3,2,1,0,3,2,1,1,2,5,3,2,2,5,5,4,5,2,1,1,4,3,2,2,5,
-                0,2,0,5,2,0,3,0,3,1,2,4,5,4,5,5,1,0,2,4,0,1,4,2,2,1,0,2,0,3,4,5,0,2,3,2,1,4,2,4,
-                3,4,0,3,3,3,5,1,5,1,1,2,5,1,2,2,4,0,4,1,2,3,3,5,2,3,3,0,0,4,2,1,4,3,1,2,3,4,3,1,
-                5,0,3,0,0,3,2,5,0,2,5,0,5,3,2,4,2,5,4,0,0,4,4,5,4,3,5,2,4,0,5,0,3,2,2,4,5,3,1,1,
-                4,3,5,3,5,5,0,0,0,4,1,1,0,3,1,3,2,2,2,3,3,0,3,3,1,2,5,3,3,4,2,5,1,4,0,3,5,4,2,0,
-                0,3,2,1,5,3,1,5,2,0,5,1,3,4,3,5,1,4,0,1,2,5,2,0,5,4,5,0,3,3,5,2,2,0,3,5,4,1,0,2,
-                0,0,2,3,5,3,1,3,2,2,1,3,1,3,3,0,5,5,1,2,0,4,5,3,3,3,1,1,4,2,0,3,0,2,3,1,5,0,5,2,
-                4,5,3,2,5,0,5,3,4,3,5,1,5,4,1,1,3,0,2,3,1,2,2,0,2,0,5,0,0,3,0,3,3,2,2,4,2,4,0,2,
-                3,3,5,1,0,4,1,5,0,5,2,2,4,2,0,0,4,5,0,0,1,2,4,3,3,3,0,0,3,2,1,3,1,1,5,0,0,2,0,5,
-                0,3,1,0,4,5,2,5,2,3,4,5,1,2,5,1,2,4,1,5,2,3,2,0,4,3,5,4,4,2,5,2,4,1,1,4,1,5,1,0,
-                5,0,4,1,1,2,2,5,4,0,2,3,1,3,3,0,1,4,2,5,1,5,0,5,2,4,3,4,4,0,2,2,5,2,2,1,3,2,4,4,
-                0,1,5,2,0,0,1,1,0,5,4,5,4,0,0,5,5,1,0,0,1,3,1,4,2,1,0,5,0,5,3,0,2,5,0,4,3,3,1,4,
-                5,4,1,4,2,3,4,5,2,4,5,2,2,5,1,3,2,5,0,4,5,4,4,4,0,1,4,3,3,5,2,1,5,5,2,4,0,4,3,0};
-
-        int[] Tab3 ={5,5,4,3,5,5,1,3,3,5,3,3,1,3,0,2,3,5,2,0,0,5,5,0,2,1,1,2,1,3,4,3,4,2,1,4,1,5,1,3,
-                4,0,1,4,3,3,4,2,0,5,4,1,0,3,5,0,2,0,0,2,5,3,3,3,1,3,2,1,1,3,0,0,1,1,4,5,2,3,0,5,
-                4,5,2,0,1,0,3,0,5,4,3,4,5,5,4,4,0,0,5,0,1,4,2,3,4,4,0,0,3,4,3,0,5,3,2,0,0,4,3,1,
-                3,0,2,5,0,3,1,5,0,5,3,0,5,3,1,5,3,4,0,4,1,1,4,1,0,1,1,1,4,0,0,4,2,4,1,1,2,4,4,2,
-                4,3,4,3,3,0,1,1,0,5,2,4,1,0,0,1,3,0,1,4,3,1,1,4,2,2,1,2,3,2,3,2,2,4,5,0,5,3,2,3,
-                3,5,2,0,1,5,5,4,0,2,1,2,3,3,4,1,3,5,1,1,1,1,2,0,4,5,0,5,2,2,2,5,2,3,4,1,0,3,1,5,
-                3,0,1,3,2,2,0,4,4,5,5,0,2,5,5,3,3,4,2,4,2,5,1,5,2,4,5,5,5,1,3,2,2,5,1,0,1,3,4,5,
-                1,0,1,4,5,0,4,4,0,3,4,2,4,4,5,3,3,4,5,0,1,5,2,4,2,3,5,5,4,1,0,1,4,3,1,1,4,2,5,1,
-                5,5,5,1,3,2,3,4,3,5,4,2,5,4,3,1,1,2,3,5,2,2,1,2,1,1,3,3,0,0,3,2,3,2,3,2,5,3,0,5,
-                2,4,5,1,0,3,5,0,5,4,1,2,4,2,4,5,2,0,0,4,4,5,4,0,0,3,4,4,3,4,4,5,4,3,2,3,3,0,2,5,
-                4,0,3,3,3,0,2,1,0,4,2,0,5,2,2,5,1,5,1,1,4,0,2,3,2,2,3,2,2,1,3,5,1,3,4,2,0,5,0,5,
-                3,4,3,3,0,5,4,5,4,5,0,1,5,5,4,4,4,2,5,4,4,3,1,3,0,3,5,5,0,2,4,0,2,4,4,1,3,4,1,5,
-                4,2,5,0,3,0,5,0,0,2,2,1,2,3,2,2,4,2,4,4,1,1,4,1,0,3,3,0,5,5,1,1,2,3,1,2,3,3,4,2,
-                4,0,0,5,2,1,2,3,0,4,3,5,2,0,1,3,2,5,1,3,3,3,3,4,2,2,5,5,2,0,4,1,0,0,4,4,1,1,4,5,
-                4,2,5,2,4,2,0,3,3,2,4,0,0,5,4,0,4,5,0,5,2,1,0,4,3,5,2,5,4,4,4,5,4,3,1,1,5,2,0,4,
-                3,5,0,4,5,0,3,3,5,4,3,2,4,4,4,3,1,3,4,0,0,1,2,5,5,3,1,2,4,5,2,0,1,2,5,3,0,3,4,2,
-                1,1,3,2,5,3,0,5,4,2,0,0,0,0,0,2,5,2,4,3,1,3,2,1,1,2,5,5,0,4,4,3,2,4,1,0,4,5,1,4,
-                2,3,3,1,1,4,0,2,4,3,5,1,0,2,0,2,5,2,5,3,5,3,4,4,2,5,2,5,0,1,2,1,1,3,2,4,4,4,2,2,
-                0,5,5,4,0,4,3,3,0,0,4,5,1,2,4,0,5,1,4,3,5,4,2,5,4,2,2,3,5,2,2,4,5,4,2,1,0,4,4,0,
-                4,2,2,2,4,2,1,0,1,2,5,1,2,0,0,3,4,0,1,0,5,5,4,5,1,2,2,0,4,2,4,5,4,0,5,5,4,0,4,4,
-                4,2,5,3,0,5,4,4,5,4,0,3,3,5,0,5,1,1,5,2,4,2,4,5,1,5,3,0,2,3,3,2,5,4,0,4,2,5,1,2,
-                1,2,4,1,2,4,4,3,5,4,2,3,2,4,2,2,2,0,0,3,0,3,1,5,4,4,1,2,3,1,4,5,0,3,1,1,1,4,0,1,
-                3,2,1,2,1,5,5,4,0,5,1,4,3,4,1,5,3,2,4,0,5,2,3,4,1,3,5,5,2,1,1,2,3,1,2,2,2,3,0,2,
-                3,2,2,5,2,3,3,2,4,0,1,0,1,3,4,3,0,4,5,3,0,3,5,3,1,5,0,3,3,3,1,5,0,0,2,0,3,3,2,3,
-                5,2,1,0,4,3,0,2,0,3,0,0,2,5,4,1,0,1,5,3,4,3,1,2,3,3,1,5,1,3,1,4,3,4,0,4,5,4,5,4,
-                5,1,2,1,5,2,5,1,0,4,5,2,4,5,4,2,0,1,3,1,3,3,3,0,2,0,1,0,1,2,5,5,3,2,5,4,2,0,5,0,
-                3,0,1,0,1,1,5,0,1,1,5,5,0,5,0,5,2,5,2,0,4,1,4,0,3,2,3,3,3,1,2,3,5,1,1,1,3,2,5,5,
-                5,4,1,3,3,2,5,4,5,4,5,2,3,0,0,0,2,0,2,0,5,5,5,1,0,5,3,5,3,2,2,2,0,2,1,2,1,1,1,3,
-                0,2,4,4,5,0,3,4,4,2,4,0,3,0,3,1,5,5,0,4,1,1,2,4,3,5,5,5,1,2,0,1,1,0,3,2,1,2,3,2,
-                0,5,1,3,4,0,5,1,4,0,4,4,0,1,2,1,3,4,5,2,1,5,3,1,3,1,4,4,2,4,0,4,2,1,2,0,1,2,0,0,
-                3,0,1,2,4,5,2,0,3,5,0,4,2,5,5,2,1,3,5,1,1,4,4,1,5,2,5,3,0,3,0,0,0,5,1,5,4,2,2,1,
-                0,3,1,5,3,5,0,1,2,3,3,1,0,0,2,0,1,3,3,1,2,1,1,4,3,4,3,5,3,5,5,5,4,5,2,5,3,4,5,3,
-                3,3,5,5,0,0,3,4,5,1,0,2,5,0,4,4,3,1,3,3,5,2,2,0,4,5,5,4,3,0,1,1,2,3,5,5,0,0,3,2,
-                2,4,0,4,1,4,2,1,5,0,5,3,1,3,5,5,4,1,2,2,1,1,0,2,4,2,5,4,2,3,1,3,0,0,5,1,0,1,4,1,
-                3,4,2,3,1,1,3,4,2,5,3,4,0,4,5,3,5,4,0,2,0,1,5,0,5,2,1,1,0,5,5,4,3,0,4,4,1,5,5,1,
-                0,2,3,2,1,2,3,1,3,0,2,2,1,1,2,5,0,4,3,2,4,5,1,3,5,2,0,2,3,2,1,5,3,2,4,2,4,3,4,1,
-                0,3,0,1,5,4,1,4,3,0,2,4,4,3,5,0,0,0,2,2,3,4,0,4,3,1,0,0,4,5,3,1,1,5,0,3,1,0,4,2,
-                0,1,4,3,5,0,0,5,2,3,1,4,0,3,3,0,4,1,2,1,5,2,3,0,0,4,0,0,4,4,0,5,3,2,1,5,4,1,4,3,
-                4,5,4,0,2,0,3,2,0,2,2,1,2,2,5,2,5,2,1,0,1,0,4,4,4,1,3,4,5,4,3,1,0,3,2,4,4,2,3,1,
-                1,2,5,4,1,5,3,4,2,4,3,3,5,4,5,3,1,0,2,2,5,2,4,5,2,4,5,2,3,1,1,5,4,1,3,4,1,0,2,0,
-        };
-        int[] Tab2 ={3,0,2,4,0,3,0,5,5,3,0,1,4,2,4,5,4,5,5,2,1,3,3,5,5,2,1,5,5,5,4,3,5,5,2,0,5,0,3,3,
-                4,5,4,4,0,1,1,3,4,5,3,4,4,3,0,0,5,3,2,0,5,1,2,3,3,4,0,4,3,4,3,0,0,2,5,4,3,2,2,1,
-                4,1,2,5,2,1,4,0,2,3,1,2,1,2,4,2,2,2,0,2,2,1,1,2,0,4,0,5,5,2,3,5,3,1,5,5,1,2,3,3,
-                4,0,2,1,2,2,3,5,0,1,3,4,2,0,1,4,3,4,4,3,5,2,3,2,2,4,0,3,3,4,5,4,5,4,4,0,0,4,5,2,
-                0,4,1,5,3,4,2,0,0,0,3,1,3,5,0,1,0,2,3,5,5,1,0,4,2,2,3,1,5,3,5,0,4,1,4,3,1,4,1,5,
-                2,5,3,2,1,5,3,1,2,5,0,1,3,5,2,4,1,2,1,4,5,3,1,4,1,2,3,4,4,1,4,0,0,2,4,0,5,3,1,1,
-                5,3,0,3,0,3,5,2,1,4,5,2,2,5,3,1,5,0,4,5,4,1,4,5,3,4,1,5,1,0,4,3,0,4,0,2,0,2,2,1,
-                2,5,2,1,2,5,1,4,3,3,4,4,0,3,2,0,0,4,5,3,5,0,4,3,2,5,4,4,1,0,4,0,4,0,4,0,5,1,3,5,
-                5,2,4,3,0,2,4,1,2,4,0,2,1,2,4,4,4,4,4,1,0,1,5,1,4,5,1,5,4,2,5,0,3,4,5,4,1,5,4,0,
-                0,1,0,5,2,4,1,3,3,5,1,4,5,4,5,1,2,1,5,4,2,5,4,2,4,1,2,0,5,5,1,1,0,5,0,0,0,1,0,3,
-                1,4,1,1,5,1,0,2,2,2,3,1,1,4,1,0,5,3,4,4,5,5,5,4,5,4,5,5,0,5,5,3,5,4,0,0,2,5,0,5,
-                3,0,2,0,2,3,3,5,5,3,3,3,1,5,3,1,1,2,5,3,4,2,4,3,1,5,0,2,5,3,1,3,2,5,0,2,0,0,2,4,
-                5,1,1,3,0,4,4,0,1,1,2,0,0,3,4,4,2,2,1,5,4,5,2,5,2,0,4,4,1,2,4,5,0,1,0,1,1,5,2,5,
-                1,0,2,3,3,2,4,0,4,4,1,5,5,2,4,0,4,5,4,0,2,2,0,3,3,5,4,2,2,1,0,4,4,1,4,4,1,1,4,2,
-                4,1,4,3,0,5,3,2,4,4,0,1,3,2,0,1,0,5,1,2,3,3,2,3,2,4,3,1,1,1,0,3,5,5,1,1,1,5,5,0,
-                3,5,5,0,0,0,1,3,5,5,1,5,0,3,3,4,5,2,3,4,0,3,2,3,4,3,1,5,0,3,3,3,3,0,5,0,1,0,2,2,
-                3,4,3,0,1,4,0,5,2,4,2,5,2,5,0,4,3,1,5,5,5,2,0,1,3,0,0,1,4,5,5,5,2,2,3,2,2,5,5,4,
-                0,0,3,1,1,5,2,2,0,1,4,0,4,4,5,4,1,5,3,5,3,2,3,2,3,1,1,3,1,5,0,2,4,1,1,5,5,2,5,5,
-                3,5,3,4,3,0,2,5,0,1,1,4,4,1,0,3,4,5,0,1,1,5,2,5,5,5,2,1,0,2,0,0,2,5,2,1,3,1,3,2,
-                0,2,2,1,5,0,0,3,0,4,2,2,1,1,0,3,2,2,4,1,2,1,1,0,4,3,3,4,1,0,3,1,0,4,0,4,0,0,2,4,
-                5,3,5,4,3,2,0,1,4,4,5,5,3,5,0,4,4,2,1,1,5,4,5,4,2,3,0,5,5,1,5,4,4,0,2,1,4,3,3,0,
-                5,2,4,1,4,5,0,0,1,2,5,0,2,1,1,4,3,0,3,3,2,2,0,1,2,5,4,1,1,3,0,3,1,0,4,4,4,3,2,5,
-                0,1,1,0,0,0,1,0,0,3,1,2,5,4,1,1,0,4,4,1,4,3,1,2,3,2,3,2,3,4,5,0,4,1,1,3,4,4,2,3,
-                0,0,2,1,0,1,4,5,4,3,1,3,0,5,0,0,1,2,5,2,2,3,3,0,1,0,0,3,4,0,3,3,4,5,2,2,3,0,1,1,
-                2,4,1,4,5,2,4,0,4,4,3,0,2,5,2,3,0,3,2,1,3,5,4,1,5,4,0,4,5,0,2,5,2,4,4,4,3,3,2,4,
-                4,1,5,2,5,0,5,3,5,0,1,1,1,2,2,4,2,0,3,4,4,4,3,0,4,5,4,1,0,3,0,3,0,5,5,0,0,5,3,4,
-                1,5,4,1,0,1,2,3,2,3,1,5,3,1,5,5,5,3,5,3,4,5,0,0,4,5,4,2,3,4,0,5,0,0,2,4,2,1,4,0,
-                0,1,0,5,1,0,0,2,4,2,2,2,1,2,1,2,5,2,1,4,4,5,1,4,1,3,3,2,5,3,1,3,3,0,4,0,4,3,5,2,
-                0,0,3,3,3,4,4,1,0,3,0,0,0,4,0,1,5,4,1,1,3,0,1,4,0,2,0,5,3,3,5,0,4,2,2,3,4,2,0,3,
-                2,3,1,1,3,5,3,5,5,0,1,2,4,3,4,5,5,3,3,2,3,4,2,3,5,2,2,2,4,3,1,5,2,2,3,2,4,1,2,3,
-                2,5,1,3,0,0,4,5,1,4,3,1,0,0,5,1,1,2,2,4,5,2,3,1,5,5,2,3,1,0,5,3,5,5,0,2,3,4,1,1,
-                4,5,5,1,4,1,2,3,1,4,2,1,5,0,3,3,0,4,5,4,0,1,0,0,1,5,4,3,5,4,1,5,1,0,1,1,5,0,5,4,
-                4,0,2,5,0,5,4,1,4,5,5,4,1,3,0,5,5,4,3,5,0,3,1,4,0,5,1,2,5,0,4,0,5,5,1,1,2,2,1,0,
-                0,1,2,0,3,1,0,1,2,4,2,0,5,0,2,2,0,2,0,3,3,4,1,2,2,1,3,4,2,2,0,5,3,3,0,2,0,0,1,1,
-                2,4,4,4,0,5,0,4,0,4,2,5,4,3,4,1,0,5,0,0,4,4,3,3,0,5,3,3,1,4,5,3,2,0,1,2,2,1,5,5,
-                5,1,4,5,2,4,0,3,1,0,1,2,3,3,1,0,5,4,0,2,2,0,2,5,2,4,5,0,4,5,0,4,0,1,4,2,4,4,4,1,
-                4,1,1,3,0,2,3,5,5,2,1,2,5,1,3,4,5,3,1,4,0,4,4,4,4,0,4,2,1,1,1,0,4,2,4,0,3,1,5,1,
-                2,0,2,5,0,2,5,2,2,5,5,5,3,3,2,5,0,4,1,1,3,4,3,0,0,0,2,1,3,1,1,0,1,0,5,3,0,0,4,5,
-                1,1,1,5,2,5,2,5,1,2,2,3,1,2,2,4,5,5,4,2,1,5,4,1,0,3,0,0,5,1,4,5,3,4,4,2,3,1,2,3,
-                2,0,5,2,1,0,5,1,3,4,2,3,3,4,1,1,0,4,3,3,2,2,0,1,4,2,1,5,0,3,5,2,0,4,2,3,5,5,0,4,
-        };
-        int[] Tab1 ={3,1,5,1,2,4,0,1,4,2,3,4,4,5,5,0,1,3,1,3,0,1,2,5,4,5,5,1,4,3,1,0,0,0,2,2,5,0,5,1,
-                0,5,3,3,4,5,1,4,1,0,5,0,3,5,1,2,5,1,0,1,2,1,0,5,0,2,0,3,2,1,5,3,4,5,3,3,1,0,2,3,
-                4,2,2,5,4,5,5,0,5,0,1,3,0,0,0,3,0,5,4,1,5,0,1,4,3,1,4,3,1,4,1,1,0,1,3,0,5,3,1,2,
-                4,4,0,0,0,0,5,2,0,2,2,2,5,2,0,0,0,5,5,5,1,2,0,0,4,3,5,3,4,3,4,4,3,4,2,1,1,1,3,2,
-                1,5,3,5,2,4,3,0,4,5,0,2,5,4,5,4,0,4,5,5,0,0,3,1,5,5,4,3,3,1,5,5,4,0,2,2,0,3,4,2,
-                3,4,4,2,3,4,4,3,1,1,3,0,3,3,2,1,4,4,4,5,4,5,5,1,1,0,1,2,1,0,0,0,2,5,2,0,3,5,4,5,
-                2,5,5,0,3,0,1,3,3,3,5,4,1,1,1,0,5,2,3,4,5,5,4,1,0,2,1,1,2,2,4,0,0,3,3,0,0,5,0,4,
-                4,0,4,0,2,5,1,4,3,3,5,3,4,4,4,1,3,2,2,2,2,3,3,4,0,1,3,1,3,1,4,2,5,4,0,0,3,2,3,5,
-                2,3,0,2,4,5,2,5,4,3,5,0,5,2,3,3,0,5,0,2,0,2,0,3,4,2,2,4,4,5,2,1,5,2,0,4,2,4,0,1,
-                5,2,2,2,1,5,5,1,1,5,3,5,3,0,3,5,1,3,0,1,3,4,1,4,3,5,4,4,2,1,0,1,0,2,4,1,2,5,0,0,
-                0,2,0,3,2,2,5,2,1,5,0,3,4,3,3,4,5,1,5,5,2,0,1,5,1,5,4,2,3,3,4,4,2,1,0,3,1,3,4,0,
-                0,0,5,3,1,3,0,0,1,3,3,2,1,4,1,1,4,0,3,4,0,1,1,5,4,3,3,0,5,1,4,3,3,5,0,4,1,0,4,4,
-                2,1,1,2,0,1,5,4,4,1,3,0,0,5,0,4,2,1,0,4,3,4,4,4,5,4,2,1,4,4,1,1,1,1,0,0,1,3,5,2,
-                5,4,5,3,2,4,4,5,1,3,2,1,1,0,4,0,3,2,0,0,4,0,3,5,4,4,2,4,3,3,1,4,0,1,4,5,5,0,2,3,
-                5,1,4,2,4,2,2,5,4,2,0,5,2,3,4,1,2,5,4,3,4,2,4,0,0,2,2,5,2,1,5,3,2,3,3,0,3,3,5,2,
-                2,4,0,1,3,5,4,1,5,2,5,3,3,0,4,2,2,3,4,1,3,1,4,1,0,4,1,2,2,3,3,4,2,5,3,5,3,4,0,5,
-                1,1,5,5,0,5,5,3,1,1,5,0,5,2,4,2,1,1,0,1,2,4,4,3,3,3,5,3,1,3,0,1,5,1,3,3,4,1,1,3,
-                1,5,4,4,4,0,3,3,4,5,5,2,4,1,3,0,2,5,2,5,1,4,0,2,2,3,2,2,0,5,3,1,3,1,1,4,0,3,3,4,
-                3,0,3,4,0,5,2,5,2,2,2,4,1,0,5,1,0,1,4,1,0,2,1,0,4,5,5,1,5,5,1,5,3,4,5,3,0,0,5,2,
-                1,4,2,1,2,2,3,0,5,0,4,3,2,0,3,4,5,3,3,0,1,0,3,2,5,0,2,3,2,4,5,5,2,5,3,3,0,5,2,1,
-                3,3,5,0,5,5,4,0,1,3,3,2,1,4,0,5,1,3,4,1,2,1,0,4,2,2,4,0,0,0,5,5,1,0,5,0,4,2,4,1,
-                4,3,0,0,5,3,0,4,2,0,4,1,1,2,0,5,0,2,3,1,1,4,0,5,4,1,3,2,1,5,1,3,1,0,2,1,3,4,5,1,
-                3,3,3,4,3,4,1,4,1,3,5,0,0,2,3,3,4,5,4,3,5,2,4,0,5,3,0,0,3,3,4,3,1,2,3,2,0,1,3,3,
-                3,0,3,2,0,3,1,5,1,3,1,5,3,5,5,4,1,0,5,0,4,0,1,5,1,2,3,4,0,5,1,2,5,5,3,1,5,2,0,3,
-                3,3,4,4,3,0,4,1,0,1,5,4,4,2,4,3,4,4,4,0,0,1,4,1,4,3,0,4,4,5,2,4,5,2,2,5,2,1,0,4,
-                3,4,0,1,3,2,1,2,5,4,4,5,2,1,0,0,5,1,3,0,3,5,4,0,2,1,2,1,4,5,5,2,1,5,5,2,5,4,0,0,
-                4,2,0,0,1,5,1,1,5,3,4,0,4,4,0,4,0,4,2,1,0,0,5,3,2,4,2,4,2,2,2,2,0,5,1,0,2,1,1,0,
-                3,2,4,3,3,2,2,4,3,5,5,1,5,4,0,2,4,4,5,1,4,3,4,4,2,2,1,0,4,3,3,2,0,0,0,2,5,2,2,5,
-                4,3,4,0,0,1,1,2,5,3,5,4,3,1,0,5,3,0,1,1,0,5,5,3,4,5,0,0,4,1,3,3,3,3,3,2,3,0,4,5,
-                4,4,3,4,4,4,2,5,5,5,2,2,2,1,3,4,2,2,3,0,3,5,5,4,5,3,1,4,1,4,1,2,1,2,3,4,1,3,4,4,
-                1,3,0,0,3,1,0,3,5,0,0,5,3,2,4,4,5,2,5,2,4,5,3,1,3,1,4,0,0,5,4,0,5,5,0,2,1,3,0,5,
-                5,4,2,2,5,3,3,1,5,0,5,5,2,4,0,4,3,0,5,1,0,0,1,5,3,2,5,4,4,5,5,2,5,2,1,2,4,4,2,1,
-                2,3,2,0,1,1,2,3,0,5,2,3,1,2,3,1,3,4,1,2,4,3,5,0,0,2,4,5,2,1,3,0,5,5,5,0,5,2,0,4,
-                5,1,4,3,0,4,2,4,0,1,3,1,2,4,3,3,1,3,0,4,2,3,3,2,1,0,3,4,1,0,2,5,5,1,2,2,2,0,1,0,
-                0,1,2,3,4,2,1,0,1,0,3,5,4,1,4,5,5,0,0,5,3,3,2,5,0,1,3,1,5,3,4,5,2,0,0,4,5,3,5,4,
-                5,2,2,1,4,1,0,1,2,5,5,2,1,2,5,5,1,1,0,5,1,5,4,5,4,0,2,4,4,4,4,2,0,3,3,0,3,5,0,0,
-                1,3,1,2,1,3,3,4,3,2,3,3,1,0,3,5,2,0,5,0,2,2,4,1,4,3,1,5,3,4,0,5,2,4,4,2,5,0,0,5,
-                0,5,4,2,5,1,1,1,4,1,2,0,0,1,1,5,4,3,3,4,5,4,0,4,4,3,0,1,0,1,1,4,5,4,2,2,1,4,3,2,
-                3,1,4,2,2,3,2,4,3,3,0,3,4,1,4,0,2,2,2,4,4,2,4,3,2,2,4,4,1,0,4,0,1,0,3,1,5,0,4,0,
-                2,2,1,3,4,2,1,5,4,4,0,5,3,2,5,2,3,1,5,0,5,0,5,0,3,4,3,4,5,1,4,0,2,1,4,1,5,4,0,4,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=68;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=42;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=33;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=22;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level7L(){
-        int[] Tab0 = {0,3,2,3,0,5,5,1,3,1,0,1,5,4,1,4,2,1,1,5,4,3,4,2,4,5,3,1,3,3,1,3,5,0,1,3,0,0,1,1,
-                2,0,2,4,2,5,0,5,3,2,5,5,4,0,0,4,0,1,2,1,4,5,4,2,5,2,0,1,4,2,2,4,1,0,0,3,0,1,4,0,
-                3,4,4,1,5,1,3,4,4,2,2,1,0,1,2,3,2,4,0,1,5,1,4,1,5,1,3,5,2,3,2,5,3,3,4,4,4,2,4,5,
-                2,2,3,1,2,2,3,0,3,4,4,2,1,0,2,2,5,3,1,3,2,5,2,5,1,1,0,4,4,4,1,3,3,5,5,0,3,3,1,5,
-                0,2,5,1,5,4,1,3,1,0,2,5,0,0,1,4,3,0,3,5,4,4,4,0,3,3,2,3,1,3,3,4,3,4,1,3,0,2,1,4,
-                3,3,2,0,2,0,0,0,2,4,3,4,2,4,1,3,0,0,4,2,1,1,3,3,3,4,3,3,0,1,2,4,5,0,0,1,5,2,3,2,
-                1,5,1,0,0,5,0,4,3,4,4,3,4,0,5,0,0,4,2,1,4,0,3,4,2,2,5,0,3,2,4,1,1,1,1,1,3,3,3,4,
-                4,3,2,3,4,1,2,4,2,4,4,1,1,2,0,0,0,1,1,3,0,1,2,5,3,0,3,2,4,2,1,5,1,0,5,5,4,0,4,1,
-                3,4,2,3,3,3,1,4,3,3,4,1,3,4,5,0,2,2,4,0,2,5,2,5,5,3,0,5,0,1,0,3,4,0,2,2,3,4,2,3,
-                4,5,5,5,5,0,3,4,3,1,3,1,0,5,2,3,2,3,2,2,1,1,0,5,4,5,2,4,0,3,5,3,3,3,2,5,5,3,4,0,
-                3,2,2,4,0,1,4,4,0,0,4,3,4,2,0,0,4,5,1,4,4,1,4,4,4,4,0,2,4,5,0,5,2,2,1,5,4,2,5,0,
-                0,1,0,0,3,2,0,4,0,5,2,5,2,0,1,0,4,3,0,1,4,2,5,3,4,5,2,2,3,3,3,5,0,4,3,4,0,0,3,1,
-                4,3,3,3,3,5,1,5,1,0,4,4,1,4,5,4,5,2,4,5,2,3,3,4,0,5,2,5,2,4,3,3,4,2,4,0,4,0,2,5,
-                3,5,1,1,2,4,5,3,5,1,2,4,0,5,3,3,4,2,2,3,5,5,5,5,3,2,5,5,5,2,4,4,3,0,4,1,4,3,1,3,
-                5,0,4,3,2,4,2,3,4,1,0,2,3,2,3,2,2,0,1,5,3,5,0,0,1,0,0,1,0,2,1,0,1,1,2,5,0,5,4,3,
-                3,0,2,2,3,4,1,4,4,5,1,2,3,0,3,3,5,4,0,3,3,4,4,0,3,1,2,3,3,1,2,0,0,3,3,3,4,4,0,1,
-                3,1,3,1,1,2,3,1,1,3,1,1,3,2,3,5,4,0,1,5,0,0,1,3,5,0,4,0,4,1,0,4,5,4,5,1,5,4,5,0,
-                0,0,1,0,3,4,4,0,2,3,4,3,1,1,1,1,2,1,2,4,0,2,5,0,2,4,0,0,0,1,1,3,1,5,3,3,0,5,2,4,
-                4,2,1,5,1,2,2,3,5,0,0,3,3,0,5,0,4,5,0,2,2,0,0,2,1,2,4,1,0,3,1,5,2,5,4,3,3,5,0,2,
-                0,5,0,3,2,4,0,3,4,1,5,2,3,0,0,5,2,5,3,4,1,2,3,5,4,4,0,5,5,3,1,1,0,5,1,4,1,5,4,4,
-                4,2,1,1,3,2,4,5,3,1,3,0,2,5,3,1,0,2,3,0,4,0,0,2,0,0,0,4,0,2,3,5,4,4,3,5,4,5,3,1,
-                5,2,0,0,1,0,3,5,2,3,5,0,1,0,5,2,3,3,2,1,1,1,2,1,3,3,1,3,2,3,1,5,4,3,3,3,0,3,1,5,
-                5,0,4,4,2,4,4,3,1,0,0,4,3,2,3,0,3,4,4,1,1,1,2,1,4,4,3,0,5,3,1,3,0,5,3,3,2,3,5,1,
-                4,0,2,2,2,2,4,0,5,0,1,5,5,1,1,4,3,4,3,5,0,1,3,5,3,2,0,1,0,4,1,3,2,5,1,5,0,1,3,3,
-                1,1,3,3,1,2,5,2,5,5,2,2,3,4,3,1,0,0,0,3,2,4,2,2,4,5,0,5,0,4,2,4,5,2,4,0,3,2,2,3,
-                1,5,5,2,4,5,1,3,5,5,0,2,1,4,4,4,1,0,0,4,5,4,2,2,0,3,1,3,1,0,5,0,4,2,0,5,3,3,0,4,
-                0,2,1,0,2,1,1,1,2,2,2,0,2,1,3,5,2,0,2,3,2,2,2,2,2,2,2,2,1,1,0,5,4,4,0,1,2,4,5,4,
-                5,5,1,1,4,4,3,4,1,0,5,1,3,2,0,1,0,1,0,0,0,3,5,5,1,5,3,4,3,2,1,3,4,5,3,0,1,1,2,1,
-                5,5,0,1,4,3,5,3,3,1,1,3,2,2,3,3,2,4,3,0,1,5,2,4,1,2,1,1,0,1,2,0,2,4,3,0,0,3,2,1,
-                0,4,4,4,2,2,3,2,5,2,3,3,4,4,4,0,0,4,2,3,4,1,0,2,5,3,1,2,2,2,4,3,3,0,1,5,1,2,3,2,
-                4,5,2,1,3,1,4,4,4,3,1,1,1,4,4,3,5,0,4,4,5,0,5,4,0,1,1,1,5,4,5,3,0,5,3,5,0,1,1,0,
-                2,1,3,3,4,1,4,0,0,5,1,5,2,1,5,2,5,3,5,5,3,1,3,2,1,4,2,4,3,2,1,4,0,0,4,0,1,3,2,5,
-                2,2,1,1,3,2,3,1,5,2,2,3,2,5,5,2,5,4,0,2,5,3,1,1,2,0,3,2,5,5,0,4,1,5,1,1,0,1,1,4,
-                2,1,5,3,3,1,2,5,2,5,2,2,1,1,5,3,4,0,1,3,3,1,5,1,1,0,2,5,2,0,1,1,4,2,0,2,2,3,1,1,
-                3,3,3,3,0,5,4,4,2,4,3,5,5,4,5,2,5,2,4,1,4,2,3,5,4,4,2,5,0,0,2,1,0,5,4,3,5,4,3,3,
-                1,5,4,0,1,0,0,2,3,1,0,5,1,4,1,1,0,1,2,4,0,5,2,3,3,0,2,5,2,1,5,1,3,5,3,0,5,4,0,4,
-                1,0,3,1,2,5,1,3,2,0,5,4,4,1,0,3,1,4,5,5,1,5,4,0,0,5,0,2,1,4,5,1,2,1,4,3,1,5,3,3,
-                3,5,0,1,3,1,4,4,4,0,0,5,3,3,5,4,1,1,4,3,1,1,3,5,2,5,2,4,0,5,4,5,5,4,0,1,0,4,1,3,
-                4,2,0,3,4,4,4,0,0,5,0,4,1,5,1,5,2,4,3,1,4,3,4,0,2,5,3,2,0,5,4,4,1,2,4,5,2,1,3,4,
-                1,3,3,5,5,1,3,0,2,1,2,4,3,1,5,5,3,3,2,5,3,4,1,3,4,1,5,5,1,1,2,3,1,5,2,2,1,5,5,5};
-
-        int[] Tab3 ={2,5,2,4,5,4,3,3,3,2,5,3,3,1,1,5,5,1,5,1,4,5,5,1,3,0,0,4,3,0,3,2,2,5,5,4,4,3,3,1,
-                0,2,1,0,2,5,5,2,5,5,4,0,2,5,4,5,1,4,5,5,4,2,1,0,3,5,5,5,4,1,0,1,1,1,5,4,3,0,0,1,
-                4,1,0,0,0,5,3,5,0,1,5,4,0,0,3,2,1,2,3,1,2,5,0,4,2,0,0,3,5,0,2,4,0,3,0,0,1,5,0,4,
-                4,4,2,4,3,0,1,3,2,4,0,1,1,0,0,4,5,4,4,4,5,2,3,0,1,5,2,1,0,5,1,2,5,4,2,4,2,3,0,5,
-                4,2,5,1,5,1,5,3,4,2,5,0,0,1,0,3,4,4,0,2,0,0,0,1,1,0,0,0,5,3,2,0,2,2,2,1,0,2,1,2,
-                1,3,4,1,2,3,4,1,3,0,1,3,1,0,1,2,5,3,3,0,2,4,3,2,4,4,5,3,3,2,4,1,2,1,0,4,0,5,3,5,
-                5,4,2,4,3,3,2,5,2,0,1,5,4,0,0,4,5,4,3,5,5,3,5,2,5,3,1,0,0,2,1,5,0,0,5,1,1,3,3,4,
-                2,4,0,2,4,3,2,1,2,5,4,3,3,1,3,4,3,4,0,5,1,4,3,3,5,3,3,5,0,0,1,0,2,5,3,0,5,4,5,0,
-                1,1,5,1,3,0,4,5,4,3,2,0,3,0,1,2,4,4,3,0,3,0,0,1,5,0,5,4,0,3,5,3,5,0,3,1,2,5,0,5,
-                1,3,3,4,1,5,1,2,5,5,5,1,3,3,2,5,5,0,4,4,4,2,3,0,5,0,4,5,4,0,5,2,2,2,1,2,5,1,4,1,
-                0,3,3,2,0,4,0,5,1,4,5,1,2,1,5,5,3,5,5,5,1,0,0,2,0,1,5,2,2,4,3,2,0,3,4,4,4,3,4,3,
-                3,1,5,1,0,4,0,3,1,0,2,3,2,0,2,2,5,3,0,5,4,0,2,5,0,2,5,2,0,0,2,1,3,1,2,1,0,5,4,0,
-                5,1,4,3,5,5,3,1,3,3,4,2,4,1,3,4,3,3,4,2,3,2,0,2,5,1,0,2,3,2,5,0,5,5,0,4,4,2,1,3,
-                4,4,2,3,3,0,3,5,0,1,1,5,2,0,4,4,1,2,4,2,5,2,0,2,1,1,2,5,2,3,3,4,1,2,5,2,2,3,4,3,
-                3,0,1,2,3,2,0,1,1,3,1,3,1,5,2,0,3,2,4,4,2,5,0,0,3,2,5,2,0,0,4,2,4,3,5,2,3,1,3,5,
-                5,1,1,5,1,5,3,2,3,1,3,0,1,0,4,3,4,1,4,3,2,5,2,4,5,5,2,5,4,5,5,5,3,5,5,2,4,1,5,1,
-                1,3,2,1,2,4,3,4,0,2,1,3,5,1,1,2,3,3,4,2,5,5,4,1,5,5,4,0,4,1,1,5,4,2,3,2,3,0,5,2,
-                0,2,1,2,1,2,1,0,3,4,3,0,0,1,4,1,1,4,2,1,2,2,5,0,0,5,5,4,2,0,3,2,5,1,4,0,2,5,4,1,
-                5,0,2,1,2,2,2,0,1,3,1,1,3,4,0,5,0,1,5,2,0,5,4,4,1,4,1,1,1,5,1,5,0,2,0,4,4,3,5,2,
-                5,2,2,2,4,3,2,0,0,0,5,3,3,0,0,2,2,0,5,3,2,3,4,4,0,5,0,0,3,2,1,1,5,1,4,0,1,3,5,5,
-                3,4,5,5,3,1,5,4,2,2,2,4,5,0,0,0,1,0,2,3,2,5,5,4,4,1,5,1,0,3,4,2,5,2,2,2,3,4,4,1,
-                2,1,0,1,3,4,2,3,2,2,0,2,4,0,3,1,2,4,1,1,5,1,4,2,2,4,3,3,3,2,1,0,0,4,0,4,0,2,0,4,
-                1,2,3,4,0,3,5,2,4,3,1,5,0,0,1,1,0,5,4,3,2,3,0,4,2,4,5,1,5,4,0,3,1,4,1,1,1,5,2,0,
-                2,1,2,5,4,4,3,3,1,0,4,5,5,3,2,1,5,3,5,5,5,2,0,5,2,3,5,0,0,4,2,1,1,4,5,5,4,1,5,3,
-                3,3,3,2,1,2,2,5,1,4,4,3,1,5,1,0,0,2,0,2,1,0,0,1,3,3,4,0,1,4,1,1,0,1,1,4,2,0,4,0,
-                3,0,5,5,3,3,1,0,5,0,2,1,5,4,3,2,4,0,1,1,4,3,1,5,0,5,0,1,4,3,0,1,5,3,3,2,3,1,4,2,
-                5,0,2,0,0,0,1,1,2,3,0,4,4,2,2,2,3,0,2,4,0,5,1,4,1,0,5,5,4,2,2,4,4,4,0,0,5,5,2,3,
-                4,4,1,2,3,1,3,2,5,5,1,5,1,5,5,1,5,1,3,3,3,0,3,2,1,3,5,2,0,4,4,5,3,5,4,0,0,2,2,3,
-                4,1,3,2,0,1,3,3,1,2,3,3,1,5,3,4,0,4,0,0,4,1,0,1,0,5,4,1,2,5,3,0,0,3,4,1,2,3,4,4,
-                5,3,0,3,1,2,2,1,2,0,1,0,1,4,2,2,2,0,3,2,2,0,1,3,1,5,0,2,5,4,4,2,3,0,3,5,3,5,1,1,
-                1,2,2,0,4,0,0,1,1,5,2,3,2,4,4,4,2,0,4,3,3,5,5,1,3,2,3,0,3,4,3,0,3,0,2,5,3,5,4,0,
-                3,1,2,0,3,5,2,5,5,3,2,4,5,2,5,0,1,1,0,5,2,5,5,3,1,1,2,3,3,5,4,5,2,5,5,0,1,5,4,3,
-                5,2,1,4,2,0,5,3,2,0,0,1,1,4,2,4,1,2,4,0,3,4,0,2,1,2,3,4,5,5,3,3,2,4,4,4,5,5,1,2,
-                0,4,5,1,5,3,5,3,4,4,1,1,2,2,1,5,3,4,5,3,0,2,5,0,5,5,3,3,2,2,5,2,2,4,0,5,0,4,2,3,
-                1,4,3,3,1,1,1,1,2,2,0,4,1,2,4,2,0,3,0,4,0,3,3,3,0,5,0,5,1,2,0,2,0,3,4,1,3,3,2,5,
-                5,1,4,3,3,0,1,1,5,1,4,1,4,1,3,0,1,3,2,0,1,5,5,4,0,2,2,0,5,1,3,5,4,0,4,3,0,4,0,5,
-                2,2,4,0,3,3,5,1,5,3,1,4,5,3,5,2,0,3,1,4,3,3,5,3,3,0,1,5,1,0,4,5,5,4,0,5,1,3,2,0,
-                5,4,1,3,5,5,3,4,4,2,1,0,3,3,4,3,4,3,3,1,2,5,3,2,4,2,1,0,5,1,0,1,4,3,0,1,5,2,4,2,
-                2,3,0,2,2,5,2,5,2,4,2,4,2,3,1,5,1,1,2,1,1,2,3,4,4,1,2,1,0,2,0,2,3,1,2,5,4,1,1,4,
-                3,0,5,0,4,5,3,3,4,4,1,4,0,0,0,2,5,4,2,4,5,0,1,3,4,0,1,2,3,4,4,2,4,2,3,0,3,0,2,3,
-        };
-        int[] Tab2 ={2,5,4,5,0,2,3,2,5,4,2,5,2,5,3,5,3,1,0,5,4,3,3,1,4,4,1,2,0,4,2,4,1,0,2,4,2,0,5,2,
-                4,3,5,5,5,3,0,2,2,3,3,1,4,2,0,3,1,3,3,5,4,3,5,2,2,3,0,2,3,2,1,4,4,0,1,0,1,0,4,3,
-                4,0,0,2,1,5,1,2,0,2,2,0,4,3,4,1,2,1,3,3,2,5,2,1,1,0,0,0,3,5,3,5,1,3,3,2,2,4,1,2,
-                5,3,1,3,5,3,1,1,3,0,3,3,0,2,1,0,3,0,0,5,3,5,3,4,1,5,2,1,1,5,1,3,3,2,2,4,2,4,5,3,
-                4,4,4,0,1,3,4,3,2,3,2,4,3,2,2,1,3,0,4,3,1,5,5,4,0,0,3,3,2,3,5,4,0,1,5,4,5,2,3,5,
-                1,3,5,0,3,3,1,2,3,4,1,4,1,5,0,2,1,5,4,0,3,4,4,3,1,5,4,3,4,1,4,4,2,4,0,5,1,4,0,2,
-                3,0,5,4,1,5,5,2,2,4,1,3,0,3,1,3,3,2,0,5,3,1,2,3,1,1,1,5,2,1,3,1,2,3,1,3,4,3,5,5,
-                5,1,5,4,0,1,2,0,3,5,1,0,5,5,3,2,4,1,0,2,0,4,5,2,4,5,3,3,2,4,4,5,3,0,5,5,5,5,5,4,
-                1,2,5,5,0,4,3,2,1,4,1,2,2,3,5,0,2,0,5,3,1,1,1,0,5,5,3,4,0,4,3,4,5,5,4,4,0,3,3,4,
-                3,4,1,2,1,0,0,0,1,5,1,5,2,1,5,5,5,0,2,5,3,2,5,2,1,0,2,2,3,0,2,1,2,5,3,5,0,2,1,2,
-                1,0,2,4,4,0,2,5,2,0,5,4,5,5,4,4,1,4,2,0,4,5,5,1,0,4,2,5,0,0,0,2,2,1,4,5,5,0,1,5,
-                2,4,1,0,2,4,1,1,1,4,3,2,2,2,3,4,5,0,3,5,3,3,0,1,5,5,3,4,2,2,3,3,2,3,2,5,0,3,2,1,
-                3,4,3,3,1,4,4,3,1,3,0,3,0,1,3,2,4,1,0,4,2,3,0,0,2,5,4,2,2,5,1,3,0,1,4,4,5,0,2,5,
-                3,0,5,2,2,4,0,3,3,3,5,2,4,1,5,1,3,5,3,3,0,5,3,5,4,1,2,3,5,3,2,0,1,3,2,2,4,4,4,2,
-                4,3,1,0,1,4,1,3,0,4,0,5,3,3,4,0,3,2,5,4,5,5,1,0,5,2,5,0,1,4,5,2,3,1,0,2,2,0,0,2,
-                1,5,1,4,5,4,4,4,2,3,2,5,4,2,2,2,1,2,0,4,5,1,2,2,2,4,4,0,1,5,1,3,2,5,4,0,2,0,5,0,
-                4,5,1,2,3,1,0,5,3,5,5,4,1,4,2,1,4,1,1,4,1,1,1,0,0,1,2,5,3,2,2,3,5,2,1,5,2,3,5,0,
-                4,1,1,2,0,4,0,1,5,2,1,2,5,3,5,2,4,4,3,2,4,2,0,0,0,0,4,2,2,3,0,3,5,1,0,0,5,5,4,5,
-                1,5,5,4,4,0,1,4,0,3,5,0,2,5,0,2,5,0,0,3,3,1,2,3,0,0,3,2,3,5,5,3,0,1,0,1,5,2,2,5,
-                1,3,1,1,5,4,0,4,5,0,0,2,5,3,5,0,3,2,0,2,0,2,2,4,0,5,0,4,4,5,3,4,5,0,3,1,4,1,1,5,
-                0,4,1,2,0,2,1,2,0,1,5,0,5,1,1,2,4,3,0,3,2,3,0,1,3,1,3,1,4,5,2,3,3,1,0,2,0,1,1,0,
-                2,0,2,4,3,3,1,4,4,1,3,3,0,0,4,1,1,4,0,4,5,2,3,2,3,0,4,2,2,0,3,4,1,4,1,2,3,1,5,3,
-                4,3,0,1,3,0,1,2,0,5,2,4,0,2,1,5,4,1,2,5,0,3,1,0,0,1,5,0,2,1,3,2,0,0,5,1,2,0,4,1,
-                5,3,1,4,2,0,3,2,4,2,5,3,3,5,5,3,3,1,1,2,5,5,2,0,0,1,0,0,2,3,4,1,2,5,5,5,4,3,2,1,
-                2,1,2,4,0,1,5,4,4,2,5,3,5,5,3,2,2,0,3,4,3,3,0,5,1,1,1,3,5,2,4,1,1,3,0,3,4,2,5,2,
-                4,1,1,5,0,3,2,5,1,3,5,1,4,0,1,3,1,3,1,3,4,3,1,4,3,3,0,4,0,0,5,4,5,1,3,3,5,5,2,4,
-                5,1,5,3,2,0,3,4,0,4,5,5,1,0,5,1,5,3,1,4,0,5,1,5,2,4,5,1,5,2,2,2,0,4,4,0,3,1,2,1,
-                2,4,2,2,1,0,0,3,3,1,2,3,3,4,4,0,3,2,0,0,0,0,1,2,4,0,0,2,3,5,5,5,1,1,4,4,5,4,3,5,
-                0,4,4,1,0,2,2,3,0,5,0,4,5,2,2,3,5,0,4,3,5,5,2,0,5,0,1,2,0,3,5,5,0,3,3,0,2,5,1,5,
-                3,2,2,3,1,5,1,5,4,3,1,1,1,3,5,0,2,4,2,0,5,3,2,1,2,2,1,0,0,1,4,0,1,2,4,1,3,1,4,5,
-                5,1,5,4,2,0,2,0,1,5,5,2,0,2,3,2,3,3,1,1,2,4,0,5,2,3,0,2,0,5,0,3,0,4,0,0,1,3,2,5,
-                0,3,2,0,0,1,2,3,3,2,1,0,1,4,5,0,5,2,1,2,1,3,0,4,5,1,0,3,4,0,0,4,1,0,0,2,2,1,4,4,
-                4,4,5,3,4,1,2,0,2,5,1,1,1,5,1,0,0,4,1,5,4,4,3,2,0,3,5,2,5,4,0,1,5,0,0,1,4,4,0,3,
-                5,0,0,5,4,3,1,0,4,4,2,2,5,1,1,5,5,5,5,4,2,4,5,1,0,4,1,0,4,4,0,2,1,0,0,2,3,5,3,4,
-                1,4,5,5,3,1,5,3,3,2,5,2,4,0,0,3,1,0,5,4,0,3,4,5,0,1,5,4,3,3,2,2,4,0,3,2,5,4,0,1,
-                2,0,1,0,1,1,5,0,2,5,2,0,5,3,5,5,0,4,4,5,3,2,4,1,4,2,0,4,0,2,0,0,2,2,3,3,2,1,0,0,
-                3,0,3,4,4,4,0,3,1,5,4,4,2,5,0,1,2,2,2,2,0,5,0,3,5,3,0,1,4,1,2,0,0,5,5,3,0,4,1,2,
-                5,2,5,4,2,1,3,2,0,1,0,2,0,4,3,0,3,3,0,3,0,4,1,2,3,2,4,4,2,1,3,3,4,0,5,3,2,4,4,0,
-                5,3,2,1,5,4,3,4,0,4,5,1,5,4,3,1,1,5,1,1,2,0,5,5,4,0,4,2,3,4,3,5,3,0,0,0,4,0,5,2,
-                2,1,3,4,1,5,4,5,2,1,5,4,5,5,1,5,4,4,4,1,4,3,2,2,1,2,0,5,0,2,2,3,0,2,0,0,1,4,5,5,
-        };
-        int[] Tab1 ={1,4,0,2,0,3,5,4,2,2,2,5,5,3,0,2,2,5,4,4,4,3,2,0,1,0,5,1,1,5,3,0,4,4,3,5,4,5,0,5,
-                5,5,4,4,1,1,5,0,0,3,4,0,3,2,4,2,3,5,1,3,2,2,3,2,4,0,4,3,0,4,3,3,4,5,3,5,5,2,5,5,
-                5,2,4,1,3,3,5,2,1,1,4,2,5,0,1,4,4,0,2,0,2,2,0,5,4,1,2,5,3,4,2,4,0,3,1,2,5,4,5,1,
-                5,3,4,0,5,2,3,2,0,3,1,1,2,1,4,5,4,1,1,2,1,0,3,0,2,1,4,0,1,3,3,4,1,4,4,1,1,0,0,1,
-                5,0,3,0,3,0,1,4,0,0,5,0,5,0,3,4,3,4,2,3,1,5,5,4,0,4,3,2,3,2,4,2,5,0,5,3,2,1,0,3,
-                0,5,3,3,5,4,0,5,0,5,0,3,1,5,0,0,3,2,0,0,3,1,4,4,3,0,3,3,5,2,5,3,2,0,0,5,4,1,3,3,
-                1,1,3,1,0,4,1,4,4,3,3,4,1,5,2,2,0,0,5,2,0,2,5,5,1,0,5,4,2,5,3,5,2,2,4,1,0,4,4,5,
-                1,3,5,5,1,2,3,1,2,1,2,3,1,5,3,5,0,4,1,4,5,0,4,0,3,3,0,1,5,5,4,4,5,5,0,1,3,2,5,3,
-                3,4,4,3,3,1,5,0,4,1,5,4,4,5,3,1,0,1,2,1,5,1,2,4,3,2,0,3,3,2,1,3,0,1,0,0,5,5,3,1,
-                5,5,2,2,3,2,4,3,3,5,1,1,0,3,2,0,5,0,2,3,4,4,0,0,4,0,3,0,5,5,3,1,5,4,3,0,0,1,5,4,
-                3,5,0,1,0,4,4,4,2,2,2,3,4,0,4,3,1,4,0,2,5,3,1,1,1,3,4,5,5,1,0,3,5,0,4,2,4,5,0,5,
-                5,3,4,0,5,5,0,3,4,5,4,0,5,3,5,0,0,3,4,0,2,0,5,3,5,5,5,0,2,3,2,4,2,2,1,2,5,1,5,4,
-                4,3,2,2,2,4,3,5,3,3,1,1,1,0,0,5,1,4,2,5,0,3,3,2,1,5,4,1,3,0,3,1,5,2,1,2,5,4,3,2,
-                0,2,0,3,1,1,3,0,3,4,5,1,5,4,0,0,3,4,0,5,2,1,0,0,1,2,2,4,2,5,5,2,1,4,3,0,4,5,0,2,
-                5,2,1,4,1,1,1,0,3,5,0,2,2,2,2,3,3,5,2,2,0,0,4,2,3,0,1,2,4,3,5,0,5,0,0,3,2,1,1,3,
-                1,1,2,0,0,1,5,0,4,3,0,3,1,5,2,0,5,3,5,4,5,0,2,0,4,5,3,4,4,0,1,4,4,4,1,3,2,1,2,1,
-                0,4,1,3,1,1,4,3,3,5,2,4,4,0,1,4,0,4,3,3,1,0,1,4,5,4,5,0,2,0,0,1,4,2,3,0,1,4,4,3,
-                1,3,2,2,0,5,4,2,4,1,1,0,5,4,0,0,4,4,1,5,3,0,1,0,0,3,5,2,5,2,5,2,0,0,3,4,3,3,5,4,
-                5,5,4,5,0,4,0,4,1,3,4,2,2,3,4,3,3,5,5,1,0,5,5,5,3,2,2,0,4,4,4,5,5,1,3,0,3,1,0,3,
-                3,4,5,1,5,4,2,5,0,2,0,2,2,3,2,5,1,0,0,2,3,5,0,1,5,5,1,4,1,5,2,3,3,0,0,0,0,1,5,2,
-                5,5,2,1,3,3,1,2,0,1,1,0,0,5,3,3,4,0,1,1,1,0,1,0,5,5,2,4,2,0,2,5,5,3,2,2,4,1,2,5,
-                2,3,3,1,4,2,2,0,0,5,4,1,0,3,1,4,4,3,2,5,3,0,3,1,0,2,0,1,4,4,4,1,4,5,1,5,3,2,0,2,
-                3,2,3,4,1,3,2,5,4,3,3,3,1,5,4,3,4,5,0,0,5,0,3,3,5,0,4,2,0,3,3,4,0,4,3,0,0,1,2,2,
-                5,5,5,2,1,3,1,0,2,4,5,1,5,1,1,0,5,0,1,4,0,5,4,5,4,4,0,2,0,0,5,3,5,5,0,4,4,5,5,5,
-                1,4,3,3,3,2,0,3,4,0,0,4,3,5,4,0,3,3,3,0,5,1,3,3,2,1,5,0,0,5,2,1,1,0,0,4,3,5,5,0,
-                4,5,2,0,3,5,5,2,5,4,2,2,1,5,2,5,2,2,1,2,5,5,3,0,5,3,1,4,0,2,0,2,3,4,5,2,2,3,5,4,
-                1,1,2,0,1,5,1,3,5,3,1,0,0,0,0,5,4,1,1,4,0,1,4,2,3,3,4,2,1,4,2,5,2,2,3,2,3,4,4,0,
-                1,3,4,2,1,0,5,3,0,3,4,5,1,3,5,5,3,5,1,2,5,0,4,1,0,4,2,5,0,0,4,2,0,2,4,4,0,3,1,4,
-                0,2,0,1,4,2,3,4,0,1,5,1,4,1,2,5,2,0,2,5,4,1,5,1,1,5,5,3,0,4,4,3,0,4,2,1,2,0,2,0,
-                4,1,1,1,4,2,3,2,3,3,2,3,3,5,1,3,2,3,4,5,2,5,1,4,0,2,4,1,3,0,3,3,3,4,0,3,5,1,1,3,
-                3,0,2,2,5,1,5,4,2,2,2,4,4,2,4,0,4,1,4,5,3,2,4,0,1,1,4,1,0,0,5,3,1,3,2,1,4,0,1,3,
-                0,3,2,2,2,0,1,5,4,2,1,0,5,2,0,0,0,0,1,5,2,4,2,2,5,4,1,0,3,3,4,4,4,3,0,1,1,0,4,1,
-                0,1,3,4,3,3,0,5,2,2,3,1,5,1,0,5,1,2,2,0,3,4,3,4,0,2,5,1,5,1,0,3,3,4,5,4,4,1,4,5,
-                0,2,4,4,1,5,2,1,5,5,5,5,1,3,2,4,5,3,4,5,5,0,5,1,2,0,1,5,0,4,0,5,0,0,3,3,3,5,2,1,
-                5,5,4,2,4,2,3,1,2,3,4,3,1,4,0,5,1,1,5,4,1,5,4,1,5,5,5,0,4,1,4,0,1,2,0,0,0,4,0,4,
-                0,4,1,5,3,0,4,0,2,1,2,4,4,4,0,2,2,2,5,1,2,3,3,4,0,5,4,5,1,1,3,1,5,1,4,3,0,3,5,1,
-                1,2,2,3,5,5,4,1,1,4,4,0,3,2,5,2,5,5,3,4,0,3,0,5,5,5,5,3,1,1,3,4,2,5,1,4,5,4,4,0,
-                3,5,5,5,5,0,1,1,0,3,5,4,3,1,3,3,3,2,1,4,0,4,2,3,5,3,0,5,1,4,2,2,5,5,0,5,3,5,3,0,
-                1,3,3,3,0,1,2,2,4,5,5,0,3,2,5,1,1,3,0,4,2,3,2,2,3,5,0,2,2,5,1,0,4,0,1,3,5,3,5,5,
-                0,1,2,1,5,3,5,2,3,1,4,5,5,3,5,3,3,5,5,2,4,3,1,1,5,3,2,5,5,0,1,0,3,3,3,1,0,0,1,2,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=63;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=42;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=35;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=21;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level8L(){
-        int[] Tab0 = {3,3,5,0,4,4,3,3,3,2,2,0,3,1,1,5,5,4,5,1,4,4,0,1,5,1,5,0,5,3,5,1,1,0,1,1,5,5,0,5,
-                5,1,5,3,3,2,5,2,1,1,1,4,2,0,3,3,2,2,4,4,5,5,4,4,3,5,3,2,5,0,4,2,1,0,0,5,2,1,5,3,
-                1,2,3,3,1,5,1,1,4,1,3,5,0,3,1,4,3,3,2,0,5,2,4,1,1,1,5,4,2,1,2,5,0,1,2,0,3,4,2,0,
-                0,3,1,5,4,5,5,3,2,1,0,4,1,3,0,0,2,4,1,0,4,3,0,2,0,4,5,3,0,3,1,0,4,4,0,4,0,3,4,0,
-                3,1,4,5,3,5,5,4,3,3,4,3,1,0,2,0,4,0,3,1,1,2,4,1,5,5,4,0,5,0,3,3,3,4,5,1,0,3,4,5,
-                0,4,4,5,1,2,2,3,3,2,0,4,2,4,4,1,5,1,2,5,3,2,1,4,4,0,0,5,5,5,5,1,5,5,0,2,0,5,3,4,
-                1,1,1,3,3,3,2,2,5,1,3,5,4,3,0,4,2,2,2,3,4,1,5,1,5,0,2,1,0,3,3,3,1,0,3,3,3,3,0,5,
-                0,0,1,3,5,0,1,4,5,5,3,3,1,3,3,4,5,5,1,2,4,1,1,1,3,3,5,5,5,3,0,0,0,4,2,3,1,3,4,0,
-                0,5,3,1,4,5,5,2,0,2,4,3,3,3,2,4,1,1,5,2,5,3,2,0,4,4,5,5,4,2,3,4,4,3,5,5,0,4,1,1,
-                2,1,0,4,1,5,4,4,3,1,5,0,1,5,0,2,0,5,5,0,2,2,0,1,4,4,1,0,4,1,1,5,1,1,0,1,4,2,0,4,
-                1,1,0,4,2,1,2,4,4,5,3,5,1,3,3,5,1,3,3,4,0,4,1,1,4,1,3,5,1,4,3,4,3,0,5,0,4,0,2,5,
-                1,4,3,2,2,5,2,0,1,2,2,1,4,1,4,2,4,5,0,0,2,1,3,5,2,1,5,0,1,3,0,4,4,3,0,4,0,2,5,1,
-                2,2,4,1,3,4,5,0,5,4,0,4,3,0,2,1,4,4,5,2,0,3,2,0,5,4,0,5,3,1,4,4,4,4,4,2,0,1,2,5,
-                1,0,4,5,4,5,4,5,4,2,4,2,2,0,1,0,1,3,5,0,1,2,1,4,0,2,3,5,3,3,0,3,4,0,1,1,1,0,5,2,
-                5,2,5,5,5,5,3,5,5,0,2,3,1,3,2,5,3,1,4,4,2,1,0,1,2,1,4,0,4,4,2,4,5,0,4,1,1,1,5,0,
-                1,5,5,1,5,5,1,4,0,2,1,3,5,2,2,0,5,2,0,5,3,1,2,4,5,5,3,2,1,0,3,3,4,4,2,3,5,0,4,0,
-                5,1,0,2,3,2,3,2,2,1,4,4,1,1,5,5,2,0,5,4,5,0,4,1,4,3,0,1,3,2,1,3,2,1,0,1,5,1,1,5,
-                5,3,2,1,3,0,4,4,4,5,2,5,4,1,4,5,0,1,0,5,1,2,2,4,1,3,4,4,3,3,0,4,5,1,1,1,4,5,0,4,
-                5,3,1,4,1,3,5,3,3,1,1,4,5,2,4,0,4,0,5,0,3,1,5,3,5,3,5,1,5,0,3,2,4,5,2,3,0,3,4,0,
-                0,2,4,1,3,2,5,4,5,2,2,5,4,4,4,1,1,4,0,5,1,1,0,4,0,1,4,0,3,2,5,4,2,3,4,2,1,5,2,1,
-                1,5,3,3,0,3,4,5,0,5,3,2,0,5,3,5,1,2,3,5,4,2,1,0,0,2,4,2,1,5,2,4,0,3,4,4,5,4,3,5,
-                3,5,4,0,3,2,2,2,4,5,0,2,0,0,4,4,1,3,2,5,3,0,5,4,5,3,4,2,4,3,5,2,0,0,5,1,2,4,1,0,
-                3,5,0,2,1,5,2,4,2,2,1,2,5,4,3,5,3,5,2,0,2,0,0,5,3,0,5,2,5,2,1,2,0,4,0,3,3,2,1,1,
-                1,2,1,5,2,0,4,0,0,1,5,0,1,1,4,3,1,2,5,3,3,2,2,0,5,0,5,2,2,5,0,1,2,5,3,1,4,0,5,2,
-                5,2,1,2,1,1,0,1,3,4,4,3,4,0,3,1,0,5,2,0,0,2,1,1,2,1,5,5,3,2,5,1,0,3,1,0,1,3,2,4,
-                1,0,5,1,1,1,0,4,5,4,0,4,1,1,5,3,3,1,2,5,4,1,2,0,3,3,5,2,0,1,3,5,1,0,5,0,4,3,5,2,
-                3,3,0,3,2,5,2,5,2,0,0,3,2,1,0,1,2,4,2,5,0,3,5,0,0,5,3,5,1,0,1,2,3,4,1,5,5,4,4,5,
-                2,0,4,4,1,3,4,4,1,3,2,3,5,1,2,4,5,0,3,0,5,5,0,1,4,0,2,5,4,4,0,0,5,0,4,0,5,3,3,4,
-                4,1,0,2,0,3,3,0,1,2,5,2,1,2,3,1,4,4,4,5,1,4,2,2,0,1,1,1,2,3,5,4,4,2,1,4,1,4,2,4,
-                2,3,4,1,3,5,0,3,3,5,1,2,1,0,1,2,5,0,0,5,3,3,5,0,0,1,4,5,0,2,0,1,2,2,0,1,3,3,3,2,
-                4,0,2,0,1,0,5,3,0,0,4,2,1,1,4,3,3,1,4,4,0,1,3,5,0,2,3,0,2,2,4,3,3,5,5,2,5,5,1,2,
-                0,1,4,2,4,2,0,2,5,1,0,5,5,2,2,0,3,3,3,2,4,4,0,5,1,1,3,0,0,5,1,3,0,3,5,3,4,5,4,2,
-                4,5,3,1,0,5,3,3,3,2,5,2,2,3,1,2,5,3,2,1,2,2,3,1,3,5,4,2,0,2,2,0,4,1,4,5,2,2,2,3,
-                0,0,1,4,0,2,4,5,1,5,1,4,1,5,5,5,5,0,1,1,3,0,4,5,0,4,2,4,2,0,3,2,4,2,1,0,2,3,2,1,
-                0,3,3,0,4,4,1,0,4,5,4,4,3,0,5,3,5,4,5,1,3,5,2,4,5,2,2,1,3,4,3,1,4,0,1,5,2,5,1,5,
-                4,3,2,2,4,3,5,1,2,3,2,0,2,1,1,3,1,0,3,0,0,2,1,2,0,0,4,4,1,4,3,3,1,0,5,2,0,1,3,1,
-                2,1,5,4,3,1,2,4,3,2,1,1,3,1,2,0,2,3,1,3,3,2,5,5,1,3,1,0,0,4,1,1,5,3,1,1,4,3,3,2,
-                4,3,3,1,0,5,4,2,5,1,1,2,1,4,3,5,5,1,5,3,1,2,3,5,3,4,2,1,4,5,0,3,5,5,4,2,2,0,5,5,
-                2,2,3,3,3,5,2,0,5,4,3,3,5,0,1,3,2,1,1,3,5,4,2,1,0,2,1,2,5,1,3,0,1,0,0,1,1,1,1,1,
-                0,5,0,0,4,0,3,5,5,2,2,4,1,2,4,2,1,1,1,3,4,3,0,4,3,3,5,4,0,3,4,2,3,3,1,3,5,2,5,4};
-        int[] Tab3 ={3,3,1,5,3,4,0,5,5,4,1,2,2,2,4,4,1,0,3,3,1,4,5,3,3,2,2,1,1,0,3,5,0,5,2,1,3,2,4,1,
-                1,1,1,1,2,0,2,4,4,0,4,3,1,5,3,2,3,5,0,3,3,3,1,2,3,0,5,3,1,0,3,1,4,1,1,0,5,4,0,0,
-                4,0,0,3,2,4,5,1,2,4,5,1,3,4,3,0,2,5,3,2,4,2,0,2,2,1,4,3,5,4,3,1,4,5,0,1,3,5,2,5,
-                2,0,1,1,1,5,5,1,2,4,2,1,0,5,2,1,1,0,0,5,5,5,2,4,2,4,2,4,2,0,5,0,1,5,0,5,4,5,5,0,
-                5,5,0,0,5,2,0,5,4,5,1,4,4,1,1,2,3,1,0,3,3,4,4,1,0,2,4,2,4,3,0,1,1,1,1,5,2,0,1,3,
-                5,1,5,3,3,5,3,0,2,0,2,4,2,0,1,2,3,1,2,0,4,5,2,3,0,3,1,2,1,1,3,0,5,1,5,0,3,0,5,1,
-                2,1,3,5,4,4,2,3,0,0,0,0,3,5,1,0,2,3,3,1,1,1,3,5,1,0,0,5,0,0,1,1,4,3,3,4,3,5,1,3,
-                1,4,0,1,4,5,1,5,4,3,5,4,5,2,0,3,2,2,5,2,5,1,2,4,2,5,0,5,2,4,2,3,0,2,3,5,4,3,5,1,
-                2,4,4,1,5,4,2,3,4,0,2,4,1,2,3,1,1,3,1,0,1,1,1,2,2,0,1,2,0,1,2,5,0,4,4,4,2,1,3,3,
-                4,4,1,5,3,0,2,0,1,3,0,5,2,4,5,5,1,2,2,4,0,2,3,4,4,5,3,1,4,4,2,0,0,0,2,2,0,1,3,1,
-                0,0,3,1,0,2,0,5,1,3,1,1,1,3,4,3,0,4,4,0,5,3,3,5,1,5,0,5,5,4,5,0,3,1,3,3,1,2,0,3,
-                2,1,2,1,0,0,2,1,2,4,1,3,1,1,2,5,0,4,4,5,4,1,0,0,1,4,2,3,2,2,4,0,4,1,1,4,5,3,2,3,
-                2,1,2,3,0,1,3,2,1,3,5,4,2,1,0,3,0,5,2,2,1,5,5,1,3,1,3,2,2,0,4,2,5,5,3,0,5,1,5,5,
-                1,0,5,3,4,3,1,5,5,4,0,3,2,0,0,0,2,3,2,3,4,3,1,2,5,5,2,1,4,3,3,4,5,0,4,0,2,1,5,3,
-                4,4,0,0,1,1,1,2,1,4,0,0,3,4,4,0,4,4,2,4,2,0,0,0,1,5,4,1,2,0,3,2,2,4,0,0,1,0,3,1,
-                2,0,5,2,4,4,2,0,3,0,2,2,4,1,0,4,3,3,1,0,5,0,3,1,5,0,4,1,4,2,1,4,4,0,2,1,0,5,5,1,
-                0,5,2,1,5,3,0,1,2,5,2,0,1,3,1,1,4,0,3,3,1,2,1,3,4,5,1,4,5,2,5,3,3,2,2,3,2,2,3,2,
-                1,2,2,1,3,4,0,5,4,1,3,0,3,0,0,3,4,1,4,5,2,4,4,1,2,5,4,4,3,4,4,5,2,0,3,2,2,4,5,0,
-                3,3,4,4,1,1,5,0,3,2,0,2,0,1,4,0,5,0,4,0,3,0,1,0,2,5,5,4,4,2,0,4,3,2,1,3,3,5,1,3,
-                3,0,5,1,2,4,0,3,2,4,1,5,5,1,0,0,1,0,0,3,2,4,2,1,5,1,2,3,2,0,0,0,0,0,1,5,3,2,1,4,
-                1,5,1,1,4,5,3,1,4,3,2,0,0,4,0,2,1,1,1,4,4,2,0,4,5,4,3,4,0,5,5,3,5,1,0,4,5,2,0,5,
-                5,2,4,2,2,5,3,3,1,4,3,0,3,4,2,0,0,3,1,3,4,1,1,1,0,2,5,2,2,2,4,1,5,2,2,5,2,4,1,2,
-                5,0,2,3,3,5,4,1,2,2,1,4,5,5,5,5,0,2,0,1,0,1,0,3,3,0,0,5,0,0,1,4,3,4,4,1,4,0,4,0,
-                2,0,0,5,2,1,4,4,3,1,2,1,0,3,4,0,5,0,3,0,5,5,4,5,1,1,4,2,3,2,4,4,3,4,0,2,0,4,1,3,
-                3,2,1,0,3,1,1,2,5,4,1,4,5,1,0,0,5,1,2,0,2,3,1,0,0,3,1,3,5,5,5,2,3,5,3,3,0,0,3,1,
-                2,5,4,3,1,1,0,2,4,0,2,2,2,4,4,0,5,5,5,3,0,0,3,3,5,2,0,2,5,0,3,2,2,1,3,5,4,3,3,4,
-                2,3,2,2,2,3,0,5,5,4,1,4,5,0,3,1,3,1,0,2,3,3,0,1,1,1,2,3,1,0,3,3,5,0,3,5,3,3,3,1,
-                2,3,0,3,3,1,1,1,3,1,2,1,1,1,1,0,5,4,5,2,5,3,5,2,5,1,2,3,1,3,0,1,0,1,5,4,0,4,0,2,
-                3,3,5,0,2,0,3,0,2,0,1,0,0,2,2,0,4,1,4,1,1,5,2,5,5,4,0,5,0,4,4,4,4,3,1,3,1,4,0,4,
-                0,5,2,4,5,0,4,0,3,5,1,5,1,5,5,4,4,4,3,5,4,3,5,2,4,4,0,0,4,4,2,5,1,3,4,0,5,5,2,5,
-                4,3,2,1,3,4,2,2,1,3,0,0,4,5,1,1,3,2,4,5,4,0,0,2,2,3,0,4,1,0,3,4,3,1,0,3,3,5,2,2,
-                3,4,4,1,1,1,3,2,3,3,5,3,3,1,1,1,3,1,2,5,2,0,2,2,0,5,1,1,2,3,2,2,3,4,0,3,1,4,2,1,
-                4,2,4,3,1,4,0,5,4,3,0,5,0,3,5,0,0,0,5,3,0,0,4,1,2,5,3,2,4,2,3,3,5,0,3,0,0,5,4,0,
-                0,2,3,3,0,1,1,1,3,5,3,3,4,2,2,0,1,3,3,5,1,0,4,2,2,1,1,3,0,1,3,5,4,3,1,3,5,1,1,1,
-                0,2,0,5,0,2,2,2,0,1,4,5,4,3,2,5,1,3,4,2,0,5,2,4,2,3,2,1,0,0,1,5,0,1,0,5,0,1,1,2,
-                2,4,0,2,2,1,4,5,0,3,2,3,4,1,4,0,5,3,2,3,2,2,0,5,3,1,1,5,1,1,5,3,1,0,3,0,5,2,2,4,
-                1,1,0,0,1,3,1,1,3,3,2,5,3,2,3,2,1,4,1,1,5,0,0,0,3,3,2,3,4,1,1,4,0,3,0,2,0,4,0,4,
-                0,3,0,3,2,0,0,0,5,4,2,0,3,2,5,0,0,1,1,1,0,5,2,2,1,4,4,0,3,5,4,1,5,3,4,5,0,5,0,2,
-                3,1,2,4,1,1,3,4,3,5,2,3,3,2,1,2,5,3,2,4,1,2,3,1,2,1,3,3,0,2,4,5,3,1,5,2,4,5,3,4,
-                4,0,4,0,0,3,3,4,4,4,2,5,4,1,2,1,3,2,1,4,1,1,4,4,1,0,2,2,3,5,1,1,1,4,2,2,4,4,3,5,
-        };
-        int[] Tab2 ={2,4,5,0,4,3,5,5,5,1,4,3,2,4,5,3,1,2,0,5,0,4,4,4,4,5,4,2,4,1,1,4,3,1,2,0,4,4,2,5,
-                4,3,5,5,3,4,1,0,4,4,1,3,1,1,0,4,2,1,4,3,1,0,1,4,5,0,1,0,3,5,4,1,2,5,5,0,0,3,2,5,
-                1,3,2,4,1,3,3,4,2,2,5,1,4,2,5,3,0,3,0,4,3,5,5,1,4,5,4,2,0,0,3,5,2,5,4,5,2,4,0,0,
-                3,2,5,0,3,0,3,2,3,2,4,1,4,3,1,2,1,5,1,1,1,4,4,0,2,3,4,2,0,3,1,3,0,4,3,2,1,1,3,5,
-                1,5,2,0,4,2,4,0,4,1,1,3,0,5,3,4,0,3,1,3,3,0,4,2,4,0,4,2,0,5,2,5,1,5,0,4,1,3,5,2,
-                3,2,2,1,0,4,5,3,5,1,3,3,1,4,0,0,0,3,0,4,5,5,2,5,4,2,0,1,3,2,0,3,1,2,0,1,1,2,5,0,
-                5,1,4,2,2,4,2,3,3,0,5,2,4,0,0,4,5,4,2,2,4,2,0,5,2,2,3,3,3,5,1,1,1,3,5,0,0,2,2,4,
-                4,1,1,5,1,3,5,5,5,3,3,0,4,4,1,5,1,4,0,4,0,4,0,0,2,5,5,4,3,1,4,3,0,0,3,5,0,1,5,4,
-                5,1,0,3,3,3,4,4,4,2,3,2,0,5,0,4,1,1,1,4,5,5,3,3,2,5,0,2,3,5,0,1,0,5,1,3,4,2,2,3,
-                4,5,0,2,0,4,2,2,0,4,2,0,5,4,2,1,1,4,4,3,5,2,3,1,0,5,0,3,3,2,3,3,2,5,5,2,5,2,3,1,
-                4,4,1,5,1,0,4,5,2,0,2,0,2,2,3,3,5,1,2,3,3,3,0,0,1,0,2,4,3,2,1,4,5,3,2,5,4,3,1,5,
-                3,5,4,1,1,2,2,0,4,1,3,3,0,4,5,4,2,4,5,0,1,2,4,3,4,0,1,4,5,2,5,5,3,5,0,5,2,5,1,1,
-                5,1,1,5,3,2,2,4,4,3,5,0,0,0,3,1,4,0,5,3,0,3,3,5,2,0,3,4,1,4,5,4,4,2,2,5,4,1,0,5,
-                4,3,2,5,0,4,1,4,0,1,3,3,0,3,4,5,3,5,1,2,1,2,2,1,2,4,2,2,1,5,0,0,5,2,2,3,4,1,2,1,
-                3,4,5,5,4,3,4,5,4,2,3,1,4,3,3,3,5,5,1,2,4,3,3,0,2,1,4,1,0,2,3,1,1,3,5,4,4,2,2,0,
-                2,2,3,3,5,2,0,4,4,5,3,5,1,1,5,5,0,0,1,3,3,1,5,0,2,2,3,5,0,1,1,3,5,4,3,3,3,4,1,4,
-                4,2,2,2,0,0,0,3,4,5,2,3,3,4,2,3,3,0,4,5,2,4,4,4,1,1,2,0,0,2,4,3,4,5,4,2,1,3,0,1,
-                4,3,0,2,3,5,0,1,0,1,5,1,2,4,0,0,3,2,1,2,5,1,5,4,1,4,3,3,2,0,1,3,1,5,0,4,3,3,0,5,
-                3,4,0,3,4,2,4,5,4,5,2,5,1,5,2,4,2,1,1,0,5,4,1,1,5,1,2,5,5,3,1,5,1,2,5,3,2,1,3,0,
-                1,5,1,1,2,1,0,0,2,4,1,0,0,2,1,1,3,2,1,5,3,3,5,2,4,0,3,1,5,0,2,4,5,4,3,2,0,2,4,2,
-                0,1,3,2,5,1,1,2,5,0,1,1,5,1,3,3,3,3,1,3,4,1,1,5,1,4,4,3,5,3,0,5,5,4,5,4,1,4,2,1,
-                4,2,4,5,1,4,2,0,1,3,1,2,5,1,2,2,4,0,4,5,3,1,2,2,2,4,0,0,3,0,3,1,0,0,1,3,3,2,2,0,
-                3,3,1,4,5,5,5,2,0,2,0,1,3,0,3,5,0,1,3,4,3,2,2,0,1,1,4,2,4,4,1,0,3,3,5,5,5,4,5,0,
-                3,3,1,1,0,3,2,5,3,1,2,1,0,2,3,1,4,2,1,0,0,3,4,2,5,5,4,4,3,3,3,5,0,4,5,3,2,0,0,5,
-                2,2,3,5,4,1,1,5,3,3,1,1,0,3,0,3,0,1,1,5,4,4,0,3,5,3,0,5,0,1,5,2,5,0,3,2,5,0,1,0,
-                0,4,5,4,2,3,3,4,5,4,0,1,4,0,0,2,1,2,3,2,5,0,1,2,3,2,2,5,2,2,2,5,0,0,3,3,0,0,0,3,
-                3,2,3,2,1,1,5,3,0,4,4,5,1,3,1,3,0,0,2,0,5,0,2,3,4,0,5,0,1,1,3,3,3,4,3,4,1,3,5,3,
-                3,5,5,1,3,5,2,3,3,0,2,3,3,4,1,2,0,2,4,0,5,1,1,3,4,5,0,4,2,4,0,3,0,3,4,2,5,4,4,0,
-                4,4,5,2,0,1,2,1,1,3,3,5,1,3,3,2,1,2,0,2,4,4,0,0,0,0,1,4,5,3,4,3,3,4,3,4,2,0,4,1,
-                5,5,0,1,0,3,1,0,2,2,3,0,3,4,0,0,0,0,4,5,1,5,0,5,3,0,0,4,5,0,5,2,3,5,5,4,0,0,5,0,
-                1,1,5,2,3,2,0,4,1,5,1,0,5,4,2,2,2,1,3,5,1,2,1,1,0,3,5,5,5,5,0,1,3,4,2,0,4,5,1,5,
-                2,3,4,5,1,5,4,3,2,5,4,5,0,0,0,5,3,2,4,1,5,3,1,5,0,1,2,3,2,0,4,1,0,1,3,0,5,4,0,2,
-                4,2,4,1,1,3,2,3,2,3,0,3,0,3,4,3,5,4,3,0,1,1,1,4,4,3,2,4,1,1,4,4,1,0,5,4,0,4,1,4,
-                4,0,4,5,4,5,0,4,4,4,3,4,5,1,1,5,1,1,3,1,5,5,1,0,3,1,1,4,4,2,4,0,4,3,3,5,1,0,5,2,
-                2,5,2,0,4,0,0,2,2,4,3,3,5,3,2,5,4,4,1,5,5,2,2,5,3,5,1,1,5,5,2,0,1,2,0,1,1,2,3,3,
-                2,4,4,4,3,5,0,2,5,5,4,4,5,0,5,4,1,2,4,2,4,5,4,3,4,0,2,0,4,3,5,0,0,0,2,1,1,5,5,3,
-                0,4,0,3,1,5,1,0,5,2,2,1,3,3,5,3,0,3,4,0,4,3,5,1,2,0,4,3,5,3,1,0,5,5,3,0,3,0,2,2,
-                1,1,0,1,3,2,1,1,2,5,4,1,3,1,2,2,3,4,3,5,1,1,1,4,1,4,2,5,0,0,2,2,2,5,1,3,0,0,1,2,
-                1,5,1,5,0,1,0,5,1,0,1,5,4,5,5,3,2,0,5,0,1,4,5,1,1,0,5,5,1,0,0,3,2,3,0,1,3,2,3,4,
-                1,1,0,0,0,2,4,5,5,5,0,4,2,0,4,4,4,4,0,5,5,5,2,0,0,1,1,5,0,5,5,1,3,3,2,1,4,4,1,0,
-        };
-        int[] Tab1 ={2,0,0,1,1,2,4,5,3,4,1,3,2,3,4,0,5,4,1,1,1,1,4,0,1,2,3,5,0,4,2,1,0,3,2,5,5,0,0,0,
-                4,2,5,3,1,5,3,1,2,1,3,1,0,2,1,5,2,3,0,5,2,3,0,1,4,0,3,0,3,4,5,0,3,0,1,5,2,4,2,0,
-                1,4,3,0,2,1,2,0,0,0,5,0,5,4,1,1,2,4,2,4,5,5,5,2,0,1,0,3,5,3,4,5,5,4,1,1,1,1,3,0,
-                0,2,1,3,0,5,0,5,5,3,2,4,4,2,2,2,5,5,4,0,2,2,2,1,4,3,1,4,3,5,2,3,4,2,1,0,0,3,1,0,
-                3,0,1,3,1,4,4,2,5,4,5,2,3,0,4,2,3,4,3,5,0,3,3,5,0,0,1,5,5,2,4,0,5,4,1,1,2,5,1,3,
-                1,3,3,3,0,4,4,3,4,3,0,2,4,1,0,5,4,5,2,1,3,1,1,0,5,5,0,0,0,2,2,3,1,4,2,1,3,1,1,4,
-                0,2,4,1,3,3,4,4,1,5,1,3,5,2,4,1,1,4,5,1,0,5,3,4,5,4,1,0,2,0,4,5,0,0,4,0,3,5,3,4,
-                1,0,5,5,2,0,4,5,1,1,2,3,0,3,0,1,3,1,0,2,1,3,1,1,5,1,5,2,3,4,5,3,4,0,3,0,5,3,5,4,
-                5,3,0,0,5,0,5,1,1,3,4,0,1,4,1,2,5,4,1,1,4,5,2,0,5,5,4,1,5,2,3,2,3,2,0,2,2,5,4,2,
-                0,2,0,5,4,4,0,3,4,2,1,2,0,5,4,5,0,5,3,0,4,3,4,2,1,1,5,2,2,1,2,0,2,2,1,0,4,5,1,1,
-                1,3,4,4,2,1,4,0,3,4,4,5,3,5,3,3,0,2,0,5,4,5,1,4,5,5,0,5,4,5,0,1,0,3,3,1,4,0,2,4,
-                5,2,2,5,3,5,2,1,1,5,0,0,2,0,0,0,4,1,3,4,1,1,0,4,1,2,1,2,1,2,0,4,2,3,2,1,2,2,4,4,
-                4,0,3,1,2,3,0,3,5,2,5,1,5,1,4,5,3,0,5,5,0,0,0,4,0,5,0,1,0,3,2,0,5,5,2,4,1,3,2,1,
-                3,5,5,1,1,0,2,0,3,1,4,4,4,5,0,4,0,4,3,3,0,1,2,0,1,4,0,2,0,1,5,2,2,0,0,3,2,2,4,5,
-                2,3,0,5,0,4,1,1,0,1,0,4,0,1,0,3,5,1,3,0,4,0,5,1,2,4,1,0,1,3,1,0,5,0,0,2,2,3,5,5,
-                2,0,2,3,0,1,3,1,5,0,4,1,0,4,3,2,1,3,0,3,4,2,5,3,3,0,5,1,0,1,0,4,4,4,2,4,4,4,5,2,
-                2,1,1,1,0,3,5,2,5,5,4,2,4,3,4,2,3,2,4,1,3,2,0,5,1,3,1,2,0,0,2,5,3,1,4,2,4,2,3,0,
-                3,3,5,3,0,0,4,1,4,1,4,5,0,1,1,3,0,2,4,2,2,0,2,3,5,4,2,2,5,3,4,0,2,3,3,0,4,0,5,5,
-                4,1,1,0,0,1,4,2,0,5,3,2,4,0,3,2,4,5,2,4,2,0,2,2,0,4,2,4,3,2,1,2,1,1,4,0,0,3,0,2,
-                1,2,5,1,2,5,3,0,0,4,4,2,0,5,2,4,3,3,2,2,2,0,2,0,3,1,0,3,2,2,5,4,4,5,1,3,4,1,1,1,
-                3,2,4,0,2,5,1,3,5,0,0,3,3,2,3,0,2,2,4,3,1,4,1,0,0,5,2,0,2,5,5,0,4,5,4,2,4,2,2,2,
-                2,5,0,3,1,1,4,2,3,2,3,3,2,5,4,3,1,3,1,4,0,1,1,0,5,2,1,3,5,4,4,5,1,2,5,0,5,5,3,4,
-                4,2,5,4,3,2,5,3,5,1,0,5,1,4,1,1,0,0,4,3,4,4,1,0,4,1,4,1,5,2,0,2,5,4,1,5,2,5,4,0,
-                3,5,0,3,1,5,3,5,2,3,1,5,3,3,2,4,0,2,3,5,4,3,5,2,5,0,0,3,2,0,2,1,4,2,4,1,0,3,2,3,
-                3,5,2,3,5,2,5,1,5,5,3,5,1,0,1,4,2,2,1,0,1,0,5,1,2,3,3,4,3,5,2,0,1,2,4,1,4,0,4,3,
-                5,3,3,1,5,2,4,2,3,4,3,2,1,3,5,2,1,0,2,0,5,4,1,2,5,4,1,5,3,0,3,5,3,5,2,5,4,5,4,1,
-                2,0,2,1,0,0,5,2,1,5,3,5,2,1,1,3,1,3,1,0,5,5,1,2,1,5,5,0,5,2,5,2,5,0,3,0,0,4,0,4,
-                2,4,1,3,5,5,2,5,5,3,5,2,2,0,4,0,5,4,1,3,3,1,2,4,4,2,5,0,1,0,0,2,0,4,5,4,5,1,5,5,
-                0,4,3,5,4,2,3,3,5,1,3,2,4,5,5,0,3,2,1,4,5,4,4,1,3,5,0,0,5,5,4,2,0,0,2,3,0,5,5,2,
-                3,2,1,5,5,3,1,5,4,4,4,0,2,2,0,5,0,0,3,0,4,2,3,0,3,0,2,3,0,0,1,1,2,0,0,3,5,2,3,3,
-                5,1,3,4,4,1,5,0,1,5,2,5,2,2,4,5,1,5,4,4,2,5,4,3,1,3,1,5,0,3,0,1,1,1,0,4,4,0,1,1,
-                1,3,0,1,5,4,5,4,1,5,3,5,5,1,0,3,0,3,3,0,3,3,3,5,5,3,2,0,5,4,5,5,4,4,3,2,2,2,1,1,
-                1,5,3,4,0,2,4,1,1,4,1,0,3,3,0,5,1,1,4,2,1,4,4,2,4,4,3,4,2,3,3,0,5,3,5,1,3,5,0,5,
-                0,2,5,3,0,2,0,2,3,2,4,1,5,5,4,2,3,3,0,5,0,5,3,0,4,5,3,1,1,4,2,5,3,0,0,2,1,3,5,0,
-                4,4,0,1,1,4,3,4,3,3,2,1,3,0,3,0,0,2,1,5,5,3,2,0,5,4,1,2,1,3,5,4,2,2,5,1,2,3,4,4,
-                3,0,4,3,1,5,5,2,4,4,5,4,3,3,1,0,2,4,2,3,4,3,4,5,4,5,3,0,3,0,5,2,0,0,2,1,3,4,4,2,
-                4,0,3,0,2,4,1,5,0,4,4,3,5,5,5,1,2,1,3,0,0,2,4,3,0,3,3,2,4,1,0,1,5,0,0,1,3,4,0,5,
-                0,5,1,4,3,0,0,2,0,0,0,4,2,3,3,2,1,3,4,5,4,5,0,3,4,4,2,2,3,2,0,4,2,1,4,4,3,2,1,2,
-                3,4,3,4,0,2,2,5,5,2,1,0,3,1,4,1,0,0,4,2,1,5,3,0,3,2,3,1,3,4,2,4,3,5,5,4,3,3,5,2,
-                2,4,3,2,4,3,0,4,3,4,3,3,3,3,2,5,3,4,1,2,4,2,5,4,2,5,4,4,2,5,4,3,5,2,0,1,5,1,3,2,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=75;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=42;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=34;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=20;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
-        }
-        start();
-    }
-    private void level9L(){
-        int[] Tab0 = {0,5,4,3,0,3,1,0,1,2,3,1,0,4,2,0,1,4,3,5,3,2,0,3,0,5,4,3,3,4,2,1,4,0,0,2,2,1,3,4,
-                4,4,5,0,5,0,1,3,0,0,4,0,5,3,5,4,3,5,5,1,3,3,2,3,4,4,3,1,2,4,4,2,5,0,4,3,5,2,0,2,
-                2,2,1,2,3,4,0,4,1,3,1,1,2,1,3,1,0,1,1,0,3,1,1,3,2,0,2,4,4,0,1,5,5,5,4,2,0,1,2,2,
-                0,1,0,2,1,0,4,4,0,2,2,1,2,4,0,4,2,0,5,5,0,3,3,5,3,5,3,4,2,1,1,1,4,2,1,2,5,2,3,1,
-                2,3,2,5,0,3,0,5,1,1,2,0,0,0,3,5,2,0,0,4,5,1,1,2,3,2,2,1,3,4,0,5,2,4,1,1,2,5,2,3,
-                3,4,5,5,0,4,1,5,5,5,0,2,2,1,3,2,3,1,1,2,2,1,0,3,1,4,1,5,5,1,3,5,3,5,0,0,1,5,0,0,
-                4,4,0,1,3,2,2,5,2,0,1,2,4,1,1,0,1,4,0,4,0,5,1,2,3,0,0,0,0,3,3,2,3,4,5,1,2,5,1,3,
-                3,4,2,5,4,5,2,0,4,4,3,4,3,5,1,5,5,0,3,5,2,1,4,2,0,1,1,3,2,4,2,5,0,3,0,4,3,5,1,4,
-                0,2,1,1,1,2,2,3,1,3,1,0,1,0,0,3,5,3,2,1,5,1,4,1,1,1,1,0,0,3,2,4,3,4,3,4,1,5,4,5,
-                5,1,1,5,4,2,2,0,2,1,2,0,2,5,2,4,0,5,0,3,2,1,4,5,0,5,0,5,2,2,4,2,1,1,3,2,2,0,2,2,
-                0,5,0,4,3,1,4,2,1,5,4,2,2,5,0,5,1,4,2,5,1,2,1,1,1,0,1,4,4,5,5,4,5,0,3,1,3,5,3,0,
-                3,5,2,1,3,5,4,1,0,1,5,2,0,4,3,1,4,2,4,1,5,5,2,5,1,1,2,5,3,3,0,4,4,3,0,3,5,3,3,2,
-                3,2,1,0,0,0,5,1,2,3,2,2,2,0,2,3,4,4,1,2,1,2,0,1,2,3,5,0,3,1,4,5,0,4,0,3,0,5,4,2,
-                3,0,1,0,4,5,3,0,4,3,2,4,0,1,3,4,5,1,2,1,0,3,5,4,3,2,0,1,5,5,5,5,3,1,5,1,5,5,4,1,
-                2,0,5,1,5,3,1,2,5,1,3,0,2,2,1,1,5,2,1,4,2,0,2,2,1,4,3,5,0,0,2,4,2,0,1,5,1,4,1,0,
-                3,1,2,3,2,0,1,1,4,0,2,4,3,4,3,4,5,2,4,0,4,2,5,5,4,4,2,4,5,0,3,1,1,5,1,4,5,0,2,5,
-                4,4,3,5,5,3,2,1,5,2,1,4,3,2,0,3,4,0,4,0,0,5,1,4,1,1,0,3,0,5,3,2,4,1,4,1,3,1,4,0,
-                5,0,4,5,2,1,5,0,4,2,0,5,1,1,1,0,5,5,2,0,0,1,0,5,5,0,2,1,2,1,3,3,5,0,2,3,5,3,1,1,
-                1,2,4,2,4,2,0,0,3,2,5,1,4,1,5,2,1,1,4,5,3,0,5,3,2,1,0,4,0,1,1,5,5,5,4,3,2,1,3,3,
-                4,2,4,0,5,1,1,5,5,4,3,4,2,4,3,1,1,5,2,2,2,0,4,5,3,0,2,5,4,0,3,2,4,5,3,5,1,5,5,3,
-                3,2,1,2,4,1,0,4,0,3,0,0,2,0,5,2,2,5,3,0,4,4,4,3,5,2,4,1,3,1,2,5,1,0,3,0,2,2,5,1,
-                0,1,2,5,4,5,0,5,3,3,1,5,3,4,1,1,3,4,0,0,4,1,3,2,4,4,4,2,3,4,3,1,4,1,0,5,0,4,0,3,
-                4,0,4,4,3,2,5,2,0,5,5,3,3,5,4,0,0,2,2,1,2,2,4,3,0,4,3,1,2,2,3,1,4,0,3,3,5,0,4,3,
-                2,5,1,4,5,2,0,2,0,2,0,4,1,4,2,4,5,1,2,5,5,2,2,0,5,4,2,4,3,3,1,4,4,0,4,2,0,5,5,5,
-                5,1,3,3,3,0,0,3,2,2,5,2,0,2,0,5,0,0,4,0,3,2,5,4,0,5,1,3,3,4,2,0,2,0,4,2,0,3,5,3,
-                5,3,4,4,5,0,5,1,2,5,5,0,2,3,2,5,2,5,0,2,3,1,2,5,4,1,5,5,2,4,2,5,2,3,1,0,0,1,2,5,
-                3,3,3,4,0,1,1,3,0,2,3,4,3,4,1,0,1,0,0,0,3,5,4,3,3,4,4,2,3,4,2,2,4,0,2,0,0,1,3,3,
-                0,0,3,3,2,1,1,2,4,3,0,3,1,1,5,2,0,1,4,2,3,1,2,4,4,1,4,5,2,1,5,4,5,4,2,5,4,0,2,5,
-                3,1,3,2,5,2,2,2,2,2,1,2,5,4,2,4,1,3,2,4,4,5,3,5,5,4,2,2,4,2,0,3,0,3,3,4,1,5,4,4,
-                3,5,5,2,1,2,5,4,1,0,1,3,3,2,0,1,2,0,0,2,3,4,4,2,3,5,0,2,2,3,3,0,1,5,1,0,5,4,4,5,
-                5,2,5,4,3,1,3,3,4,2,0,3,0,4,5,4,4,4,4,4,3,4,4,5,4,5,4,0,2,3,1,1,4,0,5,5,3,0,2,0,
-                3,0,4,5,2,4,2,4,2,0,5,5,0,4,5,5,5,5,1,0,2,3,3,3,2,0,2,1,1,2,2,4,0,0,1,4,4,0,3,0,
-                1,1,5,2,4,0,3,2,4,3,4,2,2,4,1,0,2,4,5,4,3,4,5,3,3,4,5,2,2,2,1,4,1,2,1,1,3,1,5,1,
-                0,0,2,4,5,3,3,3,4,5,2,3,5,0,4,0,1,5,4,2,3,2,1,5,0,3,2,5,1,5,5,0,4,2,4,1,5,1,0,3,
-                5,0,5,0,2,2,0,3,3,2,2,5,0,1,0,1,4,3,1,2,3,5,3,5,1,1,2,1,5,0,3,5,3,5,4,2,4,1,4,5,
-                4,4,0,1,3,1,2,5,0,2,3,0,4,3,3,5,0,4,4,3,4,1,1,2,1,0,4,5,4,0,3,2,4,2,2,1,2,3,1,5,
-                0,4,0,5,2,2,1,5,5,0,4,3,1,5,4,3,4,0,2,3,5,3,3,5,2,1,2,3,0,4,3,4,4,4,0,3,3,1,5,1,
-                1,5,4,2,1,2,0,3,4,4,1,0,2,1,1,2,2,3,3,3,1,2,5,0,4,1,3,1,3,0,4,3,4,1,3,2,5,2,1,1,
-                3,1,1,4,5,5,5,4,3,3,5,2,2,4,5,0,4,3,3,1,0,3,4,2,0,3,1,4,3,4,4,2,0,4,3,5,3,1,0,4,
-                0,3,0,2,2,4,1,5,3,0,4,0,2,1,3,4,1,3,5,5,0,5,3,4,4,4,0,1,4,1,3,5,5,5,3,4,4,2,4,4};
-        int[] Tab3 ={0,1,4,3,3,4,5,4,2,0,4,3,0,1,4,0,5,2,2,2,5,4,1,3,0,3,0,0,3,4,2,4,0,3,3,5,1,4,5,3,
-                4,0,2,1,5,4,4,4,5,1,4,3,2,5,2,1,5,1,5,3,0,3,5,2,5,1,5,5,3,5,2,4,4,0,2,1,3,3,5,1,
-                1,0,1,0,1,0,2,3,1,2,2,5,1,0,3,1,3,3,2,3,3,2,0,1,5,2,5,2,0,5,0,4,1,3,1,2,3,4,2,5,
-                0,1,4,4,3,2,3,0,3,4,2,5,1,3,1,5,4,4,4,0,1,2,4,5,3,2,1,4,1,0,3,1,0,0,1,4,4,4,0,5,
-                0,2,2,4,1,3,0,0,3,1,5,2,5,3,5,3,4,0,5,3,1,2,0,5,3,5,2,5,5,4,3,2,4,5,3,0,1,5,5,0,
-                2,3,3,1,4,3,1,3,4,2,5,5,5,5,2,3,2,4,1,5,3,1,4,1,1,1,3,2,4,1,4,2,3,2,4,0,1,2,5,0,
-                2,0,3,1,2,2,0,1,1,3,1,5,4,0,4,0,1,3,1,5,4,2,2,4,3,3,2,2,3,1,4,5,2,0,2,2,3,1,1,0,
-                2,0,2,3,1,3,1,4,1,3,0,1,0,1,5,3,1,4,1,2,5,1,0,0,0,4,2,5,1,3,4,2,5,4,4,5,0,1,1,0,
-                2,5,2,1,3,0,4,5,1,3,5,0,0,2,3,0,1,4,2,5,4,1,0,3,5,2,5,5,5,5,1,4,4,4,0,2,5,4,0,2,
-                1,1,5,1,4,5,2,3,3,5,3,3,4,5,0,5,3,4,1,0,3,2,5,1,2,2,4,3,3,2,0,2,0,2,3,4,1,1,0,3,
-                5,1,3,2,2,4,5,2,5,4,0,4,1,2,5,0,4,5,2,3,4,3,2,4,5,2,3,2,1,4,2,4,4,3,1,2,1,1,4,1,
-                4,2,2,4,2,1,0,3,4,4,2,5,0,4,0,2,4,0,5,4,5,1,2,1,5,5,2,2,1,1,4,4,2,1,3,1,2,2,3,3,
-                1,1,0,2,3,5,5,5,5,0,0,2,3,3,1,0,5,1,0,5,2,3,5,5,1,5,5,0,3,3,5,1,1,2,0,2,2,0,2,2,
-                0,4,0,5,2,4,1,2,3,2,5,1,5,5,2,4,4,4,2,4,0,4,5,3,1,2,4,2,4,2,0,2,2,4,3,4,4,3,5,2,
-                1,2,3,5,3,1,0,3,1,5,4,1,4,5,2,3,4,1,4,1,1,4,2,3,2,0,5,0,0,3,3,1,1,5,2,3,3,2,2,5,
-                1,2,0,0,2,5,1,5,1,3,4,1,3,3,0,4,4,5,2,0,3,5,4,0,1,5,0,5,3,5,0,4,3,1,4,3,2,5,4,5,
-                1,3,0,5,3,5,4,1,0,2,1,0,1,4,5,1,5,4,3,4,1,5,1,0,2,0,3,4,2,4,3,4,3,5,4,3,2,3,3,4,
-                5,3,2,3,1,4,1,3,3,5,0,5,4,5,1,1,3,2,5,1,5,0,3,4,2,5,2,2,2,4,4,5,4,0,0,2,1,5,0,4,
-                3,1,4,2,1,1,5,1,3,5,1,5,4,0,4,3,5,0,1,0,0,0,2,2,2,5,0,2,1,0,0,2,0,2,1,1,0,3,2,1,
-                2,1,5,0,3,3,4,5,5,0,1,3,5,0,5,4,2,0,4,4,2,4,4,4,0,2,4,2,3,2,5,5,4,3,4,2,0,3,0,3,
-                2,3,5,2,1,5,0,3,1,4,5,3,5,0,3,2,5,1,3,2,4,2,1,1,3,1,3,5,0,3,2,1,5,3,3,5,0,0,2,1,
-                1,0,2,5,5,3,3,5,2,5,2,0,1,3,4,3,1,4,0,3,4,4,5,5,5,2,4,4,1,1,2,2,1,0,3,5,2,1,4,4,
-                5,3,4,4,2,5,3,1,0,4,1,5,0,3,0,3,3,3,4,2,5,5,4,4,5,0,4,0,2,3,3,0,0,4,1,0,0,1,4,1,
-                4,5,0,5,5,4,0,1,2,3,4,4,0,1,2,4,3,2,1,3,5,5,1,2,1,5,2,2,4,2,0,1,0,3,5,0,2,3,2,0,
-                5,2,1,0,5,1,1,2,3,2,2,3,5,0,1,0,2,0,1,1,2,5,4,2,4,0,4,5,1,4,3,3,5,4,3,0,1,3,0,0,
-                4,5,5,0,4,1,1,5,5,0,2,2,4,2,3,4,0,3,1,5,0,2,2,0,3,5,2,5,4,4,0,2,1,3,4,3,3,2,4,5,
-                5,2,1,3,2,0,3,3,5,5,5,5,4,1,4,2,2,3,0,5,0,0,4,4,0,2,0,3,4,0,4,4,4,2,4,2,2,4,1,0,
-                5,2,1,2,4,5,0,1,2,1,3,1,2,5,5,4,2,3,0,3,4,0,3,2,2,2,5,2,2,2,4,0,0,3,1,4,0,1,5,2,
-                2,0,4,2,5,3,2,4,3,2,2,2,4,5,0,1,5,3,4,3,3,1,3,1,0,3,0,0,5,2,4,1,2,5,2,4,3,4,1,1,
-                3,5,3,1,4,3,5,2,2,1,3,0,2,2,4,4,5,3,2,5,0,3,0,3,2,4,1,0,1,2,0,3,5,5,1,4,2,5,4,5,
-                2,2,3,2,3,5,1,3,3,3,2,1,1,0,2,3,3,5,3,5,2,2,4,4,1,4,3,0,3,2,2,2,3,4,0,5,2,5,3,3,
-                0,5,4,2,2,2,2,5,0,4,2,0,0,3,3,1,4,4,5,2,0,2,0,3,2,5,3,2,2,5,5,4,2,1,3,5,4,4,3,3,
-                1,2,3,2,5,5,4,2,0,4,4,0,2,2,5,4,3,4,0,4,0,3,4,5,5,2,5,2,2,0,5,4,0,4,0,1,0,3,3,5,
-                1,4,0,5,3,5,0,0,2,4,2,4,1,4,3,1,3,3,0,2,2,1,2,4,0,1,4,4,4,3,5,0,4,4,1,5,3,5,4,1,
-                2,2,5,5,1,1,4,4,0,3,4,0,3,0,5,5,1,5,1,5,1,4,2,1,2,5,5,5,5,5,4,5,3,4,4,0,4,3,3,2,
-                5,2,3,4,1,4,4,1,1,2,4,4,3,5,5,2,5,5,0,5,0,2,2,2,0,2,0,5,5,0,1,0,4,5,3,1,3,3,1,2,
-                1,4,5,5,1,4,5,1,5,2,2,3,4,5,5,2,4,4,5,1,5,1,5,4,2,3,2,2,0,1,5,2,2,0,2,0,4,2,1,1,
-                1,3,5,0,3,2,5,5,5,3,4,0,4,3,2,2,1,2,0,0,0,5,5,2,0,4,1,0,2,2,0,0,5,4,5,2,5,1,5,2,
-                5,2,2,2,0,2,0,0,1,0,3,4,3,2,2,0,3,2,0,5,4,3,1,0,2,3,2,2,0,4,5,1,0,4,5,5,0,5,2,4,
-                1,1,3,1,0,5,3,1,1,5,3,0,1,2,5,5,0,0,0,4,4,4,2,0,3,5,1,0,3,2,4,0,1,5,0,0,2,5,5,2,
-        };
-        int[] Tab2 ={5,3,1,4,3,4,1,2,5,0,3,4,3,2,2,0,3,1,4,3,4,0,2,0,3,0,1,5,0,3,2,1,3,1,5,1,2,2,4,2,
-                1,3,2,5,0,1,0,4,4,0,2,5,1,1,1,2,1,2,1,4,4,1,1,2,3,0,3,3,4,4,3,0,3,2,3,3,5,0,2,4,
-                5,5,0,0,3,4,4,5,5,0,5,2,0,2,2,1,3,3,4,2,5,1,1,2,4,0,4,3,3,3,1,1,2,3,2,5,1,5,5,2,
-                5,4,4,1,1,1,4,2,1,2,1,1,4,0,2,1,0,1,1,3,0,1,1,5,5,4,1,1,2,5,0,5,5,5,0,3,3,1,1,2,
-                4,2,3,5,1,5,0,5,3,3,0,0,5,3,2,0,5,3,1,2,2,2,3,4,5,1,1,3,3,3,5,3,4,1,3,1,0,4,5,2,
-                0,2,0,0,4,2,2,0,0,0,3,3,3,3,2,4,4,0,4,0,0,0,4,4,1,2,3,5,2,0,5,1,5,2,5,5,0,3,5,4,
-                2,5,4,2,5,3,5,5,1,4,4,0,5,3,4,5,5,4,0,1,2,4,1,3,0,3,0,3,0,3,5,1,4,2,2,4,5,3,5,1,
-                5,3,1,1,4,0,1,2,3,1,1,4,0,3,1,2,0,1,4,4,2,0,4,1,2,5,2,2,1,4,0,2,2,1,5,5,3,2,2,5,
-                1,5,3,5,5,5,3,4,1,4,4,2,1,4,3,0,4,2,4,5,3,1,0,2,2,4,0,0,2,5,1,2,3,4,5,5,2,1,5,0,
-                5,2,5,5,2,1,4,4,3,3,4,0,4,1,4,5,5,1,1,4,2,2,4,3,2,0,0,0,0,3,1,3,5,0,1,5,4,3,3,0,
-                3,0,1,3,3,5,1,0,0,2,3,2,1,5,1,2,2,3,4,2,4,1,2,3,5,2,5,4,1,5,1,5,0,3,2,2,1,0,3,5,
-                4,4,4,5,5,5,4,1,0,5,4,4,0,2,2,4,1,3,5,1,0,0,5,3,5,0,3,3,3,5,1,0,0,3,2,3,5,3,0,4,
-                0,3,5,2,0,0,0,3,4,1,5,2,2,5,1,4,4,1,5,3,1,1,5,0,2,0,2,2,4,2,1,3,2,4,1,3,1,5,1,2,
-                0,3,1,0,5,5,4,5,1,2,3,4,5,0,5,3,4,1,0,4,5,1,3,4,0,4,1,4,4,0,4,5,1,3,2,4,2,5,2,5,
-                5,2,0,1,2,3,2,1,0,5,5,5,4,1,2,0,0,4,1,1,2,2,1,5,4,2,2,0,2,5,0,2,0,3,5,3,3,0,0,1,
-                4,3,2,3,0,1,0,5,1,3,2,5,0,0,3,3,3,3,5,0,1,2,0,4,2,4,5,4,1,0,0,0,5,3,5,3,2,2,2,5,
-                2,5,4,0,2,3,0,3,2,4,1,5,0,3,5,3,1,5,0,4,3,5,3,2,4,0,3,3,2,3,2,3,3,3,3,5,5,0,1,1,
-                5,1,0,2,0,1,2,4,1,1,1,0,5,2,2,3,2,1,3,0,5,3,4,5,1,1,2,5,0,2,1,1,2,0,5,1,5,2,3,2,
-                5,4,3,5,0,0,4,0,1,2,2,1,4,3,0,1,3,1,3,4,1,5,0,2,0,1,0,5,2,4,4,1,2,5,1,1,1,0,3,2,
-                3,1,5,2,4,2,0,5,2,1,5,2,3,4,3,5,0,0,0,1,2,2,0,1,0,1,0,1,2,3,2,5,0,5,5,4,5,3,5,1,
-                2,5,0,4,4,3,3,2,0,3,4,1,2,5,0,1,3,2,5,0,4,4,3,5,5,5,4,0,0,4,1,5,1,3,5,3,5,5,2,3,
-                0,4,3,2,2,4,2,2,1,2,0,2,4,0,2,3,3,3,3,4,5,4,4,3,1,3,5,1,1,4,4,3,0,5,0,0,0,2,1,2,
-                0,1,2,5,4,0,1,1,5,5,3,2,1,4,4,2,5,1,0,1,0,1,4,5,0,3,3,5,0,0,2,3,5,3,0,0,1,1,4,5,
-                3,1,1,5,1,1,1,3,1,3,3,5,0,2,3,3,1,1,3,2,1,5,5,3,1,2,2,0,4,4,2,2,5,0,2,3,5,5,5,3,
-                5,3,3,0,5,5,1,3,1,1,4,2,5,3,3,3,0,4,0,5,1,0,1,3,3,4,2,3,3,3,4,1,0,5,1,1,3,5,5,5,
-                4,2,2,4,4,0,2,4,0,2,5,0,5,1,1,4,2,0,2,2,1,1,5,4,4,5,4,4,4,4,3,4,1,2,3,2,5,1,1,0,
-                3,1,3,5,3,3,2,1,2,2,1,2,3,2,0,2,1,1,2,4,2,2,4,3,2,2,3,4,1,4,1,3,5,1,3,3,3,1,2,0,
-                5,5,2,4,3,3,3,0,4,3,4,5,4,2,4,2,2,4,5,5,3,0,1,4,2,5,0,3,4,3,0,0,2,5,4,4,1,1,5,4,
-                3,0,4,5,1,1,0,5,3,5,1,0,2,5,5,5,3,1,2,5,5,0,4,2,5,0,4,5,3,5,4,4,4,2,4,1,1,5,3,1,
-                3,5,4,5,2,4,4,2,1,0,2,1,4,5,2,0,0,4,2,4,3,1,5,5,0,0,2,0,3,4,3,4,3,2,1,5,5,5,0,0,
-                4,0,3,2,0,2,0,4,3,5,5,1,5,3,5,5,1,1,0,3,1,1,0,4,3,4,0,1,0,3,3,2,4,4,2,3,4,2,2,5,
-                3,1,0,4,0,0,5,5,5,3,1,2,0,4,5,4,3,1,2,3,1,3,5,2,1,2,2,0,0,3,1,4,5,4,4,0,3,2,2,2,
-                5,1,5,3,5,1,2,5,5,5,2,5,4,0,4,4,0,4,0,4,3,2,1,3,0,2,2,0,2,5,2,0,1,0,3,1,5,1,4,3,
-                5,4,1,2,1,3,1,3,3,4,1,1,2,4,5,0,0,1,0,4,4,4,5,5,3,0,4,5,4,0,1,2,4,2,0,3,3,3,2,5,
-                0,0,1,2,0,0,0,1,2,1,3,5,3,5,4,3,3,1,2,0,2,1,3,1,5,5,0,4,5,3,3,1,4,0,3,4,0,1,1,1,
-                1,0,0,4,2,1,2,1,1,3,2,4,5,2,2,0,4,2,2,1,2,0,4,0,3,0,0,3,2,4,3,3,3,2,2,1,0,2,0,1,
-                5,0,0,5,0,4,1,0,3,5,2,5,4,5,5,2,3,2,4,4,0,2,0,1,0,4,4,2,0,0,4,3,5,1,1,0,1,3,3,4,
-                4,3,1,1,2,1,5,3,4,2,2,3,5,5,1,5,3,4,0,4,4,2,5,3,0,1,1,5,5,2,2,4,5,2,4,2,5,5,4,5,
-                3,0,4,0,4,4,4,0,2,3,3,2,5,2,1,1,5,4,4,5,4,0,0,0,1,1,5,0,3,3,2,3,1,1,3,3,4,1,5,3,
-                1,1,2,0,2,4,4,5,5,1,3,1,3,0,5,4,2,4,3,1,5,2,3,5,5,3,5,2,0,1,5,2,0,5,0,3,5,3,2,2,
-        };
-        int[] Tab1 ={0,3,0,3,0,2,1,0,2,3,1,5,4,0,3,2,3,1,0,3,2,4,5,4,5,3,4,3,2,2,1,4,2,4,5,0,4,0,3,2,
-                4,3,5,0,1,4,1,4,5,4,4,4,4,3,1,4,4,0,1,0,2,4,0,4,1,4,5,4,2,3,1,4,1,2,5,3,4,2,1,1,
-                3,3,4,4,5,1,0,4,4,0,3,3,2,1,3,0,4,0,1,1,1,2,5,0,3,4,1,5,0,0,3,4,4,5,5,1,5,5,2,5,
-                3,1,3,4,2,5,0,3,4,4,1,1,3,1,1,2,1,5,2,5,0,4,1,1,5,3,4,3,2,1,3,4,2,3,0,4,4,3,3,2,
-                0,4,0,0,0,0,5,5,3,5,4,5,0,5,0,5,2,2,4,0,2,3,1,0,0,4,4,5,3,1,2,4,1,2,5,0,4,5,1,5,
-                5,4,4,3,2,0,3,1,2,4,4,0,4,0,5,1,5,4,4,3,4,1,2,2,3,1,3,2,4,2,5,2,3,4,5,5,4,5,2,4,
-                0,3,0,0,1,4,2,4,4,3,2,2,5,0,1,2,4,4,3,4,5,0,4,4,4,3,0,1,3,2,4,5,4,0,2,4,3,1,4,5,
-                1,5,3,0,4,0,1,5,2,2,4,0,5,0,4,0,3,5,0,1,0,5,5,2,4,4,1,4,2,5,0,0,2,0,2,3,5,3,5,2,
-                0,1,5,2,1,0,2,0,1,0,2,3,3,2,1,2,3,4,5,3,3,3,3,3,3,1,2,1,5,0,3,4,2,4,5,4,3,2,4,3,
-                1,4,1,2,2,1,2,1,2,1,3,0,2,5,3,4,0,2,5,1,1,1,0,4,5,4,3,5,3,2,2,2,5,3,2,2,4,5,2,5,
-                1,3,4,5,3,3,1,2,3,5,2,5,3,2,0,0,0,0,2,5,0,4,5,2,4,0,2,5,5,1,0,2,3,4,2,3,5,0,5,5,
-                4,1,2,5,4,2,5,1,3,0,5,2,4,5,1,4,4,2,4,1,3,5,2,0,3,1,2,0,5,2,3,4,3,5,0,2,4,1,3,4,
-                2,4,5,0,0,3,0,0,4,3,1,4,3,1,1,4,3,5,2,2,3,1,2,2,2,3,3,4,1,1,0,3,0,2,5,1,1,1,2,1,
-                1,4,1,5,4,1,0,4,3,5,5,4,1,2,0,5,0,2,2,2,4,3,4,5,0,0,1,1,5,1,4,4,5,3,1,4,2,2,5,5,
-                4,0,2,2,0,5,0,2,1,3,1,1,1,5,3,0,4,5,2,5,4,5,5,2,1,3,5,3,5,2,1,4,3,0,4,1,3,0,4,5,
-                4,5,0,3,4,5,3,1,5,0,2,5,0,0,1,0,3,5,4,4,2,5,0,3,0,2,0,0,2,4,2,4,4,4,3,4,2,5,5,0,
-                4,1,4,3,2,0,0,2,0,4,4,1,4,4,2,3,3,3,5,0,5,1,0,4,1,5,2,3,0,3,1,4,5,1,4,4,2,1,0,1,
-                1,1,2,0,1,5,1,4,1,5,0,4,5,5,3,0,4,3,2,2,0,4,2,4,4,0,3,1,0,1,1,0,3,4,0,4,1,4,3,2,
-                3,3,3,2,4,5,1,0,1,4,0,3,0,3,2,0,4,5,4,0,2,4,4,2,1,5,0,5,3,1,3,1,3,4,5,1,0,5,3,5,
-                0,1,1,0,1,4,1,1,4,1,4,4,2,3,2,2,3,3,3,3,5,3,5,3,2,0,2,3,4,1,3,2,5,1,3,1,4,3,4,0,
-                2,1,2,1,2,1,5,1,3,5,0,5,3,2,0,5,5,2,5,0,4,2,1,2,4,5,3,2,5,4,3,2,1,4,5,1,5,2,0,1,
-                3,4,2,0,2,4,3,1,4,3,2,0,4,4,5,0,3,3,1,3,4,3,3,0,2,2,0,0,5,4,3,3,0,1,2,0,3,0,4,4,
-                4,1,4,4,4,5,0,5,5,1,2,3,5,1,3,0,3,5,0,3,0,5,1,4,2,2,5,0,4,0,2,1,1,1,3,2,0,1,2,5,
-                3,2,2,2,3,5,5,3,2,2,4,2,3,1,4,5,0,2,0,4,5,3,2,1,5,2,0,1,0,4,0,1,5,2,0,4,5,1,5,0,
-                4,4,5,5,1,5,1,1,0,2,3,3,2,5,0,3,4,2,5,0,3,1,1,4,3,3,3,2,5,1,3,0,0,0,2,0,4,5,0,4,
-                1,4,0,3,4,0,2,5,0,4,3,2,3,5,1,5,1,3,2,1,3,3,3,4,2,3,4,3,0,5,3,5,2,0,4,1,4,0,2,4,
-                3,5,5,2,4,0,5,3,5,5,3,5,2,5,1,5,2,1,2,5,5,2,2,5,1,5,2,0,2,3,2,1,0,3,2,0,5,4,2,1,
-                3,4,2,3,2,0,3,2,1,3,2,4,2,4,5,3,1,1,3,0,4,2,1,1,0,3,1,1,2,1,0,3,4,3,2,1,3,0,2,5,
-                2,4,3,2,4,4,0,4,4,4,3,5,3,4,4,5,5,0,3,5,3,3,5,2,3,2,2,0,0,5,1,1,2,4,2,3,5,0,3,0,
-                3,0,1,5,5,3,5,1,1,5,5,2,3,5,4,3,0,4,4,4,2,4,2,3,3,2,0,5,3,0,2,0,2,5,4,4,2,0,1,2,
-                0,2,0,4,3,0,4,2,5,4,2,4,3,5,4,3,1,1,3,2,1,5,5,2,5,3,1,5,4,0,5,5,4,4,3,2,2,3,1,1,
-                4,4,1,3,3,4,4,4,3,3,2,3,1,1,0,0,0,2,0,0,3,0,5,1,1,2,4,0,5,4,5,3,5,1,2,1,1,2,2,4,
-                0,3,3,4,1,4,3,0,4,2,3,1,1,4,2,5,2,2,4,2,0,5,4,0,2,2,0,4,5,5,3,1,3,2,5,1,0,0,4,2,
-                0,3,1,2,5,2,0,1,4,3,3,0,1,0,3,3,2,3,1,5,2,5,1,4,4,4,1,2,5,1,2,3,1,2,5,4,5,2,1,0,
-                3,2,2,4,0,2,1,3,5,3,2,5,5,1,4,4,1,4,0,5,0,0,3,3,2,2,4,3,1,1,1,2,1,3,3,1,5,2,4,2,
-                4,3,5,4,3,1,0,3,3,5,5,1,3,2,4,3,1,1,1,1,1,0,3,5,5,5,3,1,3,5,3,3,2,2,3,5,5,3,1,0,
-                2,5,0,4,5,2,5,2,5,2,0,4,2,0,1,1,2,1,0,0,0,3,2,1,1,0,0,4,0,2,5,4,1,5,3,0,1,2,1,4,
-                0,1,3,4,5,5,2,0,3,5,1,4,2,0,5,1,0,3,3,4,3,0,4,2,5,0,5,5,3,2,4,4,3,5,3,2,4,4,2,3,
-                2,2,2,1,0,0,2,4,3,1,1,5,3,5,0,3,2,2,0,1,5,0,2,4,5,5,3,5,4,0,1,4,5,1,2,5,5,0,1,5,
-                4,1,3,2,5,2,3,4,5,2,0,2,0,3,3,4,4,3,4,5,3,1,4,0,1,3,0,0,1,4,2,1,1,1,4,4,1,1,5,5,
-        };
-        model = new DotInfo[sizeOfGame][sizeOfGame];
-
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=73;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=46;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=37;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=20;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
+    /**
+     * Plays the next moves on the region graph once it exists. This is done
+     * after a flood, when the captured dots are whole regions.
+     */
+    private void followRegionGraph(){
+        if (regionGraph != null && !(engine instanceof RegionFlood)) {
+            engine = new RegionFlood(this, regionGraph);
         }
-        start();
     }
-    private void level10L(){
-        int[] Tab0 = {2,0,4,1,2,4,2,2,5,5,1,0,1,5,0,2,2,2,4,1,2,2,0,1,1,2,0,1,4,0,3,3,2,3,1,0,1,2,0,3,
-                3,5,4,5,2,0,5,3,2,3,5,5,0,2,2,1,4,5,3,1,1,2,3,2,5,4,0,2,2,2,1,3,2,2,0,2,3,2,4,3,
-                4,3,2,1,4,3,3,4,2,5,4,4,4,3,4,1,0,1,2,0,3,4,4,2,5,5,2,1,2,5,3,4,4,0,2,4,3,3,4,2,
-                3,4,0,5,5,1,3,0,4,2,2,5,5,0,3,4,2,5,5,3,0,1,2,2,2,1,1,0,4,2,2,5,3,4,3,5,3,2,1,1,
-                1,5,5,0,1,2,2,5,0,2,3,2,4,2,4,1,2,0,0,0,2,2,4,1,0,2,0,1,1,2,3,0,0,2,2,4,4,3,1,2,
-                2,2,5,5,2,5,3,5,1,3,1,4,4,3,3,0,3,3,2,4,2,4,1,5,0,4,5,2,2,4,1,3,5,4,0,0,0,4,3,4,
-                5,2,3,5,0,1,3,1,4,4,1,2,3,5,1,4,4,2,0,1,4,1,4,3,4,2,1,2,3,5,2,2,3,5,5,1,1,0,0,4,
-                0,3,0,3,2,1,1,1,5,1,2,2,2,0,4,4,5,5,1,0,1,4,0,5,4,0,0,3,5,3,0,2,4,0,2,2,0,1,1,2,
-                3,1,0,4,0,4,4,0,3,4,2,5,2,3,4,5,3,0,1,2,4,4,2,1,5,0,3,2,3,3,3,1,5,2,1,3,4,5,0,2,
-                5,5,4,1,4,4,5,1,3,4,2,5,4,5,5,2,0,2,3,4,3,3,5,4,2,3,4,2,0,3,0,2,4,5,2,2,3,4,3,1,
-                4,1,2,1,1,1,0,5,1,4,4,4,4,2,2,4,0,4,1,3,5,2,3,1,5,1,3,1,1,5,2,2,1,5,1,5,0,1,5,4,
-                5,0,1,5,0,2,0,5,4,2,3,3,1,4,3,4,2,5,0,1,2,3,2,0,3,2,4,0,5,3,4,1,1,3,4,4,2,4,3,0,
-                4,0,4,0,2,1,0,3,4,1,4,0,1,3,3,4,1,1,4,3,0,5,1,5,5,0,4,4,4,2,2,0,3,4,3,5,2,5,5,4,
-                3,0,3,2,0,1,0,0,2,2,5,5,1,5,3,1,4,5,3,3,4,0,1,1,5,5,1,3,1,4,4,3,1,5,1,2,5,5,5,2,
-                4,4,1,4,2,4,4,1,2,5,0,2,5,5,0,4,2,1,0,5,0,0,3,0,4,4,1,3,3,1,2,4,2,0,4,3,0,5,0,5,
-                4,1,4,3,4,5,4,4,5,5,0,2,3,5,0,3,0,2,1,4,3,3,0,3,3,4,2,4,5,2,0,4,0,1,5,1,5,1,5,1,
-                4,4,3,3,2,1,0,2,0,3,5,3,5,3,5,1,4,3,4,2,5,3,2,5,2,3,4,1,1,0,1,3,2,2,1,5,5,5,5,2,
-                2,1,1,1,2,4,2,1,0,5,5,1,4,1,0,2,1,0,2,4,4,2,5,4,1,5,5,3,4,1,1,4,1,2,2,0,2,4,3,5,
-                1,2,0,4,0,1,5,5,1,3,0,1,2,1,5,2,4,2,4,0,1,1,5,2,2,2,1,2,3,1,2,0,0,1,3,5,2,3,1,2,
-                1,2,0,2,3,5,3,1,2,2,3,3,4,0,1,5,0,1,5,2,0,4,2,4,0,1,5,1,4,3,4,0,5,2,0,4,2,5,4,3,
-                3,1,4,1,2,1,4,4,3,3,2,2,3,3,3,0,0,5,3,2,0,3,1,1,4,2,0,5,1,4,0,3,4,5,4,1,5,0,2,5,
-                2,2,3,4,5,4,1,0,5,5,3,3,0,4,4,0,1,4,5,2,4,4,1,0,2,5,0,4,1,5,5,5,1,2,3,5,3,2,0,4,
-                2,3,2,5,2,3,5,1,2,0,1,0,5,5,3,4,0,2,1,0,3,1,5,0,2,4,0,4,2,0,0,2,2,1,5,5,2,0,0,3,
-                2,3,0,0,4,2,5,4,3,1,1,2,5,4,4,4,3,2,3,0,3,4,0,3,5,1,1,0,3,1,0,0,0,0,1,2,4,5,5,0,
-                2,4,2,4,3,2,3,1,3,1,1,4,0,2,4,5,2,3,0,5,5,3,5,2,1,3,4,5,1,4,1,1,5,5,4,2,1,0,0,5,
-                4,0,2,1,2,5,2,5,4,2,2,1,4,2,3,1,0,1,5,2,0,0,4,3,3,4,2,3,5,3,2,4,2,5,1,0,5,2,5,2,
-                3,0,3,4,1,2,1,5,1,4,2,2,4,0,4,3,5,5,4,3,3,5,5,4,2,2,1,3,3,5,4,4,0,2,4,3,3,0,1,4,
-                1,3,2,5,0,2,4,1,2,0,4,0,3,4,3,5,5,2,5,1,2,0,5,0,4,5,1,0,0,3,3,2,2,3,4,1,5,4,0,3,
-                3,2,3,5,2,5,1,5,1,4,3,2,1,0,1,5,4,1,4,2,3,1,2,5,0,4,1,5,1,3,0,1,0,3,2,3,0,2,5,2,
-                0,4,1,1,2,3,3,3,3,3,0,3,0,4,4,3,1,1,1,0,1,0,4,1,4,0,5,5,5,4,1,0,4,3,5,4,5,5,2,4,
-                0,1,2,2,5,5,1,4,3,0,3,5,5,3,4,5,2,4,3,2,3,3,1,5,4,0,2,2,2,5,4,0,2,3,3,3,0,5,2,4,
-                1,5,1,5,1,0,1,3,1,1,3,1,2,5,0,1,5,1,2,1,5,2,3,5,1,1,1,5,0,0,1,4,1,3,4,2,2,0,1,3,
-                2,5,4,1,3,5,4,4,1,4,3,2,1,2,1,1,2,3,1,4,3,2,4,0,0,5,5,2,3,1,1,1,2,3,5,4,4,1,1,5,
-                4,4,4,1,1,1,3,0,2,5,0,1,3,2,1,3,3,5,2,0,0,3,1,1,3,4,2,3,3,0,0,4,3,2,2,1,5,5,1,3,
-                2,0,0,1,4,4,1,5,5,2,1,3,2,5,1,3,4,5,2,4,4,5,1,4,0,2,4,3,0,1,1,1,5,3,4,3,0,0,5,1,
-                1,3,4,0,5,1,0,2,4,4,1,0,5,2,4,2,1,5,0,0,1,4,4,4,5,1,3,4,2,1,0,3,5,0,3,3,0,3,4,0,
-                4,1,4,3,5,5,2,4,4,0,1,5,0,2,0,5,3,2,0,5,2,2,4,1,2,2,4,5,5,3,3,4,1,5,2,4,4,2,1,5,
-                4,1,0,5,4,5,5,4,2,0,3,5,2,1,0,3,1,1,1,5,3,3,5,2,1,5,5,5,0,4,3,4,5,4,1,3,4,4,1,5,
-                1,0,2,1,0,2,3,2,0,1,5,4,3,3,3,3,3,1,0,1,3,0,3,3,0,0,5,5,2,0,5,1,5,4,2,0,0,3,3,1,
-                2,2,5,2,1,0,3,5,2,3,4,0,3,2,5,0,4,0,1,3,2,5,4,4,4,3,5,3,4,5,4,0,1,2,1,1,5,4,1,2};
-
-        int[] Tab3 ={0,3,4,5,5,5,0,0,0,1,3,4,2,0,4,0,5,1,1,2,2,5,1,5,2,0,4,5,1,0,2,4,1,0,5,0,3,2,4,4,
-                0,2,5,2,3,4,1,2,3,1,3,5,2,5,4,1,1,2,1,4,2,3,4,0,2,2,3,1,0,5,4,1,4,5,1,4,0,1,3,2,
-                0,1,1,2,2,2,1,1,2,2,2,1,1,5,1,2,4,0,3,2,2,0,1,1,1,1,5,3,3,3,1,0,5,3,4,2,2,5,0,0,
-                4,5,2,5,4,1,1,3,4,5,0,1,4,1,2,2,0,5,5,2,0,0,1,3,5,5,5,2,4,0,1,0,5,3,0,3,3,3,5,1,
-                1,4,4,5,5,5,0,3,0,0,3,0,4,5,3,3,0,5,0,3,5,5,1,1,4,0,1,1,1,5,5,1,2,5,3,0,5,3,2,2,
-                0,2,3,4,1,5,5,3,1,5,4,0,3,3,5,3,2,4,3,4,2,0,5,3,3,2,5,3,3,5,5,2,2,1,5,1,4,2,5,3,
-                5,2,2,4,0,0,4,2,1,3,2,1,0,2,4,4,3,0,0,1,1,3,4,5,1,2,2,0,3,2,4,4,0,2,3,0,0,4,4,0,
-                3,3,3,3,5,1,4,0,5,4,3,5,2,4,2,1,0,4,0,3,4,3,4,0,1,2,0,5,5,0,4,1,1,1,4,4,3,4,3,2,
-                4,1,3,3,0,3,5,4,2,3,3,3,3,4,4,1,5,1,5,3,2,3,3,5,1,3,5,2,2,0,0,4,1,1,4,1,0,4,5,0,
-                4,5,0,2,5,4,0,5,5,1,4,5,1,3,1,2,4,4,2,4,3,3,5,2,2,4,3,2,1,5,5,1,4,2,0,1,4,3,2,0,
-                0,5,0,5,4,4,2,4,1,5,0,1,0,5,0,2,4,5,2,1,1,4,3,0,5,2,3,0,1,4,5,0,1,1,4,4,5,5,2,3,
-                2,0,4,2,1,0,2,2,2,3,4,0,4,0,5,5,0,5,2,2,0,5,3,5,5,5,5,2,0,0,5,3,0,4,5,0,0,1,5,0,
-                1,2,0,5,3,4,0,5,2,4,2,3,5,0,0,3,4,3,3,2,0,2,0,0,1,1,1,5,3,1,1,0,4,2,3,5,4,2,3,2,
-                4,0,0,2,1,0,4,0,1,5,1,2,5,4,3,3,1,3,1,3,3,4,5,4,0,4,2,3,3,0,5,2,4,3,0,5,4,1,1,4,
-                1,5,2,0,2,4,3,4,3,4,0,3,2,4,1,2,1,3,1,4,0,5,0,4,5,3,3,5,2,2,2,5,5,4,2,3,2,4,2,2,
-                2,4,4,2,2,2,5,1,4,5,2,0,3,2,3,2,2,4,0,3,5,3,2,4,0,5,2,5,0,4,4,4,2,1,0,3,3,5,4,3,
-                4,3,4,0,4,5,1,1,0,2,1,2,1,0,5,2,4,3,1,0,4,3,2,0,4,0,5,0,3,5,4,5,4,0,3,2,3,0,0,0,
-                2,1,5,5,0,4,1,3,4,2,4,0,3,5,0,5,5,0,3,2,2,4,3,5,3,4,5,1,3,1,3,3,2,0,3,5,2,2,4,0,
-                5,0,1,1,3,2,0,4,4,2,5,2,4,1,5,4,1,3,4,3,2,3,5,0,1,5,3,3,2,4,2,1,4,1,0,4,3,4,4,3,
-                0,0,4,5,4,4,2,0,1,0,3,5,2,5,3,3,1,1,2,1,4,0,0,2,0,0,4,5,4,5,5,0,4,0,2,5,5,3,3,4,
-                0,0,3,3,2,1,3,4,2,1,5,3,4,3,1,3,1,2,5,4,0,1,1,3,2,5,2,4,2,5,5,5,5,1,1,3,0,1,3,3,
-                0,1,2,0,5,5,0,5,0,4,5,0,0,5,0,2,1,5,3,5,5,4,2,1,5,4,1,0,3,1,0,2,3,0,4,2,0,3,3,0,
-                0,1,4,0,3,3,3,5,0,3,0,4,1,3,4,4,0,4,4,1,1,4,2,3,2,3,0,5,3,1,1,1,2,1,1,1,5,5,4,2,
-                2,4,3,5,4,5,3,0,3,1,3,3,3,5,5,0,3,4,3,4,3,1,3,2,5,4,5,1,2,2,1,2,0,4,2,4,4,2,1,5,
-                5,3,2,1,0,4,3,5,3,1,1,5,0,4,1,3,1,0,3,1,1,4,2,2,2,0,1,1,3,0,1,5,5,1,0,1,2,4,0,4,
-                5,5,5,1,3,4,1,1,3,2,5,0,1,5,4,4,3,0,3,5,3,3,0,2,4,4,2,5,4,5,4,0,0,4,2,3,2,4,2,0,
-                2,3,4,5,4,5,0,5,4,5,0,4,0,4,3,0,2,2,0,2,1,5,5,1,0,3,4,4,2,1,0,3,1,4,3,0,1,0,2,2,
-                2,5,2,2,3,0,0,5,4,4,5,5,1,5,4,4,4,3,2,3,0,3,3,0,3,3,0,3,4,2,0,3,4,1,2,0,0,1,1,4,
-                0,5,0,1,2,5,2,1,4,0,1,5,0,2,5,3,4,2,4,3,2,1,4,3,5,2,1,5,3,3,0,2,0,5,3,2,1,0,0,5,
-                2,5,1,3,0,0,2,0,1,1,4,3,3,4,0,0,1,4,4,4,5,3,2,3,2,4,3,5,0,2,5,4,0,4,5,2,1,4,1,2,
-                0,4,5,4,0,2,0,2,1,0,2,3,5,5,4,2,4,1,3,0,0,3,3,0,5,0,0,3,4,5,1,1,1,5,5,5,4,0,3,3,
-                2,2,5,1,1,1,5,5,5,5,5,4,1,2,0,1,3,4,2,1,3,5,1,4,4,3,2,4,5,3,0,1,0,0,5,1,4,0,5,2,
-                3,4,2,5,5,0,0,5,0,0,0,5,5,2,1,4,5,2,4,5,1,4,3,0,3,1,5,0,4,5,4,2,5,0,3,2,2,5,5,2,
-                3,2,1,0,0,4,5,3,3,5,0,3,5,3,0,4,4,4,2,1,3,4,4,1,2,0,5,2,3,1,1,2,3,3,3,5,1,2,3,0,
-                2,1,0,3,5,1,1,1,1,0,1,1,4,3,2,0,2,5,4,4,4,5,0,3,4,2,1,4,4,3,4,0,3,0,4,0,2,0,3,5,
-                3,3,5,2,1,3,2,5,4,0,1,3,2,5,1,3,2,1,4,4,0,3,5,1,3,3,1,4,4,4,0,4,5,5,2,0,3,3,2,4,
-                2,1,3,2,4,0,4,0,1,5,1,5,2,5,3,5,1,4,2,4,1,0,0,4,1,5,1,5,3,3,3,3,4,0,2,4,3,4,3,4,
-                4,3,0,4,4,1,0,4,2,3,2,2,3,0,0,3,4,4,3,3,5,1,1,2,5,2,5,2,5,3,3,1,0,3,2,5,0,5,0,4,
-                0,2,5,4,5,5,0,5,0,1,2,5,1,2,2,1,0,4,5,1,5,4,1,2,3,5,2,1,3,0,1,3,0,3,0,3,2,2,2,3,
-                1,2,3,2,0,4,4,3,1,1,2,2,3,0,2,3,3,0,0,1,5,4,2,1,5,0,2,5,2,4,4,3,0,3,3,1,0,1,2,2,
-        };
-        int[] Tab2 ={4,1,3,3,1,2,4,1,2,2,5,0,3,5,0,0,4,4,1,2,3,1,3,3,5,0,2,4,1,2,5,4,2,1,5,1,1,0,4,1,
-                5,1,2,3,5,3,0,5,4,3,1,2,4,5,2,1,1,0,3,3,4,4,0,1,3,1,4,0,2,0,0,2,5,1,5,2,3,1,2,2,
-                5,5,2,4,2,4,4,4,4,2,5,5,5,2,4,5,5,2,3,4,3,5,5,1,5,1,4,0,2,1,4,5,5,0,3,2,5,2,5,3,
-                4,2,0,3,3,3,1,3,0,1,1,1,2,5,3,0,3,2,0,5,4,3,4,0,2,3,0,0,0,5,5,0,4,0,0,4,0,0,3,2,
-                2,5,5,2,0,4,2,4,1,1,0,3,2,5,1,0,4,2,4,2,0,3,2,3,1,1,2,4,3,2,1,3,3,4,1,4,0,0,1,0,
-                3,5,5,2,5,1,2,1,3,1,1,2,2,0,1,2,5,5,5,1,0,1,4,5,1,1,1,4,5,2,5,2,1,5,3,3,4,4,3,3,
-                1,1,1,1,4,2,1,4,4,3,5,5,0,4,0,5,0,1,4,3,0,2,0,0,4,0,0,0,2,4,4,5,0,4,0,3,1,4,0,2,
-                4,2,0,1,0,3,5,2,0,3,5,3,0,3,4,2,4,4,5,1,2,1,3,5,0,3,2,4,1,4,3,1,0,0,1,1,3,2,4,3,
-                5,0,4,1,2,0,3,2,5,2,1,5,3,5,3,2,5,4,3,3,1,4,2,5,5,2,1,1,3,0,0,1,4,4,0,4,5,3,2,1,
-                5,5,0,5,4,4,3,2,3,1,4,1,1,4,1,2,4,0,1,2,5,5,5,0,3,4,3,2,0,0,4,3,3,1,4,2,0,1,5,1,
-                1,5,0,2,4,4,5,0,2,1,5,1,4,2,1,2,3,1,1,2,3,0,3,3,3,1,2,3,3,4,1,0,1,0,1,5,5,3,0,0,
-                1,1,3,3,5,0,5,5,4,0,2,3,0,3,0,1,1,1,1,4,0,3,0,4,2,5,3,3,5,3,5,0,1,2,0,5,5,3,1,0,
-                5,0,2,3,4,3,3,1,1,4,3,3,3,0,1,0,2,0,5,3,2,2,4,2,4,1,1,3,1,1,3,4,0,4,1,5,1,4,2,2,
-                1,4,5,5,5,5,0,5,2,0,4,4,0,2,5,5,5,4,4,5,0,3,2,2,4,0,2,2,5,4,2,4,2,5,2,3,3,1,1,2,
-                4,4,5,0,0,5,1,1,0,5,0,4,3,5,4,2,0,5,0,0,3,5,3,3,2,4,4,4,1,4,0,2,4,2,4,3,5,0,1,0,
-                4,1,2,4,5,3,5,0,4,2,2,0,5,4,2,1,0,5,3,3,2,4,4,5,4,1,3,0,5,3,1,4,3,3,5,3,1,3,1,2,
-                0,4,2,3,4,1,5,1,2,5,0,0,0,3,4,5,3,2,1,1,4,0,1,2,2,1,2,5,0,5,2,1,0,0,4,3,3,0,2,3,
-                1,2,0,2,1,5,2,3,2,4,1,2,3,1,4,3,5,5,2,5,5,5,2,1,0,4,1,1,5,5,0,1,5,2,5,4,4,5,0,5,
-                3,4,5,3,1,0,2,3,0,1,2,2,1,2,2,0,4,1,5,4,3,0,2,4,2,0,0,2,4,5,3,0,2,3,0,1,3,0,2,2,
-                1,2,1,3,2,0,4,1,4,2,1,2,2,2,2,4,2,4,0,3,2,1,1,4,0,2,2,5,5,5,0,0,4,1,2,0,3,3,2,4,
-                4,0,4,0,3,3,0,1,5,5,3,0,3,3,2,3,0,1,4,2,4,1,0,1,1,0,0,4,0,1,1,1,0,2,4,1,3,3,5,0,
-                5,1,1,5,4,1,3,0,2,3,1,0,4,2,5,5,4,5,2,2,2,4,5,1,5,0,2,4,3,0,1,3,4,5,5,3,0,1,1,3,
-                3,5,3,0,1,2,2,1,3,5,0,2,1,1,2,0,4,5,4,3,0,0,0,4,4,2,0,5,2,0,2,0,4,3,4,3,4,5,5,4,
-                2,0,5,1,0,0,0,2,5,0,4,1,5,2,3,0,1,2,2,3,3,0,0,5,1,4,3,5,5,3,0,0,3,3,0,0,0,3,5,0,
-                5,4,1,5,1,4,5,3,0,2,2,0,1,5,4,0,3,5,5,5,4,1,2,3,4,3,5,5,2,0,3,4,4,0,2,1,5,0,0,3,
-                2,5,5,1,5,5,0,2,4,3,0,4,0,5,3,5,0,4,0,5,3,5,1,0,1,0,2,2,3,4,4,4,1,4,1,4,5,2,5,4,
-                3,5,5,4,4,1,5,4,3,3,2,1,0,4,1,4,4,3,2,3,0,4,0,1,2,0,2,2,0,1,3,0,2,2,4,4,3,0,5,5,
-                0,3,4,5,0,2,5,1,0,2,5,0,4,3,4,0,2,5,5,4,4,4,0,2,2,5,0,1,4,2,0,5,5,3,5,4,4,1,3,1,
-                3,4,4,4,1,4,0,1,3,4,5,0,0,5,4,2,3,0,4,1,4,3,2,4,3,2,5,3,3,3,0,2,3,4,2,2,2,1,0,1,
-                2,3,0,5,0,2,5,0,5,4,0,1,4,1,5,2,0,5,2,5,2,2,1,1,2,5,3,0,1,5,2,2,3,0,2,4,0,3,2,3,
-                0,0,4,4,2,2,4,3,3,1,1,4,0,0,0,0,4,4,2,3,4,5,2,0,0,0,0,5,5,4,2,1,4,5,3,0,1,0,1,5,
-                5,0,3,3,3,0,4,1,1,3,2,0,4,1,2,4,1,2,5,5,1,2,0,0,1,4,0,2,3,5,4,5,0,1,2,1,4,0,3,3,
-                5,3,5,4,2,4,4,0,0,2,0,1,2,3,2,3,5,1,3,1,3,4,2,5,4,5,2,0,5,4,1,2,4,5,3,1,5,3,2,0,
-                1,5,5,2,1,3,1,0,2,5,5,1,1,5,2,5,1,4,2,3,3,4,5,4,0,5,1,0,0,4,4,3,2,2,0,3,5,5,1,4,
-                3,3,5,5,2,4,2,4,3,1,1,2,4,4,5,0,0,0,2,4,4,1,0,1,1,0,2,0,4,4,2,5,4,0,1,0,0,1,0,2,
-                2,0,2,2,5,0,2,2,4,5,1,1,2,3,5,0,4,4,2,5,0,0,1,3,0,1,3,3,2,4,1,3,2,3,3,2,5,5,5,0,
-                3,3,4,2,4,1,3,1,3,1,1,5,4,0,5,0,1,0,2,3,2,4,3,4,2,2,4,1,1,3,3,0,3,5,3,4,5,1,2,4,
-                0,1,5,3,2,2,0,2,4,2,3,0,3,3,5,3,1,1,2,4,3,4,1,5,5,0,1,1,5,4,5,5,5,1,4,2,4,4,2,2,
-                1,2,0,4,4,3,3,4,3,1,2,3,1,3,4,0,1,3,2,2,5,2,5,2,4,0,0,5,1,3,2,3,1,5,2,0,2,0,1,4,
-                3,2,0,3,0,3,4,4,2,0,3,4,0,1,4,5,2,3,0,4,5,3,4,3,3,0,4,1,4,0,2,5,4,5,3,5,3,0,1,5,
-        };
-        int[] Tab1 ={2,4,1,1,3,2,4,0,0,0,3,4,0,1,1,5,4,0,2,4,0,4,0,2,0,3,2,5,0,4,1,3,0,5,2,2,5,0,0,3,
-                2,3,3,3,3,4,1,0,3,0,0,1,2,2,2,3,2,3,3,3,4,5,4,5,0,4,4,4,4,4,0,3,0,5,5,5,4,1,0,3,
-                2,3,1,1,5,2,2,0,3,1,1,1,0,5,3,1,3,0,3,3,0,4,2,4,4,1,2,1,4,3,5,2,2,3,3,0,5,1,5,1,
-                2,2,0,1,2,2,1,1,5,4,5,0,1,0,0,3,0,1,4,4,1,2,1,4,0,1,4,5,2,3,1,0,5,1,3,5,0,0,3,1,
-                1,1,5,2,4,0,2,5,5,1,2,3,3,3,1,2,0,5,4,3,3,2,3,2,0,5,2,0,2,5,4,2,4,2,1,5,1,4,3,4,
-                2,0,3,2,1,4,5,0,2,2,2,2,3,4,4,4,4,2,5,3,5,1,5,5,0,2,4,1,2,0,3,1,1,3,3,2,3,0,4,1,
-                4,0,0,1,5,3,5,1,2,1,4,2,4,2,3,2,2,2,3,2,0,4,5,3,1,5,4,4,2,5,1,4,3,2,0,4,1,3,5,3,
-                1,3,1,1,2,0,1,5,2,3,1,5,3,0,2,2,3,1,3,1,2,1,1,3,3,0,5,1,0,2,0,2,5,1,0,0,5,4,1,5,
-                3,2,3,5,3,2,1,3,4,1,0,4,3,4,3,4,0,1,0,5,3,4,5,3,1,1,2,4,3,4,2,3,4,0,3,2,0,0,3,4,
-                1,3,5,4,2,1,4,4,1,5,1,4,2,1,3,0,4,0,5,0,4,5,5,0,1,0,2,0,3,0,0,5,4,2,2,4,2,0,2,2,
-                3,4,3,5,1,4,2,4,4,2,1,0,3,3,4,2,0,4,4,0,2,4,3,4,0,3,3,1,4,4,4,4,5,5,4,4,4,2,5,2,
-                4,0,1,1,3,5,4,3,1,3,5,1,3,0,5,3,5,3,4,2,1,3,1,5,1,1,4,1,1,1,2,2,5,3,2,3,5,1,1,2,
-                4,5,5,5,1,1,2,0,2,4,5,1,4,2,5,4,4,3,0,3,1,2,4,5,0,2,0,2,5,4,0,4,3,5,3,2,2,5,5,2,
-                4,1,5,3,2,5,2,3,1,4,0,1,1,3,5,3,1,2,4,1,3,3,3,1,2,5,5,2,5,5,4,0,5,5,0,0,1,4,5,2,
-                0,2,3,5,3,5,5,1,4,1,0,0,3,0,2,3,5,2,2,2,4,2,0,0,0,5,0,2,3,5,0,0,0,3,0,3,5,4,3,4,
-                4,3,1,2,2,1,2,0,0,5,3,3,3,0,5,4,0,3,4,2,5,2,0,2,0,0,3,4,1,5,1,4,3,5,3,3,4,0,3,4,
-                0,3,5,3,0,4,4,0,2,3,1,4,3,3,4,4,3,4,2,4,5,0,0,1,3,3,3,5,5,5,1,1,5,1,3,2,5,3,4,0,
-                2,2,1,3,2,2,0,1,5,2,0,2,0,3,0,2,4,5,0,1,2,4,3,2,5,4,3,3,5,1,5,2,5,0,1,0,4,1,5,3,
-                3,2,1,2,0,2,3,2,4,2,0,2,1,1,4,0,3,3,4,1,1,4,0,5,0,5,1,3,3,0,2,4,3,5,5,0,3,5,3,3,
-                1,0,1,4,2,1,4,0,0,3,2,0,3,0,0,2,1,1,4,2,2,4,0,0,4,5,0,3,4,4,1,4,5,0,1,3,0,1,1,1,
-                0,1,3,2,1,5,2,3,5,2,0,3,3,2,0,5,5,1,2,3,4,1,3,5,1,1,0,0,3,3,0,2,0,0,5,5,5,5,1,4,
-                1,5,0,5,2,4,1,3,4,1,3,1,2,2,0,1,0,2,1,3,5,4,1,0,5,5,5,4,3,0,5,5,3,2,1,4,3,5,4,5,
-                5,2,2,2,4,5,5,3,5,1,2,0,1,2,2,3,0,1,3,2,0,3,5,0,4,3,5,1,0,1,3,2,4,5,5,4,5,5,5,1,
-                1,4,3,4,3,2,2,2,0,5,1,3,4,1,4,1,5,1,0,3,4,5,1,1,3,1,0,1,0,2,0,0,0,0,2,4,3,0,3,0,
-                1,1,1,1,2,4,3,5,0,4,3,1,0,1,3,0,4,5,3,1,5,3,1,0,0,4,2,0,5,5,2,5,1,2,3,1,2,1,1,0,
-                4,3,5,2,2,0,2,3,5,0,4,1,4,4,1,5,3,3,1,4,0,3,1,3,1,4,2,1,0,0,5,1,0,4,0,5,4,4,5,5,
-                0,1,4,2,3,2,3,0,5,2,3,5,4,0,3,2,0,1,0,3,5,4,4,5,4,0,1,2,4,1,2,5,5,3,3,0,2,1,4,2,
-                1,2,2,4,5,0,1,0,5,4,5,4,4,5,2,0,5,1,0,1,0,1,4,1,4,3,3,5,4,4,3,0,0,4,4,3,2,1,3,5,
-                3,3,3,5,2,0,4,3,2,0,4,3,1,4,2,3,2,3,4,5,5,0,1,4,4,2,2,2,3,1,0,0,2,2,2,2,2,5,1,3,
-                4,2,3,3,1,0,3,0,2,0,2,3,2,3,2,2,0,2,3,3,2,2,3,1,3,0,4,3,1,4,1,2,2,0,4,3,0,3,4,1,
-                4,4,3,4,1,0,1,3,0,5,3,5,2,4,5,5,3,2,5,3,4,3,3,4,0,3,2,1,1,5,3,0,5,4,2,0,4,2,5,0,
-                3,3,3,5,5,3,5,3,4,3,0,1,0,0,2,4,4,4,1,1,2,2,3,2,5,4,1,0,4,3,4,0,2,3,2,3,5,5,2,5,
-                2,2,3,1,2,3,5,2,3,0,3,2,2,0,5,4,5,1,2,2,1,1,3,5,0,3,0,3,3,0,5,2,2,0,0,3,0,4,5,3,
-                0,0,3,5,5,2,4,0,0,1,1,4,3,4,0,1,4,4,4,1,5,4,2,2,4,4,2,4,4,1,5,4,2,1,1,4,1,0,5,0,
-                5,5,2,1,0,4,1,5,0,4,2,0,5,0,4,3,0,0,2,4,2,0,2,1,3,0,3,5,1,1,2,5,0,5,2,3,2,4,1,5,
-                2,2,5,1,5,4,2,5,2,4,2,5,0,3,4,3,4,0,5,3,4,1,0,0,2,0,5,1,2,3,5,4,3,1,4,4,2,3,4,2,
-                4,3,5,4,2,4,4,2,4,5,5,4,5,5,4,5,2,5,1,3,3,3,1,3,4,2,0,1,5,0,5,0,0,3,1,1,0,4,5,5,
-                1,0,5,4,1,1,5,3,2,1,0,5,1,1,1,2,4,0,5,1,1,1,1,0,0,0,3,2,1,3,2,1,0,3,3,5,3,0,4,0,
-                1,3,2,2,0,3,1,0,2,4,2,1,2,5,3,1,0,5,3,5,1,4,2,0,0,5,2,5,2,3,5,3,0,0,0,3,2,2,4,1,
-                4,3,3,1,4,1,5,0,4,2,0,2,2,4,3,0,0,0,0,4,2,2,3,3,3,3,4,4,5,0,3,0,5,2,2,3,5,5,5,3,
-        };
-
-        model = new DotInfo[sizeOfGame][sizeOfGame];
 
-        int count=0;
-        if (modeOfGame==0){
-            numbStepsMax=69;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab0[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==1) {
-            numbStepsMax=42;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab1[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==2) {
-            numbStepsMax=35;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab2[count]);
-                    count++;
-                }
-            }
-        }
-        else if (modeOfGame==3) {
-            numbStepsMax=20;
-            for(int i = 0; i < sizeOfGame; i++){
-                for(int j = 0; j < sizeOfGame; j++){
-                    model[i][j] = new DotInfo(i,j,Tab3[count]);
-                    count++;
-                }
-            }
+    private FloodPath newEngine(){
+        if (sizeOfGame * sizeOfGame <= BitBoard.MAX_CELLS) {
+            return new BitBoard(this);
         }
-        start();
-    }
-
-    private void start(){
-        currentSelectedColor = model[0][0].getColor();
-        model[0][0].setCaptured(true);
-        numberOfSteps = 0;
-        numberCaptured = 1;
+        return new FloodEngine(this);
     }
 
     public String getLevel(){
@@ -0,0 +1,183 @@
+package axxel.floodit;
+
+import java.io.*;
+
+/**
+ * The class <b>GameState</b> is an immutable state of a game: the board, the
+ * captured dots, the current selection color and the number of steps. A
+ * move does not change a state, <b>apply</b> returns the next one instead,
+ * so states can be shared freely between threads, for instance to compute
+ * hints or to search for a solution while the player keeps playing.
+ *
+ * A state holds a clone of a GameModel that is never changed. Clones share
+ * the board and the captured dots, so a state costs about the boundary of
+ * the captured area, and applying a move only copies what the move changes.
+ */
+public final class GameState implements Serializable {
+
+    /**
+     * The model of this state. It must never be changed: every change is
+     * made on a clone.
+     */
+    private final GameModel model;
+
+    /**
+     * Constructor. The model must not be reachable from anywhere else.
+     *
+     * @param model
+     *            the model of the state, owned by the new state
+     */
+    GameState(GameModel model) {
+        // once frozen, the model is only read, even when it is cloned
+        model.freeze();
+        this.model = model;
+    }
+
+    /**
+     * The metod <b>apply</b> returns the state reached by selecting a color
+     * from this state. This state is not changed.
+     *
+     * @param color
+     *            the newly selected color
+     * @return the next state, or this state if the color is unchanged
+     */
+    public GameState apply(int color) {
+        if (color == model.getCurrentSelectedColor()) {
+            return this;
+        }
+        GameModel next = model.clone();
+        next.play(color);
+        return new GameState(next);
+    }
+
+    /**
+     * The metod <b>toModel</b> returns a new mutable model in this state.
+     *
+     * @return a model that can be played independently of this state
+     */
+    public GameModel toModel() {
+        return model.clone();
+    }
+
+    /**
+     * The metod <b>previewGains</b> returns, for every color, the number of
+     * dots that applying it would capture.
+     *
+     * @return an array of NUMBER_OF_COLORS gains, indexed by color
+     */
+    public int[] previewGains() {
+        // the engine keeps scratch marks, so the preview runs on a clone
+        return model.clone().previewGains();
+    }
+
+    /**
+     * Getter method for the size of the board
+     *
+     * @return the size of the board
+     */
+    public int getSize() {
+        return model.getSize();
+    }
+
+    /**
+     * Getter method for the mode of the game
+     *
+     * @return the mode of the game
+     */
+    public int getMode() {
+        return model.getMode();
+    }
+
+    /**
+     * returns the color of a given dot in the game
+     *
+     * @param i
+     *            the x coordinate of the dot
+     * @param j
+     *            the y coordinate of the dot
+     * @return the color of the dot at location (i,j)
+     */
+    public int getColor(int i, int j) {
+        return model.getColor(i, j);
+    }
+
+    /**
+     * returns true is the dot is captured, false otherwise
+     *
+     * @param i
+     *            the x coordinate of the dot
+     * @param j
+     *            the y coordinate of the dot
+     * @return the status of the dot at location (i,j)
+     */
+    public boolean isCaptured(int i, int j) {
+        return model.isCaptured(i, j);
+    }
+
+    /**
+     * Getter method for the current selection color
+     *
+     * @return the current selection color
+     */
+    public int getCurrentSelectedColor() {
+        return model.getCurrentSelectedColor();
+    }
+
+    /**
+     * Getter method for the number of steps
+     *
+     * @return the number of steps played to reach this state
+     */
+    public int getNumberOfSteps() {
+        return model.getNumberOfSteps();
+    }
+
+    /**
+     * Getter method for the number of captured dots
+     *
+     * @return the number of captured dots
+     */
+    public int getNumberCaptured() {
+        return model.getNumberCaptured();
+    }
+
+    /**
+     * The metod <b>isFinished</b> returns true iff all the dots are captured.
+     *
+     * @return true if the game is finished, false otherwise
+     */
+    public boolean isFinished() {
+        return model.isFinished();
+    }
+
+    /**
+     * Getter method for the Zobrist hash of the captured dots and the color
+     *
+     * @return the hash of this state
+     */
+    public long getHash() {
+        return model.getHash();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof GameState)) {
+            return false;
+        }
+        GameState other = (GameState) o;
+        return model.getHash() == other.model.getHash()
+                && model.getNumberOfSteps() == other.model.getNumberOfSteps()
+                && model.sameState(other.model);
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = model.getHash();
+        return (int) (hash ^ (hash >>> 32)) * 31 + model.getNumberOfSteps();
+    }
+
+    @Override
+    public String toString() {
+        return model.toString();
+    }
+}
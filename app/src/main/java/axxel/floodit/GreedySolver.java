@@ -0,0 +1,93 @@
+package axxel.floodit;
+
+/**
+ * The class <b>GreedySolver</b> plays, at every step, the color leading to
+ * the largest captured area a few moves later. It never backtracks, so it
+ * is fast on any board but its solutions are only an upper bound of the
+ * optimal number of moves.
+ *
+ * The game is played on the RegionGraph of the board: a move then costs the
+ * number of regions around the captured area, and looking ahead only copies
+ * sets of regions.
+ */
+public class GreedySolver implements Solver {
+
+    /**
+     * The number of moves looked ahead by default
+     */
+    public static final int DEFAULT_DEPTH = 2;
+
+    private final int depth;
+
+    /**
+     * Constructor looking DEFAULT_DEPTH moves ahead.
+     */
+    public GreedySolver() {
+        this(DEFAULT_DEPTH);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param depth
+     *            the number of moves looked ahead, at least 1
+     */
+    public GreedySolver(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Invalid depth: " + depth);
+        }
+        this.depth = depth;
+    }
+
+    @Override
+    public int[] solve(GameModel model) {
+        RegionGraph.State state = model.getRegionGraph().state(model);
+        IntStack moves = new IntStack();
+        while (!state.isFinished()) {
+            int best = -1;
+            long bestScore = -1;
+            for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+                int gain = state.gain(color);
+                if (color == state.getCurrentColor() || gain == 0) {
+                    continue;
+                }
+                RegionGraph.State next = state.copy();
+                next.flood(color);
+                // the area after the lookahead first, the immediate gain breaks the ties
+                long score = (long) lookahead(next, depth - 1) * (1 << 24) + gain;
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = color;
+                }
+            }
+            state.flood(best);
+            moves.push(best);
+        }
+        return moves.toArray();
+    }
+
+    /**
+     * Returns the largest number of captured dots reachable from a state in
+     * a given number of moves.
+     */
+    private static int lookahead(RegionGraph.State state, int depth) {
+        if (depth == 0 || state.isFinished()) {
+            return state.getNumberCaptured();
+        }
+        int best = state.getNumberCaptured();
+        for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+            if (color == state.getCurrentColor() || state.gain(color) == 0) {
+                continue;
+            }
+            RegionGraph.State next = state.copy();
+            next.flood(color);
+            best = Math.max(best, lookahead(next, depth - 1));
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return "GreedySolver(" + depth + ")";
+    }
+}
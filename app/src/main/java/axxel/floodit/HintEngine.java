@@ -0,0 +1,313 @@
+package axxel.floodit;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The class <b>HintEngine</b> looks for the next color to play while the
+ * player thinks. A background thread solves the current state with
+ * stronger and stronger solvers, keeping the shortest solution found so
+ * far, so that a hint is always available at once, without waiting for
+ * the search.
+ *
+ * When the player selects the first color of that solution, the search
+ * is not interrupted: it goes on from the new state with the rest of the
+ * solution. The solver running at that time finishes its work on the state
+ * it started from, and its solution is kept if it begins with the colors
+ * played since. Any other move, undo or new game cancels the search in
+ * progress and starts a new one. No method ever waits for the search, so
+ * they can all be called from the UI thread.
+ */
+public class HintEngine {
+
+    /**
+     * The hint when no solution is known yet, or the game is finished
+     */
+    public static final int NO_HINT = -1;
+
+    /**
+     * The thread running the searches, one at a time
+     */
+    private final ExecutorService worker;
+
+    /**
+     * The solvers tried in turn on the small boards and on the others, only
+     * ever run by the worker thread
+     */
+    private final Solver[] small;
+    private final Solver[] large;
+
+    /**
+     * The search of the current state, null until the first start
+     */
+    private Search search;
+
+    /**
+     * Constructor. The solvers go from the fastest to the strongest; the
+     * small boards end with an exact search.
+     */
+    public HintEngine() {
+        // the beam search stays on the thread of the engine, the UI thread needs the others
+        this(new Solver[] {new GreedySolver(1), new GreedySolver(3), new OptimalSolver()},
+                new Solver[] {new GreedySolver(1), new GreedySolver(2),
+                        new BeamSolver(64, BeamSolver.COLORS, null), new BeamSolver(256, BeamSolver.COLORS, null),
+                        new BeamSolver(1024, BeamSolver.COLORS, null)});
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param small
+     *            the solvers tried in turn on the boards up to 10x10
+     * @param large
+     *            the solvers tried in turn on the larger boards
+     */
+    HintEngine(Solver[] small, Solver[] large) {
+        this.small = small;
+        this.large = large;
+        worker = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "HintEngine");
+                // a search must neither keep the process alive nor slow the game down
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * The metod <b>start</b> cancels the search in progress and starts
+     * searching from a new state, for instance a new game or after an undo.
+     *
+     * @param state
+     *            the current state of the game
+     */
+    public synchronized void start(GameState state) {
+        replace(new Search(state));
+    }
+
+    /**
+     * The metod <b>played</b> follows a move of the player. If the move is
+     * the hint, the search goes on from the new state with the rest of the
+     * best solution, otherwise it starts again from the new state.
+     *
+     * @param color
+     *            the color just selected
+     * @param state
+     *            the state reached by selecting that color
+     */
+    public synchronized void played(int color, GameState state) {
+        if (search == null || search.best == null || search.best.length == 0 || search.best[0] != color) {
+            start(state);
+            return;
+        }
+        search.root = state;
+        search.best = Arrays.copyOfRange(search.best, 1, search.best.length);
+        search.played.push(color);
+        // a stopped search goes on from the new state
+        proceed();
+    }
+
+    /**
+     * The metod <b>resume</b> goes on with a search cancelled by stop(), for
+     * instance when the game comes back to the screen. If the game is still
+     * in the state of the search, the hint found so far is kept and the
+     * search goes on with the solver it had reached; otherwise a new search
+     * starts from the current state.
+     *
+     * @param state
+     *            the current state of the game
+     */
+    public synchronized void resume(GameState state) {
+        if (search == null || !search.root.equals(state)) {
+            start(state);
+            return;
+        }
+        proceed();
+    }
+
+    /**
+     * The metod <b>stop</b> cancels the search in progress, for instance
+     * when the game is left. The hint found so far is kept.
+     */
+    public synchronized void stop() {
+        if (search != null) {
+            search.run++;
+            search.future.cancel(true);
+        }
+    }
+
+    private void replace(Search next) {
+        stop();
+        search = next;
+        submit(next);
+    }
+
+    /**
+     * Runs the current search again if it was stopped before its last solver
+     */
+    private void proceed() {
+        if (search.future.isDone() && search.stage < stagesFor(search.root.getSize()).length) {
+            submit(search);
+        }
+    }
+
+    private void submit(Search next) {
+        next.run++;
+        next.future = worker.submit(new Worker(next, next.run));
+    }
+
+    /**
+     * Keeps the solution of a stage of a search, unless the search was
+     * replaced or stopped since.
+     *
+     * @param played
+     *            the number of colors the player had followed when the
+     *            stage started: the solution starts from that state
+     * @return false if the search must stop
+     */
+    private synchronized boolean offer(Search from, int run, int[] moves, int stage, int played) {
+        if (from != search || run != from.run) {
+            return false;
+        }
+        // the colors followed during the stage must begin its solution
+        int followed = from.played.size() - played;
+        for (int k = 0; moves != null && k < followed; k++) {
+            if (k >= moves.length || moves[k] != from.played.get(played + k)) {
+                moves = null;
+            }
+        }
+        if (moves != null && (from.best == null || moves.length - followed < from.best.length)) {
+            from.best = Arrays.copyOfRange(moves, followed, moves.length);
+        }
+        from.stage = stage + 1;
+        return true;
+    }
+
+    /**
+     * Getter method for the hint
+     *
+     * @return the next color of the best solution found so far, or NO_HINT
+     */
+    public synchronized int getHint() {
+        if (search == null || search.best == null || search.best.length == 0) {
+            return NO_HINT;
+        }
+        return search.best[0];
+    }
+
+    /**
+     * Getter method for the best solution found so far
+     *
+     * @return a copy of the colors of the solution, or null if none is known
+     */
+    public synchronized int[] getSolution() {
+        return search == null || search.best == null ? null : search.best.clone();
+    }
+
+    /**
+     * Getter method for the state of the search
+     *
+     * @return true while the background thread searches the current state
+     */
+    public synchronized boolean isSearching() {
+        return search != null && !search.future.isDone();
+    }
+
+    /**
+     * Returns the solvers tried in turn on a board of a given size
+     */
+    private Solver[] stagesFor(int size) {
+        return size <= 10 ? small : large;
+    }
+
+    /**
+     * The search of the current state. Its fields are guarded by the engine.
+     */
+    private static final class Search {
+
+        /**
+         * The current state, moved along when the player follows the hint
+         */
+        private GameState root;
+
+        /**
+         * The best solution from the current state, or null
+         */
+        private int[] best;
+
+        /**
+         * The next solver to run
+         */
+        private int stage;
+
+        /**
+         * The colors the player followed since the search started
+         */
+        private final IntStack played = new IntStack();
+
+        /**
+         * The number of the current run of the worker: a run that is not
+         * the current one is ignored
+         */
+        private int run;
+        private Future<?> future;
+
+        private Search(GameState root) {
+            this.root = root;
+        }
+    }
+
+    /**
+     * A run of a search on the worker thread
+     */
+    private final class Worker implements Runnable {
+        private final Search search;
+        private final int run;
+
+        private Worker(Search search, int run) {
+            this.search = search;
+            this.run = run;
+        }
+
+        @Override
+        public void run() {
+            GameModel model = null;
+            int applied = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                int stage;
+                int[] followed;
+                synchronized (HintEngine.this) {
+                    if (model == null) {
+                        // the model, with its region graph, is built once per search
+                        model = search.root.toModel();
+                        applied = search.played.size();
+                    }
+                    stage = search.stage;
+                    followed = new int[search.played.size() - applied];
+                    for (int k = 0; k < followed.length; k++) {
+                        followed[k] = search.played.get(applied + k);
+                    }
+                }
+                Solver[] stages = stagesFor(model.getSize());
+                if (stage >= stages.length) {
+                    return;
+                }
+                // the colors followed since the last stage are played on the model
+                for (int color : followed) {
+                    model.play(color);
+                }
+                applied += followed.length;
+                int[] moves = stages[stage].solve(model);
+                if (Thread.currentThread().isInterrupted() || !offer(search, run, moves, stage, applied)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package axxel.floodit;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * Set of non negative ints stored as the bits of an array of longs. The
+ * array grows to twice the needed length when a larger int is added.
+ */
+public class IntBitSet implements Serializable, Cloneable {
+
+    private long[] words;
+
+    public IntBitSet() {
+        this(64);
+    }
+
+    /**
+     * @param capacity the number of ints (0 to capacity-1) this set holds before growing
+     */
+    public IntBitSet(int capacity) {
+        words = new long[Math.max(1, (capacity + 63) >>> 6)];
+    }
+
+    /**
+     * @param index the int to test
+     * @return true if the int is in this set
+     */
+    public boolean get(int index) {
+        int w = index >>> 6;
+        return w < words.length && (words[w] & (1L << index)) != 0;
+    }
+
+    /**
+     * Adds an int to this set.
+     *
+     * @param index the int to add
+     */
+    public void set(int index) {
+        int w = index >>> 6;
+        if (w >= words.length) {
+            words = Arrays.copyOf(words, Math.max(w + 1, words.length * 2));
+        }
+        words[w] |= 1L << index;
+    }
+
+    /**
+     * Removes an int from this set.
+     *
+     * @param index the int to remove
+     */
+    public void clear(int index) {
+        int w = index >>> 6;
+        if (w < words.length) {
+            words[w] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Removes all the ints of this set, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * @return the number of ints in this set
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long w : words) {
+            count += Long.bitCount(w);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the smallest int of this set greater than or equal to a given one.
+     *
+     * @param from the int to start from
+     * @return the next int of this set, or -1 if there is none
+     */
+    public int nextSetBit(int from) {
+        int w = from >>> 6;
+        if (w >= words.length) {
+            return -1;
+        }
+        long word = words[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == words.length) {
+                return -1;
+            }
+            word = words[w];
+        }
+    }
+
+    /**
+     * Returns the words of this set, the int k being the bit k%64 of the
+     * word k/64. The returned array must not be modified.
+     *
+     * @return the words of this set
+     */
+    long[] words() {
+        return words;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof IntBitSet)) {
+            return false;
+        }
+        long[] a = words;
+        long[] b = ((IntBitSet) o).words;
+        for (int w = 0; w < Math.max(a.length, b.length); w++) {
+            if ((w < a.length ? a[w] : 0L) != (w < b.length ? b[w] : 0L)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // trailing empty words are ignored, as in equals
+        int last = words.length;
+        while (last > 0 && words[last - 1] == 0) {
+            last--;
+        }
+        int hash = 1;
+        for (int w = 0; w < last; w++) {
+            hash = 31 * hash + (int) (words[w] ^ (words[w] >>> 32));
+        }
+        return hash;
+    }
+
+    @Override
+    public IntBitSet clone() {
+        try {
+            IntBitSet clone = (IntBitSet) super.clone();
+            clone.words = words.clone();
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package axxel.floodit;
+
+import java.io.*;
+import java.util.EmptyStackException;
+
+/**
+ * Array-backed double ended queue of primitive ints, stored in a circular
+ * buffer whose length is a power of two. Used through push, pop and peek it
+ * follows the contract of the Stack interface; addLast and pollFirst make it
+ * a FIFO queue. The buffer doubles when it is full.
+ */
+public class IntDeque implements Serializable, Cloneable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elems;
+    private int head;
+    private int size;
+
+    public IntDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of elements this deque holds before growing
+     */
+    public IntDeque(int capacity) {
+        elems = new int[powerOfTwo(Math.max(1, capacity))];
+    }
+
+    private static int powerOfTwo(int n) {
+        int p = Integer.highestOneBit(n);
+        return p == n ? n : p << 1;
+    }
+
+    /**
+     * Tests if this deque is empty.
+     *
+     * @return true if this deque is empty; and false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of elements of this deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the first element; does not change the state of this deque.
+     *
+     * @return The first element of this deque without removing it.
+     */
+    public int peek() throws EmptyStackException {
+        if (isEmpty()) {throw new EmptyStackException();}
+        return elems[head];
+    }
+
+    /**
+     * Removes and returns the first element of this deque.
+     *
+     * @return The first element of this deque.
+     */
+    public int pop() throws EmptyStackException {
+        if (isEmpty()) {throw new EmptyStackException();}
+        return pollFirst();
+    }
+
+    /**
+     * Puts an element at the front of this deque.
+     *
+     * @param value the element be put at the front of this deque.
+     */
+    public void push(int value) {
+        addFirst(value);
+    }
+
+    /**
+     * Puts an element at the front of this deque.
+     *
+     * @param value the element
+     */
+    public void addFirst(int value) {
+        if (size == elems.length) {grow();}
+        head = (head - 1) & (elems.length - 1);
+        elems[head] = value;
+        size++;
+    }
+
+    /**
+     * Puts an element at the back of this deque.
+     *
+     * @param value the element
+     */
+    public void addLast(int value) {
+        if (size == elems.length) {grow();}
+        elems[(head + size) & (elems.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the first element of this deque.
+     *
+     * @return the first element
+     */
+    public int pollFirst() {
+        if (isEmpty()) {throw new EmptyStackException();}
+        int value = elems[head];
+        head = (head + 1) & (elems.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Removes and returns the last element of this deque.
+     *
+     * @return the last element
+     */
+    public int pollLast() {
+        if (isEmpty()) {throw new EmptyStackException();}
+        size--;
+        return elems[(head + size) & (elems.length - 1)];
+    }
+
+    /**
+     * @return the last element, without removing it
+     */
+    public int peekLast() {
+        if (isEmpty()) {throw new EmptyStackException();}
+        return elems[(head + size - 1) & (elems.length - 1)];
+    }
+
+    /**
+     * Returns the element at a given position, 0 being the front.
+     *
+     * @param index the position of the element
+     * @return the element
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {throw new IndexOutOfBoundsException();}
+        return elems[(head + index) & (elems.length - 1)];
+    }
+
+    /**
+     * Removes all the elements of this deque, keeping its capacity.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int[] larger = new int[elems.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = elems[(head + i) & (elems.length - 1)];
+        }
+        elems = larger;
+        head = 0;
+    }
+
+    @Override
+    public IntDeque clone() {
+        try {
+            IntDeque clone = (IntDeque) super.clone();
+            clone.elems = elems.clone();
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package axxel.floodit;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * Array-backed stack of primitive ints. It follows the contract of the
+ * Stack interface (isEmpty, peek, pop, push) without boxing its elements.
+ * The array doubles when it is full; a stack created with enough capacity
+ * never allocates again.
+ */
+public class IntStack implements Serializable, Cloneable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elems;
+    private int top;
+
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of elements this stack holds before growing
+     */
+    public IntStack(int capacity) {
+        elems = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Tests if this stack is empty.
+     *
+     * @return true if this stack is empty; and false otherwise.
+     */
+    public boolean isEmpty() {
+        return top == 0;
+    }
+
+    /**
+     * Returns the top element; does not change the state of this stack.
+     *
+     * @return The top element of this stack without removing it.
+     */
+    public int peek() throws EmptyStackException {
+        if (isEmpty()) {throw new EmptyStackException();}
+        return elems[top - 1];
+    }
+
+    /**
+     * Removes and returns the element at the top of this stack.
+     *
+     * @return The top element of this stack.
+     */
+    public int pop() throws EmptyStackException {
+        if (isEmpty()) {throw new EmptyStackException();}
+        return elems[--top];
+    }
+
+    /**
+     * Puts an element onto the top of this stack.
+     *
+     * @param value the element be put onto the top of this stack.
+     */
+    public void push(int value) {
+        if (top == elems.length) {
+            ensureCapacity(top + 1);
+        }
+        elems[top++] = value;
+    }
+
+    /**
+     * Makes sure this stack holds a given number of elements without growing.
+     *
+     * @param capacity the number of elements
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elems.length) {
+            elems = Arrays.copyOf(elems, Math.max(capacity, elems.length * 2));
+        }
+    }
+
+    /**
+     * Returns the element at a given depth, 0 being the bottom of the stack.
+     *
+     * @param index the position of the element, from the bottom
+     * @return the element
+     */
+    public int get(int index) {
+        if (index < 0 || index >= top) {throw new IndexOutOfBoundsException();}
+        return elems[index];
+    }
+
+    /**
+     * @return the number of elements of this stack
+     */
+    public int size() {
+        return top;
+    }
+
+    /**
+     * Removes the elements above a given size, keeping the bottom ones.
+     *
+     * @param size the number of elements to keep
+     */
+    public void truncate(int size) {
+        if (size < 0 || size > top) {throw new IndexOutOfBoundsException();}
+        top = size;
+    }
+
+    /**
+     * Removes all the elements of this stack, keeping its capacity.
+     */
+    public void clear() {
+        top = 0;
+    }
+
+    /**
+     * @return the elements of this stack, from the bottom to the top
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elems, top);
+    }
+
+    /**
+     * Returns a copy of this stack. The copy only has the capacity of the
+     * elements it holds, and grows on demand.
+     */
+    @Override
+    public IntStack clone() {
+        try {
+            IntStack clone = (IntStack) super.clone();
+            clone.elems = Arrays.copyOf(elems, Math.max(top, DEFAULT_CAPACITY));
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError();
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package axxel.floodit;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class <b>LevelPack</b> holds the boards of the levels, packed at 3
+ * bits per dot, with an index giving for every level its size, number,
+ * mode, number of steps allowed and the offset of its board. A board is
+ * only decoded when its level is played.
+ *
+ * The levels of the game are in the asset <b>levels.bin</b>:
+ *
+ * - a header: the magic bytes 'F' 'L', the version and the number of levels
+ * - the index, 10 bytes per level: size (u16), level (u8), mode (u8),
+ *   numbStepsMax (u16) and the offset of the board in the boards (int)
+ * - the boards: the dot k of a board is in the bits 3k to 3k+2, counted
+ *   from the lowest bit of its first byte
+ */
+public final class LevelPack {
+
+    /**
+     * The name of the asset holding the levels of the game
+     */
+    public static final String ASSET = "levels.bin";
+
+    private static final int MAGIC = ('F' << 8) | 'L';
+    private static final int VERSION = 1;
+    private static final int BITS = 3;
+
+    private static LevelPack defaultPack;
+
+    private final int[] sizes;
+    private final int[] levels;
+    private final int[] modes;
+    private final int[] numbStepsMax;
+    private final int[] offsets;
+    private final byte[] boards;
+
+    private LevelPack(int count, byte[] boards) {
+        sizes = new int[count];
+        levels = new int[count];
+        modes = new int[count];
+        numbStepsMax = new int[count];
+        offsets = new int[count];
+        this.boards = boards;
+    }
+
+    /**
+     * Getter method for the pack of the levels of the game. It is set by the
+     * activity from the assets; when it is not, the asset is looked for on
+     * the class path, as in the unit tests.
+     *
+     * @return the levels of the game
+     * @throws IllegalStateException
+     *             if the levels can not be found
+     */
+    public static synchronized LevelPack getDefault() {
+        if (defaultPack == null) {
+            InputStream in = LevelPack.class.getClassLoader() == null ? null
+                    : LevelPack.class.getClassLoader().getResourceAsStream(ASSET);
+            if (in == null) {
+                throw new IllegalStateException("No level pack");
+            }
+            try {
+                try {
+                    defaultPack = read(in);
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Invalid level pack", e);
+            }
+        }
+        return defaultPack;
+    }
+
+    /**
+     * Setter method for the pack of the levels of the game
+     *
+     * @param pack
+     *            the levels of the game
+     */
+    public static synchronized void setDefault(LevelPack pack) {
+        defaultPack = pack;
+    }
+
+    /**
+     * The metod <b>read</b> reads a pack of levels. The stream is not closed.
+     *
+     * @param in
+     *            the stream holding the pack
+     * @return the pack read
+     * @throws IOException
+     *             if the stream fails or does not hold a valid pack
+     */
+    public static LevelPack read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in, 4096));
+        if (data.readUnsignedShort() != MAGIC) {
+            throw new StreamCorruptedException("Not a level pack");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported version: " + version);
+        }
+        int count = data.readUnsignedByte();
+        int[] sizes = new int[count];
+        int[] levels = new int[count];
+        int[] modes = new int[count];
+        int[] numbStepsMax = new int[count];
+        int[] offsets = new int[count];
+        int length = 0;
+        for (int k = 0; k < count; k++) {
+            sizes[k] = data.readUnsignedShort();
+            levels[k] = data.readUnsignedByte();
+            modes[k] = data.readUnsignedByte();
+            numbStepsMax[k] = data.readUnsignedShort();
+            offsets[k] = data.readInt();
+            if (sizes[k] < 1 || sizes[k] > GameModel.MAX_SIZE || modes[k] > GameModel.DIAGO_TORUS || offsets[k] < 0) {
+                throw new StreamCorruptedException("Invalid level " + k);
+            }
+            length = Math.max(length, offsets[k] + bytesFor(sizes[k]));
+        }
+        byte[] boards = new byte[length];
+        data.readFully(boards);
+
+        LevelPack pack = new LevelPack(count, boards);
+        System.arraycopy(sizes, 0, pack.sizes, 0, count);
+        System.arraycopy(levels, 0, pack.levels, 0, count);
+        System.arraycopy(modes, 0, pack.modes, 0, count);
+        System.arraycopy(numbStepsMax, 0, pack.numbStepsMax, 0, count);
+        System.arraycopy(offsets, 0, pack.offsets, 0, count);
+        return pack;
+    }
+
+    /**
+     * The metod <b>write</b> writes this pack. The stream is not closed.
+     *
+     * @param out
+     *            the stream receiving the pack
+     * @throws IOException
+     *             if the stream fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 4096));
+        data.writeShort(MAGIC);
+        data.writeByte(VERSION);
+        data.writeByte(size());
+        for (int k = 0; k < size(); k++) {
+            data.writeShort(sizes[k]);
+            data.writeByte(levels[k]);
+            data.writeByte(modes[k]);
+            data.writeShort(numbStepsMax[k]);
+            data.writeInt(offsets[k]);
+        }
+        data.write(boards);
+        data.flush();
+    }
+
+    private static int bytesFor(int size) {
+        return (size * size * BITS + 7) / 8;
+    }
+
+    /**
+     * Getter method for the number of levels of this pack
+     *
+     * @return the number of levels
+     */
+    public int size() {
+        return sizes.length;
+    }
+
+    /**
+     * The metod <b>indexOf</b> returns the rank of a level in this pack.
+     *
+     * @param size
+     *            the size of the board
+     * @param level
+     *            the number of the level
+     * @param mode
+     *            the mode of the game
+     * @return the rank of the level, or -1 if this pack does not hold it
+     */
+    public int indexOf(int size, int level, int mode) {
+        for (int k = 0; k < sizes.length; k++) {
+            if (sizes[k] == size && levels[k] == level && modes[k] == mode) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param k
+     *            the rank of a level
+     * @return the size of its board
+     */
+    public int getSize(int k) {
+        return sizes[k];
+    }
+
+    /**
+     * @param k
+     *            the rank of a level
+     * @return its number, 1 to 10
+     */
+    public int getLevel(int k) {
+        return levels[k];
+    }
+
+    /**
+     * @param k
+     *            the rank of a level
+     * @return the mode of its game
+     */
+    public int getMode(int k) {
+        return modes[k];
+    }
+
+    /**
+     * @param k
+     *            the rank of a level
+     * @return the number of steps allowed to finish it
+     */
+    public int getNumbStepsMax(int k) {
+        return numbStepsMax[k];
+    }
+
+    /**
+     * The metod <b>decode</b> unpacks the board of a level.
+     *
+     * @param k
+     *            the rank of the level
+     * @param colors
+     *            receives the color of every dot (i,j) at the index i*size+j
+     */
+    public void decode(int k, byte[] colors) {
+        int cells = sizes[k] * sizes[k];
+        int offset = offsets[k];
+        int bits = 0;
+        int available = 0;
+        for (int index = 0; index < cells; index++) {
+            if (available < BITS) {
+                bits |= (boards[offset++] & 0xFF) << available;
+                available += 8;
+            }
+            colors[index] = (byte) (bits & 7);
+            bits >>>= BITS;
+            available -= BITS;
+        }
+    }
+
+    /**
+     * The class <b>Builder</b> packs boards one after the other, for
+     * instance to write a new level pack.
+     */
+    public static final class Builder {
+
+        private final List<int[]> entries = new ArrayList<>();
+        private final ByteArrayOutputStream boards = new ByteArrayOutputStream();
+
+        /**
+         * Adds a level to the pack.
+         *
+         * @param size
+         *            the size of the board
+         * @param level
+         *            the number of the level
+         * @param mode
+         *            the mode of the game
+         * @param numbStepsMax
+         *            the number of steps allowed
+         * @param colors
+         *            the color of every dot (i,j) at the index i*size+j
+         * @return this builder
+         */
+        public Builder add(int size, int level, int mode, int numbStepsMax, byte[] colors) {
+            if (colors.length != size * size) {
+                throw new IllegalArgumentException("Expected " + size * size + " dots, got " + colors.length);
+            }
+            entries.add(new int[] {size, level, mode, numbStepsMax, boards.size()});
+            int bits = 0;
+            int used = 0;
+            for (byte color : colors) {
+                if (color < 0 || color >= GameModel.NUMBER_OF_COLORS) {
+                    throw new IllegalArgumentException("Invalid color: " + color);
+                }
+                bits |= color << used;
+                used += BITS;
+                if (used >= 8) {
+                    boards.write(bits);
+                    bits >>>= 8;
+                    used -= 8;
+                }
+            }
+            if (used > 0) {
+                boards.write(bits);
+            }
+            return this;
+        }
+
+        /**
+         * @return a pack of the levels added so far
+         */
+        public LevelPack build() {
+            if (entries.size() > 255) {
+                throw new IllegalStateException("Too many levels: " + entries.size());
+            }
+            LevelPack pack = new LevelPack(entries.size(), boards.toByteArray());
+            for (int k = 0; k < entries.size(); k++) {
+                int[] entry = entries.get(k);
+                pack.sizes[k] = entry[0];
+                pack.levels[k] = entry[1];
+                pack.modes[k] = entry[2];
+                pack.numbStepsMax[k] = entry[3];
+                pack.offsets[k] = entry[4];
+            }
+            return pack;
+        }
+    }
+}
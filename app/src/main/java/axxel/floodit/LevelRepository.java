@@ -0,0 +1,252 @@
+package axxel.floodit;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The class <b>LevelRepository</b> starts the levels of a level pack and
+ * keeps the last ones started, so that restarting a level or going on to
+ * the next one does not decode and flood its board again.
+ *
+ * The repository keeps a model of each recent level at its first step, in
+ * a cache of the least recently used levels. A game is a clone of that
+ * model, which shares its board, so a cache hit costs a clone. A level can
+ * also be prepared ahead on a background thread, for instance the next
+ * level while the player looks at the win dialog.
+ */
+public class LevelRepository {
+
+    /**
+     * The number of levels kept by default: the current level, the next one
+     * and a few the player went back to
+     */
+    public static final int DEFAULT_CAPACITY = 4;
+
+    private final LevelPack pack;
+    private final Map<Integer, FutureTask<GameModel>> cache;
+
+    /**
+     * The thread preparing the levels ahead, started by the first prefetch
+     */
+    private ExecutorService prefetcher;
+
+    private int hits;
+    private int misses;
+
+    /**
+     * Constructor keeping DEFAULT_CAPACITY levels.
+     *
+     * @param pack
+     *            the levels to start
+     */
+    public LevelRepository(LevelPack pack) {
+        this(pack, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pack
+     *            the levels to start
+     * @param capacity
+     *            the number of levels to keep
+     */
+    public LevelRepository(LevelPack pack, final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.pack = pack;
+        cache = new LinkedHashMap<Integer, FutureTask<GameModel>>(2 * capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, FutureTask<GameModel>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * The metod <b>newGame</b> returns a new game of a level, at its first
+     * step, ready to play.
+     *
+     * @param size
+     *            the size of the board
+     * @param level
+     *            the number of the level
+     * @param mode
+     *            the mode of the game
+     * @return a new model of the level
+     * @throws IllegalArgumentException
+     *             if the pack has no such level
+     */
+    public GameModel newGame(int size, int level, int mode) {
+        FutureTask<GameModel> task = task(size, level, mode, true);
+        // a miss builds the level on this thread, a prefetch in progress is waited for
+        task.run();
+        GameModel start;
+        try {
+            start = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return build(size, level, mode);
+        } catch (ExecutionException e) {
+            // a failed build is not kept, the next game of the level tries again
+            forget(task);
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw unchecked(cause);
+        }
+        synchronized (start) {
+            return start.clone();
+        }
+    }
+
+    /**
+     * The metod <b>prefetch</b> prepares a level on a background thread, so
+     * that the next newGame of that level is a cache hit. Nothing is done if
+     * the pack has no such level.
+     *
+     * @param size
+     *            the size of the board
+     * @param level
+     *            the number of the level
+     * @param mode
+     *            the mode of the game
+     */
+    public void prefetch(int size, int level, int mode) {
+        if (pack.indexOf(size, level, mode) < 0) {
+            return;
+        }
+        FutureTask<GameModel> task = task(size, level, mode, false);
+        if (!task.isDone()) {
+            prefetcher().execute(task);
+        }
+    }
+
+    /**
+     * The metod <b>prefetchNext</b> prepares the level following a given
+     * one, of the same size and mode.
+     *
+     * @param size
+     *            the size of the board
+     * @param level
+     *            the number of the level just played
+     * @param mode
+     *            the mode of the game
+     */
+    public void prefetchNext(int size, int level, int mode) {
+        prefetch(size, level + 1, mode);
+    }
+
+    /**
+     * Returns the task building a level, added to the cache if it is not
+     * there yet.
+     */
+    private synchronized FutureTask<GameModel> task(final int size, final int level, final int mode, boolean count) {
+        final int k = pack.indexOf(size, level, mode);
+        if (k < 0) {
+            throw new IllegalArgumentException("No level " + level + " for a board of size " + size);
+        }
+        FutureTask<GameModel> task = cache.get(k);
+        if (task != null) {
+            if (count) {hits++;}
+            return task;
+        }
+        if (count) {misses++;}
+        task = new FutureTask<>(new Callable<GameModel>() {
+            @Override
+            public GameModel call() {
+                return build(size, level, mode);
+            }
+        });
+        cache.put(k, task);
+        return task;
+    }
+
+    private GameModel build(int size, int level, int mode) {
+        GameModel start = new GameModel(size, level, mode, pack);
+        start.flood();
+        // the games and the hint searches of the level share the graph of its clones
+        start.getRegionGraph();
+        return start;
+    }
+
+    /**
+     * Removes a task from the cache, unless it was already replaced
+     */
+    private synchronized void forget(FutureTask<GameModel> task) {
+        Iterator<FutureTask<GameModel>> tasks = cache.values().iterator();
+        while (tasks.hasNext()) {
+            if (tasks.next() == task) {
+                tasks.remove();
+                return;
+            }
+        }
+    }
+
+    private static RuntimeException unchecked(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private synchronized ExecutorService prefetcher() {
+        if (prefetcher == null) {
+            prefetcher = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "LevelRepository");
+                    // a prefetch must neither keep the process alive nor slow the game down
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }
+            });
+        }
+        return prefetcher;
+    }
+
+    /**
+     * The metod <b>isCached</b> returns true if a level is ready, so that
+     * starting it is a cache hit that does not wait.
+     *
+     * @param size
+     *            the size of the board
+     * @param level
+     *            the number of the level
+     * @param mode
+     *            the mode of the game
+     * @return true if the level is built and in the cache
+     */
+    public synchronized boolean isCached(int size, int level, int mode) {
+        FutureTask<GameModel> task = cache.get(pack.indexOf(size, level, mode));
+        return task != null && task.isDone();
+    }
+
+    /**
+     * Getter method for the number of games started from the cache
+     *
+     * @return the number of cache hits
+     */
+    public synchronized int getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Getter method for the number of games whose level had to be built
+     *
+     * @return the number of cache misses
+     */
+    public synchronized int getMissCount() {
+        return misses;
+    }
+}
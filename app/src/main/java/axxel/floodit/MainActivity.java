@@ -14,6 +14,8 @@ import android.os.Bundle;
 import android.util.DisplayMetrics;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.animation.AlphaAnimation;
+import android.view.animation.Animation;
 import android.widget.BaseAdapter;
 import android.widget.Button;
 import android.widget.GridView;
@@ -23,6 +25,7 @@ import android.widget.LinearLayout;
 import android.widget.RadioGroup;
 import android.widget.RelativeLayout;
 import android.widget.TextView;
+import android.widget.Toast;
 import android.app.Dialog;
 
 import com.google.firebase.analytics.FirebaseAnalytics;
@@ -30,6 +33,12 @@ import com.tapdaq.sdk.*;
 import com.tapdaq.sdk.ads.*;
 import com.tapdaq.sdk.common.TMBannerAdSizes;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -76,26 +85,34 @@ public class MainActivity extends AppCompatActivity {
     private boolean DiagoTorus;
 
     /**
-     * Stack that contains GameModel objects
+     * The moves played in the current game, undone ones and variations included
      */
+    private UndoTree history;
 
-    private Stack<GameModel> undoStack;
-    private Stack<GameModel> redoStack;
+    /**
+     * The names of the modes, as used in the keys of the statistics
+     */
+    private static final String[] MODE_NAMES = {"OrthoPlane", "OrthoTorus", "DiagoPlane", "DiagoTorus"};
 
-    private int bestOrthoPlaneS;
-    private int bestOrthoTorusS;
-    private int bestDiagoPlaneS;
-    private int bestDiagoTorusS;
+    /**
+     * The file of the game in progress, in the private files of the app
+     */
+    private static final String SAVE_FILE = "game.sav";
 
-    private int bestOrthoPlaneM;
-    private int bestOrthoTorusM;
-    private int bestDiagoPlaneM;
-    private int bestDiagoTorusM;
+    /**
+     * The levels of the game, with the last ones started and the next one
+     */
+    private static LevelRepository levels;
 
-    private int bestOrthoPlaneL;
-    private int bestOrthoTorusL;
-    private int bestDiagoPlaneL;
-    private int bestDiagoTorusL;
+    /**
+     * The search of the next color to play, following the current game
+     */
+    private static HintEngine hints;
+
+    /**
+     * The buttons of the colors, indexed by color
+     */
+    private ImageButton[] colorButtons;
 
     private void instruction() {
         final Dialog dialog = new Dialog(this);
@@ -277,14 +294,44 @@ public class MainActivity extends AppCompatActivity {
         setRequestedOrientation(ActivityInfo.SCREEN_ORIENTATION_PORTRAIT);
         super.onCreate(savedInstanceState);
         setContentView(R.layout.firstlayout);
-        loadStats(getApplicationContext());
+        loadLevels();
         load(getApplicationContext());
         mFirebaseAnalytics = FirebaseAnalytics.getInstance(this);
         //cle();
         homePage();
     }
 
+    /**
+     * Reads the level pack from the assets, once for the whole process: the
+     * activity is recreated at every return to the menu
+     */
+    private void loadLevels() {
+        if (levels != null) {
+            return;
+        }
+        try {
+            InputStream in = getAssets().open(LevelPack.ASSET);
+            try {
+                LevelPack pack = LevelPack.read(in);
+                LevelPack.setDefault(pack);
+                levels = new LevelRepository(pack);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid level pack", e);
+        }
+    }
+
     private void homePage() {
+        Button resume = (Button) findViewById(R.id.resume);
+        resume.setVisibility(new File(getFilesDir(), SAVE_FILE).exists() ? View.VISIBLE : View.GONE);
+        resume.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                resumeGame();
+            }
+        });
         Button newGame = (Button) findViewById(R.id.newGame);
         newGame.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -341,16 +388,10 @@ public class MainActivity extends AppCompatActivity {
      * @param color the newly selected color
      */
     private void selectColor(int color){
-        undoStack.push(gameModel.clone());
-        undo.setEnabled(canUndo());
-        redo.setEnabled(canRedo());
-        if(color != gameModel.getCurrentSelectedColor()) {
-            gameModel.setCurrentSelectedColor(color);
-            if ( OrthoPlane) {planeOrthoMode();}
-            else if (DiagoPlane) {planeDiagoMode();}
-            else if (OrthoTorus) {torusOrthoMode();}
-            else if (DiagoTorus) {torusDiagoMode();}
-            gameModel.step();
+        if(history.play(color)) {
+            hints.played(color, gameModel.publish());
+            undo.setEnabled(canUndo());
+            redo.setEnabled(canRedo());
             updateView(getGrid);
             updateText(getText);
             if(gameModel.gameOver() && !gameModel.isFinished()){
@@ -358,71 +399,19 @@ public class MainActivity extends AppCompatActivity {
             }
             if(gameModel.isFinished()) {
                 if (levelMode) {
+                    // the next level is built while the player looks at the win dialog
+                    levels.prefetchNext(gameModel.getSize(), gameModel.getLevelOfGame(), gameModel.getMode());
                     getCurrentSelectedLevel();
                     save();
                     levelChoice();
                     youWon();
                 }
                 else {
-                    if (OrthoPlane) {
-                        if (gameModel.getSize()==10 && gameModel.getNumberOfSteps()<bestOrthoPlaneS){
-                            bestOrthoPlaneS=gameModel.getNumberOfSteps();
-                        }
-                        else if (gameModel.getSize()==20 && gameModel.getNumberOfSteps()<bestOrthoPlaneM){
-                            bestOrthoPlaneM=gameModel.getNumberOfSteps();
-                        }
-                        else if (gameModel.getSize()==40 && gameModel.getNumberOfSteps()<bestOrthoPlaneL){
-                            bestOrthoPlaneL=gameModel.getNumberOfSteps();
-                        }
-                    }
-                    if (OrthoTorus) {
-                        if (gameModel.getSize()==10 && gameModel.getNumberOfSteps()<bestOrthoTorusS){
-                            bestOrthoTorusS=gameModel.getNumberOfSteps();
-                        }
-                        else if (gameModel.getSize()==20 && gameModel.getNumberOfSteps()<bestOrthoTorusM){
-                            bestOrthoTorusM=gameModel.getNumberOfSteps();
-                        }
-                        else if (gameModel.getSize()==40 && gameModel.getNumberOfSteps()<bestOrthoTorusL){
-                            bestOrthoTorusL=gameModel.getNumberOfSteps();
-                        }
-                    }
-                    if (DiagoPlane) {
-                        if (gameModel.getSize()==10 && gameModel.getNumberOfSteps()<bestDiagoPlaneS){
-                            bestDiagoPlaneS=gameModel.getNumberOfSteps();
-                        }
-                        else if (gameModel.getSize()==20 && gameModel.getNumberOfSteps()<bestDiagoPlaneM){
-                            bestDiagoPlaneM=gameModel.getNumberOfSteps();
-                        }
-                        else if (gameModel.getSize()==40 && gameModel.getNumberOfSteps()<bestDiagoPlaneL){
-                            bestDiagoPlaneL=gameModel.getNumberOfSteps();
-                        }
+                    String key = statsKey(currentMode(), gameModel.getSize());
+                    SharedPreferences sp = PreferenceManager.getDefaultSharedPreferences(this);
+                    if (!sp.contains(key) || gameModel.getNumberOfSteps() < sp.getInt(key, 0)) {
+                        saveStats(key, gameModel.getNumberOfSteps());
                     }
-                    if (DiagoTorus) {
-                        if (gameModel.getSize()==10 && gameModel.getNumberOfSteps()<bestDiagoTorusS){
-                            bestDiagoTorusS=gameModel.getNumberOfSteps();
-                        }
-                        else if (gameModel.getSize()==20 && gameModel.getNumberOfSteps()<bestDiagoTorusM){
-                            bestDiagoTorusM=gameModel.getNumberOfSteps();
-                        }
-                        else if (gameModel.getSize()==40 && gameModel.getNumberOfSteps()<bestDiagoTorusL){
-                            bestDiagoTorusL=gameModel.getNumberOfSteps();
-                        }
-                    }
-                    saveStats("bestOrthoPlaneS",bestOrthoPlaneS);
-                    saveStats("bestOrthoPlaneM",bestOrthoPlaneM);
-                    saveStats("bestOrthoPlaneL",bestOrthoPlaneL);
-
-                    saveStats("bestOrthoTorusS",bestOrthoTorusS);
-                    saveStats("bestOrthoTorusM",bestOrthoTorusM);
-                    saveStats("bestOrthoTorusL",bestOrthoTorusL);
-
-                    saveStats("bestDiagoPlaneS",bestDiagoPlaneS);
-                    saveStats("bestDiagoPlaneM",bestDiagoPlaneM);
-                    saveStats("bestDiagoPlaneL",bestDiagoPlaneL);
-
-                    saveStats("bestDiagoTorusS",bestDiagoTorusS);
-                    saveStats("bestDiagoTorusM",bestDiagoTorusM);
-                    saveStats("bestDiagoTorusL",bestDiagoTorusL);
                     number++;
                     if (number%3==0){
                         //Chartboost.showInterstitial(CBLocation.LOCATION_DEFAULT);
@@ -436,264 +425,20 @@ public class MainActivity extends AppCompatActivity {
         }
     }
 
-    /**
-     * <b>shouldBeCaptured</b> is a helper method that decides if the dot
-     * located at position (i,j), which is next to a captured dot, should
-     * itself be captured
-     *
-     * @param i row of the dot
-     * @param j column of the dot
-     */
-    private boolean shouldBeCaptured(int i, int j) {
-        return (!gameModel.isCaptured(i, j) && (gameModel.getColor(i, j) == gameModel.getCurrentSelectedColor()));
-    }
-
-    /**
-     * <b>planeOrthoMode</b> is the method that computes which new dots should be ''captured''
-     * in plane ortho mode
-     * when a new color has been selected. The Model is updated accordingly
-     */
-    private void planeOrthoMode() {
-        Stack<DotInfo> stack = new GenericLinkedStack<>();
-        for (int i = 0; i < gameModel.getSize(); i++) {
-            for (int j = 0; j < gameModel.getSize(); j++) {
-                if (gameModel.isCaptured(i, j)) {
-                    stack.push(gameModel.get(i, j));
-                }
-            }
-        }
-
-        while (!stack.isEmpty()) {
-            DotInfo DotInfo = stack.pop();
-            if ((DotInfo.getX() > 0) && shouldBeCaptured(DotInfo.getX() - 1, DotInfo.getY())) {
-                gameModel.capture(DotInfo.getX() - 1, DotInfo.getY());
-                stack.push(gameModel.get(DotInfo.getX() - 1, DotInfo.getY()));
-            }
-            if ((DotInfo.getX() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX() + 1, DotInfo.getY())) {
-                gameModel.capture(DotInfo.getX() + 1, DotInfo.getY());
-                stack.push(gameModel.get(DotInfo.getX() + 1, DotInfo.getY()));
-            }
-            if ((DotInfo.getY() > 0) && shouldBeCaptured(DotInfo.getX(), DotInfo.getY() - 1)) {
-                gameModel.capture(DotInfo.getX(), DotInfo.getY() - 1);
-                stack.push(gameModel.get(DotInfo.getX(), DotInfo.getY() - 1));
-            }
-            if ((DotInfo.getY() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX(), DotInfo.getY() + 1)) {
-                gameModel.capture(DotInfo.getX(), DotInfo.getY() + 1);
-                stack.push(gameModel.get(DotInfo.getX(), DotInfo.getY() + 1));
-            }
-        }
-    }
-
-    /**
-     * <b>torusOrthoMode</b> is the method that computes which new dots should be ''captured''
-     * in torus ortho mode
-     * when a new color has been selected. The Model is updated accordingly
-     */
-    private void torusOrthoMode() {
-        Stack<DotInfo> stack = new GenericLinkedStack<>();
-        for (int i = 0; i < gameModel.getSize(); i++) {
-            for (int j = 0; j < gameModel.getSize(); j++) {
-                if (gameModel.isCaptured(i, j)) {
-                    stack.push(gameModel.get(i, j));
-                }
-            }
-        }
-
-        while (!stack.isEmpty()) {
-            DotInfo DotInfo = stack.pop();
-            if ((DotInfo.getX() > 0) && shouldBeCaptured(DotInfo.getX() - 1, DotInfo.getY())) {
-                gameModel.capture(DotInfo.getX() - 1, DotInfo.getY());
-                stack.push(gameModel.get(DotInfo.getX() - 1, DotInfo.getY()));
-            }
-            if ((DotInfo.getX() == 0) && shouldBeCaptured(gameModel.getSize() - 1, DotInfo.getY())) {
-                gameModel.capture(gameModel.getSize() - 1, DotInfo.getY());
-                stack.push(gameModel.get(gameModel.getSize() - 1, DotInfo.getY()));
-            }
-
-            if ((DotInfo.getX() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX() + 1, DotInfo.getY())) {
-                gameModel.capture(DotInfo.getX() + 1, DotInfo.getY());
-                stack.push(gameModel.get(DotInfo.getX() + 1, DotInfo.getY()));
-            }
-
-            if ((DotInfo.getX() == gameModel.getSize() - 1) && shouldBeCaptured(0, DotInfo.getY())) {
-                gameModel.capture(0, DotInfo.getY());
-                stack.push(gameModel.get(0, DotInfo.getY()));
-            }
-
-            if ((DotInfo.getY() > 0) && shouldBeCaptured(DotInfo.getX(), DotInfo.getY() - 1)) {
-                gameModel.capture(DotInfo.getX(), DotInfo.getY() - 1);
-                stack.push(gameModel.get(DotInfo.getX(), DotInfo.getY() - 1));
-            }
-            if ((DotInfo.getY() == 0) && shouldBeCaptured(DotInfo.getX(), gameModel.getSize() - 1)) {
-                gameModel.capture(DotInfo.getX(), gameModel.getSize() - 1);
-                stack.push(gameModel.get(DotInfo.getX(), gameModel.getSize() - 1));
-            }
-            if ((DotInfo.getY() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX(), DotInfo.getY() + 1)) {
-                gameModel.capture(DotInfo.getX(), DotInfo.getY() + 1);
-                stack.push(gameModel.get(DotInfo.getX(), DotInfo.getY() + 1));
-            }
-            if ((DotInfo.getY() == gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX(), 0)) {
-                gameModel.capture(DotInfo.getX(), 0);
-                stack.push(gameModel.get(DotInfo.getX(), 0));
-            }
-        }
-    }
-
-    /**
-     * <b>planeDiagoMode</b> is the method that computes which new dots should be ''captured''
-     * in plane diago mode
-     * when a new color has been selected. The Model is updated accordingly
-     */
-    private void planeDiagoMode() {
-        Stack<DotInfo> stack = new GenericLinkedStack<>();
-        for (int i = 0; i < gameModel.getSize(); i++) {
-            for (int j = 0; j < gameModel.getSize(); j++) {
-                if (gameModel.isCaptured(i, j)) {
-                    stack.push(gameModel.get(i, j));
-                }
-            }
-        }
-        while (!stack.isEmpty()) {
-            DotInfo DotInfo = stack.pop();
-            if ((DotInfo.getX() > 0) && shouldBeCaptured(DotInfo.getX() - 1, DotInfo.getY())) {
-                gameModel.capture(DotInfo.getX() - 1, DotInfo.getY());
-                stack.push(gameModel.get(DotInfo.getX() - 1, DotInfo.getY()));
-            }
-            if ((DotInfo.getX() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX() + 1, DotInfo.getY())) {
-                gameModel.capture(DotInfo.getX() + 1, DotInfo.getY());
-                stack.push(gameModel.get(DotInfo.getX() + 1, DotInfo.getY()));
-            }
-            if ((DotInfo.getY() > 0) && shouldBeCaptured(DotInfo.getX(), DotInfo.getY() - 1)) {
-                gameModel.capture(DotInfo.getX(), DotInfo.getY() - 1);
-                stack.push(gameModel.get(DotInfo.getX(), DotInfo.getY() - 1));
-            }
-            if ((DotInfo.getY() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX(), DotInfo.getY() + 1)) {
-                gameModel.capture(DotInfo.getX(), DotInfo.getY() + 1);
-                stack.push(gameModel.get(DotInfo.getX(), DotInfo.getY() + 1));
-            }
-            if ((DotInfo.getX() > 0) && (DotInfo.getY() > 0) && shouldBeCaptured(DotInfo.getX() - 1, DotInfo.getY() - 1)) {
-                gameModel.capture(DotInfo.getX() - 1, DotInfo.getY() - 1);
-                stack.push(gameModel.get(DotInfo.getX() - 1, DotInfo.getY() - 1));
-            }
-            if ((DotInfo.getY() < gameModel.getSize() - 1) && (DotInfo.getX() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX() + 1, DotInfo.getY() + 1)) {
-                gameModel.capture(DotInfo.getX() + 1, DotInfo.getY() + 1);
-                stack.push(gameModel.get(DotInfo.getX() + 1, DotInfo.getY() + 1));
-            }
-            if ((DotInfo.getX() > 0) && (DotInfo.getY() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX() - 1, DotInfo.getY() + 1)) {
-                gameModel.capture(DotInfo.getX() - 1, DotInfo.getY() + 1);
-                stack.push(gameModel.get(DotInfo.getX() - 1, DotInfo.getY() + 1));
-            }
-            if ((DotInfo.getX() < gameModel.getSize() - 1) && (DotInfo.getY() > 0) && shouldBeCaptured(DotInfo.getX() + 1, DotInfo.getY() - 1)) {
-                gameModel.capture(DotInfo.getX() + 1, DotInfo.getY() - 1);
-                stack.push(gameModel.get(DotInfo.getX() + 1, DotInfo.getY() - 1));
-            }
-        }
-    }
-
-    /**
-     * <b>torusDiagoMode</b> is the method that computes which new dots should be ''captured''
-     * in torus diago mode
-     * when a new color has been selected. The Model is updated accordingly
-     */
-    private void torusDiagoMode() {
-
-        Stack<DotInfo> stack = new GenericLinkedStack<>();
-        for (int i = 0; i < gameModel.getSize(); i++) {
-            for (int j = 0; j < gameModel.getSize(); j++) {
-                if (gameModel.isCaptured(i, j)) {
-                    stack.push(gameModel.get(i, j));
-                }
-            }
-        }
-        while (!stack.isEmpty()) {
-            DotInfo DotInfo = stack.pop();
-            if ((DotInfo.getX() > 0) && shouldBeCaptured(DotInfo.getX() - 1, DotInfo.getY())) {
-                gameModel.capture(DotInfo.getX() - 1, DotInfo.getY());
-                stack.push(gameModel.get(DotInfo.getX() - 1, DotInfo.getY()));
-            }
-            if ((DotInfo.getX() == 0) && shouldBeCaptured(gameModel.getSize() - 1, DotInfo.getY())) {
-                gameModel.capture(gameModel.getSize() - 1, DotInfo.getY());
-                stack.push(gameModel.get(gameModel.getSize() - 1, DotInfo.getY()));
-            }
-            if ((DotInfo.getX() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX() + 1, DotInfo.getY())) {
-                gameModel.capture(DotInfo.getX() + 1, DotInfo.getY());
-                stack.push(gameModel.get(DotInfo.getX() + 1, DotInfo.getY()));
-            }
-            if ((DotInfo.getX() == gameModel.getSize() - 1) && shouldBeCaptured(0, DotInfo.getY())) {
-                gameModel.capture(0, DotInfo.getY());
-                stack.push(gameModel.get(0, DotInfo.getY()));
-            }
-            if ((DotInfo.getY() > 0) && shouldBeCaptured(DotInfo.getX(), DotInfo.getY() - 1)) {
-                gameModel.capture(DotInfo.getX(), DotInfo.getY() - 1);
-                stack.push(gameModel.get(DotInfo.getX(), DotInfo.getY() - 1));
-            }
-            if ((DotInfo.getY() == 0) && shouldBeCaptured(DotInfo.getX(), gameModel.getSize() - 1)) {
-                gameModel.capture(DotInfo.getX(), gameModel.getSize() - 1);
-                stack.push(gameModel.get(DotInfo.getX(), gameModel.getSize() - 1));
-            }
-            if ((DotInfo.getY() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX(), DotInfo.getY() + 1)) {
-                gameModel.capture(DotInfo.getX(), DotInfo.getY() + 1);
-                stack.push(gameModel.get(DotInfo.getX(), DotInfo.getY() + 1));
-            }
-            if ((DotInfo.getY() == gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX(), 0)) {
-                gameModel.capture(DotInfo.getX(), 0);
-                stack.push(gameModel.get(DotInfo.getX(), 0));
-            }
-            if ((DotInfo.getX() > 0) && (DotInfo.getY() > 0) && shouldBeCaptured(DotInfo.getX() - 1, DotInfo.getY() - 1)) {
-                gameModel.capture(DotInfo.getX() - 1, DotInfo.getY() - 1);
-                stack.push(gameModel.get(DotInfo.getX() - 1, DotInfo.getY() - 1));
-            }
-            if ((DotInfo.getX() == 0) && (DotInfo.getY() == 0) && shouldBeCaptured(gameModel.getSize() - 1, gameModel.getSize() - 1)) {
-                gameModel.capture(gameModel.getSize() - 1, gameModel.getSize() - 1);
-                stack.push(gameModel.get(gameModel.getSize() - 1, gameModel.getSize() - 1));
-            }
-            if ((DotInfo.getY() < gameModel.getSize() - 1) && (DotInfo.getX() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX() + 1, DotInfo.getY() + 1)) {
-                gameModel.capture(DotInfo.getX() + 1, DotInfo.getY() + 1);
-                stack.push(gameModel.get(DotInfo.getX() + 1, DotInfo.getY() + 1));
-            }
-            if ((DotInfo.getY() == gameModel.getSize() - 1) && (DotInfo.getX() == gameModel.getSize() - 1) && shouldBeCaptured(0, 0)) {
-                gameModel.capture(0, 0);
-                stack.push(gameModel.get(0, 0));
-            }
-            if ((DotInfo.getX() > 0) && (DotInfo.getY() < gameModel.getSize() - 1) && shouldBeCaptured(DotInfo.getX() - 1, DotInfo.getY() + 1)) {
-                gameModel.capture(DotInfo.getX() - 1, DotInfo.getY() + 1);
-                stack.push(gameModel.get(DotInfo.getX() - 1, DotInfo.getY() + 1));
-            }
-            if ((DotInfo.getX() == 0) && (DotInfo.getY() == gameModel.getSize() - 1) && shouldBeCaptured(gameModel.getSize() - 1, 0)) {
-                gameModel.capture(gameModel.getSize() - 1, 0);
-                stack.push(gameModel.get(gameModel.getSize() - 1, 0));
-            }
-            if ((DotInfo.getX() < gameModel.getSize() - 1) && (DotInfo.getY() > 0) && shouldBeCaptured(DotInfo.getX() + 1, DotInfo.getY() - 1)) {
-                gameModel.capture(DotInfo.getX() + 1, DotInfo.getY() - 1);
-                stack.push(gameModel.get(DotInfo.getX() + 1, DotInfo.getY() - 1));
-            }
-            if ((DotInfo.getX() == gameModel.getSize() - 1) && (DotInfo.getY() == 0) && shouldBeCaptured(0, gameModel.getSize() - 1)) {
-                gameModel.capture(0, gameModel.getSize() - 1);
-                stack.push(gameModel.get(0, gameModel.getSize() - 1));
-            }
-        }
-    }
-
     /**
      * <b>undo</b> is the method erases the last change done to the Model object and reverting it to an older state
      */
     private void undo() {
-        if (!undoStack.isEmpty()) {
-            redoStack.push(gameModel);
-            gameModel = undoStack.peek();
-            undoStack.pop();
-        }
+        history.undo();
+        hints.start(gameModel.publish());
     }
 
     /**
      * <b>redo</b> is the method erases the last undo done to the Model object and reverting it to a newer state
      */
     private void redo() {
-        if (!redoStack.isEmpty()) {
-            undoStack.push(gameModel);
-            gameModel = redoStack.peek();
-            redoStack.pop();
-        }
+        history.redo();
+        hints.start(gameModel.publish());
     }
 
     /**
@@ -704,10 +449,7 @@ public class MainActivity extends AppCompatActivity {
             levelChoice();
         }
         else {gridChoice();}
-        if ( OrthoPlane) {planeOrthoMode();}
-        else if (DiagoPlane) {planeDiagoMode();}
-        else if (OrthoTorus) {torusOrthoMode();}
-        else if (DiagoTorus) {torusDiagoMode();}
+        gameModel.flood();
         updateView(getGrid);
         updateText(getText);
     }
@@ -715,23 +457,18 @@ public class MainActivity extends AppCompatActivity {
     private void startLevelMode(int size, int level, int mode) {
         levelMode = true;
         addShowed = false;
-        gameModel = new GameModel(size, level, mode);
-        if (OrthoPlane) {
-            planeOrthoMode();
-        } else if (DiagoPlane) {
-            planeDiagoMode();
-        } else if (OrthoTorus) {
-            torusOrthoMode();
-        } else if (DiagoTorus) {
-            torusDiagoMode();
-        }
-        undoStack = new GenericLinkedStack<>();
-        redoStack = new GenericLinkedStack<>();
+        gameModel = levels.newGame(size, level, mode);
+        gameModel.publish();
+        history = new UndoTree(gameModel);
         realStart(size, level);
     }
 
     private void realStart(int size, int level){
         setContentView(activity_main);
+        if (hints == null) {
+            hints = new HintEngine();
+        }
+        hints.start(gameModel.publish());
 
         List<TapdaqPlacement> enabledPlacements = new ArrayList<TapdaqPlacement>();
         enabledPlacements.add(TapdaqPlacement.createPlacement(Arrays.asList(CreativeType.INTERSTITIAL_PORTRAIT, CreativeType.INTERSTITIAL_LANDSCAPE), "my_interstitial_tag"));
@@ -796,15 +533,7 @@ public class MainActivity extends AppCompatActivity {
         updateText(getText);
 
         if (levelMode) {
-            if (size==10) {
-                updateLevelT(levelV, level, "S");
-            }
-            else if (size ==20) {
-                updateLevelT(levelV, level, "M");
-            }
-            else if (size ==40) {
-                updateLevelT(levelV, level, "L");
-            }
+            updateLevelT(levelV, level, sizeLetter(size));
         }
 
         settings = (Button) findViewById(R.id.settings);
@@ -836,6 +565,14 @@ public class MainActivity extends AppCompatActivity {
             }
         });
 
+        Button hint = (Button) findViewById(R.id.hint);
+        hint.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View vue) {
+                showHint();
+            }
+        });
+
         RelativeLayout toHide = (RelativeLayout) findViewById(R.id.toHide);
         slider = (Slider) findViewById(R.id.slider);
         slider.setToHide(toHide);
@@ -880,6 +617,7 @@ public class MainActivity extends AppCompatActivity {
             public void onClick(View v) {
                 selectColor(5);    }
         });
+        colorButtons = new ImageButton[] {blue, yellow, red, green, violet, grey};
         undo = (Button) findViewById(R.id.undo);
         undo.setEnabled(canUndo());
         undo.setOnClickListener(new View.OnClickListener() {
@@ -917,12 +655,47 @@ public class MainActivity extends AppCompatActivity {
         });
     }
 
+    /**
+     * <b>showHint</b> closes the menu and makes the button of the next color
+     * to play blink. The hint is the best one found so far by the background
+     * search, so the player never waits for it.
+     */
+    private void showHint() {
+        if (slider.toggle()) {
+            settings.setText(R.string.hideMenu);
+        } else {
+            settings.setText(R.string.options);
+        }
+        int color = hints.getHint();
+        if (color == HintEngine.NO_HINT) {
+            Toast.makeText(this, R.string.noHint, Toast.LENGTH_SHORT).show();
+            return;
+        }
+        Animation blink = new AlphaAnimation(1f, 0.2f);
+        blink.setDuration(250);
+        blink.setRepeatMode(Animation.REVERSE);
+        blink.setRepeatCount(3);
+        colorButtons[color].startAnimation(blink);
+    }
+
+    /**
+     * Returns the mode of the game matching the selected radio button
+     *
+     * @return the mode of the game, as defined in GameModel
+     */
+    private int currentMode() {
+        if (OrthoTorus) {return GameModel.ORTHO_TORUS;}
+        else if (DiagoPlane) {return GameModel.DIAGO_PLANE;}
+        else if (DiagoTorus) {return GameModel.DIAGO_TORUS;}
+        return GameModel.ORTHO_PLANE;
+    }
+
     private boolean canUndo() {
-        return !undoStack.isEmpty();
+        return history.canUndo();
     }
 
     private boolean canRedo() {
-        return !redoStack.isEmpty();
+        return history.canRedo();
     }
 
     private GameModel getModel() {
@@ -934,17 +707,10 @@ public class MainActivity extends AppCompatActivity {
 
         ImageAdapter(Context c) {
             mContext = c;
-            int count = 0;
-            for (int i = 0; i < gameModel.getSize(); i++) {
-                for (int j = 0; j < gameModel.getSize(); j++) {
-                    mThumbIds[count] = getDot(i, j);
-                    count++;
-                }
-            }
         }
 
         public int getCount() {
-            return mThumbIds.length;
+            return gameModel.getSize() * gameModel.getSize();
         }
 
         public Object getItem(int position) {
@@ -969,11 +735,10 @@ public class MainActivity extends AppCompatActivity {
                 imageView = (ImageView) convertView;
             }
 
-            imageView.setImageDrawable(mThumbIds[position]);
+            // the dots are only looked up when shown, so large boards cost nothing more
+            imageView.setImageDrawable(getDot(position / gameModel.getSize(), position % gameModel.getSize()));
             return imageView;
         }
-
-        private Drawable[] mThumbIds = new Drawable[gameModel.getSize() * gameModel.getSize()];
     }
 
     private void getCurrentSelectedLevel() {
@@ -1014,6 +779,87 @@ public class MainActivity extends AppCompatActivity {
         SharedPreferences preferences = PreferenceManager.getDefaultSharedPreferences(this);
         preferences.edit().clear().apply();
     }
+    @Override
+    protected void onPause() {
+        super.onPause();
+        saveGame();
+        if (hints != null) {
+            hints.stop();
+        }
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        // the search stopped with the pause goes on, with the hint it had found
+        if (hints != null && history != null) {
+            hints.resume(gameModel.publish());
+        }
+    }
+
+    /**
+     * Writes the game in progress and its history to SAVE_FILE. The file is
+     * deleted once the game is won or lost, and kept as is when no game was
+     * started since the activity was created.
+     */
+    private void saveGame() {
+        if (history == null) {
+            return;
+        }
+        File file = new File(getFilesDir(), SAVE_FILE);
+        // only the levels have a limit of steps: a random game has none
+        boolean lost = gameModel.getNumbStepsMax() > 0 && gameModel.gameOver();
+        if (gameModel.isFinished() || lost) {
+            file.delete();
+            return;
+        }
+        // the game is written aside first, so a failure keeps the previous save
+        File temp = new File(getFilesDir(), SAVE_FILE + ".tmp");
+        try {
+            FileOutputStream out = new FileOutputStream(temp);
+            try {
+                SavedGame.write(history, out);
+            } finally {
+                out.close();
+            }
+            if (!temp.renameTo(file)) {
+                temp.delete();
+            }
+        } catch (IOException e) {
+            temp.delete();
+        }
+    }
+
+    /**
+     * Restarts the game saved in SAVE_FILE where it was left, with its undo
+     * history
+     */
+    private void resumeGame() {
+        File file = new File(getFilesDir(), SAVE_FILE);
+        try {
+            FileInputStream in = new FileInputStream(file);
+            try {
+                history = SavedGame.read(new BufferedInputStream(in, 2048));
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            file.delete();
+            findViewById(R.id.resume).setVisibility(View.GONE);
+            return;
+        }
+        gameModel = history.getModel();
+        gameModel.publish();
+        int mode = gameModel.getMode();
+        OrthoPlane = mode == GameModel.ORTHO_PLANE;
+        OrthoTorus = mode == GameModel.ORTHO_TORUS;
+        DiagoPlane = mode == GameModel.DIAGO_PLANE;
+        DiagoTorus = mode == GameModel.DIAGO_TORUS;
+        levelMode = gameModel.getLevelOfGame() > 0;
+        addShowed = false;
+        realStart(gameModel.getSize(), gameModel.getLevelOfGame());
+    }
+
     @Override
     public void onBackPressed() {
         MainActivity.this.recreate();
@@ -2001,13 +1847,10 @@ public class MainActivity extends AppCompatActivity {
 
     private void startRandomMode(int size){
         levelMode=false;
-        gameModel = new GameModel(size);
-        undoStack = new GenericLinkedStack<>();
-        redoStack = new GenericLinkedStack<>();
-        if (OrthoPlane) {planeOrthoMode();}
-        else if (DiagoPlane) {planeDiagoMode();}
-        else if (OrthoTorus) {torusOrthoMode();}
-        else if (DiagoTorus) {torusDiagoMode();}
+        gameModel = new GameModel(size, currentMode());
+        history = new UndoTree(gameModel);
+        gameModel.flood();
+        gameModel.publish();
         realStart(size, 0);
     }
 
@@ -2049,49 +1892,58 @@ public class MainActivity extends AppCompatActivity {
     private void stats() {
         setContentView(R.layout.boardchoice);
         TextView stats = (TextView) findViewById(R.id.S1);
-        stats.setText(" "+bestOrthoPlaneS);
+        stats.setText(" "+getBest("bestOrthoPlaneS"));
         TextView stats1 = (TextView) findViewById(R.id.M1);
-        stats1.setText(" "+bestOrthoPlaneM);
+        stats1.setText(" "+getBest("bestOrthoPlaneM"));
         TextView stats2 = (TextView) findViewById(R.id.L1);
-        stats2.setText(" "+bestOrthoPlaneL);
+        stats2.setText(" "+getBest("bestOrthoPlaneL"));
         TextView stats3 = (TextView) findViewById(R.id.S21);
-        stats3.setText(" "+bestOrthoTorusS);
+        stats3.setText(" "+getBest("bestOrthoTorusS"));
         TextView stats4 = (TextView) findViewById(R.id.M21);
-        stats4.setText(" "+bestOrthoTorusM);
+        stats4.setText(" "+getBest("bestOrthoTorusM"));
         TextView stats5 = (TextView) findViewById(R.id.L21);
-        stats5.setText(" "+bestOrthoTorusL);
+        stats5.setText(" "+getBest("bestOrthoTorusL"));
         TextView stats6 = (TextView) findViewById(R.id.S31);
-        stats6.setText(" "+bestDiagoPlaneS);
+        stats6.setText(" "+getBest("bestDiagoPlaneS"));
         TextView stats7 = (TextView) findViewById(R.id.M31);
-        stats7.setText(" "+bestDiagoPlaneM);
+        stats7.setText(" "+getBest("bestDiagoPlaneM"));
         TextView stats8 = (TextView) findViewById(R.id.L31);
-        stats8.setText(" "+bestDiagoPlaneL);
+        stats8.setText(" "+getBest("bestDiagoPlaneL"));
         TextView stats9 = (TextView) findViewById(R.id.S41);
-        stats9.setText(" "+bestDiagoTorusS);
+        stats9.setText(" "+getBest("bestDiagoTorusS"));
         TextView stats0 = (TextView) findViewById(R.id.M41);
-        stats0.setText(" "+bestDiagoTorusM);
+        stats0.setText(" "+getBest("bestDiagoTorusM"));
         TextView stats11 = (TextView) findViewById(R.id.L41);
-        stats11.setText(" "+bestDiagoTorusL);
+        stats11.setText(" "+getBest("bestDiagoTorusL"));
     }
 
-    private void loadStats(Context mContext){
-        SharedPreferences mSharedPreference1 = PreferenceManager.getDefaultSharedPreferences(mContext);
-
-        bestOrthoPlaneS = mSharedPreference1.getInt("bestOrthoPlaneS", 99);
-        bestOrthoTorusS = mSharedPreference1.getInt("bestOrthoTorusS", 99);
-        bestDiagoPlaneS = mSharedPreference1.getInt("bestDiagoPlaneS", 99);
-        bestDiagoTorusS = mSharedPreference1.getInt("bestDiagoTorusS", 99);
-
-        bestOrthoPlaneM = mSharedPreference1.getInt("bestOrthoPlaneM", 99);
-        bestOrthoTorusM = mSharedPreference1.getInt("bestOrthoTorusM", 99);
-        bestDiagoPlaneM = mSharedPreference1.getInt("bestDiagoPlaneM", 99);
-        bestDiagoTorusM = mSharedPreference1.getInt("bestDiagoTorusM", 99);
+    /**
+     * Returns the letter of the standard board sizes, or the size itself
+     *
+     * @param size the size of the board
+     * @return S, M, L or the size
+     */
+    private static String sizeLetter(int size) {
+        if (size == 10) {return "S";}
+        if (size == 20) {return "M";}
+        if (size == 40) {return "L";}
+        return String.valueOf(size);
+    }
 
-        bestOrthoPlaneL = mSharedPreference1.getInt("bestOrthoPlaneL", 99);
-        bestOrthoTorusL = mSharedPreference1.getInt("bestOrthoTorusL", 99);
-        bestDiagoPlaneL = mSharedPreference1.getInt("bestDiagoPlaneL", 99);
-        bestDiagoTorusL = mSharedPreference1.getInt("bestDiagoTorusL", 99);
+    /**
+     * Returns the key of the best score of a mode and a board size
+     *
+     * @param mode the mode of the game
+     * @param size the size of the board
+     * @return the key of the statistic
+     */
+    private static String statsKey(int mode, int size) {
+        return "best" + MODE_NAMES[mode] + sizeLetter(size);
+    }
 
+    private int getBest(String key) {
+        SharedPreferences sp = PreferenceManager.getDefaultSharedPreferences(this);
+        return sp.getInt(key, 99);
     }
     @Override
     protected void onDestroy() {
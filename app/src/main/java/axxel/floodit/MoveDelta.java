@@ -0,0 +1,100 @@
+package axxel.floodit;
+
+import java.io.*;
+
+/**
+ * The class <b>MoveDelta</b> records what a move changed in a GameModel:
+ * the color selected before and after the move, the number of steps before
+ * the move, and the dots the move captured. Undoing or redoing the move
+ * only touches those dots, instead of copying the whole board.
+ *
+ * The sizes of the boundary of each color before the move are kept as well,
+ * so that the FloodEngine can put its boundary back as it was. A BitBoard
+ * or a RegionFlood keeps no boundary of dots, so its moves have none.
+ */
+public final class MoveDelta implements Serializable {
+
+    private final int previousColor;
+    private final int color;
+    private final int numberOfSteps;
+
+    /**
+     * The dots captured by the move, in the order they were captured. The
+     * first boundarySizes[color] of them were on the boundary before the move.
+     */
+    private final int[] captured;
+
+    /**
+     * The number of boundary dots of each color before the move
+     */
+    private final int[] boundarySizes;
+
+    MoveDelta(int previousColor, int color, int numberOfSteps, int[] captured, int[] boundarySizes) {
+        this.previousColor = previousColor;
+        this.color = color;
+        this.numberOfSteps = numberOfSteps;
+        this.captured = captured;
+        this.boundarySizes = boundarySizes;
+    }
+
+    /**
+     * Getter method for the selection color before the move
+     *
+     * @return the previous selection color
+     */
+    public int getPreviousColor() {
+        return previousColor;
+    }
+
+    /**
+     * Getter method for the color selected by the move
+     *
+     * @return the selected color
+     */
+    public int getColor() {
+        return color;
+    }
+
+    /**
+     * Getter method for the number of steps before the move
+     *
+     * @return the number of steps before the move
+     */
+    public int getNumberOfSteps() {
+        return numberOfSteps;
+    }
+
+    /**
+     * Getter method for the number of dots captured by the move
+     *
+     * @return the number of captured dots
+     */
+    public int getCapturedCount() {
+        return captured.length;
+    }
+
+    /**
+     * Returns the index of a dot captured by the move
+     *
+     * @param k
+     *            the rank of the dot, between 0 and getCapturedCount()-1
+     * @return the index i*size+j of the dot
+     */
+    public int getCaptured(int k) {
+        return captured[k];
+    }
+
+    /**
+     * Returns true if the move was played by a FloodEngine, which recorded
+     * the sizes of its boundary
+     *
+     * @return true if getBoundarySize can be called
+     */
+    boolean hasBoundarySizes() {
+        return boundarySizes != null;
+    }
+
+    int getBoundarySize(int color) {
+        return boundarySizes[color];
+    }
+}
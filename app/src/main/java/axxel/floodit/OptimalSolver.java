@@ -0,0 +1,224 @@
+package axxel.floodit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The class <b>OptimalSolver</b> finds a shortest sequence of colors that
+ * finishes a game, with an iterative-deepening A* search (IDA*) on the
+ * RegionGraph of the board. It works in the four modes, since the graph
+ * already holds the neighbourhood of each mode.
+ *
+ * The search goes deeper and deeper, cutting a branch as soon as the moves
+ * played plus a lower bound of the moves left exceed the current limit.
+ * The lower bound is the largest of:
+ *
+ * - the number of colors still on the board, each one needing a move
+ * - the distance, in regions, from the captured area to the farthest
+ *   uncaptured region, a move capturing one more ring of regions at most
+ *
+ * Both never overestimate, so the first solution found is a shortest one.
+ * When a move captures every region left of its color, it is the only move
+ * tried: playing it first never makes a solution longer. A state reached
+ * again in the same iteration, with no fewer moves, is not searched again.
+ *
+ * The search takes exponential time in the worst case: it is meant for the
+ * small boards, up to about 10x10. An interrupted search returns null. A
+ * solver is not thread-safe.
+ */
+public class OptimalSolver implements Solver {
+
+    private static final int FOUND = -1;
+    private static final int CANCELLED = -2;
+
+    /**
+     * The interrupt flag is checked once every that many nodes
+     */
+    private static final int CHECK_MASK = 0xFFF;
+
+    private IntStack path;
+    private long nodes;
+    private long nanos;
+    private int iterations;
+
+    /**
+     * Scratch of the distance computation, sized for the current graph
+     */
+    private int[] distance;
+    private IntDeque queue;
+
+    /**
+     * The fewest moves each state was reached with during the current
+     * iteration: a state reached again with as many moves or more is cut
+     */
+    private final Map<Long, Integer> reached = new HashMap<>();
+
+    @Override
+    public int[] solve(GameModel model) {
+        long start = System.nanoTime();
+        RegionGraph graph = model.getRegionGraph();
+        RegionGraph.State root = graph.state(model);
+        path = new IntStack();
+        distance = new int[graph.getRegionCount()];
+        queue = new IntDeque(graph.getRegionCount());
+        nodes = 0;
+        iterations = 0;
+        try {
+            int bound = lowerBound(root);
+            while (true) {
+                iterations++;
+                reached.clear();
+                int next = search(root, 0, bound);
+                if (next == FOUND) {
+                    return path.toArray();
+                }
+                if (next == CANCELLED) {
+                    return null;
+                }
+                bound = next;
+            }
+        } finally {
+            nanos = System.nanoTime() - start;
+            reached.clear();
+        }
+    }
+
+    /**
+     * Looks for a solution of at most bound moves in total.
+     *
+     * @return FOUND, CANCELLED if the thread was interrupted, or the
+     *         smallest total over bound met by a cut branch
+     */
+    private int search(RegionGraph.State state, int played, int bound) {
+        nodes++;
+        if ((nodes & CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+            return CANCELLED;
+        }
+        if (state.isFinished()) {
+            return FOUND;
+        }
+        int estimate = played + lowerBound(state);
+        if (estimate > bound) {
+            return estimate;
+        }
+        Integer before = reached.put(state.hash(), played);
+        if (before != null && before <= played) {
+            // the first visit already met the bounds this one would meet
+            reached.put(state.hash(), before);
+            return Integer.MAX_VALUE;
+        }
+
+        int[] order = new int[GameModel.NUMBER_OF_COLORS];
+        int count = 0;
+        for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+            if (color != state.getCurrentColor() && state.clears(color)) {
+                order[0] = color;
+                count = 1;
+                break;
+            }
+        }
+        if (count == 0) {
+            // a move capturing nothing is never needed; the largest gains are tried first
+            int[] gains = new int[GameModel.NUMBER_OF_COLORS];
+            for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+                gains[color] = color == state.getCurrentColor() ? 0 : state.gain(color);
+                if (gains[color] == 0) {
+                    continue;
+                }
+                int k = count++;
+                while (k > 0 && gains[order[k - 1]] < gains[color]) {
+                    order[k] = order[k - 1];
+                    k--;
+                }
+                order[k] = color;
+            }
+        }
+
+        int smallest = Integer.MAX_VALUE;
+        for (int k = 0; k < count; k++) {
+            RegionGraph.State next = state.copy();
+            next.flood(order[k]);
+            path.push(order[k]);
+            int result = search(next, played + 1, bound);
+            if (result == FOUND || result == CANCELLED) {
+                return result;
+            }
+            path.pop();
+            smallest = Math.min(smallest, result);
+        }
+        return smallest;
+    }
+
+    /**
+     * Returns a lower bound of the number of moves needed to finish the
+     * game from a state.
+     */
+    int lowerBound(RegionGraph.State state) {
+        return Math.max(Integer.bitCount(state.remainingColors()), farthestRegion(state));
+    }
+
+    /**
+     * Returns the distance from the captured area to the farthest region,
+     * by a breadth-first search of the regions starting from the boundary.
+     */
+    private int farthestRegion(RegionGraph.State state) {
+        RegionGraph graph = state.getGraph();
+        int[] offsets = graph.offsets();
+        int[] neighbours = graph.neighbours();
+        int regions = graph.getRegionCount();
+        queue.clear();
+        for (int r = 0; r < regions; r++) {
+            if (state.isOnBoundary(r)) {
+                distance[r] = 1;
+                queue.addLast(r);
+            } else {
+                distance[r] = state.isCaptured(r) ? 0 : -1;
+            }
+        }
+        int farthest = 0;
+        while (!queue.isEmpty()) {
+            int r = queue.pollFirst();
+            farthest = distance[r];
+            for (int k = offsets[r]; k < offsets[r + 1]; k++) {
+                int q = neighbours[k];
+                if (distance[q] < 0) {
+                    distance[q] = distance[r] + 1;
+                    queue.addLast(q);
+                }
+            }
+        }
+        return farthest;
+    }
+
+    /**
+     * Getter method for the number of states visited by the last search
+     *
+     * @return the number of nodes of the last search, all iterations included
+     */
+    public long getNodeCount() {
+        return nodes;
+    }
+
+    /**
+     * Getter method for the number of iterations of the last search
+     *
+     * @return the number of limits tried
+     */
+    public int getIterationCount() {
+        return iterations;
+    }
+
+    /**
+     * Getter method for the duration of the last search
+     *
+     * @return the duration of the last search, in nanoseconds
+     */
+    public long getLastNanos() {
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "OptimalSolver";
+    }
+}
@@ -0,0 +1,247 @@
+package axxel.floodit;
+
+import java.io.*;
+
+/**
+ * Set of the ints 0 to capacity-1 stored as the bits of blocks of 64, the
+ * blocks being the leaves of a trie. A clone shares the whole trie with the
+ * set it comes from, so cloning costs O(1). The first change of a block
+ * after a clone copies the leaf holding it and the nodes above that leaf;
+ * the rest of the trie stays shared.
+ *
+ * Each node remembers the set that created it. A set only changes in place
+ * the nodes it created since it was last cloned, and copies the others. A
+ * set that was cloned owns no node until its next change, so cloning it
+ * again writes nothing in it: a set that is no longer changed can be cloned
+ * from several threads at once.
+ */
+public class PersistentBitSet implements Serializable, Cloneable {
+
+    /**
+     * The number of blocks of a leaf, and of children of an inner node
+     */
+    private static final int LEAF_BITS = 3;
+    private static final int LEAF_WORDS = 1 << LEAF_BITS;
+    private static final int NODE_BITS = 5;
+    private static final int NODE_WIDTH = 1 << NODE_BITS;
+
+    private final int capacity;
+
+    /**
+     * The number of levels of inner nodes above the leaves
+     */
+    private final int levels;
+
+    private Node root;
+
+    /**
+     * The token marking the nodes this set may change in place, or null if
+     * it owns no node
+     */
+    private transient Object owner;
+
+    /**
+     * @param capacity the number of ints (0 to capacity-1) this set holds
+     */
+    public PersistentBitSet(int capacity) {
+        this.capacity = capacity;
+        int leaves = Math.max(1, (((capacity + 63) >>> 6) + LEAF_WORDS - 1) >>> LEAF_BITS);
+        int levels = 0;
+        for (long reach = 1; reach < leaves; reach <<= NODE_BITS) {
+            levels++;
+        }
+        this.levels = levels;
+        owner = new Object();
+        root = build(levels, leaves);
+    }
+
+    /**
+     * Builds a full subtree, so that setting a bit never allocates until
+     * the set is cloned.
+     */
+    private Node build(int level, int leaves) {
+        Node node = new Node(owner);
+        if (level == 0) {
+            node.words = new long[LEAF_WORDS];
+            return node;
+        }
+        node.children = new Node[NODE_WIDTH];
+        int reach = 1 << (NODE_BITS * (level - 1));
+        for (int k = 0; k < NODE_WIDTH && leaves > 0; k++) {
+            node.children[k] = build(level - 1, Math.min(leaves, reach));
+            leaves -= reach;
+        }
+        return node;
+    }
+
+    /**
+     * @return the number of ints this set holds
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of blocks of 64 ints of this set
+     */
+    public int words() {
+        return (capacity + 63) >>> 6;
+    }
+
+    /**
+     * Returns a block of 64 ints: the bit b of the block w is the int 64*w+b.
+     *
+     * @param w the number of the block
+     * @return the block, as a long
+     */
+    public long word(int w) {
+        return leaf(w >>> LEAF_BITS).words[w & (LEAF_WORDS - 1)];
+    }
+
+    private Node leaf(int leaf) {
+        Node node = root;
+        for (int level = levels; level > 0; level--) {
+            node = node.children[(leaf >>> (NODE_BITS * (level - 1))) & (NODE_WIDTH - 1)];
+        }
+        return node;
+    }
+
+    /**
+     * @param index the int to test
+     * @return true if the int is in this set
+     */
+    public boolean get(int index) {
+        return (word(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Adds an int to this set.
+     *
+     * @param index the int to add
+     */
+    public void set(int index) {
+        int w = index >>> 6;
+        long[] words = editableLeaf(w >>> LEAF_BITS).words;
+        words[w & (LEAF_WORDS - 1)] |= 1L << index;
+    }
+
+    /**
+     * Removes an int from this set.
+     *
+     * @param index the int to remove
+     */
+    public void clear(int index) {
+        int w = index >>> 6;
+        long[] words = editableLeaf(w >>> LEAF_BITS).words;
+        words[w & (LEAF_WORDS - 1)] &= ~(1L << index);
+    }
+
+    /**
+     * Returns a leaf this set may change, copying the path from the root
+     * to that leaf where it is shared with another set.
+     */
+    private Node editableLeaf(int leaf) {
+        if (owner == null) {
+            owner = new Object();
+        }
+        root = editable(root);
+        Node node = root;
+        for (int level = levels; level > 0; level--) {
+            int k = (leaf >>> (NODE_BITS * (level - 1))) & (NODE_WIDTH - 1);
+            Node child = editable(node.children[k]);
+            node.children[k] = child;
+            node = child;
+        }
+        return node;
+    }
+
+    private Node editable(Node node) {
+        if (node.owner == owner) {
+            return node;
+        }
+        Node copy = new Node(owner);
+        if (node.words != null) {copy.words = node.words.clone();}
+        if (node.children != null) {copy.children = node.children.clone();}
+        return copy;
+    }
+
+    /**
+     * @return the number of ints in this set
+     */
+    public int cardinality() {
+        int count = 0;
+        for (int w = 0; w < words(); w++) {
+            count += Long.bitCount(word(w));
+        }
+        return count;
+    }
+
+    /**
+     * Gives up the nodes this set owns, so that cloning it writes nothing
+     * in it. The set can still be changed, copying the nodes it changes.
+     */
+    void freeze() {
+        owner = null;
+    }
+
+    /**
+     * The metod <b>clone</b> returns a copy of this set sharing all its
+     * blocks. Both sets then copy a block before changing it.
+     *
+     * @return An object PersistentBitSet (the clone of this set)
+     */
+    @Override
+    public PersistentBitSet clone() {
+        try {
+            PersistentBitSet clone = (PersistentBitSet) super.clone();
+            // neither set owns the shared nodes anymore; a set that already
+            // owns nothing is not written, so that it can be shared
+            if (owner != null) {
+                owner = null;
+            }
+            clone.owner = null;
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof PersistentBitSet)) {
+            return false;
+        }
+        PersistentBitSet other = (PersistentBitSet) o;
+        if (capacity != other.capacity) {
+            return false;
+        }
+        for (int w = 0; w < words(); w++) {
+            if (word(w) != other.word(w)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = 1;
+        for (int w = 0; w < words(); w++) {
+            h = 31 * h + word(w);
+        }
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * A node of the trie: a leaf holds blocks, an inner node holds children
+     */
+    private static final class Node implements Serializable {
+        private transient Object owner;
+        private long[] words;
+        private Node[] children;
+
+        private Node(Object owner) {
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package axxel.floodit;
+
+/**
+ * The class <b>RegionFlood</b> plays the moves of a GameModel on its
+ * RegionGraph. A move takes the regions of the selected color bordering the
+ * captured ones, so finding them costs the regions around the captured area
+ * instead of the dots; only the dots of the regions actually taken are then
+ * captured in the model.
+ *
+ * The state on the graph needs the captured dots to be whole regions, which
+ * is the case once the model has been flooded.
+ */
+class RegionFlood extends FloodPath {
+
+    /**
+     * The model this path floods
+     */
+    private GameModel model;
+
+    private final RegionGraph graph;
+
+    /**
+     * The captured regions of the model, and the regions bordering them
+     */
+    private RegionGraph.State state;
+
+    /**
+     * The regions captured by the move being played
+     */
+    private IntStack taken = new IntStack();
+
+    /**
+     * Constructor. The state is built from the dots captured in the model.
+     *
+     * @param model
+     *            the model to flood, already flooded
+     * @param graph
+     *            the region graph of the board of the model
+     */
+    RegionFlood(GameModel model, RegionGraph graph) {
+        this.model = model;
+        this.graph = graph;
+        state = graph.state(model);
+    }
+
+    @Override
+    void flood(IntStack journal) {
+        taken.clear();
+        state.flood(model.getCurrentSelectedColor(), taken);
+        for (int k = 0; k < taken.size(); k++) {
+            int region = taken.get(k);
+            for (int n = 0; n < graph.getCellCount(region); n++) {
+                int cell = graph.getCell(region, n);
+                model.capture(cell);
+                if (journal != null) {journal.push(cell);}
+            }
+        }
+    }
+
+    @Override
+    void previewGains(int[] gains) {
+        for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+            gains[color] = state.gain(color);
+        }
+    }
+
+    /**
+     * The captured regions follow from the captured dots, so a RegionFlood
+     * has no boundary of dots to record.
+     */
+    @Override
+    int[] boundarySizes() {
+        return null;
+    }
+
+    @Override
+    void undo(MoveDelta delta) {
+        state.undo(delta);
+    }
+
+    @Override
+    void freeze() {
+        // a copy only reads the state
+    }
+
+    @Override
+    FloodPath copyFor(GameModel clone) {
+        try {
+            RegionFlood copy = (RegionFlood) super.clone();
+            copy.model = clone;
+            copy.state = state.copy();
+            copy.taken = new IntStack();
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError();
+        }
+    }
+}
@@ -0,0 +1,597 @@
+package axxel.floodit;
+
+/**
+ * The class <b>RegionGraph</b> contracts a board into its regions, that is,
+ * the maximal groups of connected dots sharing the same initial color. Two
+ * regions are neighbours when one of their dots are neighbours.
+ *
+ * A move only ever captures whole regions: the regions of the selected color
+ * bordering the captured area. Playing on the graph therefore costs the
+ * number of regions around the captured area instead of the number of dots.
+ *
+ * The graph itself is immutable and can be shared by several states, for
+ * instance by the nodes of a search.
+ */
+public final class RegionGraph {
+
+    private final int size;
+    private final int mode;
+
+    /**
+     * The region of each dot, the dot (i,j) being at index i*size+j
+     */
+    private final int[] regionOf;
+
+    /**
+     * The color and the number of dots of each region
+     */
+    private final int[] color;
+    private final int[] cellCount;
+
+    /**
+     * The dots of the region r are cells[first[r]] to cells[first[r+1]-1]
+     */
+    private final int[] first;
+    private final int[] cells;
+
+    /**
+     * The neighbours of the region r are
+     * neighbours[offsets[r]] to neighbours[offsets[r+1]-1]
+     */
+    private final int[] offsets;
+    private final int[] neighbours;
+
+    /**
+     * The regions of each color, as sets of bits
+     */
+    private final long[][] regionsOfColor;
+
+    /**
+     * Constructor. Builds the regions of the initial colors of a model.
+     *
+     * @param model
+     *            the model to contract
+     */
+    public RegionGraph(GameModel model) {
+        size = model.getSize();
+        mode = model.getMode();
+        int cells = size * size;
+        Topology topology = Topology.get(size, mode);
+        int[] buffer = new int[Topology.MAX_NEIGHBOURS];
+
+        // union-find over the dots, joining neighbours of the same color
+        int[] parent = new int[cells];
+        for (int c = 0; c < cells; c++) {
+            parent[c] = c;
+        }
+        for (int c = 0; c < cells; c++) {
+            int found = topology.neighbours(c, buffer);
+            for (int k = 0; k < found; k++) {
+                int n = buffer[k];
+                if (n > c && model.getInitialColor(n) == model.getInitialColor(c)) {
+                    int a = find(parent, c);
+                    int b = find(parent, n);
+                    if (a != b) {
+                        // the smallest dot stays the root, so the regions are numbered in board order
+                        if (a < b) {parent[b] = a;}
+                        else {parent[a] = b;}
+                    }
+                }
+            }
+        }
+
+        // number the regions in place: a root comes before the other dots of
+        // its region, so its number is known when they are reached
+        for (int c = 0; c < cells; c++) {
+            parent[c] = find(parent, c);
+        }
+        regionOf = parent;
+        int count = 0;
+        for (int c = 0; c < cells; c++) {
+            int root = regionOf[c];
+            regionOf[c] = root == c ? count++ : regionOf[root];
+        }
+        color = new int[count];
+        cellCount = new int[count];
+        for (int c = 0; c < cells; c++) {
+            color[regionOf[c]] = model.getInitialColor(c);
+            cellCount[regionOf[c]]++;
+        }
+
+        // group the dots by region
+        first = new int[count + 1];
+        for (int r = 0; r < count; r++) {
+            first[r + 1] = first[r] + cellCount[r];
+        }
+        int[] fill = first.clone();
+        this.cells = new int[cells];
+        for (int c = 0; c < cells; c++) {
+            this.cells[fill[regionOf[c]]++] = c;
+        }
+
+        // collect the distinct neighbours of every region
+        offsets = new int[count + 1];
+        int[] seen = new int[count];
+        for (int r = 0; r < count; r++) {
+            seen[r] = -1;
+        }
+        int[] table = new int[Math.max(16, count * 4)];
+        int n = 0;
+        for (int r = 0; r < count; r++) {
+            offsets[r] = n;
+            for (int k = first[r]; k < first[r + 1]; k++) {
+                int c = this.cells[k];
+                int found = topology.neighbours(c, buffer);
+                for (int l = 0; l < found; l++) {
+                    int q = regionOf[buffer[l]];
+                    if (q != r && seen[q] != r) {
+                        seen[q] = r;
+                        if (n == table.length) {
+                            int[] larger = new int[table.length * 2];
+                            System.arraycopy(table, 0, larger, 0, n);
+                            table = larger;
+                        }
+                        table[n++] = q;
+                    }
+                }
+            }
+        }
+        offsets[count] = n;
+        neighbours = new int[n];
+        System.arraycopy(table, 0, neighbours, 0, n);
+
+        regionsOfColor = new long[GameModel.NUMBER_OF_COLORS][words(count)];
+        for (int r = 0; r < count; r++) {
+            regionsOfColor[color[r]][r >>> 6] |= 1L << r;
+        }
+    }
+
+    private static int find(int[] parent, int c) {
+        int root = c;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        while (parent[c] != root) {
+            int next = parent[c];
+            parent[c] = root;
+            c = next;
+        }
+        return root;
+    }
+
+    private static int words(int bits) {
+        return Math.max(1, (bits + 63) >>> 6);
+    }
+
+    /**
+     * Getter method for the number of regions
+     *
+     * @return the number of regions
+     */
+    public int getRegionCount() {
+        return color.length;
+    }
+
+    /**
+     * Returns the region of the dot (i,j)
+     *
+     * @param i
+     *            the x coordinate of the dot
+     * @param j
+     *            the y coordinate of the dot
+     * @return the region of the dot
+     */
+    public int getRegion(int i, int j) {
+        return regionOf[i * size + j];
+    }
+
+    /**
+     * Getter method for the color of a region
+     *
+     * @param region
+     *            the region
+     * @return the initial color of its dots
+     */
+    public int getColor(int region) {
+        return color[region];
+    }
+
+    /**
+     * Getter method for the number of dots of a region
+     *
+     * @param region
+     *            the region
+     * @return the number of dots of the region
+     */
+    public int getCellCount(int region) {
+        return cellCount[region];
+    }
+
+    /**
+     * Returns the index i*size+j of a dot of a region
+     *
+     * @param region
+     *            the region
+     * @param k
+     *            the rank of the dot, between 0 and getCellCount(region)-1
+     * @return the index of the dot
+     */
+    public int getCell(int region, int k) {
+        return cells[first[region] + k];
+    }
+
+    /**
+     * Returns the table giving, for every region, the start of its neighbours.
+     * The returned array must not be modified.
+     *
+     * @return the offsets table, of length getRegionCount()+1
+     */
+    public int[] offsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the table of the neighbours of all the regions.
+     * The returned array must not be modified.
+     *
+     * @return the neighbours table
+     */
+    public int[] neighbours() {
+        return neighbours;
+    }
+
+    /**
+     * Getter method for the size of the board
+     *
+     * @return the size of the board
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Getter method for the mode of the game
+     *
+     * @return the mode of the game
+     */
+    public int getMode() {
+        return mode;
+    }
+
+    /**
+     * The metod <b>state</b> returns the state of a model on this graph: the
+     * regions holding a captured dot are captured.
+     *
+     * @param model
+     *            a model of the board this graph was built from
+     * @return the state of the model
+     */
+    public State state(GameModel model) {
+        State state = new State(this);
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (model.isCaptured(i, j)) {
+                    int r = regionOf[i * size + j];
+                    if ((state.captured[r >>> 6] & (1L << r)) == 0) {
+                        state.captured[r >>> 6] |= 1L << r;
+                        state.capturedCells += cellCount[r];
+                    }
+                }
+            }
+        }
+        for (int r = 0; r < color.length; r++) {
+            if ((state.captured[r >>> 6] & (1L << r)) != 0) {
+                state.addNeighbours(r);
+            }
+        }
+        state.currentColor = model.getCurrentSelectedColor();
+        return state;
+    }
+
+    /**
+     * The class <b>State</b> holds the captured regions of a game played on a
+     * RegionGraph, together with the uncaptured regions bordering them.
+     */
+    public static final class State {
+
+        private final RegionGraph graph;
+
+        /**
+         * The captured regions
+         */
+        private long[] captured;
+
+        /**
+         * The uncaptured regions bordering the captured ones
+         */
+        private long[] boundary;
+
+        private int capturedCells;
+        private int currentColor;
+
+        private State(RegionGraph graph) {
+            this.graph = graph;
+            captured = new long[words(graph.color.length)];
+            boundary = new long[captured.length];
+        }
+
+        /**
+         * The metod <b>copy</b> returns an independent copy of this state,
+         * sharing the same graph.
+         *
+         * @return a copy of this state
+         */
+        public State copy() {
+            State copy = new State(graph);
+            System.arraycopy(captured, 0, copy.captured, 0, captured.length);
+            System.arraycopy(boundary, 0, copy.boundary, 0, boundary.length);
+            copy.capturedCells = capturedCells;
+            copy.currentColor = currentColor;
+            return copy;
+        }
+
+        /**
+         * The metod <b>flood</b> selects a color and captures the regions of
+         * that color bordering the captured area.
+         *
+         * @param color
+         *            the newly selected color
+         * @return the number of newly captured dots
+         */
+        public int flood(int color) {
+            return flood(color, null);
+        }
+
+        /**
+         * Same as flood(int), also pushing the newly captured regions on a
+         * stack.
+         *
+         * @param color
+         *            the newly selected color
+         * @param regions
+         *            the stack receiving the captured regions, or null
+         * @return the number of newly captured dots
+         */
+        int flood(int color, IntStack regions) {
+            currentColor = color;
+            long[] ofColor = graph.regionsOfColor[color];
+            int gained = 0;
+            for (int w = 0; w < boundary.length; w++) {
+                long taken = boundary[w] & ofColor[w];
+                if (taken == 0) {
+                    continue;
+                }
+                captured[w] |= taken;
+                boundary[w] &= ~taken;
+                while (taken != 0) {
+                    int r = (w << 6) + Long.numberOfTrailingZeros(taken);
+                    taken &= taken - 1;
+                    gained += graph.cellCount[r];
+                    addNeighbours(r);
+                    if (regions != null) {regions.push(r);}
+                }
+            }
+            capturedCells += gained;
+            return gained;
+        }
+
+        /**
+         * Puts this state back as it was before a move of the model it
+         * follows: the regions of the dots the move captured are released.
+         * The boundary is then built again from the captured regions.
+         *
+         * @param delta
+         *            the move to undo
+         */
+        void undo(MoveDelta delta) {
+            for (int k = 0; k < delta.getCapturedCount(); k++) {
+                int r = graph.regionOf[delta.getCaptured(k)];
+                if ((captured[r >>> 6] & (1L << r)) != 0) {
+                    captured[r >>> 6] &= ~(1L << r);
+                    capturedCells -= graph.cellCount[r];
+                }
+            }
+            for (int w = 0; w < boundary.length; w++) {
+                boundary[w] = 0L;
+            }
+            for (int w = 0; w < captured.length; w++) {
+                long regions = captured[w];
+                while (regions != 0) {
+                    addNeighbours((w << 6) + Long.numberOfTrailingZeros(regions));
+                    regions &= regions - 1;
+                }
+            }
+            currentColor = delta.getPreviousColor();
+        }
+
+        /**
+         * The metod <b>gain</b> returns the number of dots a color would
+         * capture, without changing this state.
+         *
+         * @param color
+         *            the color to evaluate
+         * @return the number of dots that color would capture
+         */
+        public int gain(int color) {
+            long[] ofColor = graph.regionsOfColor[color];
+            int gained = 0;
+            for (int w = 0; w < boundary.length; w++) {
+                long taken = boundary[w] & ofColor[w];
+                while (taken != 0) {
+                    gained += graph.cellCount[(w << 6) + Long.numberOfTrailingZeros(taken)];
+                    taken &= taken - 1;
+                }
+            }
+            return gained;
+        }
+
+        /**
+         * The metod <b>hash</b> returns a 64-bit hash of the captured
+         * regions and the current color. Two states of the same graph with
+         * the same captured regions and color have the same hash.
+         *
+         * @return the hash of this state
+         */
+        public long hash() {
+            long h = mix(currentColor + 1);
+            for (int w = 0; w < captured.length; w++) {
+                h = mix(h ^ captured[w]);
+            }
+            return h;
+        }
+
+        /**
+         * The finalizer of SplitMix64, a bijection mixing all the bits
+         */
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+
+        /**
+         * The metod <b>clears</b> returns true if a color would capture all
+         * the uncaptured regions of that color. Such a move can always be
+         * played first: a later move of that color could not capture more.
+         *
+         * @param color
+         *            the color to evaluate
+         * @return true if no region of that color would be left
+         */
+        public boolean clears(int color) {
+            long[] ofColor = graph.regionsOfColor[color];
+            boolean any = false;
+            for (int w = 0; w < captured.length; w++) {
+                long left = ofColor[w] & ~captured[w];
+                if ((left & ~boundary[w]) != 0) {
+                    return false;
+                }
+                any |= left != 0;
+            }
+            return any;
+        }
+
+        /**
+         * The metod <b>remainingColors</b> returns the colors that still
+         * have uncaptured regions.
+         *
+         * @return a set of colors, the bit c being set for the color c
+         */
+        public int remainingColors() {
+            int colors = 0;
+            for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+                long[] ofColor = graph.regionsOfColor[color];
+                for (int w = 0; w < captured.length; w++) {
+                    if ((ofColor[w] & ~captured[w]) != 0) {
+                        colors |= 1 << color;
+                        break;
+                    }
+                }
+            }
+            return colors;
+        }
+
+        /**
+         * The metod <b>boundaryColors</b> returns the colors of the
+         * uncaptured regions bordering the captured area, that is, the
+         * colors the next move can usefully select.
+         *
+         * @return a set of colors, the bit c being set for the color c
+         */
+        public int boundaryColors() {
+            int colors = 0;
+            for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+                long[] ofColor = graph.regionsOfColor[color];
+                for (int w = 0; w < boundary.length; w++) {
+                    if ((ofColor[w] & boundary[w]) != 0) {
+                        colors |= 1 << color;
+                        break;
+                    }
+                }
+            }
+            return colors;
+        }
+
+        /**
+         * Getter method for the number of uncaptured regions bordering the
+         * captured area
+         *
+         * @return the number of regions on the boundary
+         */
+        public int getBoundaryCount() {
+            int count = 0;
+            for (long word : boundary) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        private void addNeighbours(int r) {
+            for (int k = graph.offsets[r]; k < graph.offsets[r + 1]; k++) {
+                int q = graph.neighbours[k];
+                if ((captured[q >>> 6] & (1L << q)) == 0) {
+                    boundary[q >>> 6] |= 1L << q;
+                }
+            }
+        }
+
+        /**
+         * returns true if the region is captured, false otherwise
+         *
+         * @param region
+         *            the region
+         * @return the status of the region
+         */
+        public boolean isCaptured(int region) {
+            return (captured[region >>> 6] & (1L << region)) != 0;
+        }
+
+        /**
+         * returns true if the region is not captured but borders the
+         * captured area
+         *
+         * @param region
+         *            the region
+         * @return true if the region can be captured by the next move
+         */
+        public boolean isOnBoundary(int region) {
+            return (boundary[region >>> 6] & (1L << region)) != 0;
+        }
+
+        /**
+         * Getter method for the number of captured dots
+         *
+         * @return the number of captured dots
+         */
+        public int getNumberCaptured() {
+            return capturedCells;
+        }
+
+        /**
+         * Getter method for the current selection color
+         *
+         * @return the current selection color
+         */
+        public int getCurrentColor() {
+            return currentColor;
+        }
+
+        /**
+         * The metod <b>isFinished</b> returns true iff all the regions are captured.
+         *
+         * @return true if the game is finished, false otherwise
+         */
+        public boolean isFinished() {
+            return capturedCells == graph.size * graph.size;
+        }
+
+        /**
+         * Getter method for the graph of this state
+         *
+         * @return the graph this state is played on
+         */
+        public RegionGraph getGraph() {
+            return graph;
+        }
+    }
+}
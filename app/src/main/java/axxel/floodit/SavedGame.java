@@ -0,0 +1,166 @@
+package axxel.floodit;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class <b>SavedGame</b> writes a game in progress with its whole
+ * UndoTree in a binary form and reads it back, so that a game survives the
+ * activity and the process. It writes:
+ *
+ * - a header: the magic bytes 'F' 'S' and the version
+ * - the model at the root of the tree, as written by GameCodec
+ * - the nodes of the tree in preorder: for each node, the number of its
+ *   children, the rank of the child visited last (or 255) and the color of
+ *   each child
+ * - the number of moves from the root to the current node, and the rank of
+ *   the child taken at each of them
+ *
+ * A move takes one byte whatever the size of the board, so a 40x40 game
+ * with a long history is about one kilobyte. Reading replays the moves of
+ * the tree, which only floods the dots each move captures.
+ */
+public final class SavedGame {
+
+    private static final int MAGIC = ('F' << 8) | 'S';
+    private static final int VERSION = 1;
+
+    /**
+     * The rank written for a node no move was played from
+     */
+    private static final int NONE = 255;
+
+    private SavedGame() {
+    }
+
+    /**
+     * The metod <b>write</b> writes a game and its history on a stream. The
+     * tree and its model are not changed, and the stream is not closed.
+     *
+     * @param tree
+     *            the history of the game, its current node being the
+     *            current state of the game
+     * @param out
+     *            the stream receiving the game
+     * @throws IOException
+     *             if the stream fails
+     */
+    public static void write(UndoTree tree, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 512));
+        data.writeShort(MAGIC);
+        data.writeByte(VERSION);
+
+        // the clone shares the board, going back to the root only copies what the moves captured
+        GameModel root = tree.getModel().clone();
+        for (UndoTree.Node node = tree.getCurrent(); node.getParent() != null; node = node.getParent()) {
+            root.undo(node.getMove());
+        }
+        GameCodec.encode(root, 0, data);
+
+        List<UndoTree.Node> pending = new ArrayList<>();
+        pending.add(tree.getRoot());
+        while (!pending.isEmpty()) {
+            UndoTree.Node node = pending.remove(pending.size() - 1);
+            int count = node.getChildCount();
+            data.writeByte(count);
+            data.writeByte(node.getLastVisited() == null ? NONE : rankOf(node.getLastVisited()));
+            for (int k = 0; k < count; k++) {
+                data.writeByte(node.getChild(k).getMove().getColor());
+            }
+            for (int k = count - 1; k >= 0; k--) {
+                pending.add(node.getChild(k));
+            }
+        }
+
+        UndoTree.Node current = tree.getCurrent();
+        byte[] path = new byte[current.getDepth()];
+        for (UndoTree.Node node = current; node.getParent() != null; node = node.getParent()) {
+            path[node.getDepth() - 1] = (byte) rankOf(node);
+        }
+        data.writeInt(path.length);
+        data.write(path);
+        data.flush();
+    }
+
+    private static int rankOf(UndoTree.Node node) {
+        UndoTree.Node parent = node.getParent();
+        for (int k = 0; k < parent.getChildCount(); k++) {
+            if (parent.getChild(k) == node) {
+                return k;
+            }
+        }
+        throw new AssertionError();
+    }
+
+    /**
+     * The metod <b>read</b> rebuilds a game and its history from a stream.
+     *
+     * @param in
+     *            the stream holding the saved game
+     * @return the history of the game, its model being in the saved state
+     * @throws IOException
+     *             if the stream fails or does not hold a valid saved game
+     */
+    public static UndoTree read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in instanceof BufferedInputStream
+                || in instanceof ByteArrayInputStream ? in : new BufferedInputStream(in, 512));
+        if (data.readUnsignedShort() != MAGIC) {
+            throw new StreamCorruptedException("Not a saved game");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported version: " + version);
+        }
+        UndoTree tree = new UndoTree(GameCodec.decode(data));
+
+        List<UndoTree.Node> pending = new ArrayList<>();
+        List<UndoTree.Node> visited = new ArrayList<>();
+        List<Integer> ranks = new ArrayList<>();
+        pending.add(tree.getRoot());
+        while (!pending.isEmpty()) {
+            UndoTree.Node node = pending.remove(pending.size() - 1);
+            tree.jumpTo(node);
+            int count = data.readUnsignedByte();
+            int rank = data.readUnsignedByte();
+            if (count >= GameModel.NUMBER_OF_COLORS || (rank >= count && rank != NONE)) {
+                throw new StreamCorruptedException("Invalid node");
+            }
+            for (int k = 0; k < count; k++) {
+                int color = data.readUnsignedByte();
+                // a move must change the color and not be played twice from the same node
+                if (color >= GameModel.NUMBER_OF_COLORS || !tree.play(color) || node.getChildCount() != k + 1) {
+                    throw new StreamCorruptedException("Invalid move");
+                }
+                tree.undo();
+            }
+            for (int k = count - 1; k >= 0; k--) {
+                pending.add(node.getChild(k));
+            }
+            visited.add(node);
+            ranks.add(rank);
+        }
+
+        int depth = data.readInt();
+        if (depth < 0 || depth >= tree.size()) {
+            throw new StreamCorruptedException("Invalid current move");
+        }
+        UndoTree.Node current = tree.getRoot();
+        for (int d = 0; d < depth; d++) {
+            int rank = data.readUnsignedByte();
+            if (rank >= current.getChildCount()) {
+                throw new StreamCorruptedException("Invalid current move");
+            }
+            current = current.getChild(rank);
+        }
+        tree.jumpTo(current);
+
+        // playing and jumping moved the redo pointers, they are set back as saved
+        for (int k = 0; k < visited.size(); k++) {
+            UndoTree.Node node = visited.get(k);
+            int rank = ranks.get(k);
+            node.setLastVisited(rank == NONE ? null : node.getChild(rank));
+        }
+        return tree;
+    }
+}
@@ -0,0 +1,21 @@
+package axxel.floodit;
+
+/**
+ * Solver of a game. A Solver looks for a sequence of colors that captures
+ * all the dots of a board, starting from the current state of a model.
+ */
+
+public interface Solver {
+
+    /**
+     * Returns the colors to select, in order, to finish the game from the
+     * current state of a model. The model is not changed.
+     *
+     * @param model the game to solve
+     * @return the colors to select, empty if the game is finished, or null
+     *         if this solver found no solution or was interrupted
+     */
+
+    int[] solve(GameModel model);
+
+}
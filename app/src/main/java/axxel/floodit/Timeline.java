@@ -0,0 +1,241 @@
+package axxel.floodit;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class <b>Timeline</b> records a game as a line of moves so that any
+ * step can be reached quickly, for instance to scrub through a replay. It
+ * keeps the MoveDelta of every move, plus a snapshot of the model every
+ * <b>interval</b> moves. Seeking a step restarts from the closest snapshot
+ * before it, or from the current step when that is closer, so it never
+ * applies more than about interval deltas.
+ *
+ * Snapshots are clones of the model, which share the dots that did not
+ * change since: a snapshot only costs the blocks captured after it.
+ */
+public class Timeline implements Serializable {
+
+    /**
+     * The number of dots a seek should replay at most, used to choose the
+     * interval between snapshots
+     */
+    private static final int SEEK_BUDGET = 256;
+
+    private final int interval;
+
+    /**
+     * The model at the current step. Seeking may replace it with a copy of
+     * a snapshot, so it must be read back with getModel().
+     */
+    private GameModel model;
+
+    private int position;
+    private final List<MoveDelta> moves = new ArrayList<>();
+
+    /**
+     * The snapshot k is the model at step k*interval
+     */
+    private final List<GameModel> snapshots = new ArrayList<>();
+
+    private int seekCount;
+    private long seekNanos;
+    private long maxSeekNanos;
+    private long lastSeekNanos;
+    private long replayedMoves;
+
+    /**
+     * Constructor. The current state of the model is the step 0 of the
+     * timeline, and the interval between snapshots depends on the size of
+     * the board.
+     *
+     * @param model
+     *            the model to record
+     */
+    public Timeline(GameModel model) {
+        this(model, intervalFor(model.getSize()));
+    }
+
+    /**
+     * Constructor with a given interval between snapshots.
+     *
+     * @param model
+     *            the model to record
+     * @param interval
+     *            the number of moves between two snapshots
+     */
+    public Timeline(GameModel model, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Invalid interval: " + interval);
+        }
+        this.model = model;
+        this.interval = interval;
+        snapshots.add(model.clone());
+    }
+
+    /**
+     * Returns the interval between snapshots suited to a size of board. A
+     * game lasts about 2*size moves, so a move captures about size/2 dots:
+     * the interval keeps a seek around SEEK_BUDGET dots. Small boards
+     * (10: 32 moves, 20: 25, 40: 12) hardly need snapshots, while the
+     * largest ones take one every 2 moves.
+     *
+     * @param size
+     *            the size of the board
+     * @return the number of moves between two snapshots
+     */
+    public static int intervalFor(int size) {
+        return Math.max(2, Math.min(32, 2 * SEEK_BUDGET / Math.max(1, size)));
+    }
+
+    /**
+     * The metod <b>play</b> plays a color at the current step. The steps
+     * after the current one, if any, are dropped.
+     *
+     * @param color
+     *            the newly selected color
+     * @return true if a move was played, false if the color is unchanged
+     */
+    public boolean play(int color) {
+        MoveDelta move = model.play(color);
+        if (move == null) {
+            return false;
+        }
+        while (moves.size() > position) {
+            moves.remove(moves.size() - 1);
+        }
+        while (snapshots.size() > position / interval + 1) {
+            snapshots.remove(snapshots.size() - 1);
+        }
+        moves.add(move);
+        position++;
+        if (position % interval == 0) {
+            snapshots.add(model.clone());
+        }
+        return true;
+    }
+
+    /**
+     * The metod <b>seek</b> brings the game to a given step.
+     *
+     * @param step
+     *            the step, between 0 and getLength()
+     * @return the model at that step, which may not be the previous one
+     */
+    public GameModel seek(int step) {
+        if (step < 0 || step > moves.size()) {
+            throw new IndexOutOfBoundsException("No step " + step + " in a timeline of " + moves.size());
+        }
+        long start = System.nanoTime();
+        int snapshot = step / interval;
+        int fromSnapshot = step - snapshot * interval;
+        if (Math.abs(step - position) > fromSnapshot) {
+            model = snapshots.get(snapshot).clone();
+            position = snapshot * interval;
+        }
+        while (position > step) {
+            model.undo(moves.get(--position));
+            replayedMoves++;
+        }
+        while (position < step) {
+            model.redo(moves.get(position++));
+            replayedMoves++;
+        }
+        lastSeekNanos = System.nanoTime() - start;
+        seekNanos += lastSeekNanos;
+        maxSeekNanos = Math.max(maxSeekNanos, lastSeekNanos);
+        seekCount++;
+        return model;
+    }
+
+    /**
+     * Getter method for the model at the current step
+     *
+     * @return the current model
+     */
+    public GameModel getModel() {
+        return model;
+    }
+
+    /**
+     * Getter method for the current step
+     *
+     * @return the number of moves played to reach the current model
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Getter method for the number of moves of the timeline
+     *
+     * @return the number of moves recorded
+     */
+    public int getLength() {
+        return moves.size();
+    }
+
+    /**
+     * Getter method for the interval between snapshots
+     *
+     * @return the number of moves between two snapshots
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Getter method for the number of snapshots kept
+     *
+     * @return the number of snapshots, the one of step 0 included
+     */
+    public int getSnapshotCount() {
+        return snapshots.size();
+    }
+
+    /**
+     * Getter method for the number of seeks done
+     *
+     * @return the number of calls to seek
+     */
+    public int getSeekCount() {
+        return seekCount;
+    }
+
+    /**
+     * Getter method for the duration of the last seek
+     *
+     * @return the duration of the last seek, in nanoseconds
+     */
+    public long getLastSeekNanos() {
+        return lastSeekNanos;
+    }
+
+    /**
+     * Getter method for the longest seek
+     *
+     * @return the duration of the longest seek, in nanoseconds
+     */
+    public long getMaxSeekNanos() {
+        return maxSeekNanos;
+    }
+
+    /**
+     * Getter method for the average duration of a seek
+     *
+     * @return the average duration of the seeks, in nanoseconds, or 0
+     */
+    public long getAverageSeekNanos() {
+        return seekCount == 0 ? 0 : seekNanos / seekCount;
+    }
+
+    /**
+     * Getter method for the number of moves undone or redone by the seeks
+     *
+     * @return the number of deltas applied by all the seeks
+     */
+    public long getReplayedMoves() {
+        return replayedMoves;
+    }
+}
@@ -0,0 +1,235 @@
+package axxel.floodit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The class <b>Topology</b> describes which dots are neighbours on a board of
+ * a given size played in a given mode. The dot (i,j) is identified by the
+ * index i*size+j, and the neighbours of every dot are precomputed once in a
+ * compact table: the neighbours of the dot c are
+ * neighbours[offsets[c]] to neighbours[offsets[c+1]-1].
+ *
+ * Topologies are immutable and shared: use <b>get</b> to obtain the one of a
+ * given (size, mode) pair.
+ *
+ * Above TABLE_LIMIT dots the table would cost more memory than the board
+ * itself, so large boards have no table and compute the neighbours of a dot
+ * on demand with <b>neighbours(int, int[])</b>.
+ */
+public final class Topology {
+
+    /**
+     * The topologies already built, keyed by (size, mode)
+     */
+    private static final Map<Integer, Topology> cache = new HashMap<>();
+
+    /**
+     * The largest number of dots of a board having a precomputed table
+     */
+    public static final int TABLE_LIMIT = 1 << 20;
+
+    /**
+     * The largest number of neighbours of a dot
+     */
+    public static final int MAX_NEIGHBOURS = 8;
+
+    private final int size;
+    private final int mode;
+
+    /**
+     * The start of the neighbours of each dot in the neighbours table,
+     * plus one final entry marking the end of the table
+     */
+    private final int[] offsets;
+
+    /**
+     * The neighbours of all the dots, one after the other
+     */
+    private final int[] neighbours;
+
+    /**
+     * Returns the topology of a board of a given size played in a given mode,
+     * building it on the first call.
+     *
+     * @param size
+     *            the size of the board
+     * @param mode
+     *            the mode of the game, as defined in GameModel
+     * @return the topology of the board
+     */
+    public static synchronized Topology get(int size, int mode) {
+        if (size * size > TABLE_LIMIT) {
+            return new Topology(size, mode, false);
+        }
+        Integer key = size * 4 + mode;
+        Topology topology = cache.get(key);
+        if (topology == null) {
+            topology = new Topology(size, mode, true);
+            cache.put(key, topology);
+        }
+        return topology;
+    }
+
+    /**
+     * Returns a topology without tables, computing the neighbours on demand
+     * whatever the size of the board, so that both ways can be compared on
+     * the same board.
+     *
+     * @param size
+     *            the size of the board
+     * @param mode
+     *            the mode of the game, as defined in GameModel
+     * @return a new topology of the board, without tables
+     */
+    static Topology withoutTables(int size, int mode) {
+        return new Topology(size, mode, false);
+    }
+
+    private Topology(int size, int mode, boolean tables) {
+        this.size = size;
+        this.mode = mode;
+        int cells = size * size;
+        if (!tables) {
+            offsets = null;
+            neighbours = null;
+            return;
+        }
+        offsets = new int[cells + 1];
+        int[] table = new int[cells * MAX_NEIGHBOURS];
+        int n = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            offsets[cell] = n;
+            n += neighbours(cell, table, n);
+        }
+        offsets[cells] = n;
+        neighbours = new int[n];
+        System.arraycopy(table, 0, neighbours, 0, n);
+    }
+
+    /**
+     * Writes the indexes of the neighbours of a dot in a buffer. This works
+     * for every board, but the tables are faster when they exist.
+     *
+     * @param cell
+     *            the index of the dot
+     * @param out
+     *            a buffer of at least MAX_NEIGHBOURS entries receiving the indexes
+     * @return the number of indexes written in the buffer
+     */
+    public int neighbours(int cell, int[] out) {
+        return neighbours(cell, out, 0);
+    }
+
+    private int neighbours(int cell, int[] out, int from) {
+        int count = neighbours(cell / size, cell % size, out, from);
+        if (size > 2) {
+            return count - from;
+        }
+        int n = from;
+        for (int k = from; k < count; k++) {
+            // small torus boards can reach the same dot twice, or the dot itself
+            boolean seen = out[k] == cell;
+            for (int l = from; l < n && !seen; l++) {
+                seen = out[l] == out[k];
+            }
+            if (!seen) {
+                out[n++] = out[k];
+            }
+        }
+        return n - from;
+    }
+
+    /**
+     * Writes the indexes of the neighbours of the dot (x,y) in a buffer.
+     *
+     * @param x
+     *            the x coordinate of the dot
+     * @param y
+     *            the y coordinate of the dot
+     * @param out
+     *            the buffer receiving the indexes
+     * @param n
+     *            the position of the first index in the buffer
+     * @return the position after the last index written in the buffer
+     */
+    private int neighbours(int x, int y, int[] out, int n) {
+        int last = size - 1;
+        boolean torus = mode == GameModel.ORTHO_TORUS || mode == GameModel.DIAGO_TORUS;
+        boolean diago = mode == GameModel.DIAGO_PLANE || mode == GameModel.DIAGO_TORUS;
+        if (x > 0) {out[n++] = index(x - 1, y);}
+        else if (torus) {out[n++] = index(last, y);}
+        if (x < last) {out[n++] = index(x + 1, y);}
+        else if (torus) {out[n++] = index(0, y);}
+        if (y > 0) {out[n++] = index(x, y - 1);}
+        else if (torus) {out[n++] = index(x, last);}
+        if (y < last) {out[n++] = index(x, y + 1);}
+        else if (torus) {out[n++] = index(x, 0);}
+        if (diago) {
+            if (x > 0 && y > 0) {out[n++] = index(x - 1, y - 1);}
+            if (x < last && y < last) {out[n++] = index(x + 1, y + 1);}
+            if (x > 0 && y < last) {out[n++] = index(x - 1, y + 1);}
+            if (x < last && y > 0) {out[n++] = index(x + 1, y - 1);}
+            // on the torus, the diagonals only wrap around the four corners
+            if (torus) {
+                if (x == 0 && y == 0) {out[n++] = index(last, last);}
+                if (x == last && y == last) {out[n++] = index(0, 0);}
+                if (x == 0 && y == last) {out[n++] = index(last, 0);}
+                if (x == last && y == 0) {out[n++] = index(0, last);}
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Returns the index of the dot (x,y)
+     *
+     * @param x
+     *            the x coordinate of the dot
+     * @param y
+     *            the y coordinate of the dot
+     * @return x*size+y
+     */
+    public int index(int x, int y) {
+        return x * size + y;
+    }
+
+    /**
+     * Getter method for the size of the board
+     *
+     * @return the size of the board
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Getter method for the mode of the game
+     *
+     * @return the mode of the game
+     */
+    public int getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the table giving, for every dot, the start of its neighbours.
+     * The returned array must not be modified.
+     *
+     * @return the offsets table, of length size*size+1, or null for a board
+     *         larger than TABLE_LIMIT
+     */
+    public int[] offsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the table of the neighbours of all the dots.
+     * The returned array must not be modified.
+     *
+     * @return the neighbours table, or null for a board larger than TABLE_LIMIT
+     */
+    public int[] neighbours() {
+        return neighbours;
+    }
+}
@@ -0,0 +1,275 @@
+package axxel.floodit;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class <b>UndoTree</b> keeps the history of a game as a tree: playing
+ * a move after an undo starts a new branch instead of discarding the moves
+ * that were undone, so every variation stays reachable.
+ *
+ * Each node only holds the MoveDelta of the move leading to it, and a
+ * variation shares the moves it has in common with the others. Going from
+ * one node to another undoes the moves up to their common ancestor and
+ * redoes the moves down to the target, so it costs the deltas on that path
+ * and not a replay from the start of the game.
+ */
+public class UndoTree implements Serializable {
+
+    /**
+     * The model this tree is the history of
+     */
+    private final GameModel model;
+
+    private final Node root;
+
+    /**
+     * The node of the current state of the model
+     */
+    private Node current;
+
+    private int size;
+
+    /**
+     * Constructor. The current state of the model becomes the root of the tree.
+     *
+     * @param model
+     *            the model to follow
+     */
+    public UndoTree(GameModel model) {
+        this.model = model;
+        root = new Node(null, null);
+        current = root;
+        size = 1;
+    }
+
+    /**
+     * The metod <b>play</b> plays a color on the model. If that move was
+     * already played from the current node, its branch is followed again;
+     * otherwise a new branch is added.
+     *
+     * @param color
+     *            the newly selected color
+     * @return true if a move was played, false if the color is unchanged
+     */
+    public boolean play(int color) {
+        if (color == model.getCurrentSelectedColor()) {
+            return false;
+        }
+        for (Node child : current.children) {
+            if (child.delta.getColor() == color) {
+                model.redo(child.delta);
+                enter(child);
+                return true;
+            }
+        }
+        Node child = new Node(current, model.play(color));
+        current.children.add(child);
+        size++;
+        enter(child);
+        return true;
+    }
+
+    private void enter(Node child) {
+        current.lastVisited = child;
+        current = child;
+    }
+
+    /**
+     * @return true if the current node is not the root
+     */
+    public boolean canUndo() {
+        return current.parent != null;
+    }
+
+    /**
+     * @return true if a move was played from the current node
+     */
+    public boolean canRedo() {
+        return current.lastVisited != null;
+    }
+
+    /**
+     * The metod <b>undo</b> goes back to the parent of the current node. The
+     * current node stays in the tree.
+     */
+    public void undo() {
+        if (canUndo()) {
+            model.undo(current.delta);
+            current = current.parent;
+        }
+    }
+
+    /**
+     * The metod <b>redo</b> goes to the child of the current node that was
+     * visited last.
+     */
+    public void redo() {
+        if (canRedo()) {
+            Node child = current.lastVisited;
+            model.redo(child.delta);
+            current = child;
+        }
+    }
+
+    /**
+     * The metod <b>jumpTo</b> brings the model to the state of any node of
+     * this tree, through the closest common ancestor of that node and the
+     * current one.
+     *
+     * @param target
+     *            a node of this tree
+     */
+    public void jumpTo(Node target) {
+        Node from = current;
+        Node to = target;
+        List<Node> down = new ArrayList<>();
+        while (from.depth > to.depth) {
+            model.undo(from.delta);
+            from = from.parent;
+        }
+        while (to.depth > from.depth) {
+            down.add(to);
+            to = to.parent;
+        }
+        while (from != to) {
+            model.undo(from.delta);
+            from = from.parent;
+            down.add(to);
+            to = to.parent;
+        }
+        for (int k = down.size() - 1; k >= 0; k--) {
+            Node child = down.get(k);
+            model.redo(child.delta);
+            child.parent.lastVisited = child;
+        }
+        current = target;
+    }
+
+    /**
+     * Getter method for the model this tree is the history of
+     *
+     * @return the model, in the state of the current node
+     */
+    GameModel getModel() {
+        return model;
+    }
+
+    /**
+     * Getter method for the root of the tree, the state the tree started from
+     *
+     * @return the root node
+     */
+    public Node getRoot() {
+        return root;
+    }
+
+    /**
+     * Getter method for the node of the current state of the model
+     *
+     * @return the current node
+     */
+    public Node getCurrent() {
+        return current;
+    }
+
+    /**
+     * Getter method for the number of nodes of the tree
+     *
+     * @return the number of nodes, the root included
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The class <b>Node</b> is a state of the game in the tree: the state
+     * reached by playing the moves from the root down to this node.
+     */
+    public static final class Node implements Serializable {
+
+        private final Node parent;
+
+        /**
+         * The move from the parent to this node, null for the root
+         */
+        private final MoveDelta delta;
+
+        private final int depth;
+        private final List<Node> children = new ArrayList<>();
+        private Node lastVisited;
+
+        private Node(Node parent, MoveDelta delta) {
+            this.parent = parent;
+            this.delta = delta;
+            depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        /**
+         * Getter method for the parent of this node
+         *
+         * @return the parent, or null for the root
+         */
+        public Node getParent() {
+            return parent;
+        }
+
+        /**
+         * Getter method for the move leading to this node
+         *
+         * @return the move from the parent, or null for the root
+         */
+        public MoveDelta getMove() {
+            return delta;
+        }
+
+        /**
+         * Getter method for the number of moves from the root to this node
+         *
+         * @return the depth of this node
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Getter method for the number of moves played from this node
+         *
+         * @return the number of children
+         */
+        public int getChildCount() {
+            return children.size();
+        }
+
+        /**
+         * Getter method for a move played from this node
+         *
+         * @param k
+         *            the rank of the child, in the order they were first played
+         * @return the child
+         */
+        public Node getChild(int k) {
+            return children.get(k);
+        }
+
+        /**
+         * Getter method for the child redo goes to
+         *
+         * @return the child visited last, or null if no move was played
+         */
+        Node getLastVisited() {
+            return lastVisited;
+        }
+
+        /**
+         * Setter method for the child redo goes to
+         *
+         * @param child
+         *            a child of this node, or null
+         */
+        void setLastVisited(Node child) {
+            lastVisited = child;
+        }
+    }
+}
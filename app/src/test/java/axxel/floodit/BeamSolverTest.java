@@ -0,0 +1,81 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the beam solver, executed on the development machine (host).
+ */
+public class BeamSolverTest {
+
+    private static int[] checked(Solver solver, GameModel model) {
+        String before = model.toString();
+        int[] moves = solver.solve(model);
+        // the model is not changed
+        assertEquals(before, model.toString());
+        GameModel copy = model.clone();
+        for (int color : moves) {
+            assertNotNull(copy.play(color));
+        }
+        assertTrue(copy.isFinished());
+        return moves;
+    }
+
+    @Test
+    public void solve_finishesTheGame() throws Exception {
+        BeamSolver.Heuristic[] heuristics = {BeamSolver.CAPTURED, BeamSolver.FRONTIER, BeamSolver.COLORS};
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(20, 2, mode);
+            model.flood();
+            model.play(3);
+            for (BeamSolver.Heuristic heuristic : heuristics) {
+                checked(new BeamSolver(32, heuristic, null), model);
+            }
+        }
+    }
+
+    @Test
+    public void solve_sameSolutionOnAnyNumberOfThreads() throws Exception {
+        GameModel model = new GameModel(40, 3, GameModel.ORTHO_TORUS);
+        model.flood();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BeamSolver single = new BeamSolver(128, BeamSolver.COLORS, null);
+            BeamSolver parallel = new BeamSolver(128, BeamSolver.COLORS, executor);
+            assertArrayEquals(checked(single, model), checked(parallel, model));
+            assertEquals(single.getExpandedCount(), parallel.getExpandedCount());
+            // the executor is shared by the searches, not shut down by them
+            assertArrayEquals(checked(single, model), checked(parallel, model));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void solve_isNoWorseThanGreedy() throws Exception {
+        LevelPack pack = LevelPack.getDefault();
+        int beam = 0;
+        int greedy = 0;
+        for (int level = 1; level <= 10; level++) {
+            GameModel model = new GameModel(40, level, GameModel.DIAGO_PLANE, pack);
+            model.flood();
+            beam += checked(new BeamSolver(), model).length;
+            greedy += checked(new GreedySolver(), model).length;
+        }
+        assertTrue(beam + " moves against " + greedy, beam <= greedy);
+    }
+
+    @Test
+    public void solve_finishedGameNeedsNoMove() throws Exception {
+        GameModel model = new GameModel(10, 1, GameModel.ORTHO_PLANE);
+        model.flood();
+        for (int color : new BeamSolver(8, BeamSolver.CAPTURED, null).solve(model)) {
+            model.play(color);
+        }
+        assertEquals(0, new BeamSolver().solve(model).length);
+    }
+}
@@ -0,0 +1,114 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the bitboard, executed on the development machine (host).
+ */
+public class BitBoardTest {
+
+    /**
+     * Returns a model flooded dot by dot by a FloodEngine, on the same board
+     */
+    private static GameModel byDots(int size, int mode, long seed) {
+        GameModel model = new GameModel(size, mode, seed);
+        model.setTopology(Topology.get(size, mode));
+        return model;
+    }
+
+    private static void assertSame(GameModel expected, GameModel actual) {
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.getNumberCaptured(), actual.getNumberCaptured());
+        assertEquals(expected.getHash(), actual.getHash());
+        assertArrayEquals(expected.previewGains(), actual.previewGains());
+    }
+
+    @Test
+    public void flood_matchesTheFloodEngine() throws Exception {
+        Random random = new Random(3);
+        // 64 fills the last word, 9 and 63 leave part of it, 1 and 2 wrap onto themselves
+        for (int size : new int[] {1, 2, 3, 9, 40, 63, 64}) {
+            for (int mode = 0; mode < 4; mode++) {
+                long seed = random.nextLong();
+                GameModel bits = new GameModel(size, mode, seed);
+                GameModel dots = byDots(size, mode, seed);
+                bits.flood();
+                dots.flood();
+                assertSame(dots, bits);
+                List<MoveDelta> moves = new ArrayList<>();
+                List<String> states = new ArrayList<>();
+                while (!dots.isFinished()) {
+                    int color = random.nextInt(GameModel.NUMBER_OF_COLORS);
+                    states.add(bits.toString());
+                    MoveDelta move = bits.play(color);
+                    dots.play(color);
+                    assertSame(dots, bits);
+                    if (move != null) {
+                        moves.add(move);
+                    } else {
+                        states.remove(states.size() - 1);
+                    }
+                }
+                assertTrue(bits.isFinished());
+                for (int m = moves.size() - 1; m >= 0; m--) {
+                    bits.undo(moves.get(m));
+                    assertEquals(states.get(m), bits.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void flood_wrapsTheDiagonalsAroundTheCorners() throws Exception {
+        int size = 5;
+        int last = size - 1;
+        int[][] corners = {{0, 0, last, last}, {last, last, 0, 0}, {0, last, last, 0}, {last, 0, 0, last}};
+        for (int[] corner : corners) {
+            for (int mode : new int[] {GameModel.DIAGO_PLANE, GameModel.DIAGO_TORUS}) {
+                // a captured corner of color 0 and its opposite corner of color 2 among dots of color 1
+                byte[] colors = new byte[size * size];
+                Arrays.fill(colors, (byte) 1);
+                colors[corner[0] * size + corner[1]] = 0;
+                colors[corner[2] * size + corner[3]] = 2;
+                IntBitSet captured = new IntBitSet(size * size);
+                captured.set(corner[0] * size + corner[1]);
+                GameModel bits = new GameModel(size, 0, mode, 0, colors, captured, 0, 0);
+                GameModel dots = new GameModel(size, 0, mode, 0, colors.clone(), captured, 0, 0);
+                dots.setTopology(Topology.get(size, mode));
+                assertSame(dots, bits);
+                assertEquals(mode == GameModel.DIAGO_TORUS ? 1 : 0, bits.previewGains()[2]);
+                bits.play(2);
+                dots.play(2);
+                assertSame(dots, bits);
+            }
+        }
+    }
+
+    @Test
+    public void clone_floodsIndependently() throws Exception {
+        GameModel model = new GameModel(40, GameModel.DIAGO_TORUS, 12L);
+        model.flood();
+        model.play(2);
+        GameModel clone = model.clone();
+        String before = model.toString();
+        int[] gains = model.previewGains();
+        for (int color : new int[] {4, 1, 5, 0, 3}) {
+            clone.play(color);
+        }
+        assertEquals(before, model.toString());
+        assertArrayEquals(gains, model.previewGains());
+        GameModel dots = byDots(40, GameModel.DIAGO_TORUS, 12L);
+        dots.flood();
+        for (int color : new int[] {2, 4, 1, 5, 0, 3}) {
+            dots.play(color);
+        }
+        assertSame(dots, clone);
+    }
+}
@@ -0,0 +1,61 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the seeded boards, executed on the development machine (host).
+ */
+public class BoardGeneratorTest {
+
+    @Test
+    public void seed_givesTheSameBoard() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(20, mode, 123456789L);
+            GameModel again = new GameModel(20, mode, 123456789L);
+            assertEquals(model.toString(), again.toString());
+            assertEquals(model.getHash(), again.getHash());
+            assertNotEquals(model.toString(), new GameModel(20, mode, 123456790L).toString());
+        }
+        // the mode changes the board too
+        assertNotEquals(new GameModel(20, 0, 5L).toString(), new GameModel(20, 1, 5L).toString());
+    }
+
+    @Test
+    public void boardCode_isShareable() throws Exception {
+        long[] seeds = {0L, -1L, Long.MIN_VALUE, 0x0123456789ABCDEFL};
+        for (long seed : seeds) {
+            GameModel model = new GameModel(40, GameModel.DIAGO_PLANE, seed);
+            String code = model.getBoardCode();
+            assertTrue(code, code.length() <= 20);
+            GameModel shared = GameModel.fromBoardCode(code.toLowerCase());
+            assertEquals(seed, shared.getSeed());
+            assertEquals(40, shared.getSize());
+            assertEquals(GameModel.DIAGO_PLANE, shared.getMode());
+            assertEquals(model.toString(), shared.toString());
+        }
+        assertNull(new GameModel(10, 1, 0).getBoardCode());
+        GameModel random = new GameModel(10);
+        assertEquals(random.toString(), GameModel.fromBoardCode(random.getBoardCode()).toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void boardCode_rejectsAnInvalidCode() throws Exception {
+        GameModel.fromBoardCode("20-1-ZZZZZZZZZZZZZ");
+    }
+
+    @Test
+    public void fill_dealsEveryColorEvenly() throws Exception {
+        byte[] colors = new byte[600 * 600];
+        new BoardGenerator(42L, 600, GameModel.ORTHO_PLANE).fill(colors);
+        int[] counts = new int[GameModel.NUMBER_OF_COLORS];
+        for (byte color : colors) {
+            counts[color]++;
+        }
+        for (int count : counts) {
+            // 60000 expected, the standard deviation is about 224
+            assertTrue(Math.abs(count - 60000) < 1500);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the flood engine, executed on the development machine (host).
+ */
+public class FloodEngineTest {
+
+    private static final int[] MOVES = {1, 2, 3, 4, 5, 0};
+
+    /**
+     * Plays a game until it is finished, cycling through the colors.
+     */
+    private static void play(GameModel model) {
+        int k = 0;
+        while (!model.isFinished()) {
+            int color = MOVES[k++ % MOVES.length];
+            if (color != model.getCurrentSelectedColor()) {
+                model.setCurrentSelectedColor(color);
+                model.flood();
+                model.step();
+            }
+        }
+    }
+
+    @Test
+    public void flood_capturesWholeBoard() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(40, 1, mode);
+            model.flood();
+            play(model);
+            assertTrue(model.isFinished());
+        }
+    }
+
+    @Test
+    public void previewGains_matchesFlood() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(20, 3, mode);
+            model.flood();
+            int k = 0;
+            while (!model.isFinished()) {
+                int[] gains = model.previewGains();
+                String before = model.toString();
+                assertEquals(0, gains[model.getCurrentSelectedColor()]);
+                for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+                    GameModel clone = model.clone();
+                    int captured = count(clone);
+                    clone.setCurrentSelectedColor(color);
+                    clone.flood();
+                    assertEquals(count(clone) - captured, gains[color]);
+                }
+                assertEquals(before, model.toString());
+                int color = MOVES[k++ % MOVES.length];
+                model.setCurrentSelectedColor(color);
+                model.flood();
+            }
+        }
+    }
+
+    /**
+     * Returns the color capturing the most dots, the first one on a tie
+     */
+    private static int greedy(int[] gains) {
+        int best = 0;
+        for (int color = 1; color < gains.length; color++) {
+            if (gains[color] > gains[best]) {
+                best = color;
+            }
+        }
+        return best;
+    }
+
+    @Test
+    public void flood_sameWithoutTables() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel tables = new GameModel(300, mode, 17L + mode);
+            GameModel computed = new GameModel(300, mode, 17L + mode);
+            computed.setTopology(Topology.withoutTables(300, mode));
+            tables.flood();
+            computed.flood();
+            assertEquals(tables.getNumberCaptured(), computed.getNumberCaptured());
+            while (!tables.isFinished()) {
+                int[] gains = tables.previewGains();
+                assertArrayEquals(gains, computed.previewGains());
+                int color = greedy(gains);
+                tables.play(color);
+                computed.play(color);
+                assertEquals(tables.getNumberCaptured(), computed.getNumberCaptured());
+            }
+            assertTrue(computed.isFinished());
+            assertEquals(tables.toString(), computed.toString());
+        }
+    }
+
+    @Test
+    public void flood_largeBoardHasNoTables() throws Exception {
+        int size = 1025;
+        assertTrue(size * size > Topology.TABLE_LIMIT);
+        for (int mode = 0; mode < 4; mode++) {
+            assertNull(Topology.get(size, mode).offsets());
+            GameModel model = new GameModel(size, mode, 3L + mode);
+            model.flood();
+            // the graph is built on a clone, so that the model keeps flooding its dots
+            RegionGraph.State state = model.clone().getRegionGraph().state(model);
+            assertEquals(model.getNumberCaptured(), state.getNumberCaptured());
+            for (int step = 0; step < 30; step++) {
+                int[] gains = model.previewGains();
+                int color = greedy(gains);
+                assertEquals(gains[color], state.gain(color));
+                model.play(color);
+                state.flood(color);
+                assertEquals(model.getNumberCaptured(), state.getNumberCaptured());
+            }
+        }
+    }
+
+    @Test
+    public void flood_maxSizeBoardIsPlayedQuickly() throws Exception {
+        int size = GameModel.MAX_SIZE;
+        GameModel model = new GameModel(size, GameModel.ORTHO_TORUS, 8L);
+        model.flood();
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        int[] gains = new int[GameModel.NUMBER_OF_COLORS];
+        for (int step = 0; step < 30; step++) {
+            long allocated = bean instanceof com.sun.management.ThreadMXBean
+                    ? ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(thread) : 0;
+            long start = System.nanoTime();
+            model.previewGains(gains);
+            int color = greedy(gains);
+            int before = model.getNumberCaptured();
+            model.play(color);
+            long nanos = System.nanoTime() - start;
+            assertEquals(before + gains[color], model.getNumberCaptured());
+            assertTrue("move " + step + " took " + nanos / 1000000 + " ms", nanos < 1000000000L);
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                allocated = ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(thread) - allocated;
+                // a bit per dot for the marks of the preview, not an int
+                assertTrue(allocated + " bytes", allocated < (long) size * size / 4);
+            }
+        }
+    }
+
+    private static int count(GameModel model) {
+        int captured = 0;
+        for (int i = 0; i < model.getSize(); i++) {
+            for (int j = 0; j < model.getSize(); j++) {
+                if (model.isCaptured(i, j)) {
+                    captured++;
+                }
+            }
+        }
+        return captured;
+    }
+
+    @Test
+    public void flood_doesNotAllocate() throws Exception {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return; // allocation counters are not available on this JVM
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        long thread = Thread.currentThread().getId();
+
+        // warm up, so that the topology is cached and the code is compiled
+        for (int i = 0; i < 20; i++) {
+            GameModel model = new GameModel(40, 1, GameModel.DIAGO_TORUS);
+            model.flood();
+            play(model);
+        }
+
+        GameModel model = new GameModel(40, 2, GameModel.DIAGO_TORUS);
+        model.flood();
+        long before = threads.getThreadAllocatedBytes(thread);
+        play(model);
+        long after = threads.getThreadAllocatedBytes(thread);
+        assertTrue(model.getNumberOfSteps() > 10);
+        assertEquals(0, after - before);
+    }
+}
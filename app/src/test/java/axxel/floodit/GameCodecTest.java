@@ -0,0 +1,133 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the binary codec, executed on the development machine (host).
+ */
+public class GameCodecTest {
+
+    private static final int[] FLAGS = {0, GameCodec.DEFLATE, GameCodec.COMPACT, GameCodec.DEFLATE | GameCodec.COMPACT};
+
+    private static String state(GameModel model) {
+        return model.toString() + model.getNumberOfSteps() + " " + model.getCurrentSelectedColor()
+                + " " + model.getHash() + " " + Arrays.toString(model.previewGains());
+    }
+
+    @Test
+    public void decode_restoresTheGame() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(40, 3, mode);
+            model.flood();
+            for (int color = 1; color < 12; color++) {
+                model.play(color % GameModel.NUMBER_OF_COLORS);
+            }
+            for (int flags : FLAGS) {
+                GameModel decoded = GameCodec.decode(GameCodec.encode(model, flags));
+                assertEquals(state(model), state(decoded));
+                assertEquals(model.getLevel(), decoded.getLevel());
+                assertEquals(model.getNumbStepsMax(), decoded.getNumbStepsMax());
+                // both games go on the same way
+                GameModel original = model.clone();
+                int color = 0;
+                while (!original.isFinished()) {
+                    original.play(color);
+                    decoded.play(color);
+                    color = (color + 1) % GameModel.NUMBER_OF_COLORS;
+                }
+                assertEquals(state(original), state(decoded));
+            }
+        }
+    }
+
+    @Test
+    public void encode_isCompact() throws Exception {
+        GameModel model = new GameModel(40, 1, GameModel.ORTHO_PLANE);
+        model.flood();
+        int color = 0;
+        while (model.getNumberCaptured() < 800) {
+            model.play(color);
+            color = (color + 1) % GameModel.NUMBER_OF_COLORS;
+        }
+        // header, 200 bytes of captured dots and 534 bytes of colors
+        assertTrue(GameCodec.encode(model, 0).length < 760);
+        assertTrue(GameCodec.encode(model, GameCodec.DEFLATE | GameCodec.COMPACT).length < 450);
+    }
+
+    @Test
+    public void decode_randomGameOfAnySize() throws Exception {
+        GameModel model = new GameModel(37, GameModel.DIAGO_TORUS);
+        model.flood();
+        GameModel decoded = GameCodec.decode(GameCodec.encode(model, GameCodec.DEFLATE));
+        assertEquals(state(model), state(decoded));
+        assertEquals(0, decoded.getLevelOfGame());
+    }
+
+    @Test
+    public void decode_keepsTheSeedOfTheBoard() throws Exception {
+        GameModel model = new GameModel(30, GameModel.ORTHO_TORUS, -5L);
+        model.flood();
+        model.play(3);
+        for (int flags : FLAGS) {
+            GameModel decoded = GameCodec.decode(GameCodec.encode(model, flags));
+            assertEquals(state(model), state(decoded));
+            assertEquals(-5L, decoded.getSeed());
+            assertNotNull(decoded.getBoardCode());
+            assertEquals(model.getBoardCode(), decoded.getBoardCode());
+        }
+        // a level has no seed to write
+        GameModel level = new GameModel(10, 1, GameModel.ORTHO_PLANE);
+        assertNull(GameCodec.decode(GameCodec.encode(level, GameCodec.DEFLATE)).getBoardCode());
+        assertEquals(GameCodec.encode(level, 0).length + 8, GameCodec.encode(new GameModel(10, 0, 1L), 0).length);
+    }
+
+    private static int uncapturedRegions(RegionGraph.State state) {
+        int count = 0;
+        for (int r = 0; r < state.getGraph().getRegionCount(); r++) {
+            if (!state.isCaptured(r)) {count++;}
+        }
+        return count;
+    }
+
+    @Test
+    public void decode_compactGameSolvesLikeTheOriginal() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(20, 5, mode);
+            model.flood();
+            int[] opening = new GreedySolver(1).solve(model);
+            for (int k = 0; k < opening.length / 2; k++) {
+                model.play(opening[k]);
+            }
+            for (int flags : new int[] {GameCodec.COMPACT, GameCodec.DEFLATE | GameCodec.COMPACT}) {
+                GameModel decoded = GameCodec.decode(GameCodec.encode(model, flags));
+                RegionGraph.State original = model.getRegionGraph().state(model);
+                RegionGraph.State restored = decoded.getRegionGraph().state(decoded);
+                // the captured dots make a single region of the selection color
+                assertEquals(uncapturedRegions(original), uncapturedRegions(restored));
+                assertEquals(uncapturedRegions(original) + 1, decoded.getRegionGraph().getRegionCount());
+                assertEquals(original.getNumberCaptured(), restored.getNumberCaptured());
+                assertEquals(original.getBoundaryCount(), restored.getBoundaryCount());
+                assertEquals(original.remainingColors(), restored.remainingColors());
+                // a solution of the decoded game finishes the original one
+                GameModel replay = model.clone();
+                for (int color : new GreedySolver().solve(decoded)) {
+                    assertNotNull(replay.play(color));
+                }
+                assertTrue(replay.isFinished());
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void decode_rejectsOtherData() throws Exception {
+        GameModel model = new GameModel(10, 1, GameModel.ORTHO_PLANE);
+        byte[] bytes = GameCodec.encode(model, 0);
+        bytes[0] = 'X';
+        GameCodec.decode(bytes);
+    }
+}
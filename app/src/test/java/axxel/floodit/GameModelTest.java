@@ -0,0 +1,149 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the game model, executed on the development machine (host).
+ */
+public class GameModelTest {
+
+    @Test
+    public void clone_isIndependent() throws Exception {
+        GameModel model = new GameModel(20, 1, GameModel.ORTHO_PLANE);
+        model.flood();
+        GameModel clone = model.clone();
+        String before = model.toString();
+        clone.setCurrentSelectedColor((model.getCurrentSelectedColor() + 1) % GameModel.NUMBER_OF_COLORS);
+        clone.flood();
+        clone.step();
+        assertEquals(before, model.toString());
+        assertEquals(0, model.getNumberOfSteps());
+        assertEquals(1, clone.getNumberOfSteps());
+    }
+
+    @Test
+    public void get_isAViewOnTheModel() throws Exception {
+        GameModel model = new GameModel(10, 2, GameModel.DIAGO_TORUS);
+        DotInfo dot = model.get(9, 9);
+        assertEquals(9, dot.getX());
+        assertEquals(9, dot.getY());
+        assertEquals(model.getColor(9, 9), dot.getColor());
+        assertFalse(dot.isCaptured());
+        model.capture(9, 9);
+        assertTrue(dot.isCaptured());
+    }
+
+    @Test
+    public void play_sameColorIsNotAMove() throws Exception {
+        GameModel model = new GameModel(10, 1, GameModel.ORTHO_PLANE);
+        model.flood();
+        assertNull(model.play(model.getCurrentSelectedColor()));
+        assertEquals(0, model.getNumberOfSteps());
+    }
+
+    @Test
+    public void undoRedo_restoreEveryState() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(20, 4, mode);
+            model.flood();
+            List<MoveDelta> moves = new ArrayList<>();
+            List<String> states = new ArrayList<>();
+            states.add(state(model));
+            int k = 0;
+            while (!model.isFinished()) {
+                MoveDelta move = model.play(k++ % GameModel.NUMBER_OF_COLORS);
+                if (move != null) {
+                    moves.add(move);
+                    states.add(state(model));
+                }
+            }
+            for (int m = moves.size() - 1; m >= 0; m--) {
+                model.undo(moves.get(m));
+                assertEquals(states.get(m), state(model));
+            }
+            for (int m = 0; m < moves.size(); m++) {
+                model.redo(moves.get(m));
+                assertEquals(states.get(m + 1), state(model));
+            }
+            assertTrue(model.isFinished());
+        }
+    }
+
+    @Test
+    public void hash_followsMovesClonesAndUndo() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(20, 8, mode);
+            model.flood();
+            UndoTree tree = new UndoTree(model);
+            java.util.Random random = new java.util.Random(mode);
+            for (int n = 0; n < 300; n++) {
+                int action = random.nextInt(4);
+                if (action == 0) {tree.undo();}
+                else if (action == 1) {tree.redo();}
+                else {tree.play(random.nextInt(GameModel.NUMBER_OF_COLORS));}
+                assertEquals(hashOf(model), model.getHash());
+            }
+            GameModel clone = model.clone();
+            assertEquals(model.getHash(), clone.getHash());
+            clone.play((clone.getCurrentSelectedColor() + 1) % GameModel.NUMBER_OF_COLORS);
+            assertEquals(hashOf(clone), clone.getHash());
+            assertEquals(hashOf(model), model.getHash());
+        }
+    }
+
+    @Test
+    public void hash_dependsOnlyOnTheState() throws Exception {
+        // two orders of the same colors reaching the same captured dots
+        GameModel a = new GameModel(10, 1, GameModel.ORTHO_PLANE);
+        a.flood();
+        GameModel b = a.clone();
+        int[] line = {1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5};
+        for (int color : line) {a.play(color);}
+        for (int k = line.length - 1; k >= 0; k--) {b.play(line[k]);}
+        while (!a.isFinished()) {a.play((a.getCurrentSelectedColor() + 1) % GameModel.NUMBER_OF_COLORS);}
+        while (!b.isFinished()) {b.play((b.getCurrentSelectedColor() + 1) % GameModel.NUMBER_OF_COLORS);}
+        b.setCurrentSelectedColor(a.getCurrentSelectedColor());
+        assertEquals(a.getHash(), b.getHash());
+        b.setCurrentSelectedColor((a.getCurrentSelectedColor() + 1) % GameModel.NUMBER_OF_COLORS);
+        assertNotEquals(a.getHash(), b.getHash());
+    }
+
+    /**
+     * Computes the hash of a model from scratch
+     */
+    private static long hashOf(GameModel model) {
+        long hash = GameModel.colorKey(model.getCurrentSelectedColor());
+        for (int i = 0; i < model.getSize(); i++) {
+            for (int j = 0; j < model.getSize(); j++) {
+                if (model.isCaptured(i, j)) {
+                    hash ^= GameModel.cellKey(i * model.getSize() + j);
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Describes everything a move can change, including the boundary kept by the engine
+     */
+    private static String state(GameModel model) {
+        return model.toString() + model.getNumberOfSteps() + " " + model.getCurrentSelectedColor()
+                + " " + Arrays.toString(model.previewGains());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_rejectsATooLargeBoard() throws Exception {
+        new GameModel(GameModel.MAX_SIZE + 1, GameModel.ORTHO_PLANE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_rejectsATooLargeSeededBoard() throws Exception {
+        new GameModel(GameModel.MAX_SIZE + 1, GameModel.ORTHO_PLANE, 1L);
+    }
+}
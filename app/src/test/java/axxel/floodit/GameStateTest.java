@@ -0,0 +1,89 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the immutable game state, executed on the development machine (host).
+ */
+public class GameStateTest {
+
+    @Test
+    public void apply_leavesTheStateUnchanged() throws Exception {
+        GameModel model = new GameModel(20, 9, GameModel.DIAGO_PLANE);
+        model.flood();
+        GameState state = model.getState();
+        String before = state.toString();
+        int color = (state.getCurrentSelectedColor() + 1) % GameModel.NUMBER_OF_COLORS;
+        GameState next = state.apply(color);
+        assertEquals(before, state.toString());
+        assertEquals(0, state.getNumberOfSteps());
+        assertEquals(1, next.getNumberOfSteps());
+        assertSame(next, next.apply(color));
+
+        model.play(color);
+        assertEquals(next, model.getState());
+        assertEquals(next.hashCode(), model.getState().hashCode());
+        assertEquals(before, state.toString());
+    }
+
+    @Test
+    public void getState_followsTheModel() throws Exception {
+        GameModel model = new GameModel(10, 3, GameModel.ORTHO_PLANE);
+        model.flood();
+        GameState first = model.getState();
+        assertSame(first, model.getState());
+        assertNull(model.getPublishedState());
+        assertSame(first, model.publish());
+        model.play((model.getCurrentSelectedColor() + 1) % GameModel.NUMBER_OF_COLORS);
+        assertNotSame(first, model.getState());
+        assertSame(first, model.getPublishedState());
+        assertEquals(model.toString(), model.getState().toString());
+    }
+
+    @Test
+    public void apply_isSafeFromSeveralThreads() throws Exception {
+        GameModel model = new GameModel(40, 5, GameModel.ORTHO_TORUS);
+        model.flood();
+        final GameState start = model.getState();
+        final int[] line = {1, 2, 3, 4, 5, 0, 2, 4, 1, 3, 5, 0, 1, 2, 3};
+        // the expected states, computed on one thread
+        List<String> expected = new ArrayList<>();
+        GameState state = start;
+        for (int color : line) {
+            state = state.apply(color);
+            expected.add(state.toString() + state.getNumberOfSteps());
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                results.add(pool.submit(new Callable<List<String>>() {
+                    @Override
+                    public List<String> call() {
+                        List<String> seen = new ArrayList<>();
+                        GameState state = start;
+                        for (int color : line) {
+                            state = state.apply(color);
+                            seen.add(state.toString() + state.getNumberOfSteps());
+                        }
+                        return seen;
+                    }
+                }));
+            }
+            for (Future<List<String>> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the greedy solver, executed on the development machine (host).
+ */
+public class GreedySolverTest {
+
+    @Test
+    public void solve_finishesTheGame() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(20, 2, mode);
+            model.flood();
+            model.play(3);
+            String before = model.toString();
+            int[] moves = new GreedySolver().solve(model);
+            // the model is not changed
+            assertEquals(before, model.toString());
+            for (int color : moves) {
+                assertNotNull(model.play(color));
+            }
+            assertTrue(model.isFinished());
+        }
+    }
+
+    @Test
+    public void solve_finishedGameNeedsNoMove() throws Exception {
+        GameModel model = new GameModel(10, 1, GameModel.ORTHO_PLANE);
+        model.flood();
+        for (int color : new GreedySolver(1).solve(model)) {
+            model.play(color);
+        }
+        assertEquals(0, new GreedySolver().solve(model).length);
+    }
+
+    @Test
+    public void validator_staysWithinTheLimitOfTheSmallLevels() throws Exception {
+        LevelPack pack = LevelPack.getDefault();
+        for (int level = 1; level <= 10; level++) {
+            LevelValidator.Result result = LevelValidator.validate(pack, pack.indexOf(10, level, GameModel.DIAGO_TORUS));
+            assertNotEquals("over", result.status());
+        }
+    }
+}
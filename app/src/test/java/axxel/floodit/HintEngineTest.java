@@ -0,0 +1,170 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the hint engine, executed on the development machine (host).
+ */
+public class HintEngineTest {
+
+    private static void await(HintEngine hints) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30000;
+        while (hints.isSearching()) {
+            assertTrue("search too long", System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void assertSolves(int[] moves, GameState state) {
+        GameModel model = state.toModel();
+        for (int color : moves) {
+            assertNotNull(model.play(color));
+        }
+        assertTrue(model.isFinished());
+    }
+
+    private static GameState fresh(int size, int level, int mode) {
+        GameModel model = new GameModel(size, level, mode);
+        model.flood();
+        return model.publish();
+    }
+
+    @Test
+    public void start_endsWithAShortestSolutionOfASmallBoard() throws Exception {
+        GameState state = fresh(10, 3, GameModel.ORTHO_TORUS);
+        HintEngine hints = new HintEngine();
+        hints.start(state);
+        await(hints);
+        int[] solution = hints.getSolution();
+        assertSolves(solution, state);
+        assertEquals(new OptimalSolver().solve(state.toModel()).length, solution.length);
+        assertEquals(solution[0], hints.getHint());
+    }
+
+    @Test
+    public void played_followsTheHintWithTheRestOfTheSolution() throws Exception {
+        GameState state = fresh(40, 5, GameModel.DIAGO_TORUS);
+        HintEngine hints = new HintEngine();
+        hints.start(state);
+        await(hints);
+        int[] solution = hints.getSolution();
+        assertSolves(solution, state);
+        GameState next = state.apply(solution[0]);
+        hints.played(solution[0], next);
+        // the hint of the new state is known before any search
+        assertEquals(solution[1], hints.getHint());
+        await(hints);
+        int[] rest = hints.getSolution();
+        assertSolves(rest, next);
+        assertTrue(rest.length <= solution.length - 1);
+    }
+
+    @Test
+    public void played_otherColorStartsAgain() throws Exception {
+        GameState state = fresh(20, 2, GameModel.ORTHO_PLANE);
+        HintEngine hints = new HintEngine();
+        hints.start(state);
+        await(hints);
+        int hint = hints.getHint();
+        int other = -1;
+        for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+            if (color != hint && color != state.getCurrentSelectedColor() && state.previewGains()[color] > 0) {
+                other = color;
+                break;
+            }
+        }
+        assertTrue(other >= 0);
+        GameState next = state.apply(other);
+        hints.played(other, next);
+        await(hints);
+        assertSolves(hints.getSolution(), next);
+
+        // the hint of a finished game
+        GameModel model = next.toModel();
+        for (int color : hints.getSolution()) {
+            model.play(color);
+        }
+        hints.start(model.publish());
+        await(hints);
+        assertEquals(HintEngine.NO_HINT, hints.getHint());
+    }
+
+    @Test
+    public void resume_keepsTheHintOfTheSameState() throws Exception {
+        GameState state = fresh(20, 7, GameModel.DIAGO_PLANE);
+        HintEngine hints = new HintEngine();
+        hints.start(state);
+        await(hints);
+        int[] solution = hints.getSolution();
+        hints.stop();
+        hints.resume(state);
+        // the search had ended, there is nothing left to run
+        assertFalse(hints.isSearching());
+        assertArrayEquals(solution, hints.getSolution());
+
+        GameState other = fresh(20, 8, GameModel.DIAGO_PLANE);
+        hints.resume(other);
+        await(hints);
+        assertSolves(hints.getSolution(), other);
+    }
+
+    /**
+     * A long beam search that reports its start and whether it was
+     * interrupted, then clears the interrupt and returns colors solving no
+     * board at all
+     */
+    private static final class SlowBeam implements Solver {
+        private final BeamSolver beam = new BeamSolver(1 << 14, BeamSolver.COLORS, null);
+        private final BlockingQueue<GameModel> started = new LinkedBlockingQueue<>();
+        private final AtomicInteger interrupted = new AtomicInteger();
+        private final AtomicInteger ended = new AtomicInteger();
+
+        @Override
+        public int[] solve(GameModel model) {
+            started.add(model);
+            if (beam.solve(model) == null) {
+                interrupted.incrementAndGet();
+            }
+            // like a solver that does not check it, the interrupt is lost
+            Thread.interrupted();
+            ended.incrementAndGet();
+            return new int[] {0, 1};
+        }
+    }
+
+    @Test
+    public void start_stopsTheOldSearchAndIgnoresItsResult() throws Exception {
+        SlowBeam slow = new SlowBeam();
+        HintEngine hints = new HintEngine(new Solver[0], new Solver[] {new GreedySolver(1), slow});
+        GameState first = fresh(40, 1, GameModel.ORTHO_PLANE);
+        hints.start(first);
+        assertNotNull(slow.started.poll(30, TimeUnit.SECONDS));
+
+        GameState second = fresh(40, 2, GameModel.ORTHO_PLANE);
+        hints.start(second);
+        // the single worker only reaches the beam of the new state once the old one stopped
+        GameModel running = slow.started.poll(30, TimeUnit.SECONDS);
+        assertNotNull(running);
+        assertEquals(second.toString(), running.toString());
+        assertEquals(1, slow.interrupted.get());
+        int[] greedy = new GreedySolver(1).solve(second.toModel());
+        assertArrayEquals(greedy, hints.getSolution());
+
+        hints.stop();
+        long deadline = System.currentTimeMillis() + 30000;
+        while (slow.ended.get() < 2) {
+            assertTrue("search not stopped", System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+        assertEquals(2, slow.interrupted.get());
+        // neither stopped beam offered its colors
+        assertArrayEquals(greedy, hints.getSolution());
+    }
+}
@@ -0,0 +1,128 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the primitive collections, executed on the development machine (host).
+ */
+public class IntCollectionsTest {
+
+    @Test
+    public void intStack_isLastInFirstOut() throws Exception {
+        IntStack stack = new IntStack(2);
+        assertTrue(stack.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+        assertEquals(100, stack.size());
+        assertEquals(99, stack.peek());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test(expected = EmptyStackException.class)
+    public void intStack_popEmpty() throws Exception {
+        new IntStack().pop();
+    }
+
+    @Test
+    public void intDeque_growsAroundTheBuffer() throws Exception {
+        IntDeque deque = new IntDeque(4);
+        deque.addLast(1);
+        deque.addLast(2);
+        deque.addFirst(0);
+        for (int i = 3; i < 40; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(40, deque.size());
+        assertEquals(0, deque.peek());
+        assertEquals(39, deque.peekLast());
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i, deque.get(i));
+        }
+        assertEquals(39, deque.pollLast());
+        deque.push(-1);
+        assertEquals(-1, deque.pop());
+        assertEquals(0, deque.pollFirst());
+    }
+
+    @Test(expected = EmptyStackException.class)
+    public void intDeque_peekEmpty() throws Exception {
+        new IntDeque().peek();
+    }
+
+    @Test
+    public void intBitSet_setAndIterate() throws Exception {
+        IntBitSet set = new IntBitSet(10);
+        set.set(3);
+        set.set(64);
+        set.set(1000);
+        assertTrue(set.get(1000));
+        assertFalse(set.get(999));
+        assertEquals(3, set.cardinality());
+        assertEquals(3, set.nextSetBit(0));
+        assertEquals(64, set.nextSetBit(4));
+        assertEquals(1000, set.nextSetBit(65));
+        assertEquals(-1, set.nextSetBit(1001));
+        set.clear(64);
+        assertEquals(1000, set.nextSetBit(4));
+
+        IntBitSet other = new IntBitSet(2000);
+        other.set(3);
+        other.set(1000);
+        assertEquals(set, other);
+        assertEquals(set.hashCode(), other.hashCode());
+    }
+
+    @Test
+    public void persistentBitSet_clonesAreIndependent() throws Exception {
+        // large enough for several levels of inner nodes
+        PersistentBitSet set = new PersistentBitSet(1 << 20);
+        set.set(5);
+        set.set(700000);
+        PersistentBitSet clone = set.clone();
+        clone.set(6);
+        clone.clear(700000);
+        set.set(999999);
+        assertTrue(set.get(5));
+        assertFalse(set.get(6));
+        assertTrue(set.get(700000));
+        assertTrue(clone.get(6));
+        assertFalse(clone.get(700000));
+        assertFalse(clone.get(999999));
+        assertEquals(3, set.cardinality());
+        assertEquals(2, clone.cardinality());
+
+        PersistentBitSet other = new PersistentBitSet(1 << 20);
+        other.set(5);
+        other.set(6);
+        assertEquals(other, clone);
+        assertEquals(other.hashCode(), clone.hashCode());
+    }
+
+    @Test
+    public void persistentBitSet_frozenSetStaysIndependent() throws Exception {
+        PersistentBitSet set = new PersistentBitSet(100000);
+        set.set(7);
+        set.freeze();
+        PersistentBitSet first = set.clone();
+        PersistentBitSet second = set.clone();
+        first.set(8);
+        second.set(90000);
+        // a frozen set can still be changed, on copies of its nodes
+        set.clear(7);
+        assertEquals(0, set.cardinality());
+        assertTrue(first.get(7));
+        assertTrue(first.get(8));
+        assertFalse(first.get(90000));
+        assertTrue(second.get(7));
+        assertFalse(second.get(8));
+        assertTrue(second.get(90000));
+    }
+}
@@ -0,0 +1,66 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the level pack, executed on the development machine (host).
+ */
+public class LevelPackTest {
+
+    @Test
+    public void write_thenRead_keepsTheBoards() throws Exception {
+        Random random = new Random(19);
+        LevelPack.Builder builder = new LevelPack.Builder();
+        byte[][] boards = new byte[3][];
+        int[] sizes = {7, 10, 1};
+        for (int k = 0; k < sizes.length; k++) {
+            boards[k] = new byte[sizes[k] * sizes[k]];
+            for (int index = 0; index < boards[k].length; index++) {
+                boards[k][index] = (byte) random.nextInt(GameModel.NUMBER_OF_COLORS);
+            }
+            builder.add(sizes[k], k + 1, k % 4, 10 + k, boards[k]);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        builder.build().write(bytes);
+        LevelPack pack = LevelPack.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(sizes.length, pack.size());
+        for (int k = 0; k < sizes.length; k++) {
+            assertEquals(k, pack.indexOf(sizes[k], k + 1, k % 4));
+            assertEquals(10 + k, pack.getNumbStepsMax(k));
+            byte[] colors = new byte[boards[k].length];
+            pack.decode(k, colors);
+            assertArrayEquals(boards[k], colors);
+        }
+        assertEquals(-1, pack.indexOf(7, 1, 1));
+    }
+
+    @Test
+    public void defaultPack_holdsTheLevelsOfTheGame() throws Exception {
+        LevelPack pack = LevelPack.getDefault();
+        assertEquals(120, pack.size());
+        for (int size : new int[] {10, 20, 40}) {
+            for (int level = 1; level <= 10; level++) {
+                for (int mode = 0; mode < 4; mode++) {
+                    assertTrue(pack.indexOf(size, level, mode) >= 0);
+                }
+            }
+        }
+        GameModel model = new GameModel(10, 1, GameModel.ORTHO_PLANE);
+        assertEquals("1S0", model.getLevel());
+        assertEquals(20, model.getNumbStepsMax());
+        assertEquals(0, model.getColor(0, 0));
+        assertEquals(3, model.getColor(9, 9));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void level_outsideThePackIsRejected() throws Exception {
+        new GameModel(10, 11, GameModel.ORTHO_PLANE);
+    }
+}
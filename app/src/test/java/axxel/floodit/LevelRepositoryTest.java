@@ -0,0 +1,81 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the level repository, executed on the development machine (host).
+ */
+public class LevelRepositoryTest {
+
+    private static String state(GameModel model) {
+        return model.toString() + model.getNumberOfSteps() + " " + model.getCurrentSelectedColor()
+                + " " + model.getHash() + " " + Arrays.toString(model.previewGains());
+    }
+
+    private static GameModel fresh(int size, int level, int mode) {
+        GameModel model = new GameModel(size, level, mode);
+        model.flood();
+        return model;
+    }
+
+    @Test
+    public void newGame_isAFreshLevelEveryTime() throws Exception {
+        LevelRepository levels = new LevelRepository(LevelPack.getDefault());
+        GameModel first = levels.newGame(20, 4, GameModel.DIAGO_TORUS);
+        assertEquals(state(fresh(20, 4, GameModel.DIAGO_TORUS)), state(first));
+        assertEquals("4M3", first.getLevel());
+        for (int color = 0; color < 8; color++) {
+            first.play(color % GameModel.NUMBER_OF_COLORS);
+        }
+        // playing a game does not change the cached level
+        GameModel second = levels.newGame(20, 4, GameModel.DIAGO_TORUS);
+        assertEquals(state(fresh(20, 4, GameModel.DIAGO_TORUS)), state(second));
+        assertEquals(1, levels.getMissCount());
+        assertEquals(1, levels.getHitCount());
+    }
+
+    @Test
+    public void cache_dropsTheLeastRecentlyUsedLevel() throws Exception {
+        LevelRepository levels = new LevelRepository(LevelPack.getDefault(), 2);
+        levels.newGame(10, 1, 0);
+        levels.newGame(10, 2, 0);
+        levels.newGame(10, 1, 0);
+        levels.newGame(10, 3, 0);
+        assertTrue(levels.isCached(10, 1, 0));
+        assertFalse(levels.isCached(10, 2, 0));
+        assertTrue(levels.isCached(10, 3, 0));
+    }
+
+    @Test
+    public void prefetchNext_makesTheNextLevelAHit() throws Exception {
+        LevelRepository levels = new LevelRepository(LevelPack.getDefault());
+        levels.prefetchNext(40, 6, GameModel.ORTHO_TORUS);
+        // there is no level after the last one
+        levels.prefetchNext(40, 10, GameModel.ORTHO_TORUS);
+        GameModel next = levels.newGame(40, 7, GameModel.ORTHO_TORUS);
+        assertEquals(state(fresh(40, 7, GameModel.ORTHO_TORUS)), state(next));
+        assertEquals(0, levels.getMissCount());
+        assertEquals(1, levels.getHitCount());
+    }
+
+    @Test
+    public void newGame_buildsAFailedLevelAgain() throws Exception {
+        // a board without dots cannot be started
+        LevelPack pack = new LevelPack.Builder().add(0, 1, GameModel.ORTHO_PLANE, 5, new byte[0]).build();
+        LevelRepository levels = new LevelRepository(pack);
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            try {
+                levels.newGame(0, 1, GameModel.ORTHO_PLANE);
+                fail("A board without dots was started");
+            } catch (RuntimeException e) {
+                assertFalse(levels.isCached(0, 1, GameModel.ORTHO_PLANE));
+            }
+            assertEquals(attempt, levels.getMissCount());
+            assertEquals(0, levels.getHitCount());
+        }
+    }
+}
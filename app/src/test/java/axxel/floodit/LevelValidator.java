@@ -0,0 +1,196 @@
+package axxel.floodit;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Offline validation of the levels of the game, run on the development
+ * machine (host). Every level of the level pack is solved on all the cores
+ * with a ForkJoinPool, and the number of moves found is compared to the
+ * number of steps the level allows. The small levels are solved exactly by
+ * the OptimalSolver, the others by heuristic solvers. The report is
+ * written as CSV:
+ *
+ *     size,level,mode,numbStepsMax,moves,slack,solver,nodes,millis,status
+ *
+ * where nodes is the number of states the OptimalSolver visited, and the
+ * status is "ok", "loose" when more than a quarter of the steps allowed
+ * are not needed, or "over" when no solution within the limit was found
+ * (unless the solver is the OptimalSolver, that does not prove the level
+ * is unsolvable).
+ *
+ * Usage: java axxel.floodit.LevelValidator [report.csv]
+ */
+public class LevelValidator {
+
+    /**
+     * The part of the steps allowed above which a level is loose
+     */
+    private static final double LOOSE = 0.25;
+
+    /**
+     * The result of one level
+     */
+    static final class Result {
+        final int size;
+        final int level;
+        final int mode;
+        final int numbStepsMax;
+        int moves = -1;
+        String solver;
+        long nodes = -1;
+        long millis;
+
+        Result(int size, int level, int mode, int numbStepsMax) {
+            this.size = size;
+            this.level = level;
+            this.mode = mode;
+            this.numbStepsMax = numbStepsMax;
+        }
+
+        String status() {
+            if (moves < 0 || moves > numbStepsMax) {
+                return "over";
+            }
+            return numbStepsMax - moves > LOOSE * numbStepsMax ? "loose" : "ok";
+        }
+
+        String toCsv() {
+            return size + "," + level + "," + mode + "," + numbStepsMax + "," + moves + ","
+                    + (moves < 0 ? "" : String.valueOf(numbStepsMax - moves)) + "," + solver + ","
+                    + (nodes < 0 ? "" : String.valueOf(nodes)) + "," + millis + "," + status();
+        }
+    }
+
+    /**
+     * Returns the solvers to run on a level, the best solution being kept.
+     * A deeper greedy search is not always better, so every depth is tried,
+     * then a beam search.
+     */
+    static List<Solver> solversFor(int size) {
+        List<Solver> solvers = new ArrayList<>();
+        if (size <= 10) {
+            solvers.add(new OptimalSolver());
+            return solvers;
+        }
+        for (int depth = 1; depth <= (size <= 20 ? 5 : 4); depth++) {
+            solvers.add(new GreedySolver(depth));
+        }
+        // the levels are already solved in parallel, so the beam stays on the thread of its level
+        solvers.add(new BeamSolver(BeamSolver.DEFAULT_WIDTH, BeamSolver.COLORS, null));
+        return solvers;
+    }
+
+    /**
+     * Solves the levels first to last-1, splitting the range until a
+     * single level is left
+     */
+    private static final class Validate extends RecursiveAction {
+        private final LevelPack pack;
+        private final Result[] results;
+        private final int first;
+        private final int last;
+
+        Validate(LevelPack pack, Result[] results, int first, int last) {
+            this.pack = pack;
+            this.results = results;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+            if (last - first > 1) {
+                int middle = (first + last) >>> 1;
+                invokeAll(new Validate(pack, results, first, middle), new Validate(pack, results, middle, last));
+                return;
+            }
+            results[first] = validate(pack, first);
+        }
+    }
+
+    /**
+     * Solves one level with every solver suited to its size
+     */
+    static Result validate(LevelPack pack, int k) {
+        int size = pack.getSize(k);
+        Result result = new Result(size, pack.getLevel(k), pack.getMode(k), pack.getNumbStepsMax(k));
+        GameModel model = new GameModel(size, result.level, result.mode, pack);
+        model.flood();
+        long start = System.nanoTime();
+        for (Solver solver : solversFor(size)) {
+            int[] moves = solver.solve(model);
+            if (moves != null && (result.moves < 0 || moves.length < result.moves)) {
+                checkSolution(model, moves);
+                result.moves = moves.length;
+                result.solver = solver.toString();
+                if (solver instanceof OptimalSolver) {
+                    result.nodes = ((OptimalSolver) solver).getNodeCount();
+                } else if (solver instanceof BeamSolver) {
+                    result.nodes = ((BeamSolver) solver).getExpandedCount();
+                }
+            }
+        }
+        result.millis = (System.nanoTime() - start) / 1000000;
+        return result;
+    }
+
+    /**
+     * Replays a solution on a copy of the model, so that a wrong solver
+     * can not report a wrong number of moves
+     */
+    private static void checkSolution(GameModel model, int[] moves) {
+        GameModel copy = model.clone();
+        for (int color : moves) {
+            copy.play(color);
+        }
+        if (!copy.isFinished()) {
+            throw new IllegalStateException("Wrong solution for level " + copy.getLevel());
+        }
+    }
+
+    /**
+     * Validates every level of the pack on all the cores.
+     *
+     * @param pack
+     *            the levels to validate
+     * @return the result of every level, in the order of the pack
+     */
+    static Result[] validateAll(LevelPack pack) {
+        Result[] results = new Result[pack.size()];
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            pool.invoke(new Validate(pack, results, 0, pack.size()));
+        } finally {
+            pool.shutdown();
+        }
+        return results;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String report = args.length > 0 ? args[0] : "levels.csv";
+        long start = System.nanoTime();
+        Result[] results = validateAll(LevelPack.getDefault());
+        PrintWriter out = new PrintWriter(new FileWriter(report));
+        try {
+            out.println("size,level,mode,numbStepsMax,moves,slack,solver,nodes,millis,status");
+            for (Result result : results) {
+                out.println(result.toCsv());
+            }
+        } finally {
+            out.close();
+        }
+        int loose = 0;
+        int over = 0;
+        for (Result result : results) {
+            if (result.status().equals("loose")) {loose++;}
+            if (result.status().equals("over")) {over++;}
+        }
+        System.out.println(results.length + " levels in " + (System.nanoTime() - start) / 1000000 + " ms on "
+                + Runtime.getRuntime().availableProcessors() + " cores: " + loose + " loose, " + over
+                + " over the limit. Report: " + report);
+    }
+}
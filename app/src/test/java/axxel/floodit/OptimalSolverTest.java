@@ -0,0 +1,71 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the optimal solver, executed on the development machine (host).
+ */
+public class OptimalSolverTest {
+
+    /**
+     * Returns the fewest moves finishing a game, by a breadth-first search
+     * of all the states
+     */
+    private static int shortest(GameModel model) {
+        List<GameModel> layer = new ArrayList<>();
+        Set<GameState> seen = new HashSet<>();
+        layer.add(model.clone());
+        for (int moves = 0; ; moves++) {
+            List<GameModel> next = new ArrayList<>();
+            for (GameModel state : layer) {
+                if (state.isFinished()) {
+                    return moves;
+                }
+                for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+                    GameModel child = state.clone();
+                    if (child.play(color) != null && seen.add(child.getState())) {
+                        next.add(child);
+                    }
+                }
+            }
+            layer = next;
+        }
+    }
+
+    @Test
+    public void solve_isAsShortAsAnExhaustiveSearch() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            for (long seed = 0; seed < 6; seed++) {
+                GameModel model = new GameModel(5, mode, seed);
+                model.flood();
+                int[] moves = new OptimalSolver().solve(model);
+                assertEquals(shortest(model), moves.length);
+                for (int color : moves) {
+                    model.play(color);
+                }
+                assertTrue(model.isFinished());
+            }
+        }
+    }
+
+    @Test
+    public void solve_smallLevelsWithinTheirLimit() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(10, 3, mode);
+            model.flood();
+            OptimalSolver solver = new OptimalSolver();
+            int[] moves = solver.solve(model);
+            assertTrue(moves.length <= model.getNumbStepsMax());
+            assertTrue(moves.length <= new GreedySolver().solve(model).length);
+            assertTrue(solver.getNodeCount() > 0);
+            assertTrue(solver.getIterationCount() > 0);
+        }
+    }
+}
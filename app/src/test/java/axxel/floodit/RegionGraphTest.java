@@ -0,0 +1,167 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the region graph, executed on the development machine (host).
+ */
+public class RegionGraphTest {
+
+    private static GameModel random(int size, int mode, long seed) {
+        GameModel model = new GameModel(size, mode, seed);
+        model.flood();
+        return model;
+    }
+
+    private static boolean areNeighbours(RegionGraph graph, int a, int b) {
+        for (int k = graph.offsets()[a]; k < graph.offsets()[a + 1]; k++) {
+            if (graph.neighbours()[k] == b) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void regions_joinTheNeighboursOfTheSameColor() throws Exception {
+        int[] buffer = new int[Topology.MAX_NEIGHBOURS];
+        for (int mode = 0; mode < 4; mode++) {
+            for (int size : new int[] {2, 7, 20}) {
+                GameModel model = random(size, mode, 11 * size + mode);
+                RegionGraph graph = model.getRegionGraph();
+                Topology topology = Topology.get(size, mode);
+                int cells = 0;
+                for (int r = 0; r < graph.getRegionCount(); r++) {
+                    cells += graph.getCellCount(r);
+                }
+                assertEquals(size * size, cells);
+                // the neighbours given by the topology include those across the edges of a torus
+                for (int c = 0; c < size * size; c++) {
+                    int region = graph.getRegion(c / size, c % size);
+                    assertEquals(model.getInitialColor(c), graph.getColor(region));
+                    int found = topology.neighbours(c, buffer);
+                    for (int k = 0; k < found; k++) {
+                        int n = buffer[k];
+                        int other = graph.getRegion(n / size, n % size);
+                        if (model.getInitialColor(n) == model.getInitialColor(c)) {
+                            assertEquals(region, other);
+                        } else {
+                            assertTrue(areNeighbours(graph, region, other));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void regions_wrapAroundTheTorus() throws Exception {
+        for (int mode : new int[] {GameModel.ORTHO_TORUS, GameModel.DIAGO_TORUS}) {
+            GameModel model = random(9, mode, 5);
+            RegionGraph graph = model.getRegionGraph();
+            int left = graph.getRegion(4, 0);
+            int right = graph.getRegion(4, 8);
+            int top = graph.getRegion(0, 4);
+            int bottom = graph.getRegion(8, 4);
+            assertTrue(left == right || areNeighbours(graph, left, right));
+            assertTrue(top == bottom || areNeighbours(graph, top, bottom));
+        }
+        GameModel plane = random(9, GameModel.ORTHO_PLANE, 5);
+        RegionGraph graph = plane.getRegionGraph();
+        int corner = graph.getRegion(0, 0);
+        int opposite = graph.getRegion(8, 8);
+        // on a plane, the opposite corners of this board are far apart
+        assertTrue(corner != opposite && !areNeighbours(graph, corner, opposite));
+    }
+
+    @Test
+    public void flood_matchesTheFloodEngine() throws Exception {
+        Random random = new Random(2);
+        for (int mode = 0; mode < 4; mode++) {
+            for (int size : new int[] {5, 13, 30}) {
+                GameModel model = random(size, mode, random.nextLong());
+                // the graph is built on a clone, so that the model keeps flooding its dots
+                RegionGraph graph = model.clone().getRegionGraph();
+                RegionGraph.State state = graph.state(model);
+                while (!model.isFinished()) {
+                    int[] gains = model.previewGains();
+                    for (int color = 0; color < GameModel.NUMBER_OF_COLORS; color++) {
+                        int gain = color == state.getCurrentColor() ? 0 : state.gain(color);
+                        assertEquals(gains[color], gain);
+                    }
+                    int color = random.nextInt(GameModel.NUMBER_OF_COLORS);
+                    if (color == model.getCurrentSelectedColor()) {
+                        continue;
+                    }
+                    int before = model.getNumberCaptured();
+                    model.play(color);
+                    assertEquals(model.getNumberCaptured() - before, state.flood(color));
+                    assertEquals(model.getNumberCaptured(), state.getNumberCaptured());
+                    assertEquals(model.isFinished(), state.isFinished());
+                    for (int i = 0; i < size; i++) {
+                        for (int j = 0; j < size; j++) {
+                            assertEquals(model.isCaptured(i, j), state.isCaptured(graph.getRegion(i, j)));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void play_onTheGraphMatchesTheDots() throws Exception {
+        Random random = new Random(9);
+        // up to 64x64 the dots are flooded by a BitBoard, above by a FloodEngine
+        for (int size : new int[] {3, 20, 40, 70}) {
+            for (int mode = 0; mode < 4; mode++) {
+                long seed = random.nextLong();
+                GameModel dots = random(size, mode, seed);
+                GameModel regions = random(size, mode, seed);
+                regions.getRegionGraph();
+                List<MoveDelta> moves = new ArrayList<>();
+                List<String> states = new ArrayList<>();
+                states.add(state(regions));
+                while (!dots.isFinished()) {
+                    int color = random.nextInt(GameModel.NUMBER_OF_COLORS);
+                    MoveDelta move = regions.play(color);
+                    dots.play(color);
+                    assertEquals(state(dots), state(regions));
+                    if (move != null) {
+                        moves.add(move);
+                        states.add(state(regions));
+                    }
+                    if (moves.size() == 5) {
+                        // a clone plays on its own copy of the state
+                        GameModel clone = regions.clone();
+                        clone.play((clone.getCurrentSelectedColor() + 1) % GameModel.NUMBER_OF_COLORS);
+                        assertEquals(states.get(states.size() - 1), state(regions));
+                    }
+                }
+                assertTrue(regions.isFinished());
+                for (int m = moves.size() - 1; m >= 0; m--) {
+                    regions.undo(moves.get(m));
+                    assertEquals(states.get(m), state(regions));
+                }
+                for (int m = 0; m < moves.size(); m++) {
+                    regions.redo(moves.get(m));
+                    assertEquals(states.get(m + 1), state(regions));
+                }
+            }
+        }
+    }
+
+    /**
+     * Describes everything a move can change
+     */
+    private static String state(GameModel model) {
+        return model.toString() + model.getHash() + " " + model.getNumberCaptured()
+                + " " + Arrays.toString(model.previewGains());
+    }
+}
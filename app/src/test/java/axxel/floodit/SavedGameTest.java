@@ -0,0 +1,124 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the saved games, executed on the development machine (host).
+ */
+public class SavedGameTest {
+
+    private static String state(GameModel model) {
+        return model.toString() + model.getNumberOfSteps() + " " + model.getCurrentSelectedColor()
+                + " " + model.getHash() + " " + Arrays.toString(model.previewGains());
+    }
+
+    private static UndoTree copy(UndoTree tree) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SavedGame.write(tree, bytes);
+        return SavedGame.read(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    /**
+     * Checks that two nodes have the same moves below them and the same redo pointers
+     */
+    private static void assertSameTree(UndoTree.Node expected, UndoTree.Node actual) {
+        assertEquals(expected.getChildCount(), actual.getChildCount());
+        assertEquals(expected.getLastVisited() == null, actual.getLastVisited() == null);
+        for (int k = 0; k < expected.getChildCount(); k++) {
+            assertEquals(expected.getChild(k).getMove().getColor(), actual.getChild(k).getMove().getColor());
+            if (expected.getLastVisited() == expected.getChild(k)) {
+                assertSame(actual.getChild(k), actual.getLastVisited());
+            }
+            assertSameTree(expected.getChild(k), actual.getChild(k));
+        }
+    }
+
+    @Test
+    public void read_restoresTheTreeAndTheCurrentState() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(20, 7, mode);
+            model.flood();
+            UndoTree tree = new UndoTree(model);
+            for (int k = 1; k < 40; k++) {
+                tree.play((k * 7) % GameModel.NUMBER_OF_COLORS);
+                if (k % 5 == 0) {
+                    tree.undo();
+                    tree.undo();
+                }
+            }
+            tree.undo();
+            tree.undo();
+            tree.undo();
+
+            UndoTree restored = copy(tree);
+            GameModel decoded = restored.getModel();
+            assertEquals(state(model), state(decoded));
+            assertEquals(tree.size(), restored.size());
+            assertEquals(tree.getCurrent().getDepth(), restored.getCurrent().getDepth());
+            assertSameTree(tree.getRoot(), restored.getRoot());
+
+            // redo follows the same moves, and so does the undo back to the start
+            while (tree.canRedo()) {
+                tree.redo();
+                restored.redo();
+                assertEquals(state(model), state(decoded));
+            }
+            assertFalse(restored.canRedo());
+            while (tree.canUndo()) {
+                tree.undo();
+                restored.undo();
+                assertEquals(state(model), state(decoded));
+            }
+            assertFalse(restored.canUndo());
+        }
+    }
+
+    @Test
+    public void write_leavesTheGameUnchanged() throws Exception {
+        GameModel model = new GameModel(40);
+        model.flood();
+        UndoTree tree = new UndoTree(model);
+        for (int k = 0; k < 60; k++) {
+            tree.play(k % GameModel.NUMBER_OF_COLORS);
+        }
+        String before = state(model);
+        UndoTree.Node current = tree.getCurrent();
+        UndoTree restored = copy(tree);
+        assertEquals(before, state(model));
+        assertSame(current, tree.getCurrent());
+        assertEquals(before, state(restored.getModel()));
+    }
+
+    @Test
+    public void read_keepsTheCodeOfARandomBoard() throws Exception {
+        GameModel model = new GameModel(20, GameModel.DIAGO_PLANE, 99L);
+        model.flood();
+        UndoTree tree = new UndoTree(model);
+        for (int k = 0; k < 10; k++) {
+            tree.play(k % GameModel.NUMBER_OF_COLORS);
+        }
+        GameModel decoded = copy(tree).getModel();
+        assertNotNull(model.getBoardCode());
+        assertEquals(model.getBoardCode(), decoded.getBoardCode());
+        assertEquals(state(model), state(decoded));
+    }
+
+    @Test(expected = IOException.class)
+    public void read_rejectsATruncatedGame() throws Exception {
+        GameModel model = new GameModel(10, 1, GameModel.ORTHO_PLANE);
+        model.flood();
+        UndoTree tree = new UndoTree(model);
+        tree.play(3);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SavedGame.write(tree, bytes);
+        byte[] saved = bytes.toByteArray();
+        SavedGame.read(new ByteArrayInputStream(Arrays.copyOf(saved, saved.length - 2)));
+    }
+}
@@ -0,0 +1,85 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the timeline, executed on the development machine (host).
+ */
+public class TimelineTest {
+
+    private static String state(GameModel model) {
+        return model.toString() + model.getNumberOfSteps() + " " + model.getCurrentSelectedColor()
+                + " " + Arrays.toString(model.previewGains());
+    }
+
+    @Test
+    public void intervalFor_dependsOnTheSize() throws Exception {
+        assertTrue(Timeline.intervalFor(10) >= Timeline.intervalFor(20));
+        assertTrue(Timeline.intervalFor(20) > Timeline.intervalFor(40));
+        assertTrue(Timeline.intervalFor(40) > Timeline.intervalFor(GameModel.MAX_SIZE));
+        assertTrue(Timeline.intervalFor(GameModel.MAX_SIZE) >= 1);
+    }
+
+    @Test
+    public void seek_matchesEveryStep() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = new GameModel(40, 6, mode);
+            model.flood();
+            Timeline timeline = new Timeline(model, 5);
+            List<String> states = new ArrayList<>();
+            states.add(state(model));
+            int k = 0;
+            while (!timeline.getModel().isFinished()) {
+                if (timeline.play(k++ % GameModel.NUMBER_OF_COLORS)) {
+                    states.add(state(timeline.getModel()));
+                }
+            }
+            assertEquals(states.size() - 1, timeline.getLength());
+            assertEquals(timeline.getLength() / 5 + 1, timeline.getSnapshotCount());
+
+            Random random = new Random(mode);
+            for (int n = 0; n < 200; n++) {
+                int step = random.nextInt(states.size());
+                assertEquals(states.get(step), state(timeline.seek(step)));
+                assertEquals(step, timeline.getPosition());
+            }
+            assertEquals(200, timeline.getSeekCount());
+            // a seek never applies more deltas than there are moves between two snapshots
+            assertTrue(timeline.getReplayedMoves() <= 200 * 4);
+            assertTrue(timeline.getMaxSeekNanos() >= timeline.getAverageSeekNanos());
+        }
+    }
+
+    @Test
+    public void play_afterSeekDropsTheFuture() throws Exception {
+        GameModel model = new GameModel(20, 2, GameModel.ORTHO_TORUS);
+        model.flood();
+        Timeline timeline = new Timeline(model, 3);
+        for (int color = 0; color < 12; color++) {
+            timeline.play(color % GameModel.NUMBER_OF_COLORS);
+        }
+        int length = timeline.getLength();
+        GameModel back = timeline.seek(4);
+        int color = (back.getCurrentSelectedColor() + 1) % GameModel.NUMBER_OF_COLORS;
+        assertTrue(timeline.play(color));
+        assertEquals(5, timeline.getLength());
+        assertTrue(length > 5);
+        assertEquals(2, timeline.getSnapshotCount());
+
+        GameModel replay = new GameModel(20, 2, GameModel.ORTHO_TORUS);
+        replay.flood();
+        for (int c = 0; c < 12 && replay.getNumberOfSteps() < 4; c++) {
+            replay.play(c % GameModel.NUMBER_OF_COLORS);
+        }
+        replay.play(color);
+        assertEquals(state(replay), state(timeline.getModel()));
+        assertEquals(state(replay), state(timeline.seek(5)));
+    }
+}
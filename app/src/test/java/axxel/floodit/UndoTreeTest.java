@@ -0,0 +1,90 @@
+package axxel.floodit;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests of the undo tree, executed on the development machine (host).
+ */
+public class UndoTreeTest {
+
+    private static String state(GameModel model) {
+        return model.toString() + model.getNumberOfSteps() + " " + model.getCurrentSelectedColor()
+                + " " + Arrays.toString(model.previewGains());
+    }
+
+    /**
+     * Plays a sequence of colors on a fresh model of level 5 of size 20
+     */
+    private static GameModel replay(int mode, int... colors) {
+        GameModel model = new GameModel(20, 5, mode);
+        model.flood();
+        for (int color : colors) {
+            model.play(color);
+        }
+        return model;
+    }
+
+    @Test
+    public void newMove_keepsTheUndoneBranch() throws Exception {
+        GameModel model = replay(GameModel.ORTHO_PLANE);
+        UndoTree tree = new UndoTree(model);
+        int first = (model.getCurrentSelectedColor() + 1) % GameModel.NUMBER_OF_COLORS;
+        int second = (first + 1) % GameModel.NUMBER_OF_COLORS;
+        assertTrue(tree.play(first));
+        assertTrue(tree.play(second));
+        UndoTree.Node end = tree.getCurrent();
+        tree.undo();
+        tree.undo();
+        int other = (first + 3) % GameModel.NUMBER_OF_COLORS;
+        assertTrue(tree.play(other));
+        assertEquals(2, tree.getRoot().getChildCount());
+        assertEquals(4, tree.size());
+        assertFalse(tree.play(other));
+
+        tree.jumpTo(end);
+        assertEquals(state(replay(GameModel.ORTHO_PLANE, first, second)), state(model));
+        // playing a move again follows the existing branch
+        tree.undo();
+        tree.undo();
+        tree.play(first);
+        assertEquals(4, tree.size());
+        tree.redo();
+        assertSame(end, tree.getCurrent());
+    }
+
+    @Test
+    public void jumpTo_matchesAReplay() throws Exception {
+        for (int mode = 0; mode < 4; mode++) {
+            GameModel model = replay(mode);
+            UndoTree tree = new UndoTree(model);
+            UndoTree.Node[] nodes = new UndoTree.Node[40];
+            int[][] lines = new int[40][];
+            nodes[0] = tree.getRoot();
+            lines[0] = new int[0];
+            // a tree of random variations, each node knowing the moves leading to it
+            java.util.Random random = new java.util.Random(mode);
+            for (int n = 1; n < nodes.length; n++) {
+                int parent = random.nextInt(n);
+                tree.jumpTo(nodes[parent]);
+                int color;
+                do {
+                    color = random.nextInt(GameModel.NUMBER_OF_COLORS);
+                } while (color == model.getCurrentSelectedColor());
+                tree.play(color);
+                nodes[n] = tree.getCurrent();
+                lines[n] = Arrays.copyOf(lines[parent], lines[parent].length + 1);
+                lines[n][lines[parent].length] = color;
+            }
+            for (int k = 0; k < 100; k++) {
+                int n = random.nextInt(nodes.length);
+                tree.jumpTo(nodes[n]);
+                assertEquals(state(replay(mode, lines[n])), state(model));
+                assertEquals(lines[n].length, nodes[n].getDepth());
+            }
+        }
+    }
+}